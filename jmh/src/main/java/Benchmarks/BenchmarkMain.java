@@ -0,0 +1,42 @@
+package Benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+
+// Entry point of benchmarks.jar. Accepts the usual JMH command line and always attaches the GC
+// profiler, so every run reports gc.alloc.rate.norm (bytes per operation) next to the timings.
+// Forks get the Vector API module unless -jvmArgsAppend is given; pass
+// -jvmArgsAppend -Dsimd.backend=scalar to measure the scalar fallback.
+public final class BenchmarkMain {
+
+    private BenchmarkMain() {
+        throw new UnsupportedOperationException("Cannot instantiate BenchmarkMain.");
+    }
+
+    public static void main(String[] args) throws IOException, RunnerException, CommandLineOptionException {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        if (commandLine.shouldHelp()) {
+            commandLine.showHelp();
+            return;
+        }
+        if (commandLine.shouldList() || commandLine.shouldListWithParams() || commandLine.shouldListProfilers()
+                || commandLine.shouldListResultFormats()) {
+            org.openjdk.jmh.Main.main(args);
+            return;
+        }
+
+        OptionsBuilder options = new OptionsBuilder();
+        options.parent(commandLine);
+        options.addProfiler(GCProfiler.class);
+        if (!commandLine.getJvmArgsAppend().hasValue()) {
+            options.jvmArgsAppend("--add-modules=jdk.incubator.vector");
+        }
+        new Runner(options.build()).run();
+    }
+}
@@ -0,0 +1,47 @@
+package Benchmarks;
+
+import Matrix.ComplexMatrix.CMatrix;
+import Matrix.ComplexMatrix.CMatrixMath;
+import Matrix.MatrixExecutionContext;
+import Random.ComplexRandom;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// Replaces the old bench/CMatrixProductAllocation harness: gc.alloc.rate.norm gives the bytes per product
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class CMatrixBenchmark {
+
+    @Param({"8", "32", "128", "512"})
+    public int size;
+
+    private CMatrix a, b;
+    private MatrixExecutionContext parallel;
+
+    @Setup
+    public void setup() {
+        this.a = new CMatrix(ComplexRandom.randomComplexMatrix(this.size, this.size, -1, 1, -1, 1, false));
+        this.b = new CMatrix(ComplexRandom.randomComplexMatrix(this.size, this.size, -1, 1, -1, 1, false));
+        this.parallel = MatrixExecutionContext.commonPool();
+    }
+
+    @Benchmark
+    public CMatrix product() {
+        return CMatrixMath.product(this.a, this.b);
+    }
+
+    @Benchmark
+    public CMatrix productParallel() {
+        return CMatrixMath.product(this.a, this.b, this.parallel);
+    }
+
+    @Benchmark
+    public CMatrix inverse() {
+        return this.a.getInverseMatrix();
+    }
+}
@@ -0,0 +1,85 @@
+package Benchmarks;
+
+import Matrix.MatrixExecutionContext;
+import Matrix.MatrixStructure;
+import Matrix.RealMatrix.PackedSymmetricRMatrix;
+import Matrix.RealMatrix.RCholeskyDecomposition;
+import Matrix.RealMatrix.RLDLDecomposition;
+import Matrix.RealMatrix.RLUDecomposition;
+import Matrix.RealMatrix.RMatrix;
+import Matrix.RealMatrix.RMatrixMath;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class CholeskyBenchmark {
+
+    @Param({"64", "256", "512"})
+    public int size;
+
+    // Covariance-like input: X^T X / n + I is symmetric positive definite
+    private RMatrix covariance;
+    private PackedSymmetricRMatrix packed;
+    private MatrixExecutionContext parallel;
+
+    @Setup
+    public void setup() {
+        RMatrix x = new RMatrix(this.size, this.size);
+        x.fillGaussian(0.0, 1.0, 42L, MatrixExecutionContext.serial());
+        this.covariance = RMatrixMath.product(x.getTranspose(), x).constProduct(1.0 / this.size);
+        for (int i = 0; i < this.size; i++) {
+            this.covariance.setElement(i, i, this.covariance.getElement(i, i) + 1.0);
+            for (int j = 0; j < i; j++) {
+                this.covariance.setElement(j, i, this.covariance.getElement(i, j));
+            }
+        }
+        this.packed = PackedSymmetricRMatrix.fromDense(this.covariance);
+        this.parallel = MatrixExecutionContext.commonPool();
+    }
+
+    @Benchmark
+    public RLUDecomposition lu() {
+        return this.covariance.getLUDecomposition();
+    }
+
+    @Benchmark
+    public RCholeskyDecomposition cholesky() {
+        return this.covariance.getCholeskyDecomposition();
+    }
+
+    @Benchmark
+    public RCholeskyDecomposition choleskyParallel() {
+        return this.covariance.getCholeskyDecomposition(this.parallel);
+    }
+
+    @Benchmark
+    public RCholeskyDecomposition choleskyPacked() {
+        return this.packed.getCholeskyDecomposition();
+    }
+
+    @Benchmark
+    public RLDLDecomposition ldl() {
+        return this.covariance.getLDLDecomposition();
+    }
+
+    @Benchmark
+    public RMatrix inverseGeneral() {
+        return this.covariance.getInverseMatrix(MatrixStructure.GENERAL);
+    }
+
+    @Benchmark
+    public RMatrix inverseDetected() {
+        return this.covariance.getInverseMatrix();
+    }
+
+    @Benchmark
+    public double determinantDetected() {
+        return this.covariance.getDeterminant();
+    }
+}
@@ -0,0 +1,120 @@
+package Benchmarks;
+
+import Complex.Complex;
+import Complex.ComplexMath;
+import Complex.ComplexPower;
+import Complex.ComplexTrigono;
+import Complex.MutableComplex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// Scalar Complex hot paths. Operands are read from state fields so the JIT cannot constant-fold them.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ComplexBenchmark {
+
+    private Complex a, b, small;
+    private double realExponent, integerExponent;
+    private final MutableComplex result = new MutableComplex();
+
+    @Setup
+    public void setup() {
+        this.a = new Complex(1.75, -0.625);
+        this.b = new Complex(-0.3125, 2.5);
+        this.small = new Complex(0.375, 0.25);
+        this.realExponent = 2.5;
+        this.integerExponent = 3.0;
+    }
+
+    @Benchmark
+    public Complex multiply() {
+        return ComplexMath.multiply(this.a, this.b);
+    }
+
+    @Benchmark
+    public Complex divide() {
+        return ComplexMath.divide(this.a, this.b);
+    }
+
+    @Benchmark
+    public Complex powerComplex() {
+        return ComplexPower.power(this.a, this.b);
+    }
+
+    @Benchmark
+    public Complex powerReal() {
+        return ComplexPower.power(this.a, this.realExponent);
+    }
+
+    @Benchmark
+    public Complex powerInteger() {
+        return ComplexPower.power(this.a, this.integerExponent);
+    }
+
+    @Benchmark
+    public Complex sqrt() {
+        return ComplexPower.sqrt(this.a);
+    }
+
+    @Benchmark
+    public Complex sin() {
+        return ComplexTrigono.sin(this.a);
+    }
+
+    @Benchmark
+    public Complex[] sincos() {
+        return ComplexTrigono.sincos(this.a);
+    }
+
+    @Benchmark
+    public Complex tan() {
+        return ComplexTrigono.tan(this.a);
+    }
+
+    @Benchmark
+    public Complex arcSin() {
+        return ComplexTrigono.arcSin(this.small);
+    }
+
+    // Into-overloads: expected to report gc.alloc.rate.norm of 0 B/op
+
+    @Benchmark
+    public MutableComplex multiplyInto() {
+        return ComplexMath.multiply(this.a, this.b, this.result);
+    }
+
+    @Benchmark
+    public MutableComplex divideInto() {
+        return ComplexMath.divide(this.a, this.b, this.result);
+    }
+
+    @Benchmark
+    public MutableComplex powerComplexInto() {
+        return ComplexPower.power(this.a, this.b, this.result);
+    }
+
+    @Benchmark
+    public MutableComplex sqrtInto() {
+        return ComplexPower.sqrt(this.a, this.result);
+    }
+
+    @Benchmark
+    public MutableComplex sinInto() {
+        return ComplexTrigono.sin(this.a, this.result);
+    }
+
+    @Benchmark
+    public MutableComplex tanInto() {
+        return ComplexTrigono.tan(this.a, this.result);
+    }
+
+    @Benchmark
+    public MutableComplex arcSinInto() {
+        return ComplexTrigono.arcSin(this.small, this.result);
+    }
+}
@@ -0,0 +1,83 @@
+package Benchmarks;
+
+import Complex.Complex;
+import Complex.ComplexMath;
+import Complex.ComplexVector;
+import Complex.ComplexVectorMath;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// Bulk kernels against the Complex[] loop they replace
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ComplexVectorBenchmark {
+
+    @Param({"1024", "1048576"})
+    public int size;
+
+    private ComplexVector a, b, result;
+    private Complex[] arrayA, arrayB, arrayResult;
+    private Complex alpha;
+
+    @Setup
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        this.a = new ComplexVector(this.size);
+        this.b = new ComplexVector(this.size);
+        this.result = new ComplexVector(this.size);
+        this.arrayA = new Complex[this.size];
+        this.arrayB = new Complex[this.size];
+        this.arrayResult = new Complex[this.size];
+        for (int i = 0; i < this.size; i++) {
+            this.a.set(i, random.nextDouble(-1, 1), random.nextDouble(-1, 1));
+            this.b.set(i, random.nextDouble(-1, 1), random.nextDouble(-1, 1));
+            this.arrayA[i] = this.a.get(i);
+            this.arrayB[i] = this.b.get(i);
+        }
+        this.alpha = new Complex(0.5, -0.25);
+    }
+
+    @Benchmark
+    public Complex[] multiplyArray() {
+        for (int i = 0; i < this.size; i++) {
+            this.arrayResult[i] = ComplexMath.multiply(this.arrayA[i], this.arrayB[i]);
+        }
+        return this.arrayResult;
+    }
+
+    @Benchmark
+    public ComplexVector multiply() {
+        return ComplexVectorMath.multiply(this.a, this.b, this.result);
+    }
+
+    @Benchmark
+    public ComplexVector add() {
+        return ComplexVectorMath.add(this.a, this.b, this.result);
+    }
+
+    @Benchmark
+    public ComplexVector axpy() {
+        return ComplexVectorMath.axpy(this.alpha, this.a, this.result);
+    }
+
+    @Benchmark
+    public Complex dot() {
+        return ComplexVectorMath.dot(this.a, this.b);
+    }
+
+    @Benchmark
+    public double[] abs() {
+        return ComplexVectorMath.abs(this.a);
+    }
+
+    @Benchmark
+    public ComplexVector exp() {
+        return ComplexVectorMath.exp(this.a, this.result);
+    }
+}
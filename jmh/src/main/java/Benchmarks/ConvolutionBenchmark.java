@@ -0,0 +1,70 @@
+package Benchmarks;
+
+import Complex.ComplexVector;
+import FFT.Convolution;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// Equal-length complex products (the polynomial multiply case) against the schoolbook loop, and a long
+// real signal through a short filter (the overlap-add case)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ConvolutionBenchmark {
+
+    @Param({"256", "4096"})
+    public int size;
+
+    private ComplexVector a, b;
+    private double[] signal, filter;
+
+    @Setup
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        this.a = new ComplexVector(this.size);
+        this.b = new ComplexVector(this.size);
+        for (int i = 0; i < this.size; i++) {
+            this.a.set(i, random.nextDouble(-1, 1), random.nextDouble(-1, 1));
+            this.b.set(i, random.nextDouble(-1, 1), random.nextDouble(-1, 1));
+        }
+        this.signal = new double[1 << 18];
+        for (int i = 0; i < this.signal.length; i++) {
+            this.signal[i] = random.nextDouble(-1, 1);
+        }
+        this.filter = new double[this.size];
+        for (int i = 0; i < this.size; i++) {
+            this.filter[i] = random.nextDouble(-1, 1);
+        }
+    }
+
+    @Benchmark
+    public ComplexVector complexConvolve() {
+        return Convolution.convolve(this.a, this.b);
+    }
+
+    @Benchmark
+    public ComplexVector complexSchoolbook() {
+        int n = this.size;
+        double[] aRe = this.a.getRealPlane(), aIm = this.a.getImagPlane();
+        double[] bRe = this.b.getRealPlane(), bIm = this.b.getImagPlane();
+        ComplexVector result = new ComplexVector(2 * n - 1);
+        double[] cRe = result.getRealPlane(), cIm = result.getImagPlane();
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                cRe[i + j] += Math.fma(aRe[i], bRe[j], -aIm[i] * bIm[j]);
+                cIm[i + j] += Math.fma(aRe[i], bIm[j], aIm[i] * bRe[j]);
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    public double[] realOverlapAdd() {
+        return Convolution.convolve(this.signal, this.filter);
+    }
+}
@@ -0,0 +1,64 @@
+package Benchmarks;
+
+import Complex.Complex;
+import Matrix.ComplexMatrix.CEigenDecomposition;
+import Matrix.ComplexMatrix.CMatrix;
+import Matrix.MatrixExecutionContext;
+import Matrix.RealMatrix.REigenDecomposition;
+import Matrix.RealMatrix.RMatrix;
+import Matrix.RealMatrix.RMatrixMath;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class EigenBenchmark {
+
+    @Param({"100", "500"})
+    public int size;
+
+    private RMatrix general;
+    private RMatrix symmetric;
+    private CMatrix complex;
+
+    @Setup
+    public void setup() {
+        this.general = new RMatrix(this.size, this.size);
+        this.general.fillGaussian(0.0, 1.0, 42L, MatrixExecutionContext.serial());
+        this.symmetric = RMatrixMath.add(this.general, this.general.getTranspose());
+        this.complex = new CMatrix(this.size, this.size);
+        this.complex.fillGaussian(1.0, 7L, MatrixExecutionContext.serial());
+    }
+
+    // Tridiagonal reduction and QL
+    @Benchmark
+    public Complex[] symmetricValues() {
+        return this.symmetric.getEigenvalues();
+    }
+
+    // Tridiagonal reduction and divide and conquer
+    @Benchmark
+    public REigenDecomposition symmetricVectors() {
+        return this.symmetric.getEigenDecomposition();
+    }
+
+    @Benchmark
+    public Complex[] generalValues() {
+        return this.general.getEigenvalues();
+    }
+
+    @Benchmark
+    public REigenDecomposition generalVectors() {
+        return this.general.getEigenDecomposition();
+    }
+
+    @Benchmark
+    public CEigenDecomposition complexVectors() {
+        return this.complex.getEigenDecomposition();
+    }
+}
@@ -0,0 +1,41 @@
+package Benchmarks;
+
+import FFT.FFTPlan;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// In-place transforms through a reused plan; 1000 exercises the Bluestein path. Each call does a forward
+// and an inverse so the data stays bounded across iterations.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FFTBenchmark {
+
+    @Param({"1024", "1000", "65536"})
+    public int size;
+
+    private FFTPlan plan;
+    private double[] data;
+
+    @Setup
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        this.plan = new FFTPlan(this.size);
+        this.data = new double[2 * this.size];
+        for (int i = 0; i < this.data.length; i++) {
+            this.data[i] = random.nextDouble(-1, 1);
+        }
+    }
+
+    @Benchmark
+    public double[] forwardInverse() {
+        this.plan.forward(this.data);
+        this.plan.inverse(this.data);
+        return this.data;
+    }
+}
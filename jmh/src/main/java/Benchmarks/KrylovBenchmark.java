@@ -0,0 +1,90 @@
+package Benchmarks;
+
+import Matrix.RealMatrix.SparseRMatrix;
+import Matrix.Solvers.BiCGSTAB;
+import Matrix.Solvers.ConjugateGradient;
+import Matrix.Solvers.GMRES;
+import Matrix.Solvers.RLinearOperator;
+import Matrix.Solvers.RPreconditioner;
+import Matrix.Solvers.SolverResult;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class KrylovBenchmark {
+
+    // 5-point Laplacian on a grid x grid mesh, with a convection term for the non-symmetric solvers
+    @Param({"64", "128"})
+    public int grid;
+
+    private RLinearOperator laplacian, convection;
+    private RPreconditioner laplacianILU, convectionILU;
+    private double[] b, x;
+
+    private static SparseRMatrix mesh(int grid, double convection) {
+        int n = grid * grid;
+        SparseRMatrix.Builder builder = new SparseRMatrix.Builder(n, n, 5 * n);
+        for (int i = 0; i < grid; i++) {
+            for (int j = 0; j < grid; j++) {
+                int k = i * grid + j;
+                builder.add(k, k, 4.0);
+                if (i > 0) {
+                    builder.add(k, k - grid, -1.0 - convection);
+                }
+                if (i + 1 < grid) {
+                    builder.add(k, k + grid, -1.0 + convection);
+                }
+                if (j > 0) {
+                    builder.add(k, k - 1, -1.0 - convection);
+                }
+                if (j + 1 < grid) {
+                    builder.add(k, k + 1, -1.0 + convection);
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    @Setup
+    public void setup() {
+        SparseRMatrix symmetric = mesh(this.grid, 0.0), general = mesh(this.grid, 0.4);
+        this.laplacian = RLinearOperator.of(symmetric);
+        this.convection = RLinearOperator.of(general);
+        this.laplacianILU = RPreconditioner.ilu0(symmetric);
+        this.convectionILU = RPreconditioner.ilu0(general);
+        this.b = new double[this.grid * this.grid];
+        this.x = new double[this.b.length];
+        Arrays.fill(this.b, 1.0);
+    }
+
+    @Benchmark
+    public SolverResult conjugateGradient() {
+        Arrays.fill(this.x, 0.0);
+        return ConjugateGradient.solve(this.laplacian, this.b, this.x, 1e-8, 10000);
+    }
+
+    @Benchmark
+    public SolverResult conjugateGradientILU() {
+        Arrays.fill(this.x, 0.0);
+        return ConjugateGradient.solve(this.laplacian, this.b, this.x, this.laplacianILU, 1e-8, 10000);
+    }
+
+    @Benchmark
+    public SolverResult biCGSTABILU() {
+        Arrays.fill(this.x, 0.0);
+        return BiCGSTAB.solve(this.convection, this.b, this.x, this.convectionILU, 1e-8, 10000);
+    }
+
+    @Benchmark
+    public SolverResult gmresILU() {
+        Arrays.fill(this.x, 0.0);
+        return GMRES.solve(this.convection, this.b, this.x, this.convectionILU, GMRES.DEFAULT_RESTART, 1e-8, 10000);
+    }
+}
@@ -0,0 +1,84 @@
+package Benchmarks;
+
+import Complex.ComplexVector;
+import Polynomials.CubicEquation;
+import Polynomials.PolynomialBatch;
+import Polynomials.QuadraticEquation;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+// Batch solves over split coefficient planes against the per-equation solver loop they replace
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PolynomialBatchBenchmark {
+
+    @Param({"1024", "262144"})
+    public int size;
+
+    private ComplexVector a, b, c, d, root1, root2, root3;
+
+    @Setup
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        this.a = new ComplexVector(this.size);
+        this.b = new ComplexVector(this.size);
+        this.c = new ComplexVector(this.size);
+        this.d = new ComplexVector(this.size);
+        this.root1 = new ComplexVector(this.size);
+        this.root2 = new ComplexVector(this.size);
+        this.root3 = new ComplexVector(this.size);
+        for (int i = 0; i < this.size; i++) {
+            this.a.set(i, random.nextDouble(0.5, 2), random.nextDouble(-1, 1));
+            this.b.set(i, random.nextDouble(-2, 2), random.nextDouble(-2, 2));
+            this.c.set(i, random.nextDouble(-2, 2), random.nextDouble(-2, 2));
+            this.d.set(i, random.nextDouble(-2, 2), random.nextDouble(-2, 2));
+        }
+    }
+
+    @Benchmark
+    public ComplexVector quadraticLoop() {
+        for (int i = 0; i < this.size; i++) {
+            QuadraticEquation equation = QuadraticEquation.solveEquation(this.a.get(i), this.b.get(i), this.c.get(i));
+            this.root1.set(i, equation.getRoot1());
+            this.root2.set(i, equation.getRoot2());
+        }
+        return this.root1;
+    }
+
+    @Benchmark
+    public ComplexVector quadraticBatch() {
+        PolynomialBatch.solveQuadratic(this.a, this.b, this.c, this.root1, this.root2);
+        return this.root1;
+    }
+
+    @Benchmark
+    public ComplexVector cubicLoop() {
+        for (int i = 0; i < this.size; i++) {
+            CubicEquation equation = CubicEquation.solveCubic(this.a.get(i), this.b.get(i), this.c.get(i), this.d.get(i));
+            this.root1.set(i, equation.getRoot1());
+            this.root2.set(i, equation.getRoot2());
+            this.root3.set(i, equation.getRoot3());
+        }
+        return this.root1;
+    }
+
+    @Benchmark
+    public ComplexVector cubicBatch() {
+        PolynomialBatch.solveCubic(this.a, this.b, this.c, this.d, this.root1, this.root2, this.root3);
+        return this.root1;
+    }
+
+    @Benchmark
+    public ComplexVector cubicBatchParallel() {
+        PolynomialBatch.solveCubic(this.a, this.b, this.c, this.d, this.root1, this.root2, this.root3,
+                ForkJoinPool.commonPool());
+        return this.root1;
+    }
+}
@@ -0,0 +1,52 @@
+package Benchmarks;
+
+import Complex.Complex;
+import Polynomials.CubicEquation;
+import Polynomials.QuadraticEquation;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PolynomialBenchmark {
+
+    private Complex a, b, c, d;
+    private double ra, rb, rc, rd;
+
+    @Setup
+    public void setup() {
+        this.a = new Complex(1.0, 0.5);
+        this.b = new Complex(-2.0, 1.0);
+        this.c = new Complex(0.5, -3.0);
+        this.d = new Complex(4.0, 0.25);
+        this.ra = 1.0;
+        this.rb = -6.0;
+        this.rc = 11.0;
+        this.rd = -6.0;
+    }
+
+    @Benchmark
+    public QuadraticEquation solveQuadraticComplex() {
+        return QuadraticEquation.solveEquation(this.a, this.b, this.c);
+    }
+
+    @Benchmark
+    public QuadraticEquation solveQuadraticReal() {
+        return QuadraticEquation.solveEquation(this.ra, this.rb, this.rc);
+    }
+
+    @Benchmark
+    public CubicEquation solveCubicComplex() {
+        return CubicEquation.solveCubic(this.a, this.b, this.c, this.d);
+    }
+
+    @Benchmark
+    public CubicEquation solveCubicReal() {
+        return CubicEquation.solveCubic(this.ra, this.rb, this.rc, this.rd);
+    }
+}
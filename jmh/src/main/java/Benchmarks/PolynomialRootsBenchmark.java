@@ -0,0 +1,52 @@
+package Benchmarks;
+
+import Complex.Complex;
+import Polynomials.Polynomial;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+// Simultaneous root finding on random complex polynomials; getRootsParallel only differs on multi-core hosts
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class PolynomialRootsBenchmark {
+
+    @Param({"50", "1000"})
+    public int degree;
+
+    private Polynomial polynomial;
+    private Complex point;
+
+    @Setup
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        double[] re = new double[this.degree + 1], im = new double[this.degree + 1];
+        for (int k = 0; k <= this.degree; k++) {
+            re[k] = random.nextDouble(-1, 1);
+            im[k] = random.nextDouble(-1, 1);
+        }
+        this.polynomial = new Polynomial(re, im);
+        this.point = new Complex(0.75, -0.5);
+    }
+
+    @Benchmark
+    public Complex evaluate() {
+        return this.polynomial.evaluate(this.point);
+    }
+
+    @Benchmark
+    public Complex[] getRoots() {
+        return this.polynomial.getRoots();
+    }
+
+    @Benchmark
+    public Complex[] getRootsParallel() {
+        return this.polynomial.getRoots(ForkJoinPool.commonPool());
+    }
+}
@@ -0,0 +1,75 @@
+package Benchmarks;
+
+import Matrix.MatrixExecutionContext;
+import Matrix.RealMatrix.RMatrix;
+import Matrix.RealMatrix.RMatrixMath;
+import Matrix.RealMatrix.RQRDecomposition;
+import Matrix.RealMatrix.RStreamingLeastSquares;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class QRBenchmark {
+
+    @Param({"2000", "100000"})
+    public int rows;
+
+    @Param({"50"})
+    public int columns;
+
+    // Rows per panel fed to the streaming solver
+    private static final int PANEL = 4096;
+
+    private RMatrix design;
+    private RMatrix response;
+    private MatrixExecutionContext parallel;
+
+    @Setup
+    public void setup() {
+        this.design = new RMatrix(this.rows, this.columns);
+        this.design.fillGaussian(0.0, 1.0, 42L, MatrixExecutionContext.serial());
+        this.response = new RMatrix(this.rows, 1);
+        this.response.fillGaussian(0.0, 1.0, 7L, MatrixExecutionContext.serial());
+        this.parallel = MatrixExecutionContext.commonPool();
+    }
+
+    @Benchmark
+    public RQRDecomposition qr() {
+        return this.design.getQRDecomposition();
+    }
+
+    @Benchmark
+    public RQRDecomposition qrParallel() {
+        return this.design.getQRDecomposition(this.parallel);
+    }
+
+    @Benchmark
+    public RMatrix leastSquares() {
+        return this.design.solveLeastSquares(this.response);
+    }
+
+    @Benchmark
+    public RMatrix streamingLeastSquares() {
+        RStreamingLeastSquares solver = new RStreamingLeastSquares(this.columns);
+        for (int r0 = 0; r0 < this.rows; r0 += PANEL) {
+            int p = Math.min(PANEL, this.rows - r0);
+            solver.addRows(this.design.getSubMatrixView(r0, 0, p, this.columns),
+                    this.response.getSubMatrixView(r0, 0, p, 1));
+        }
+        return solver.solve();
+    }
+
+    // Baseline: the normal equations A^T A x = A^T b through Cholesky, which squares the condition number
+    @Benchmark
+    public RMatrix normalEquations() {
+        RMatrix transpose = this.design.getTranspose();
+        return RMatrixMath.product(transpose, this.design).getCholeskyDecomposition()
+                .solve(RMatrixMath.product(transpose, this.response));
+    }
+}
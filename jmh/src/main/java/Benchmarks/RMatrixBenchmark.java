@@ -0,0 +1,47 @@
+package Benchmarks;
+
+import Matrix.MatrixExecutionContext;
+import Matrix.RealMatrix.RMatrix;
+import Matrix.RealMatrix.RMatrixMath;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class RMatrixBenchmark {
+
+    @Param({"8", "32", "128", "512"})
+    public int size;
+
+    private RMatrix a, b;
+    private MatrixExecutionContext parallel;
+
+    @Setup
+    public void setup() {
+        this.a = new RMatrix(this.size, this.size);
+        this.b = new RMatrix(this.size, this.size);
+        this.a.fillRandom(false, -1.0, 1.0);
+        this.b.fillRandom(false, -1.0, 1.0);
+        this.parallel = MatrixExecutionContext.commonPool();
+    }
+
+    @Benchmark
+    public RMatrix product() {
+        return RMatrixMath.product(this.a, this.b);
+    }
+
+    @Benchmark
+    public RMatrix productParallel() {
+        return RMatrixMath.product(this.a, this.b, this.parallel);
+    }
+
+    @Benchmark
+    public RMatrix inverse() {
+        return this.a.getInverseMatrix();
+    }
+}
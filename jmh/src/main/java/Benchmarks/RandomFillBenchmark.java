@@ -0,0 +1,63 @@
+package Benchmarks;
+
+import Complex.ComplexVector;
+import Matrix.MatrixExecutionContext;
+import Matrix.RealMatrix.RMatrix;
+import Random.ComplexRandom;
+import Random.RandomFill;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class RandomFillBenchmark {
+
+    @Param({"256", "2048"})
+    public int size;
+
+    private RMatrix matrix;
+    private ComplexVector vector;
+    private MatrixExecutionContext parallel;
+
+    @Setup
+    public void setup() {
+        this.matrix = new RMatrix(this.size, this.size);
+        this.vector = new ComplexVector(this.size * this.size);
+        this.parallel = MatrixExecutionContext.commonPool();
+    }
+
+    @Benchmark
+    public RMatrix fillSerial() {
+        this.matrix.fillRandom(false, -1.0, 1.0, 42L);
+        return this.matrix;
+    }
+
+    @Benchmark
+    public RMatrix fillParallel() {
+        this.matrix.fillRandom(false, -1.0, 1.0, 42L, this.parallel);
+        return this.matrix;
+    }
+
+    @Benchmark
+    public ComplexVector fillComplexGaussian() {
+        RandomFill.fillGaussian(this.vector, 1.0, 42L, null);
+        return this.vector;
+    }
+
+    @Benchmark
+    public ComplexVector fillDisk() {
+        RandomFill.fillDisk(this.vector, 1.0, 42L, null);
+        return this.vector;
+    }
+
+    // The per-element Complex[][] path the bulk fills replace
+    @Benchmark
+    public Object randomComplexMatrix() {
+        return ComplexRandom.randomComplexMatrix(this.size, this.size, -1, 1, -1, 1, false);
+    }
+}
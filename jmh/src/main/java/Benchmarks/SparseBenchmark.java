@@ -0,0 +1,82 @@
+package Benchmarks;
+
+import Matrix.MatrixExecutionContext;
+import Matrix.RealMatrix.RMatrix;
+import Matrix.RealMatrix.RMatrixMath;
+import Matrix.RealMatrix.SparseRMatrix;
+import Matrix.RealMatrix.SparseRMatrixMath;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class SparseBenchmark {
+
+    // Rows of a banded system with a few random couplings per row, about 1% dense at size 512
+    @Param({"512", "100000"})
+    public int size;
+
+    private SparseRMatrix sparse;
+    private RMatrix dense, block;
+    private double[] x, y;
+    private MatrixExecutionContext parallel;
+
+    @Setup
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        SparseRMatrix.Builder builder = new SparseRMatrix.Builder(this.size, this.size, 6 * this.size);
+        for (int i = 0; i < this.size; i++) {
+            builder.add(i, i, 4.0);
+            if (i > 0) {
+                builder.add(i, i - 1, -1.0);
+            }
+            if (i + 1 < this.size) {
+                builder.add(i, i + 1, -1.0);
+            }
+            for (int t = 0; t < 3; t++) {
+                builder.add(i, random.nextInt(this.size), random.nextDouble(-0.1, 0.1));
+            }
+        }
+        this.sparse = builder.build();
+        this.x = new double[this.size];
+        this.y = new double[this.size];
+        Arrays.fill(this.x, 1.0);
+        if (this.size <= 1024) {
+            this.dense = this.sparse.toDense();
+        }
+        this.block = new RMatrix(this.size, 8);
+        this.block.fillRandom(false, -1.0, 1.0, 7L);
+        this.parallel = MatrixExecutionContext.commonPool();
+    }
+
+    @Benchmark
+    public double[] spmv() {
+        SparseRMatrixMath.multiply(this.sparse, this.x, this.y, MatrixExecutionContext.serial());
+        return this.y;
+    }
+
+    @Benchmark
+    public double[] spmvParallel() {
+        SparseRMatrixMath.multiply(this.sparse, this.x, this.y, this.parallel);
+        return this.y;
+    }
+
+    // Sparse against a tall block of 8 right-hand sides
+    @Benchmark
+    public RMatrix sparseTimesDense() {
+        return SparseRMatrixMath.product(this.sparse, this.block);
+    }
+
+    // The dense product the sparse one replaces; only feasible for the small size
+    @Benchmark
+    public RMatrix denseTimesDense() {
+        return this.dense == null ? null : RMatrixMath.product(this.dense, this.block);
+    }
+}
@@ -29,6 +29,14 @@ public final class ComplexLog {
         return new Complex(Math.log(num.getMod()), num.getAngle());
     }
 
+    // result = ln(a+ib)
+    public static MutableComplex ln(Complex num, MutableComplex result) {
+        if (num.isZero()) {
+            throw new ArithmeticException("Log of zero is undefined");
+        }
+        return result.set(Math.log(num.getMod()), num.getAngle());
+    }
+
     public static Complex log10(Complex num){
         return ComplexMath.divide(ln(num), Math.log(10));
     }
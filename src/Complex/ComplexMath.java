@@ -108,10 +108,11 @@ public final class ComplexMath {
         if (denominator.isZero()) {
             throw new ArithmeticException("Division by zero is undefined");
         }
-        Complex conjugate = denominator.getConjugate();
-        Complex numeratorModified = multiply(numerator, conjugate);
-        double denom = (denominator.reNum * denominator.reNum) + (denominator.imNum * denominator.imNum);
-        return new Complex(numeratorModified.reNum / denom, numeratorModified.imNum / denom);
+        // (a+ib)(c-id) / (c² + d²), without materialising the conjugate or the product
+        double a = numerator.reNum, b = numerator.imNum;
+        double c = denominator.reNum, d = denominator.imNum;
+        double denom = c * c + d * d;
+        return new Complex(Math.fma(a, c, b * d) / denom, Math.fma(b, c, -a * d) / denom);
     }
 
     // (a+ib) / c → Complex divided by real number
@@ -142,6 +143,60 @@ public final class ComplexMath {
                 : divide(numerator, denominator);
     }
 
+    // Into-overloads: write the result into a caller-owned MutableComplex and return it, so loops can
+    // reuse one accumulator instead of allocating. The result may be one of the operands.
+
+    // result = (a+ib) + (c+id)
+    public static MutableComplex add(Complex comp1, Complex comp2, MutableComplex result) {
+        return result.set(comp1.reNum + comp2.reNum, comp1.imNum + comp2.imNum);
+    }
+
+    // result = (a+ib) + c
+    public static MutableComplex add(Complex comp, double real, MutableComplex result) {
+        return result.set(comp.reNum + real, comp.imNum);
+    }
+
+    // result = (a+ib) - (c+id)
+    public static MutableComplex subtract(Complex comp1, Complex comp2, MutableComplex result) {
+        return result.set(comp1.reNum - comp2.reNum, comp1.imNum - comp2.imNum);
+    }
+
+    // result = (a+ib) - c
+    public static MutableComplex subtract(Complex comp, double real, MutableComplex result) {
+        return result.set(comp.reNum - real, comp.imNum);
+    }
+
+    // result = (a+ib) * (c+id)
+    public static MutableComplex multiply(Complex comp1, Complex comp2, MutableComplex result) {
+        double a = comp1.reNum, b = comp1.imNum;
+        double c = comp2.reNum, d = comp2.imNum;
+        return result.set(Math.fma(a, c, -b * d), Math.fma(a, d, b * c));
+    }
+
+    // result = (a+ib) * c
+    public static MutableComplex multiply(Complex comp, double real, MutableComplex result) {
+        return result.set(real * comp.reNum, real * comp.imNum);
+    }
+
+    // result = (a+ib) / (c+id)
+    public static MutableComplex divide(Complex numerator, Complex denominator, MutableComplex result) {
+        if (denominator.isZero()) {
+            throw new ArithmeticException("Division by zero is undefined");
+        }
+        double a = numerator.reNum, b = numerator.imNum;
+        double c = denominator.reNum, d = denominator.imNum;
+        double denom = c * c + d * d;
+        return result.set(Math.fma(a, c, b * d) / denom, Math.fma(b, c, -a * d) / denom);
+    }
+
+    // result = (a+ib) / c
+    public static MutableComplex divide(Complex numerator, double denominator, MutableComplex result) {
+        if (Math.abs(denominator) < Complex.EPSILON) {
+            throw new ArithmeticException("Division by zero in complex number division");
+        }
+        return result.set(numerator.reNum / denominator, numerator.imNum / denominator);
+    }
+
     // Polar form: magnitude * e^(i * angle) = a + ib
     public static Complex polarForm(double magnitude, double angle) {
         return new Complex(magnitude, angle, true);
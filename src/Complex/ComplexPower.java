@@ -22,21 +22,105 @@ public final class ComplexPower {
         return new Complex(expReal * Math.cos(pow.imNum), expReal * Math.sin(pow.imNum));
     }
 
+    // result = e^(x + iy)
+    public static MutableComplex expComplex(Complex pow, MutableComplex result) {
+        double expReal = Math.exp(pow.reNum);
+        double imag = pow.imNum;
+        return result.set(expReal * Math.cos(imag), expReal * Math.sin(imag));
+    }
+
     // Directly calls expComplex() for efficiency
     public static Complex eulersFormula(Complex pow) {
         return expComplex(new Complex(-pow.imNum, pow.reNum));
     }
 
-    // (a+ib)^(c+id)
+    // (a+ib)^(c+id); integral real exponents take the exact powInt path instead of exp(pow * ln(base))
     public static Complex power(Complex base, Complex pow) {
         if (base.isZero() && pow.isZero()) {
             throw new ArithmeticException("0 raised to the power 0 is undefined.");
         } else if (base.isZero()) {
             return new Complex();
         }
+        if (pow.imNum == 0.0 && isIntegral(pow.reNum)) {
+            return powInt(base, (int) pow.reNum);
+        }
         return expComplex(ComplexMath.multiply(pow, ComplexLog.ln(base)));
     }
 
+    private static boolean isIntegral(double value) {
+        return value == Math.rint(value) && Math.abs(value) <= Integer.MAX_VALUE;
+    }
+
+    // (a+ib)^n by binary exponentiation: O(log n) FMA multiplications and no transcendental calls.
+    // Negative exponents raise the reciprocal of the base.
+    public static Complex powInt(Complex base, int n) {
+        return powInt(base, n, new MutableComplex()).toComplex();
+    }
+
+    // result = (a+ib)^n
+    public static MutableComplex powInt(Complex base, int n, MutableComplex result) {
+        double a = base.reNum, b = base.imNum;
+        if (n == 0) {
+            if (a == 0.0 && b == 0.0) {
+                throw new ArithmeticException("0 raised to the power 0 is undefined.");
+            }
+            return result.set(1.0, 0.0);
+        }
+        if (n < 0) {
+            if (a == 0.0 && b == 0.0) {
+                throw new ArithmeticException("0 raised to a negative power is undefined.");
+            }
+            double modSqr = a * a + b * b;
+            a = a / modSqr;
+            b = -b / modSqr;
+        }
+
+        // long so that -Integer.MIN_VALUE does not overflow
+        long e = Math.abs((long) n);
+        double accRe = 1.0, accIm = 0.0;
+        while (true) {
+            if ((e & 1L) != 0) {
+                double t = Math.fma(accRe, a, -accIm * b);
+                accIm = Math.fma(accRe, b, accIm * a);
+                accRe = t;
+            }
+            e >>>= 1;
+            if (e == 0) {
+                break;
+            }
+            double t = (a + b) * (a - b);
+            b = 2.0 * a * b;
+            a = t;
+        }
+        return result.set(accRe, accIm);
+    }
+
+    // result = (a+ib)^(c+id), computed as e^((c+id) ln(a+ib)) entirely in locals
+    public static MutableComplex power(Complex base, Complex pow, MutableComplex result) {
+        return power(base, pow.reNum, pow.imNum, result);
+    }
+
+    // result = (a+ib)^c
+    public static MutableComplex power(Complex base, double pow, MutableComplex result) {
+        return power(base, pow, 0.0, result);
+    }
+
+    private static MutableComplex power(Complex base, double powRe, double powIm, MutableComplex result) {
+        boolean powIsZero = Math.abs(powRe) < Complex.EPSILON && Math.abs(powIm) < Complex.EPSILON;
+        if (base.isZero() && powIsZero) {
+            throw new ArithmeticException("0 raised to the power 0 is undefined.");
+        } else if (base.isZero()) {
+            return result.set(0.0, 0.0);
+        }
+        if (powIm == 0.0 && isIntegral(powRe)) {
+            return powInt(base, (int) powRe, result);
+        }
+        double lnRe = Math.log(base.getMod()), lnIm = base.getAngle();
+        double expRe = Math.exp(Math.fma(powRe, lnRe, -powIm * lnIm));
+        double angle = Math.fma(powRe, lnIm, powIm * lnRe);
+        return result.set(expRe * Math.cos(angle), expRe * Math.sin(angle));
+    }
+
     // a^(c+id)
     public static Complex power(double base, Complex pow) {
         return power(new Complex(base, 0.0), pow);
@@ -47,6 +131,19 @@ public final class ComplexPower {
         return expComplex(ComplexMath.multiply(pow, ComplexLog.ln(Math.abs(base), true)));
     }
 
+    // (a+ib)² = (a² - b²) + i 2ab, with (a+b)(a-b) for the real part to avoid cancellation
+    public static Complex square(Complex num) {
+        double a = num.reNum, b = num.imNum;
+        return new Complex((a + b) * (a - b), 2.0 * a * b);
+    }
+
+    // (a+ib)³ = a(a² - 3b²) + i b(3a² - b²)
+    public static Complex cube(Complex num) {
+        double a = num.reNum, b = num.imNum;
+        double aa = a * a, bb = b * b;
+        return new Complex(a * Math.fma(-3.0, bb, aa), b * Math.fma(3.0, aa, -bb));
+    }
+
     // (a+ib)^c
     public static Complex power(Complex base, double pow) {
         return power(base, new Complex(pow, 0));
@@ -57,9 +154,27 @@ public final class ComplexPower {
         return expComplex(ComplexMath.multiply(new Complex(0, pow), ComplexLog.ln(base)));
     }
 
-    // sqrt(a+ib) using complex power
+    // sqrt(a+ib), principal branch, computed algebraically instead of through exp(0.5 ln z)
     public static Complex sqrt(Complex num) {
-        return power(num, 0.5);
+        return sqrt(num, new MutableComplex()).toComplex();
+    }
+
+    // result = sqrt(a+ib). With r = |z|, the root is t + i y/(2t) where t = sqrt((r + x)/2) for x >= 0,
+    // and |y|/(2t) + i copysign(t, y) where t = sqrt((r - x)/2) for x < 0. Taking the large component
+    // first avoids cancellation, hypot avoids overflow, and copysign keeps the cut along the negative
+    // real axis: sqrt(-4 + 0i) = 2i, sqrt(-4 - 0i) = -2i.
+    public static MutableComplex sqrt(Complex num, MutableComplex result) {
+        double x = num.reNum, y = num.imNum;
+        if (x == 0.0 && y == 0.0) {
+            return result.set(0.0, y);
+        }
+        double r = Math.hypot(x, y);
+        if (x >= 0.0) {
+            double t = Math.sqrt(0.5 * r + 0.5 * x);
+            return result.set(t, y / (2.0 * t));
+        }
+        double t = Math.sqrt(0.5 * r - 0.5 * x);
+        return result.set(Math.abs(y) / (2.0 * t), Math.copySign(t, y));
     }
 
     // sqrt(ib)
@@ -67,21 +182,29 @@ public final class ComplexPower {
         return sqrt(new Complex(0, val));
     }
 
+    // Both square roots: the principal one and its negation
     public static Complex[] sqrtAll(Complex num) {
-        double r = Math.sqrt(num.getMod()); // Correct square root computation
-        double theta = num.getAngle(); // Compute argument (angle)
-
-        Complex[] roots = new Complex[2];
-        for (int k = 0; k < 2; k++) {
-            double angle = (theta + k * Math.PI) / 2.0; // Roots are separated by π/2
-            roots[k] = new Complex(r * Math.cos(angle), r * Math.sin(angle));
+        if (num.isZero()) {
+            throw new ArithmeticException("Angle is undefined for the origin (0 + 0i)");
         }
-        return roots;
+        Complex root = sqrt(num);
+        return new Complex[]{root, new Complex(-root.reNum, -root.imNum)};
     }
 
-    // cbrt(a+ib) using complex power
+    // cbrt(a+ib), principal branch: cbrt(|z|) e^(i arg(z)/3), without the log/exp round trip
     public static Complex cbrt(Complex num) {
-        return power(num, 1.0 / 3.0);
+        return cbrt(num, new MutableComplex()).toComplex();
+    }
+
+    // result = cbrt(a+ib); positive reals stay exact through Math.cbrt
+    public static MutableComplex cbrt(Complex num, MutableComplex result) {
+        double x = num.reNum, y = num.imNum;
+        if (y == 0.0 && x >= 0.0) {
+            return result.set(Math.cbrt(x), y);
+        }
+        double r = Math.cbrt(Math.hypot(x, y));
+        double angle = Math.atan2(y, x) / 3.0;
+        return result.set(r * Math.cos(angle), r * Math.sin(angle));
     }
 
     // cbrt(ib)
@@ -90,7 +213,7 @@ public final class ComplexPower {
     }
 
     public static Complex[] cbrtAll(Complex num) {
-        double r = Math.cbrt(num.getMod()); // Use Math.cbrt() for better precision
+        double r = Math.cbrt(Math.hypot(num.reNum, num.imNum)); // Use Math.cbrt() for better precision
         double theta = Math.atan2(num.imNum, num.reNum); // Compute argument (angle)
 
         Complex[] roots = new Complex[3];
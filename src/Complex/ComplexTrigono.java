@@ -22,11 +22,55 @@ public final class ComplexTrigono {
         return (degrees*Math.PI)/180.0;
     }
 
-    // sin(a+ib)
+    // Beyond this |Im z| the e^-|b| half of cosh(b) and sinh(b) is below double precision relative to
+    // the e^|b| half, so tan and cot have reached ±i and only e^|b| / 2 needs evaluating
+    private static final double ASYMPTOTIC_IMAG = 20.0;
+
+    // cosh(b) from em1 = expm1(|b|); pairs with sinh below, which reuses the same em1. Working on |b|
+    // keeps e^|b| = em1 + 1 free of the cancellation that expm1(b) + 1 suffers for large negative b
+    private static double cosh(double em1, double b) {
+        if (Math.abs(b) > ASYMPTOTIC_IMAG) {
+            return 0.5 * Math.exp(Math.abs(b));
+        }
+        double e = em1 + 1.0;
+        return 0.5 * (e + 1.0 / e);
+    }
+
+    // sinh(b) as sgn(b) (em1 + em1/e^|b|) / 2, which stays accurate as b approaches 0
+    private static double sinh(double em1, double b) {
+        if (Math.abs(b) > ASYMPTOTIC_IMAG) {
+            return Math.copySign(0.5 * Math.exp(Math.abs(b)), b);
+        }
+        return Math.copySign(0.5 * (em1 + em1 / (em1 + 1.0)), b);
+    }
+
+    // sin(a+ib) = sin(a)cosh(b) + i cos(a)sinh(b)
     public static Complex sin(Complex num) {
-        Complex expIZ = ComplexPower.expComplex(ComplexMath.multiply(Complex.IOTA, num));
-        Complex expNegIZ = ComplexPower.expComplex(ComplexMath.multiply(Complex.NEG_IOTA, num));
-        return ComplexMath.divide(ComplexMath.subtract(expIZ, expNegIZ), new Complex(0, 2));
+        return sin(num, new MutableComplex()).toComplex();
+    }
+
+    // result = sin(a+ib)
+    public static MutableComplex sin(Complex num, MutableComplex result) {
+        double a = num.reNum, b = num.imNum;
+        double em1 = Math.expm1(Math.abs(b));
+        return result.set(Math.sin(a) * cosh(em1, b), Math.cos(a) * sinh(em1, b));
+    }
+
+    // {sin(a+ib), cos(a+ib)} from one sin(a), cos(a) and expm1(|b|)
+    public static Complex[] sincos(Complex num) {
+        MutableComplex sin = new MutableComplex(), cos = new MutableComplex();
+        sincos(num, sin, cos);
+        return new Complex[]{sin.toComplex(), cos.toComplex()};
+    }
+
+    // sin = sin(a+ib), cos = cos(a+ib); num may be either result
+    public static void sincos(Complex num, MutableComplex sin, MutableComplex cos) {
+        double a = num.reNum, b = num.imNum;
+        double sinA = Math.sin(a), cosA = Math.cos(a);
+        double em1 = Math.expm1(Math.abs(b));
+        double coshB = cosh(em1, b), sinhB = sinh(em1, b);
+        sin.set(sinA * coshB, cosA * sinhB);
+        cos.set(cosA * coshB, -sinA * sinhB);
     }
 
     // sin(ib)
@@ -44,11 +88,16 @@ public final class ComplexTrigono {
         return sin(toRadian(num), isImaginary);
     }
 
-    // cos(a+ib)
+    // cos(a+ib) = cos(a)cosh(b) - i sin(a)sinh(b)
     public static Complex cos(Complex num) {
-        Complex expIZ = ComplexPower.expComplex(ComplexMath.multiply(Complex.IOTA, num));
-        Complex expNegIZ = ComplexPower.expComplex(ComplexMath.multiply(Complex.NEG_IOTA, num));
-        return ComplexMath.divide(ComplexMath.add(expIZ, expNegIZ), 2.0);
+        return cos(num, new MutableComplex()).toComplex();
+    }
+
+    // result = cos(a+ib)
+    public static MutableComplex cos(Complex num, MutableComplex result) {
+        double a = num.reNum, b = num.imNum;
+        double em1 = Math.expm1(Math.abs(b));
+        return result.set(Math.cos(a) * cosh(em1, b), -Math.sin(a) * sinh(em1, b));
     }
 
     // cos(ib)
@@ -66,9 +115,22 @@ public final class ComplexTrigono {
         return cos(toRadian(num), isImaginary);
     }
 
-    // tan(a+ib)
+    // tan(a+ib) = sin(a+ib) / cos(a+ib)
     public static Complex tan(Complex num) {
-        return ComplexMath.divide(sin(num), cos(num));
+        return tan(num, new MutableComplex()).toComplex();
+    }
+
+    // result = tan(a+ib); far from the real axis sin and cos overflow, but tan has settled to ±i
+    public static MutableComplex tan(Complex num, MutableComplex result) {
+        double a = num.reNum, b = num.imNum;
+        if (Math.abs(b) > ASYMPTOTIC_IMAG) {
+            return result.set(2.0 * Math.sin(2.0 * a) * Math.exp(-2.0 * Math.abs(b)), Math.copySign(1.0, b));
+        }
+        // The sincos terms stay in locals so the into-form allocates nothing
+        double sinA = Math.sin(a), cosA = Math.cos(a);
+        double em1 = Math.expm1(Math.abs(b));
+        double coshB = cosh(em1, b), sinhB = sinh(em1, b);
+        return result.set(sinA * coshB, cosA * sinhB).divAssign(cosA * coshB, -sinA * sinhB);
     }
 
     // tan(ib)
@@ -86,13 +148,25 @@ public final class ComplexTrigono {
         return tan(toRadian(num), isImaginary);
     }
 
-    // cot(a + ib)
+    // cot(a + ib) = cos(a+ib) / sin(a+ib)
     public static Complex cot(Complex num) {
-        Complex tanValue = tan(num);
-        if (tanValue.isZero()) {
+        return cot(num, new MutableComplex()).toComplex();
+    }
+
+    // result = cot(a+ib)
+    public static MutableComplex cot(Complex num, MutableComplex result) {
+        double a = num.reNum, b = num.imNum;
+        if (Math.abs(b) > ASYMPTOTIC_IMAG) {
+            return result.set(2.0 * Math.sin(2.0 * a) * Math.exp(-2.0 * Math.abs(b)), -Math.copySign(1.0, b));
+        }
+        double sinA = Math.sin(a), cosA = Math.cos(a);
+        double em1 = Math.expm1(Math.abs(b));
+        double coshB = cosh(em1, b), sinhB = sinh(em1, b);
+        double sinRe = sinA * coshB, sinIm = cosA * sinhB;
+        if (Math.abs(sinRe) < Complex.EPSILON && Math.abs(sinIm) < Complex.EPSILON) {
             throw new ArithmeticException("Cotangent is undefined for tan(z) = 0");
         }
-        return ComplexMath.divide(Complex.ONE, tanValue);
+        return result.set(cosA * coshB, -sinA * sinhB).divAssign(sinRe, sinIm);
     }
 
     // cot(ib)
@@ -114,13 +188,23 @@ public final class ComplexTrigono {
         return cot(toRadian(num), isImaginary);
     }
 
-    // sec(a+ib)
+    // sec(a+ib) = 1 / cos(a+ib)
     public static Complex sec(Complex num) {
-        Complex cosValue = cos(num);
-        if (cosValue.isZero()) {
+        return sec(num, new MutableComplex()).toComplex();
+    }
+
+    // result = sec(a+ib); far from the real axis 1/cos(z) = 2e^-|b| (cos a + i sgn(b) sin a)
+    public static MutableComplex sec(Complex num, MutableComplex result) {
+        double a = num.reNum, b = num.imNum;
+        if (Math.abs(b) > ASYMPTOTIC_IMAG) {
+            double scale = 2.0 * Math.exp(-Math.abs(b));
+            return result.set(scale * Math.cos(a), Math.copySign(scale, b) * Math.sin(a));
+        }
+        cos(num, result);
+        if (result.isZero()) {
             throw new ArithmeticException("Sec is undefined for cos(num) = 0");
         }
-        return ComplexMath.divide(Complex.ONE, cosValue);
+        return result.reciprocalAssign();
     }
 
     // sec(ib)
@@ -138,13 +222,23 @@ public final class ComplexTrigono {
         return sec(toRadian(num), isImaginary);
     }
 
-    // cosec(a + ib)
+    // cosec(a + ib) = 1 / sin(a+ib)
     public static Complex cosec(Complex num) {
-        Complex sinValue = sin(num);
-        if (sinValue.isZero()) {
+        return cosec(num, new MutableComplex()).toComplex();
+    }
+
+    // result = cosec(a+ib); far from the real axis 1/sin(z) = 2e^-|b| (sin a - i sgn(b) cos a)
+    public static MutableComplex cosec(Complex num, MutableComplex result) {
+        double a = num.reNum, b = num.imNum;
+        if (Math.abs(b) > ASYMPTOTIC_IMAG) {
+            double scale = 2.0 * Math.exp(-Math.abs(b));
+            return result.set(scale * Math.sin(a), -Math.copySign(scale, b) * Math.cos(a));
+        }
+        sin(num, result);
+        if (result.isZero()) {
             throw new ArithmeticException("Cosecant is undefined for sin(z) = 0");
         }
-        return ComplexMath.divide(Complex.ONE, sinValue);
+        return result.reciprocalAssign();
     }
 
     // cosec(ib)
@@ -173,6 +267,15 @@ public final class ComplexTrigono {
         return ComplexMath.multiply(Complex.NEG_IOTA, ComplexLog.ln(val));
     }
 
+    // result = arcSin(a+ib) = -i ln(iz + sqrt(1 - z²)), using result as the only scratch value
+    public static MutableComplex arcSin(Complex value, MutableComplex result) {
+        double a = value.reNum, b = value.imNum;
+        result.set(1.0 - Math.fma(a, a, -b * b), -2.0 * a * b);
+        ComplexPower.sqrt(result, result).addAssign(-b, a);
+        ComplexLog.ln(result, result);
+        return result.set(result.imNum, -result.reNum);
+    }
+
     public static Complex arcSin(double value, boolean isValueImaginary) {
         return arcSin(isValueImaginary ? new Complex(0.0, value) : new Complex(value, 0.0));
     }
@@ -192,6 +295,16 @@ public final class ComplexTrigono {
         return ComplexMath.multiply(Complex.NEG_IOTA, ComplexLog.ln(val));
     }
 
+    // result = arcCos(a+ib) = -i ln(z + i sqrt(1 - z²))
+    public static MutableComplex arcCos(Complex value, MutableComplex result) {
+        double a = value.reNum, b = value.imNum;
+        result.set(1.0 - Math.fma(a, a, -b * b), -2.0 * a * b);
+        ComplexPower.sqrt(result, result);
+        result.set(a - result.imNum, b + result.reNum);
+        ComplexLog.ln(result, result);
+        return result.set(result.imNum, -result.reNum);
+    }
+
     public static Complex arcCos(double value, boolean isValueImaginary) {
         return arcCos(isValueImaginary ? new Complex(0.0, value) : new Complex(value, 0.0));
     }
@@ -0,0 +1,113 @@
+package Complex;
+
+// A fixed-length array of complex numbers stored as two double planes, re[i] + i*im[i], the same
+// split layout CMatrix uses. Bulk kernels live in ComplexVectorMath; this class only holds and
+// addresses the data.
+public final class ComplexVector {
+
+    private final double[] re, im;
+    private final int length;
+
+    public ComplexVector(int length) {
+        if (length < 0) {
+            throw new IllegalArgumentException("Length cannot be negative.");
+        }
+        this.re = new double[length];
+        this.im = new double[length];
+        this.length = length;
+    }
+
+    // Wraps the given planes without copying
+    public ComplexVector(double[] re, double[] im) {
+        if (re == null || im == null) {
+            throw new IllegalArgumentException("Planes cannot be null.");
+        }
+        if (re.length != im.length) {
+            throw new IllegalArgumentException("Real and imaginary planes must have the same length.");
+        }
+        this.re = re;
+        this.im = im;
+        this.length = re.length;
+    }
+
+    public ComplexVector(Complex[] values) {
+        this(values.length);
+        for (int i = 0; i < this.length; i++) {
+            this.re[i] = values[i].reNum;
+            this.im[i] = values[i].imNum;
+        }
+    }
+
+    // Splits [re0, im0, re1, im1, ...] into planes
+    public static ComplexVector fromInterleaved(double[] interleaved) {
+        if (interleaved.length % 2 != 0) {
+            throw new IllegalArgumentException("Interleaved data must have an even length.");
+        }
+        ComplexVector vector = new ComplexVector(interleaved.length / 2);
+        for (int i = 0; i < vector.length; i++) {
+            vector.re[i] = interleaved[2 * i];
+            vector.im[i] = interleaved[2 * i + 1];
+        }
+        return vector;
+    }
+
+    public double[] toInterleaved() {
+        double[] interleaved = new double[2 * this.length];
+        for (int i = 0; i < this.length; i++) {
+            interleaved[2 * i] = this.re[i];
+            interleaved[2 * i + 1] = this.im[i];
+        }
+        return interleaved;
+    }
+
+    public Complex[] toArray() {
+        Complex[] values = new Complex[this.length];
+        for (int i = 0; i < this.length; i++) {
+            values[i] = new Complex(this.re[i], this.im[i]);
+        }
+        return values;
+    }
+
+    public int length() {
+        return this.length;
+    }
+
+    // The backing planes, not copies; writes are visible through the vector
+    public double[] getRealPlane() {
+        return this.re;
+    }
+
+    public double[] getImagPlane() {
+        return this.im;
+    }
+
+    public Complex get(int index) {
+        return new Complex(this.re[index], this.im[index]);
+    }
+
+    public MutableComplex get(int index, MutableComplex result) {
+        return result.set(this.re[index], this.im[index]);
+    }
+
+    public double getReal(int index) {
+        return this.re[index];
+    }
+
+    public double getImag(int index) {
+        return this.im[index];
+    }
+
+    public void set(int index, Complex value) {
+        this.re[index] = value.reNum;
+        this.im[index] = value.imNum;
+    }
+
+    public void set(int index, double real, double imag) {
+        this.re[index] = real;
+        this.im[index] = imag;
+    }
+
+    public ComplexVector getCopy() {
+        return new ComplexVector(this.re.clone(), this.im.clone());
+    }
+}
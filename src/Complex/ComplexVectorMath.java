@@ -0,0 +1,234 @@
+package Complex;
+
+import Simd.VectorBackend;
+import Simd.VectorBackends;
+
+// Bulk kernels over ComplexVector. add, subtract, multiply and the dot products run on the active
+// VectorBackend (Vector API when available). The remaining loops walk the re/im planes with a single
+// index and no allocation or calls in the body (other than java.lang.Math intrinsics), so HotSpot's
+// superword pass can vectorize the arithmetic ones. Every operation has an allocating form and a form
+// that writes into a caller-owned result vector; the result may be one of the inputs.
+public final class ComplexVectorMath {
+
+    private ComplexVectorMath() {
+        throw new UnsupportedOperationException("Cannot instantiate ComplexVectorMath.");
+    }
+
+    private static final VectorBackend BACKEND = VectorBackends.get();
+
+    private static void checkLengths(ComplexVector a, ComplexVector b) {
+        if (a == null || b == null) {
+            throw new IllegalArgumentException("Vectors cannot be null.");
+        }
+        if (a.length() != b.length()) {
+            throw new IllegalArgumentException("Vectors must have the same length.");
+        }
+    }
+
+    // result[i] = a[i] + b[i]
+    public static ComplexVector add(ComplexVector a, ComplexVector b, ComplexVector result) {
+        checkLengths(a, b);
+        checkLengths(a, result);
+        double[] aRe = a.getRealPlane(), aIm = a.getImagPlane();
+        double[] bRe = b.getRealPlane(), bIm = b.getImagPlane();
+        double[] rRe = result.getRealPlane(), rIm = result.getImagPlane();
+        BACKEND.add(aRe, 0, bRe, 0, rRe, 0, rRe.length);
+        BACKEND.add(aIm, 0, bIm, 0, rIm, 0, rIm.length);
+        return result;
+    }
+
+    public static ComplexVector add(ComplexVector a, ComplexVector b) {
+        checkLengths(a, b);
+        return add(a, b, new ComplexVector(a.length()));
+    }
+
+    // result[i] = a[i] - b[i]
+    public static ComplexVector subtract(ComplexVector a, ComplexVector b, ComplexVector result) {
+        checkLengths(a, b);
+        checkLengths(a, result);
+        double[] aRe = a.getRealPlane(), aIm = a.getImagPlane();
+        double[] bRe = b.getRealPlane(), bIm = b.getImagPlane();
+        double[] rRe = result.getRealPlane(), rIm = result.getImagPlane();
+        BACKEND.subtract(aRe, 0, bRe, 0, rRe, 0, rRe.length);
+        BACKEND.subtract(aIm, 0, bIm, 0, rIm, 0, rIm.length);
+        return result;
+    }
+
+    public static ComplexVector subtract(ComplexVector a, ComplexVector b) {
+        checkLengths(a, b);
+        return subtract(a, b, new ComplexVector(a.length()));
+    }
+
+    // result[i] = a[i] * b[i], elementwise
+    public static ComplexVector multiply(ComplexVector a, ComplexVector b, ComplexVector result) {
+        checkLengths(a, b);
+        checkLengths(a, result);
+        double[] aRe = a.getRealPlane(), aIm = a.getImagPlane();
+        double[] bRe = b.getRealPlane(), bIm = b.getImagPlane();
+        double[] rRe = result.getRealPlane(), rIm = result.getImagPlane();
+        BACKEND.complexMultiply(aRe, aIm, 0, bRe, bIm, 0, rRe, rIm, 0, rRe.length);
+        return result;
+    }
+
+    public static ComplexVector multiply(ComplexVector a, ComplexVector b) {
+        checkLengths(a, b);
+        return multiply(a, b, new ComplexVector(a.length()));
+    }
+
+    // result[i] = s * a[i]
+    public static ComplexVector scale(ComplexVector a, Complex s, ComplexVector result) {
+        checkLengths(a, result);
+        double sRe = s.reNum, sIm = s.imNum;
+        double[] aRe = a.getRealPlane(), aIm = a.getImagPlane();
+        double[] rRe = result.getRealPlane(), rIm = result.getImagPlane();
+        for (int i = 0; i < rRe.length; i++) {
+            double xRe = aRe[i], xIm = aIm[i];
+            rRe[i] = Math.fma(sRe, xRe, -sIm * xIm);
+            rIm[i] = Math.fma(sRe, xIm, sIm * xRe);
+        }
+        return result;
+    }
+
+    public static ComplexVector scale(ComplexVector a, Complex s) {
+        return scale(a, s, new ComplexVector(a.length()));
+    }
+
+    // result[i] = s * a[i] for a real s
+    public static ComplexVector scale(ComplexVector a, double s, ComplexVector result) {
+        checkLengths(a, result);
+        double[] aRe = a.getRealPlane(), aIm = a.getImagPlane();
+        double[] rRe = result.getRealPlane(), rIm = result.getImagPlane();
+        for (int i = 0; i < rRe.length; i++) {
+            rRe[i] = s * aRe[i];
+            rIm[i] = s * aIm[i];
+        }
+        return result;
+    }
+
+    public static ComplexVector scale(ComplexVector a, double s) {
+        return scale(a, s, new ComplexVector(a.length()));
+    }
+
+    // result[i] = conj(a[i])
+    public static ComplexVector conjugate(ComplexVector a, ComplexVector result) {
+        checkLengths(a, result);
+        double[] aRe = a.getRealPlane(), aIm = a.getImagPlane();
+        double[] rRe = result.getRealPlane(), rIm = result.getImagPlane();
+        for (int i = 0; i < rRe.length; i++) {
+            rRe[i] = aRe[i];
+            rIm[i] = -aIm[i];
+        }
+        return result;
+    }
+
+    public static ComplexVector conjugate(ComplexVector a) {
+        return conjugate(a, new ComplexVector(a.length()));
+    }
+
+    // result[i] = |a[i]|, same formula as Complex.getMod
+    public static double[] abs(ComplexVector a, double[] result) {
+        if (a == null || result == null) {
+            throw new IllegalArgumentException("Vectors cannot be null.");
+        }
+        if (result.length != a.length()) {
+            throw new IllegalArgumentException("Vectors must have the same length.");
+        }
+        double[] aRe = a.getRealPlane(), aIm = a.getImagPlane();
+        for (int i = 0; i < result.length; i++) {
+            double xRe = aRe[i], xIm = aIm[i];
+            result[i] = Math.sqrt(Math.fma(xRe, xRe, xIm * xIm));
+        }
+        return result;
+    }
+
+    public static double[] abs(ComplexVector a) {
+        return abs(a, new double[a.length()]);
+    }
+
+    // y[i] += alpha * x[i] (BLAS zaxpy); y is updated in place and returned
+    public static ComplexVector axpy(Complex alpha, ComplexVector x, ComplexVector y) {
+        checkLengths(x, y);
+        double sRe = alpha.reNum, sIm = alpha.imNum;
+        double[] xRe = x.getRealPlane(), xIm = x.getImagPlane();
+        double[] yRe = y.getRealPlane(), yIm = y.getImagPlane();
+        for (int i = 0; i < yRe.length; i++) {
+            double vRe = xRe[i], vIm = xIm[i];
+            yRe[i] = Math.fma(sRe, vRe, Math.fma(-sIm, vIm, yRe[i]));
+            yIm[i] = Math.fma(sRe, vIm, Math.fma(sIm, vRe, yIm[i]));
+        }
+        return y;
+    }
+
+    // sum a[i] * b[i] without conjugation (BLAS zdotu)
+    public static Complex dot(ComplexVector a, ComplexVector b) {
+        checkLengths(a, b);
+        return BACKEND.complexDot(a.getRealPlane(), a.getImagPlane(), 0,
+                b.getRealPlane(), b.getImagPlane(), 0, a.length(), false);
+    }
+
+    // sum conj(a[i]) * b[i], the Hermitian inner product (BLAS zdotc)
+    public static Complex dotConjugate(ComplexVector a, ComplexVector b) {
+        checkLengths(a, b);
+        return BACKEND.complexDot(a.getRealPlane(), a.getImagPlane(), 0,
+                b.getRealPlane(), b.getImagPlane(), 0, a.length(), true);
+    }
+
+    // result[i] = e^(a[i])
+    public static ComplexVector exp(ComplexVector a, ComplexVector result) {
+        checkLengths(a, result);
+        double[] aRe = a.getRealPlane(), aIm = a.getImagPlane();
+        double[] rRe = result.getRealPlane(), rIm = result.getImagPlane();
+        for (int i = 0; i < rRe.length; i++) {
+            double expReal = Math.exp(aRe[i]), angle = aIm[i];
+            rRe[i] = expReal * Math.cos(angle);
+            rIm[i] = expReal * Math.sin(angle);
+        }
+        return result;
+    }
+
+    public static ComplexVector exp(ComplexVector a) {
+        return exp(a, new ComplexVector(a.length()));
+    }
+
+    // result[i] = ln(a[i]), principal branch; throws if any element is zero, like ComplexLog.ln. The zero check
+    // runs over the whole input before anything is written, so an in-place log(v, v) that throws leaves v intact.
+    public static ComplexVector log(ComplexVector a, ComplexVector result) {
+        checkLengths(a, result);
+        double[] aRe = a.getRealPlane(), aIm = a.getImagPlane();
+        double[] rRe = result.getRealPlane(), rIm = result.getImagPlane();
+        for (int i = 0; i < aRe.length; i++) {
+            if (Math.abs(aRe[i]) < Complex.EPSILON && Math.abs(aIm[i]) < Complex.EPSILON) {
+                throw new ArithmeticException("Log of zero is undefined");
+            }
+        }
+        for (int i = 0; i < rRe.length; i++) {
+            double xRe = aRe[i], xIm = aIm[i];
+            rRe[i] = 0.5 * Math.log(Math.fma(xRe, xRe, xIm * xIm));
+            rIm[i] = Math.atan2(xIm, xRe);
+        }
+        return result;
+    }
+
+    public static ComplexVector log(ComplexVector a) {
+        return log(a, new ComplexVector(a.length()));
+    }
+
+    // result[i] = sin(a[i]) = sin(x)cosh(y) + i cos(x)sinh(y)
+    public static ComplexVector sin(ComplexVector a, ComplexVector result) {
+        checkLengths(a, result);
+        double[] aRe = a.getRealPlane(), aIm = a.getImagPlane();
+        double[] rRe = result.getRealPlane(), rIm = result.getImagPlane();
+        for (int i = 0; i < rRe.length; i++) {
+            double x = aRe[i], y = aIm[i];
+            double em1 = Math.expm1(Math.abs(y)), e = em1 + 1.0;
+            double coshY = 0.5 * (e + 1.0 / e), sinhY = Math.copySign(0.5 * (em1 + em1 / e), y);
+            rRe[i] = Math.sin(x) * coshY;
+            rIm[i] = Math.cos(x) * sinhY;
+        }
+        return result;
+    }
+
+    public static ComplexVector sin(ComplexVector a) {
+        return sin(a, new ComplexVector(a.length()));
+    }
+}
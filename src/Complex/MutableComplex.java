@@ -0,0 +1,123 @@
+package Complex;
+
+// A Complex whose value can be overwritten in place. Use it as an accumulator or as the result
+// argument of the into-overloads in ComplexMath, ComplexPower, ComplexLog and ComplexTrigono, so hot
+// loops can run without allocating. Every *Assign method updates the receiver and returns it.
+// Because the value changes, a MutableComplex should not be used as a hash key.
+public class MutableComplex extends Complex {
+
+    public MutableComplex() {
+        super();
+    }
+
+    public MutableComplex(double reNum, double imNum) {
+        super(reNum, imNum);
+    }
+
+    public MutableComplex(Complex other) {
+        super(other);
+    }
+
+    public MutableComplex set(double reNum, double imNum) {
+        this.reNum = reNum;
+        this.imNum = imNum;
+        return this;
+    }
+
+    public MutableComplex set(Complex other) {
+        return this.set(other.reNum, other.imNum);
+    }
+
+    // Immutable snapshot of the current value. Allocating APIs return this rather than the MutableComplex
+    // itself, since Complex.equals compares exact classes
+    public Complex toComplex() {
+        return new Complex(this.reNum, this.imNum);
+    }
+
+    // this += other
+    public MutableComplex addAssign(Complex other) {
+        return this.set(this.reNum + other.reNum, this.imNum + other.imNum);
+    }
+
+    // this += (real + i*imag)
+    public MutableComplex addAssign(double real, double imag) {
+        return this.set(this.reNum + real, this.imNum + imag);
+    }
+
+    // this += real
+    public MutableComplex addAssign(double real) {
+        return this.set(this.reNum + real, this.imNum);
+    }
+
+    // this -= other
+    public MutableComplex subAssign(Complex other) {
+        return this.set(this.reNum - other.reNum, this.imNum - other.imNum);
+    }
+
+    // this -= real
+    public MutableComplex subAssign(double real) {
+        return this.set(this.reNum - real, this.imNum);
+    }
+
+    // this *= other
+    public MutableComplex mulAssign(Complex other) {
+        return this.mulAssign(other.reNum, other.imNum);
+    }
+
+    // this *= (real + i*imag)
+    public MutableComplex mulAssign(double real, double imag) {
+        double a = this.reNum, b = this.imNum;
+        return this.set(Math.fma(a, real, -b * imag), Math.fma(a, imag, b * real));
+    }
+
+    // this *= real
+    public MutableComplex mulAssign(double real) {
+        return this.set(this.reNum * real, this.imNum * real);
+    }
+
+    // this += a * b, the multiply-accumulate step of dot products and polynomial evaluation
+    public MutableComplex addProductAssign(Complex a, Complex b) {
+        double real = Math.fma(a.reNum, b.reNum, Math.fma(-a.imNum, b.imNum, this.reNum));
+        double imag = Math.fma(a.reNum, b.imNum, Math.fma(a.imNum, b.reNum, this.imNum));
+        return this.set(real, imag);
+    }
+
+    // this /= other
+    public MutableComplex divAssign(Complex other) {
+        return this.divAssign(other.reNum, other.imNum);
+    }
+
+    // this /= (real + i*imag)
+    public MutableComplex divAssign(double real, double imag) {
+        if (Math.abs(real) < EPSILON && Math.abs(imag) < EPSILON) {
+            throw new ArithmeticException("Division by zero is undefined");
+        }
+        double a = this.reNum, b = this.imNum;
+        double denom = real * real + imag * imag;
+        return this.set(Math.fma(a, real, b * imag) / denom, Math.fma(b, real, -a * imag) / denom);
+    }
+
+    // this /= real
+    public MutableComplex divAssign(double real) {
+        if (Math.abs(real) < EPSILON) {
+            throw new ArithmeticException("Division by zero in complex number division");
+        }
+        return this.set(this.reNum / real, this.imNum / real);
+    }
+
+    public MutableComplex conjugateAssign() {
+        return this.set(this.reNum, -this.imNum);
+    }
+
+    public MutableComplex negateAssign() {
+        return this.set(-this.reNum, -this.imNum);
+    }
+
+    public MutableComplex reciprocalAssign() {
+        if (this.isZero()) {
+            throw new ArithmeticException("Reciprocal is undefined for zero complex number.");
+        }
+        double modSqr = this.reNum * this.reNum + this.imNum * this.imNum;
+        return this.set(this.reNum / modSqr, -this.imNum / modSqr);
+    }
+}
@@ -0,0 +1,81 @@
+package FFT;
+
+import Complex.Complex;
+import Complex.ComplexPower;
+
+import java.util.Arrays;
+
+// Bluestein's chirp-z rewrite of a length-n DFT as a power-of-two circular convolution. With
+// jk = (j² + k² - (k - j)²) / 2, X_k = w_k sum_j (x_j w_j) conj(w_{k-j}) for the chirp w_j = e^(-iπj²/n).
+// The tables hold the chirp and the spectrum of the conj(w) sequence, already divided by the convolution
+// length. Unlike RadixTables they are not cached: every length has its own, up to 2^28 of them and each
+// sized by m >= 2n - 1, so a shared cache would only grow. The plan owns them instead.
+final class BluesteinTables {
+
+    final int n, m;
+
+    // w_j interleaved, j < n
+    final double[] chirp;
+
+    // FFT_m of conj(w) wrapped around index 0, scaled by 1/m
+    final double[] kernelSpectrum;
+
+    final RadixTables radix;
+
+    BluesteinTables(int n) {
+        this.n = n;
+        this.m = Integer.highestOneBit(2 * n - 1) << 1;
+        this.radix = RadixTables.forLength(this.m);
+
+        this.chirp = new double[2 * n];
+        for (int j = 0; j < n; j++) {
+            // j² mod 2n keeps the angle small, and exact, for large j
+            long square = ((long) j * j) % (2L * n);
+            Complex w = ComplexPower.eulersFormula(-Math.PI * square / n);
+            this.chirp[2 * j] = w.getReal();
+            this.chirp[2 * j + 1] = w.getImag();
+        }
+
+        double scale = 1.0 / this.m;
+        this.kernelSpectrum = new double[2 * this.m];
+        for (int j = 0; j < n; j++) {
+            double re = scale * this.chirp[2 * j], im = -scale * this.chirp[2 * j + 1];
+            this.kernelSpectrum[2 * j] = re;
+            this.kernelSpectrum[2 * j + 1] = im;
+            if (j > 0) {
+                this.kernelSpectrum[2 * (this.m - j)] = re;
+                this.kernelSpectrum[2 * (this.m - j) + 1] = im;
+            }
+        }
+        this.radix.transform(this.kernelSpectrum, 0, false);
+    }
+
+    // Forward transform of the n values interleaved at data[offset ...], using scratch (2m doubles)
+    void transform(double[] data, int offset, double[] scratch) {
+        int n = this.n;
+        double[] w = this.chirp, spectrum = this.kernelSpectrum;
+
+        for (int j = 0; j < n; j++) {
+            double xr = data[offset + 2 * j], xi = data[offset + 2 * j + 1];
+            double wr = w[2 * j], wi = w[2 * j + 1];
+            scratch[2 * j] = Math.fma(xr, wr, -xi * wi);
+            scratch[2 * j + 1] = Math.fma(xr, wi, xi * wr);
+        }
+        Arrays.fill(scratch, 2 * n, 2 * this.m, 0.0);
+
+        this.radix.transform(scratch, 0, false);
+        for (int i = 0; i < 2 * this.m; i += 2) {
+            double ar = scratch[i], ai = scratch[i + 1], br = spectrum[i], bi = spectrum[i + 1];
+            scratch[i] = Math.fma(ar, br, -ai * bi);
+            scratch[i + 1] = Math.fma(ar, bi, ai * br);
+        }
+        this.radix.transform(scratch, 0, true);
+
+        for (int k = 0; k < n; k++) {
+            double cr = scratch[2 * k], ci = scratch[2 * k + 1];
+            double wr = w[2 * k], wi = w[2 * k + 1];
+            data[offset + 2 * k] = Math.fma(cr, wr, -ci * wi);
+            data[offset + 2 * k + 1] = Math.fma(cr, wi, ci * wr);
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package FFT;
+
+import Complex.ComplexVector;
+
+import java.util.Arrays;
+
+// Linear convolution c[k] = sum_j a[j] b[k - j], length na + nb - 1, which is also the coefficient
+// product of two polynomials. Short inputs use the schoolbook loop. Longer ones multiply spectra on the
+// next power of two >= na + nb - 1, and a long input against a much shorter one is cut into blocks and
+// recombined by overlap-add, so the transform size follows the short input. Real inputs pack two real
+// sequences into one complex transform.
+public final class Convolution {
+
+    private Convolution() {
+        throw new UnsupportedOperationException("Cannot instantiate Convolution.");
+    }
+
+    // Below these lengths of the shorter input the schoolbook product beats the transforms; the real loop
+    // vectorizes, so it holds out longer
+    public static final int DIRECT_THRESHOLD = 64;
+    public static final int REAL_DIRECT_THRESHOLD = 128;
+
+    // Overlap-add blocks are this many times the shorter input, rounded up to a power of two; a single
+    // transform is used unless the longer input spans several blocks
+    private static final int BLOCK_FACTOR = 8;
+    private static final int MIN_BLOCKS = 4;
+
+    public static ComplexVector convolve(ComplexVector a, ComplexVector b) {
+        if (a == null || b == null) {
+            throw new IllegalArgumentException("Vectors cannot be null.");
+        }
+        if (a.length() == 0 || b.length() == 0) {
+            throw new IllegalArgumentException("Vectors cannot be empty.");
+        }
+        // The longer input is x, the shorter h
+        ComplexVector x = a.length() >= b.length() ? a : b, h = x == a ? b : a;
+        int nx = x.length(), nh = h.length();
+        ComplexVector result = new ComplexVector(nx + nh - 1);
+        if (nh < DIRECT_THRESHOLD) {
+            directComplex(x.getRealPlane(), x.getImagPlane(), h.getRealPlane(), h.getImagPlane(),
+                    result.getRealPlane(), result.getImagPlane());
+        } else {
+            overlapAddComplex(x.getRealPlane(), x.getImagPlane(), h.getRealPlane(), h.getImagPlane(),
+                    result.getRealPlane(), result.getImagPlane());
+        }
+        return result;
+    }
+
+    public static double[] convolve(double[] a, double[] b) {
+        if (a == null || b == null) {
+            throw new IllegalArgumentException("Arrays cannot be null.");
+        }
+        if (a.length == 0 || b.length == 0) {
+            throw new IllegalArgumentException("Arrays cannot be empty.");
+        }
+        double[] x = a.length >= b.length ? a : b, h = x == a ? b : a;
+        double[] result = new double[x.length + h.length - 1];
+        if (h.length < REAL_DIRECT_THRESHOLD) {
+            directReal(x, h, result);
+        } else if (transformLength(x.length, h.length) >= result.length) {
+            packedReal(x, h, result);
+        } else {
+            overlapAddReal(x, h, result);
+        }
+        return result;
+    }
+
+    private static void directComplex(double[] xRe, double[] xIm, double[] hRe, double[] hIm,
+                                      double[] cRe, double[] cIm) {
+        for (int i = 0; i < xRe.length; i++) {
+            double ar = xRe[i], ai = xIm[i];
+            for (int j = 0; j < hRe.length; j++) {
+                cRe[i + j] += Math.fma(ar, hRe[j], -ai * hIm[j]);
+                cIm[i + j] += Math.fma(ar, hIm[j], ai * hRe[j]);
+            }
+        }
+    }
+
+    private static void directReal(double[] x, double[] h, double[] c) {
+        for (int i = 0; i < x.length; i++) {
+            double a = x[i];
+            for (int j = 0; j < h.length; j++) {
+                c[i + j] = Math.fma(a, h[j], c[i + j]);
+            }
+        }
+    }
+
+    // Transform length for an nh-long filter against an nx-long input, and the block of the input it
+    // takes at a time; a single block covers everything when the input is not long enough to split
+    private static int transformLength(int nx, int nh) {
+        int full = Integer.highestOneBit(nx + nh - 2) << 1;
+        int block = Integer.highestOneBit(BLOCK_FACTOR * nh - 1) << 1;
+        return block * MIN_BLOCKS < full ? block : full;
+    }
+
+    private static void overlapAddComplex(double[] xRe, double[] xIm, double[] hRe, double[] hIm,
+                                          double[] cRe, double[] cIm) {
+        int nx = xRe.length, nh = hRe.length;
+        int n = transformLength(nx, nh), step = n - nh + 1;
+        FFTPlan plan = new FFTPlan(n);
+
+        double[] filter = new double[2 * n];
+        for (int j = 0; j < nh; j++) {
+            filter[2 * j] = hRe[j];
+            filter[2 * j + 1] = hIm[j];
+        }
+        plan.forward(filter);
+
+        double[] block = new double[2 * n];
+        for (int start = 0; start < nx; start += step) {
+            int len = Math.min(step, nx - start);
+            Arrays.fill(block, 0.0);
+            for (int j = 0; j < len; j++) {
+                block[2 * j] = xRe[start + j];
+                block[2 * j + 1] = xIm[start + j];
+            }
+            plan.forward(block);
+            multiplySpectra(block, filter);
+            plan.inverse(block);
+            for (int j = 0, end = Math.min(len + nh - 1, cRe.length - start); j < end; j++) {
+                cRe[start + j] += block[2 * j];
+                cIm[start + j] += block[2 * j + 1];
+            }
+        }
+    }
+
+    // Both inputs go through one transform as z = x + ih. With Z = FFT(z), X_k = (Z_k + conj Z_-k) / 2 and
+    // H_k = (Z_k - conj Z_-k) / 2i, so X_k H_k = (Z_k² - conj(Z_-k)²) / 4i, and the real part of its
+    // inverse is the convolution: two transforms instead of three.
+    private static void packedReal(double[] x, double[] h, double[] c) {
+        int n = transformLength(x.length, h.length);
+        FFTPlan plan = new FFTPlan(n);
+        double[] z = new double[2 * n];
+        for (int j = 0; j < x.length; j++) {
+            z[2 * j] = x[j];
+        }
+        for (int j = 0; j < h.length; j++) {
+            z[2 * j + 1] = h[j];
+        }
+        plan.forward(z);
+
+        for (int k = 0; k <= n / 2; k++) {
+            int m = (n - k) & (n - 1);
+            double kr = z[2 * k], ki = z[2 * k + 1], mr = z[2 * m], mi = z[2 * m + 1];
+            // Z_k² - conj(Z_m)² and Z_m² - conj(Z_k)², then / 4i = (im, -re) / 4
+            double pr = (kr * kr - ki * ki) - (mr * mr - mi * mi), pi = 2.0 * (kr * ki + mr * mi);
+            double qr = (mr * mr - mi * mi) - (kr * kr - ki * ki), qi = 2.0 * (mr * mi + kr * ki);
+            z[2 * k] = 0.25 * pi;
+            z[2 * k + 1] = -0.25 * pr;
+            z[2 * m] = 0.25 * qi;
+            z[2 * m + 1] = -0.25 * qr;
+        }
+        plan.inverse(z);
+        for (int j = 0; j < c.length; j++) {
+            c[j] = z[2 * j];
+        }
+    }
+
+    // A real filter keeps real and imaginary parts apart, so blocks are processed in pairs: one in the
+    // real part and the next in the imaginary part of the same transform
+    private static void overlapAddReal(double[] x, double[] h, double[] c) {
+        int nx = x.length, nh = h.length;
+        int n = transformLength(nx, nh), step = n - nh + 1;
+        FFTPlan plan = new FFTPlan(n);
+
+        double[] filter = new double[2 * n];
+        for (int j = 0; j < nh; j++) {
+            filter[2 * j] = h[j];
+        }
+        plan.forward(filter);
+
+        double[] block = new double[2 * n];
+        for (int start = 0; start < nx; start += 2 * step) {
+            int second = start + step;
+            int len = Math.min(step, nx - start), len2 = Math.max(0, Math.min(step, nx - second));
+            Arrays.fill(block, 0.0);
+            for (int j = 0; j < len; j++) {
+                block[2 * j] = x[start + j];
+            }
+            for (int j = 0; j < len2; j++) {
+                block[2 * j + 1] = x[second + j];
+            }
+            plan.forward(block);
+            multiplySpectra(block, filter);
+            plan.inverse(block);
+            for (int j = 0, end = Math.min(len + nh - 1, c.length - start); j < end; j++) {
+                c[start + j] += block[2 * j];
+            }
+            for (int j = 0, end = Math.min(len2 + nh - 1, c.length - second); j < end; j++) {
+                c[second + j] += block[2 * j + 1];
+            }
+        }
+    }
+
+    // block[k] *= filter[k] on interleaved spectra
+    private static void multiplySpectra(double[] block, double[] filter) {
+        for (int i = 0; i < block.length; i += 2) {
+            double ar = block[i], ai = block[i + 1], br = filter[i], bi = filter[i + 1];
+            block[i] = Math.fma(ar, br, -ai * bi);
+            block[i + 1] = Math.fma(ar, bi, ai * br);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package FFT;
+
+import Complex.Complex;
+
+// A discrete Fourier transform of one fixed length over interleaved data [re0, im0, re1, im1, ...].
+// Power-of-two lengths run an iterative radix-4 transform (with one radix-2 stage when log2 n is odd);
+// any other length goes through Bluestein's algorithm on the next power of two >= 2n - 1. Power-of-two
+// twiddle tables are cached per length and shared by every plan, so such a plan is cheap after the first
+// one; the chirp tables of a Bluestein plan belong to that plan, so reuse it rather than building one per
+// transform. forward and inverse work in place and allocate nothing.
+//
+// forward computes X_k = sum_j x_j e^(-2πijk/n); inverse uses the positive exponent and divides by n,
+// so inverse(forward(x)) == x. A Bluestein plan owns its scratch buffer: use one plan per thread.
+public final class FFTPlan {
+
+    private final int n;
+    private final RadixTables radix;
+    private final BluesteinTables bluestein;
+    private final double[] scratch;
+
+    public FFTPlan(int n) {
+        if (n < 1) {
+            throw new IllegalArgumentException("Transform length must be greater than or equal to 1.");
+        }
+        this.n = n;
+        if (Integer.bitCount(n) == 1) {
+            this.radix = RadixTables.forLength(n);
+            this.bluestein = null;
+            this.scratch = null;
+        } else {
+            // Beyond 2^28 the convolution length m reaches 2^30 and the 2m-double buffers overflow an int
+            if (n > (1 << 28)) {
+                throw new IllegalArgumentException("Non power-of-two transform length is too large.");
+            }
+            this.radix = null;
+            this.bluestein = new BluesteinTables(n);
+            this.scratch = new double[2 * this.bluestein.m];
+        }
+    }
+
+    public int length() {
+        return this.n;
+    }
+
+    public boolean isPowerOfTwo() {
+        return this.radix != null;
+    }
+
+    private void checkData(double[] data, int offset) {
+        if (data == null) {
+            throw new IllegalArgumentException("Data cannot be null.");
+        }
+        if (offset < 0 || data.length - offset < 2 * this.n) {
+            throw new IllegalArgumentException("Data must hold " + this.n + " interleaved complex values from the offset.");
+        }
+    }
+
+    public void forward(double[] data) {
+        this.forward(data, 0);
+    }
+
+    // Transforms the n complex values interleaved at data[offset ...] in place
+    public void forward(double[] data, int offset) {
+        this.checkData(data, offset);
+        if (this.radix != null) {
+            this.radix.transform(data, offset, false);
+        } else {
+            this.bluestein.transform(data, offset, this.scratch);
+        }
+    }
+
+    public void inverse(double[] data) {
+        this.inverse(data, 0);
+    }
+
+    // Inverse transform in place, including the 1/n scaling
+    public void inverse(double[] data, int offset) {
+        this.checkData(data, offset);
+        int end = offset + 2 * this.n;
+        double scale = 1.0 / this.n;
+        if (this.radix != null) {
+            this.radix.transform(data, offset, true);
+            for (int i = offset; i < end; i++) {
+                data[i] *= scale;
+            }
+            return;
+        }
+        // The inverse is conj(forward(conj(x))) / n
+        for (int i = offset + 1; i < end; i += 2) {
+            data[i] = -data[i];
+        }
+        this.bluestein.transform(data, offset, this.scratch);
+        for (int i = offset; i < end; i += 2) {
+            data[i] *= scale;
+            data[i + 1] *= -scale;
+        }
+    }
+
+    // Allocating convenience for Complex[] callers
+    public static Complex[] transform(Complex[] values) {
+        return transform(values, false);
+    }
+
+    public static Complex[] inverseTransform(Complex[] values) {
+        return transform(values, true);
+    }
+
+    private static Complex[] transform(Complex[] values, boolean inverse) {
+        int n = values.length;
+        double[] data = new double[2 * n];
+        for (int j = 0; j < n; j++) {
+            data[2 * j] = values[j].getReal();
+            data[2 * j + 1] = values[j].getImag();
+        }
+        FFTPlan plan = new FFTPlan(n);
+        if (inverse) {
+            plan.inverse(data);
+        } else {
+            plan.forward(data);
+        }
+        Complex[] result = new Complex[n];
+        for (int k = 0; k < n; k++) {
+            result[k] = new Complex(data[2 * k], data[2 * k + 1]);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,140 @@
+package FFT;
+
+import Complex.Complex;
+import Complex.ComplexPower;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+// Everything a power-of-two transform of length n needs besides the data: the bit-reversal swaps and the
+// twiddles of every radix-4 stage. Tables are immutable and cached per length, so plans of equal length
+// share them; only powers of two are ever cached, so the cache holds at most 31 lengths.
+final class RadixTables {
+
+    private static final ConcurrentHashMap<Integer, RadixTables> CACHE = new ConcurrentHashMap<>();
+
+    final int n;
+
+    // Pairs (i, j), i < j, of complex indices exchanged by the bit-reversal permutation
+    final int[] swaps;
+
+    // Whether a radix-2 stage runs first (log2 n odd), leaving an even number of radix-2 levels for radix-4
+    final boolean leadingRadix2;
+
+    // Per radix-4 stage with quarter length h, for k < h: u, u², u³ interleaved, u = e^(-2πik/4h)
+    final double[] twiddles;
+
+    private RadixTables(int n) {
+        this.n = n;
+        int bits = Integer.numberOfTrailingZeros(n);
+        this.leadingRadix2 = (bits & 1) == 1;
+        this.swaps = bitReversalSwaps(n, bits);
+
+        int size = 0;
+        for (int h = this.leadingRadix2 ? 2 : 1; 4 * h <= n; h *= 4) {
+            size += 6 * h;
+        }
+        this.twiddles = new double[size];
+        int index = 0;
+        for (int h = this.leadingRadix2 ? 2 : 1; 4 * h <= n; h *= 4) {
+            for (int k = 0; k < h; k++) {
+                for (int power = 1; power <= 3; power++) {
+                    Complex u = ComplexPower.eulersFormula(-2.0 * Math.PI * power * k / (4.0 * h));
+                    this.twiddles[index++] = u.getReal();
+                    this.twiddles[index++] = u.getImag();
+                }
+            }
+        }
+    }
+
+    private static int[] bitReversalSwaps(int n, int bits) {
+        int count = 0;
+        for (int i = 0; i < n; i++) {
+            if (i < reverse(i, bits)) {
+                count++;
+            }
+        }
+        int[] swaps = new int[2 * count];
+        int index = 0;
+        for (int i = 0; i < n; i++) {
+            int j = reverse(i, bits);
+            if (i < j) {
+                swaps[index++] = i;
+                swaps[index++] = j;
+            }
+        }
+        return swaps;
+    }
+
+    private static int reverse(int i, int bits) {
+        return bits == 0 ? 0 : Integer.reverse(i) >>> (32 - bits);
+    }
+
+    static RadixTables forLength(int n) {
+        return CACHE.computeIfAbsent(n, RadixTables::new);
+    }
+
+    // In-place transform of the n complex values interleaved at data[offset ...]; inverse selects the
+    // positive exponent. No scaling is applied.
+    void transform(double[] data, int offset, boolean inverse) {
+        int[] swaps = this.swaps;
+        for (int s = 0; s < swaps.length; s += 2) {
+            int i = offset + 2 * swaps[s], j = offset + 2 * swaps[s + 1];
+            double tr = data[i], ti = data[i + 1];
+            data[i] = data[j];
+            data[i + 1] = data[j + 1];
+            data[j] = tr;
+            data[j + 1] = ti;
+        }
+
+        int n = this.n;
+        if (this.leadingRadix2) {
+            for (int i = offset, end = offset + 2 * n; i < end; i += 4) {
+                double ar = data[i], ai = data[i + 1], br = data[i + 2], bi = data[i + 3];
+                data[i] = ar + br;
+                data[i + 1] = ai + bi;
+                data[i + 2] = ar - br;
+                data[i + 3] = ai - bi;
+            }
+        }
+
+        // Twiddle imaginary parts and the ∓i rotation change sign for the inverse
+        double sign = inverse ? -1.0 : 1.0;
+        double[] w = this.twiddles;
+        int stage = 0;
+        for (int h = this.leadingRadix2 ? 2 : 1; 4 * h <= n; h *= 4) {
+            int span = 2 * h;
+            for (int group = offset, end = offset + 2 * n; group < end; group += 4 * span) {
+                for (int k = 0, t = stage; k < h; k++, t += 6) {
+                    double u1r = w[t], u1i = sign * w[t + 1];
+                    double u2r = w[t + 2], u2i = sign * w[t + 3];
+                    double u3r = w[t + 4], u3i = sign * w[t + 5];
+
+                    int i0 = group + 2 * k, i1 = i0 + span, i2 = i1 + span, i3 = i2 + span;
+                    double x0r = data[i0], x0i = data[i0 + 1];
+                    double x1r = data[i1], x1i = data[i1 + 1];
+                    double x2r = data[i2], x2i = data[i2 + 1];
+                    double x3r = data[i3], x3i = data[i3 + 1];
+
+                    // u² x1, u x2, u³ x3
+                    double t1r = Math.fma(u2r, x1r, -u2i * x1i), t1i = Math.fma(u2r, x1i, u2i * x1r);
+                    double t2r = Math.fma(u1r, x2r, -u1i * x2i), t2i = Math.fma(u1r, x2i, u1i * x2r);
+                    double t3r = Math.fma(u3r, x3r, -u3i * x3i), t3i = Math.fma(u3r, x3i, u3i * x3r);
+
+                    double ar = x0r + t1r, ai = x0i + t1i, br = x0r - t1r, bi = x0i - t1i;
+                    double cr = t2r + t3r, ci = t2i + t3i, dr = t2r - t3r, di = t2i - t3i;
+
+                    data[i0] = ar + cr;
+                    data[i0 + 1] = ai + ci;
+                    data[i2] = ar - cr;
+                    data[i2 + 1] = ai - ci;
+                    // B ∓ iD
+                    data[i1] = br + sign * di;
+                    data[i1 + 1] = bi - sign * dr;
+                    data[i3] = br - sign * di;
+                    data[i3 + 1] = bi + sign * dr;
+                }
+            }
+            stage += 6 * h;
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package Matrix.ComplexMatrix;
+
+import Complex.Complex;
+import Matrix.MatrixExecutionContext;
+import Simd.VectorBackend;
+import Simd.VectorBackends;
+
+// A = L L^H for a Hermitian positive definite A: the complex counterpart of RCholeskyDecomposition, with
+// a real positive diagonal in L. Only the lower triangle of A is read and the imaginary part of its
+// diagonal is taken as zero. A matrix that is not positive definite is reported by isPositiveDefinite().
+public final class CCholeskyDecomposition implements CDecomposition {
+
+    private static final VectorBackend BACKEND = VectorBackends.get();
+
+    // Edge of the diagonal blocks in the blocked factorization
+    static final int BLOCK = 48;
+
+    private final int n;
+
+    // L packed by rows on split planes: l_ij (j <= i) at i * (i + 1) / 2 + j
+    private final double[] re, im;
+    private final boolean positiveDefinite;
+
+    public CCholeskyDecomposition(CMatrix matrix) {
+        this(matrix, MatrixExecutionContext.serial());
+    }
+
+    // Right-looking blocked factorization as in RCholeskyDecomposition, with L21 L21^H subtracted from the
+    // trailing lower triangle through the complex GEMM kernel; serial contexts factor the packed triangle
+    public CCholeskyDecomposition(CMatrix matrix, MatrixExecutionContext context) {
+        if (matrix == null || matrix.isMatrixNull()) {
+            throw new IllegalArgumentException("Matrix is empty or null.");
+        }
+        if (matrix.getRows() != matrix.getColumns()) {
+            throw new IllegalArgumentException("Cholesky decomposition is only defined for square matrices.");
+        }
+        if (context == null) {
+            throw new IllegalArgumentException("Execution context is null.");
+        }
+        if (matrix.getRows() > CPackedKernel.MAX_SIZE) {
+            throw new IllegalArgumentException("Matrix is too large for a packed triangular factor.");
+        }
+
+        this.n = matrix.getRows();
+        if (n <= BLOCK || !context.shouldParallelize((long) n * n * n / 6)) {
+            double[][] packed = CPackedKernel.pack(matrix.getRealPlane(), matrix.getImagPlane(),
+                    matrix.getOffset(), matrix.getStride(), n);
+            this.re = packed[0];
+            this.im = packed[1];
+            this.positiveDefinite = CPackedKernel.cholesky(this.re, this.im, n);
+            return;
+        }
+        CMatrix copy = matrix.getCopyMatrix();
+        double[] aRe = copy.getRealPlane(), aIm = copy.getImagPlane();
+        this.positiveDefinite = factorBlocked(aRe, aIm, n, context);
+        double[][] packed = CPackedKernel.pack(aRe, aIm, 0, n, n);
+        this.re = packed[0];
+        this.im = packed[1];
+    }
+
+    // Factors a packed matrix in place of a copy of its triangle, so memory stays at n(n+1)/2 throughout
+    public CCholeskyDecomposition(PackedHermitianCMatrix matrix) {
+        if (matrix == null) {
+            throw new IllegalArgumentException("Matrix is empty or null.");
+        }
+        this.n = matrix.getSize();
+        this.re = matrix.getRealData().clone();
+        this.im = matrix.getImagData().clone();
+        this.positiveDefinite = CPackedKernel.cholesky(this.re, this.im, n);
+    }
+
+    private static boolean factorBlocked(double[] aRe, double[] aIm, int n, MatrixExecutionContext context) {
+        for (int k0 = 0; k0 < n; k0 += BLOCK) {
+            int kb = Math.min(BLOCK, n - k0);
+            if (!factorDiagonalBlock(aRe, aIm, n, k0, kb)) {
+                return false;
+            }
+            if (k0 + kb < n) {
+                eliminateBelow(aRe, aIm, n, k0, kb, context);
+            }
+        }
+        return true;
+    }
+
+    // Solves the panel below the diagonal block at (k0, k0) and updates the trailing matrix with it
+    private static void eliminateBelow(double[] aRe, double[] aIm, int n, int k0, int kb, MatrixExecutionContext context) {
+        int r0 = k0 + kb, m = n - r0;
+
+        // L21 = A21 L11^-H: one forward substitution per row of the panel
+        MatrixExecutionContext.RangeTask panel = (from, to) -> {
+            for (int i = r0 + from; i < r0 + to; i++) {
+                int rowI = i * n + k0;
+                for (int j = 0; j < kb; j++) {
+                    int rowJ = (k0 + j) * n + k0;
+                    Complex sum = BACKEND.complexDot(aRe, aIm, rowJ, aRe, aIm, rowI, j, true);
+                    double diagonal = aRe[rowJ + j];
+                    aRe[rowI + j] = (aRe[rowI + j] - sum.getReal()) / diagonal;
+                    aIm[rowI + j] = (aIm[rowI + j] - sum.getImag()) / diagonal;
+                }
+            }
+        };
+        long panelWork = (long) m * kb * kb / 2;
+        if (context.shouldParallelize(panelWork)) {
+            context.forEachRange(m, Math.max(1, context.getTileSize() / 4), panel);
+        } else {
+            panel.compute(0, m);
+        }
+
+        // A22 -= L21 L21^H as A22 += L21 W with W = -L21^H, on the tiles that touch the lower triangle
+        double[] wRe = new double[kb * m], wIm = new double[kb * m];
+        for (int i = 0; i < m; i++) {
+            int rowI = (r0 + i) * n + k0;
+            for (int p = 0; p < kb; p++) {
+                wRe[p * m + i] = -aRe[rowI + p];
+                wIm[p * m + i] = aIm[rowI + p];
+            }
+        }
+        long updateWork = (long) m * m * kb / 2;
+        if (context.shouldParallelize(updateWork)) {
+            context.forEachTile(m, m, (rowStart, rowEnd, colStart, colEnd) -> {
+                if (colStart >= rowEnd) {
+                    return;
+                }
+                CMatrixKernel.gemm(rowEnd - rowStart, colEnd - colStart, kb,
+                        aRe, aIm, (r0 + rowStart) * n + k0, n,
+                        wRe, wIm, colStart, m,
+                        aRe, aIm, (r0 + rowStart) * n + r0 + colStart, n);
+            });
+        } else {
+            // Row strips, each running up to the end of its own diagonal block
+            for (int i0 = 0; i0 < m; i0 += BLOCK) {
+                int ib = Math.min(BLOCK, m - i0);
+                CMatrixKernel.gemm(ib, i0 + ib, kb,
+                        aRe, aIm, (r0 + i0) * n + k0, n,
+                        wRe, wIm, 0, m,
+                        aRe, aIm, (r0 + i0) * n + r0, n);
+            }
+        }
+    }
+
+    // Unblocked row-oriented Cholesky of the kb x kb diagonal block at (k0, k0), whose earlier columns have
+    // already been subtracted by the trailing updates
+    private static boolean factorDiagonalBlock(double[] aRe, double[] aIm, int n, int k0, int kb) {
+        for (int i = k0; i < k0 + kb; i++) {
+            int rowI = i * n + k0, d = i - k0;
+            for (int j = 0; j < d; j++) {
+                int rowJ = (k0 + j) * n + k0;
+                Complex sum = BACKEND.complexDot(aRe, aIm, rowJ, aRe, aIm, rowI, j, true);
+                double diagonal = aRe[rowJ + j];
+                aRe[rowI + j] = (aRe[rowI + j] - sum.getReal()) / diagonal;
+                aIm[rowI + j] = (aIm[rowI + j] - sum.getImag()) / diagonal;
+            }
+            double pivot = aRe[rowI + d] - BACKEND.dot(aRe, rowI, aRe, rowI, d) - BACKEND.dot(aIm, rowI, aIm, rowI, d);
+            if (!(pivot > 0.0)) {
+                return false;
+            }
+            aRe[rowI + d] = Math.sqrt(pivot);
+            aIm[rowI + d] = 0.0;
+        }
+        return true;
+    }
+
+    @Override
+    public int getSize() {
+        return this.n;
+    }
+
+    public boolean isPositiveDefinite() {
+        return this.positiveDefinite;
+    }
+
+    private void requirePositiveDefinite() {
+        if (!this.positiveDefinite) {
+            throw new IllegalArgumentException("Matrix is not positive definite.");
+        }
+    }
+
+    public CMatrix getL() {
+        this.requirePositiveDefinite();
+        double[] lRe = new double[n * n], lIm = new double[n * n];
+        for (int i = 0; i < n; i++) {
+            System.arraycopy(this.re, CPackedKernel.row(i), lRe, i * n, i + 1);
+            System.arraycopy(this.im, CPackedKernel.row(i), lIm, i * n, i + 1);
+        }
+        return new CMatrix(lRe, lIm, n, n);
+    }
+
+    // det(A) = product of l_ii^2, which is real
+    @Override
+    public Complex getDeterminant() {
+        this.requirePositiveDefinite();
+        double determinant = 1.0;
+        for (int i = 0; i < n; i++) {
+            double diagonal = this.re[CPackedKernel.row(i) + i];
+            determinant *= diagonal * diagonal;
+        }
+        return new Complex(determinant, 0.0);
+    }
+
+    // log det(A) = 2 sum log l_ii, finite where the determinant itself under- or overflows
+    public double getLogDeterminant() {
+        this.requirePositiveDefinite();
+        double sum = 0.0;
+        for (int i = 0; i < n; i++) {
+            sum += Math.log(this.re[CPackedKernel.row(i) + i]);
+        }
+        return 2.0 * sum;
+    }
+
+    // Solves A X = B for every column of B at once: L Y = B, then L^H X = Y
+    @Override
+    public CMatrix solve(CMatrix b) {
+        if (b == null || b.isMatrixNull()) {
+            throw new IllegalArgumentException("Matrix is empty or null.");
+        }
+        if (b.getRows() != n) {
+            throw new IllegalArgumentException("Right-hand side must have " + n + " rows.");
+        }
+        this.requirePositiveDefinite();
+        int m = b.getColumns();
+        CMatrix x = b.getCopyMatrix();
+        double[] xRe = x.getRealPlane(), xIm = x.getImagPlane();
+        CPackedKernel.forwardSubstitute(this.re, this.im, n, false, xRe, xIm, m);
+        CPackedKernel.backSubstituteConjugateTranspose(this.re, this.im, n, false, xRe, xIm, m);
+        return x;
+    }
+
+    // A^-1 = L^-H L^-1 from the packed factor
+    @Override
+    public CMatrix getInverse() {
+        double[][] packed = this.packedInverse();
+        double[][] dense = CPackedKernel.unpack(packed[0], packed[1], n);
+        return new CMatrix(dense[0], dense[1], n, n);
+    }
+
+    // The inverse in packed form, at half the memory of getInverse()
+    public PackedHermitianCMatrix getPackedInverse() {
+        double[][] packed = this.packedInverse();
+        return new PackedHermitianCMatrix(packed[0], packed[1], n);
+    }
+
+    private double[][] packedInverse() {
+        this.requirePositiveDefinite();
+        double[][] inverse = CPackedKernel.invertLower(this.re, this.im, n, false);
+        return CPackedKernel.weightedGram(inverse[0], inverse[1], null, n);
+    }
+}
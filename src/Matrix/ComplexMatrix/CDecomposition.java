@@ -0,0 +1,17 @@
+package Matrix.ComplexMatrix;
+
+import Complex.Complex;
+
+// A factorization of a square complex matrix, reused for any number of solves, the determinant and the
+// inverse. CMatrix.getDecomposition picks LU, LDL^H or Cholesky from the matrix structure.
+public interface CDecomposition {
+
+    int getSize();
+
+    Complex getDeterminant();
+
+    // Solves A X = B for every column of B at once
+    CMatrix solve(CMatrix b);
+
+    CMatrix getInverse();
+}
@@ -0,0 +1,860 @@
+package Matrix.ComplexMatrix;
+
+import Complex.Complex;
+import Matrix.MatrixStructure;
+import Matrix.RealMatrix.RMatrixKernel;
+import Matrix.RealMatrix.RTridiagonalEigen;
+import Simd.VectorBackend;
+import Simd.VectorBackends;
+
+import java.util.Arrays;
+
+// A V = V Lambda for a square complex matrix: the counterpart of REigenDecomposition. Hermitian input is
+// reduced by complex Householder reflectors to a tridiagonal matrix whose off-diagonal comes out real, so
+// the real RTridiagonalEigen solves it and the eigenvalues are real and ascending. Any other matrix is
+// balanced, reduced to upper Hessenberg form and brought to complex Schur form by single-shift QR with
+// Wilkinson shifts; a complex matrix has no conjugate pairs to keep together, so the real double-shift
+// step has no work to save here. Its eigenvalues stay in Schur order.
+public final class CEigenDecomposition {
+
+    private static final VectorBackend BACKEND = VectorBackends.get();
+
+    private static final double EPS = Math.ulp(1.0);
+
+    // QR sweeps allowed per eigenvalue before the iteration is declared stuck
+    private static final int MAX_SWEEPS = 30;
+
+    // Every tenth sweep on one window uses an ad hoc shift to break cycles of the standard one
+    private static final int EXCEPTIONAL_SHIFT = 10;
+
+    // Balancing scales by powers of two, so it never rounds
+    private static final double RADIX = 2.0;
+
+    // Rows interleaved when a whole sweep is applied from the right: the rotations of one sweep overlap, so
+    // within a single row each update waits on the previous one
+    private static final int ROWS = 16;
+
+    // Aggressive early deflation runs on active windows of at least this order, looking at a trailing
+    // window of a quarter of it clamped to [AED_MIN_WINDOW, AED_MAX_WINDOW]. The bottom two thirds of the
+    // eigenvalues it leaves in that window then serve as the shifts of as many single-shift sweeps, which
+    // chase the same bulges a multishift sweep would, one shift at a time.
+    private static final int AED_MIN = 96;
+    private static final int AED_MIN_WINDOW = 16;
+    private static final int AED_MAX_WINDOW = 128;
+    private static final int AED_SHIFTS = 2;
+
+    private final int n;
+    private final boolean hermitian;
+    private final double[] valuesRe, valuesIm;
+
+    // Row-major n x n with the eigenvector of eigenvalue j in column j, null when not computed
+    private final double[] vectorsRe, vectorsIm;
+
+    public CEigenDecomposition(CMatrix matrix) {
+        this(matrix, true);
+    }
+
+    // The path follows isHermitian(): Hermitian symmetry to within rounding takes the tridiagonal path,
+    // anything else the general one
+    public CEigenDecomposition(CMatrix matrix, boolean computeEigenvectors) {
+        this(matrix, matrix != null && matrix.isHermitian() ? MatrixStructure.SYMMETRIC : MatrixStructure.GENERAL,
+                computeEigenvectors);
+    }
+
+    // SYMMETRIC and POSITIVE_DEFINITE mean Hermitian; the hint is trusted and the lower triangle alone is read
+    public CEigenDecomposition(CMatrix matrix, MatrixStructure structure, boolean computeEigenvectors) {
+        if (matrix == null || matrix.isMatrixNull()) {
+            throw new IllegalArgumentException("Matrix is empty or null.");
+        }
+        if (matrix.getRows() != matrix.getColumns()) {
+            throw new IllegalArgumentException("Eigen-decomposition is only defined for square matrices.");
+        }
+        if (structure == null) {
+            throw new IllegalArgumentException("Matrix structure cannot be null.");
+        }
+
+        this.n = matrix.getRows();
+        this.hermitian = structure != MatrixStructure.GENERAL;
+        CMatrix copy = matrix.getCopyMatrix();
+        double[] re = copy.getRealPlane(), im = copy.getImagPlane();
+        for (int i = 0; i < n * n; i++) {
+            if (!Double.isFinite(re[i]) || !Double.isFinite(im[i])) {
+                throw new IllegalArgumentException("Matrix contains NaN or infinite entries.");
+            }
+        }
+
+        if (this.hermitian) {
+            double[] d = new double[n], e = new double[n - 1];
+            double[] tauRe = new double[n], tauIm = new double[n];
+            tridiagonalize(re, im, n, d, e, tauRe, tauIm);
+            this.valuesIm = new double[n];
+            if (!computeEigenvectors) {
+                this.valuesRe = RTridiagonalEigen.eigenvalues(d, e);
+                this.vectorsRe = null;
+                this.vectorsIm = null;
+                return;
+            }
+            double[][] decomposition = RTridiagonalEigen.decompose(d, e);
+            this.valuesRe = decomposition[0];
+            double[][] q = formQ(re, im, tauRe, tauIm, n, n, n - 1);
+
+            // Q is complex and Z real, so V = Q Z is two real products
+            this.vectorsRe = new double[n * n];
+            this.vectorsIm = new double[n * n];
+            RMatrixKernel.gemm(n, n, n, q[0], 0, n, decomposition[1], 0, n, this.vectorsRe, 0, n);
+            RMatrixKernel.gemm(n, n, n, q[1], 0, n, decomposition[1], 0, n, this.vectorsIm, 0, n);
+            return;
+        }
+
+        this.valuesRe = new double[n];
+        this.valuesIm = new double[n];
+        double[] scale = balance(re, im, n);
+        double[] reflectorsRe = computeEigenvectors ? new double[n * n] : null;
+        double[] reflectorsIm = computeEigenvectors ? new double[n * n] : null;
+        double[] tauRe = new double[n], tauIm = new double[n];
+        hessenberg(re, im, n, n, reflectorsRe, reflectorsIm, tauRe, tauIm);
+        double[][] z = computeEigenvectors ? formQ(reflectorsRe, reflectorsIm, tauRe, tauIm, n, n, n - 2) : null;
+        schur(re, im, n, z, this.valuesRe, this.valuesIm);
+        if (!computeEigenvectors) {
+            this.vectorsRe = null;
+            this.vectorsIm = null;
+            return;
+        }
+
+        double[][] x = this.schurVectors(re, im);
+        this.vectorsRe = new double[n * n];
+        this.vectorsIm = new double[n * n];
+        CMatrixKernel.gemm(n, n, n, z[0], z[1], 0, n, x[0], x[1], 0, n, this.vectorsRe, this.vectorsIm, 0, n);
+        normalize(this.vectorsRe, this.vectorsIm, scale, n);
+    }
+
+    public int getSize() {
+        return this.n;
+    }
+
+    // True when the Hermitian path was taken: real eigenvalues ascending, orthonormal eigenvectors
+    public boolean isHermitian() {
+        return this.hermitian;
+    }
+
+    public boolean hasEigenvectors() {
+        return this.vectorsRe != null;
+    }
+
+    public Complex[] getEigenvalues() {
+        Complex[] values = new Complex[n];
+        for (int i = 0; i < n; i++) {
+            values[i] = new Complex(this.valuesRe[i], this.valuesIm[i]);
+        }
+        return values;
+    }
+
+    // The eigenvalues of a Hermitian matrix, ascending
+    public double[] getRealEigenvalues() {
+        if (!this.hermitian) {
+            throw new IllegalArgumentException("Real eigenvalues are only guaranteed for Hermitian matrices.");
+        }
+        return this.valuesRe.clone();
+    }
+
+    // Unit-norm eigenvectors by columns, in the order of getEigenvalues()
+    public CMatrix getEigenvectors() {
+        if (this.vectorsRe == null) {
+            throw new IllegalArgumentException("Eigenvectors were not computed.");
+        }
+        return new CMatrix(this.vectorsRe.clone(), this.vectorsIm.clone(), n, n);
+    }
+
+    // Q^H A Q = T for a Hermitian A held in its lower triangle. Each step forms x = tau A22 v from the lower
+    // triangle alone, then the rank-two update A22 -= v w^H + w v^H with w = x - (conj(tau) v^H x / 2) v, both
+    // row by row. The reflectors leave a real beta on the subdiagonal, the last one included (it only rotates
+    // a phase), so T is real. Reflector k keeps its tail in row k right of the superdiagonal.
+    private static void tridiagonalize(double[] re, double[] im, int n, double[] d, double[] e,
+                                       double[] tauRe, double[] tauIm) {
+        double[] vRe = new double[n], vIm = new double[n], xRe = new double[n], xIm = new double[n];
+        for (int k = 0; k < n - 1; k++) {
+            int lo = k + 1, len = n - lo;
+            for (int i = lo; i < n; i++) {
+                vRe[i] = re[i * n + k];
+                vIm[i] = im[i * n + k];
+            }
+            Complex tau = CHouseholderKernel.generate(vRe, vIm, lo, vRe, vIm, lo + 1, len - 1);
+            double tRe = tau.getReal(), tIm = tau.getImag();
+            tauRe[k] = tRe;
+            tauIm[k] = tIm;
+            d[k] = re[k * n + k];
+            e[k] = vRe[lo];
+            vRe[lo] = 1.0;
+            vIm[lo] = 0.0;
+            System.arraycopy(vRe, lo + 1, re, k * n + lo + 1, len - 1);
+            System.arraycopy(vIm, lo + 1, im, k * n + lo + 1, len - 1);
+            if (tRe == 0.0 && tIm == 0.0) continue;
+
+            // x = A22 v from the lower triangle: row i gives x_i over j <= i and conj(a_ij) v_i to x_j, j < i
+            for (int i = lo; i < n; i++) {
+                xRe[i] = 0.0;
+                xIm[i] = 0.0;
+            }
+            for (int i = lo; i < n; i++) {
+                int row = i * n;
+                double viRe = vRe[i], viIm = vIm[i];
+                Complex dot = BACKEND.complexDot(re, im, row + lo, vRe, vIm, lo, i - lo, false);
+                xRe[i] += dot.getReal() + re[row + i] * viRe;
+                xIm[i] += dot.getImag() + re[row + i] * viIm;
+                for (int j = lo; j < i; j++) {
+                    double aRe = re[row + j], aIm = -im[row + j];
+                    xRe[j] += aRe * viRe - aIm * viIm;
+                    xIm[j] += aRe * viIm + aIm * viRe;
+                }
+            }
+            for (int i = lo; i < n; i++) {
+                double a = xRe[i], b = xIm[i];
+                xRe[i] = tRe * a - tIm * b;
+                xIm[i] = tRe * b + tIm * a;
+            }
+
+            // alpha = -conj(tau) (v^H x) / 2, real because v^H A v is
+            Complex vx = BACKEND.complexDot(vRe, vIm, lo, xRe, xIm, lo, len, true);
+            double alpha = -0.5 * (tRe * vx.getReal() + tIm * vx.getImag());
+            for (int i = lo; i < n; i++) {
+                xRe[i] += alpha * vRe[i];
+                xIm[i] += alpha * vIm[i];
+            }
+
+            // a_ij -= v_i conj(w_j) + w_i conj(v_j) on and below the diagonal
+            for (int i = lo; i < n; i++) {
+                int row = i * n;
+                double viRe = vRe[i], viIm = vIm[i], wiRe = xRe[i], wiIm = xIm[i];
+                for (int j = lo; j <= i; j++) {
+                    double wjRe = xRe[j], wjIm = xIm[j], vjRe = vRe[j], vjIm = vIm[j];
+                    re[row + j] -= viRe * wjRe + viIm * wjIm + wiRe * vjRe + wiIm * vjIm;
+                    im[row + j] -= viIm * wjRe - viRe * wjIm + wiIm * vjRe - wiRe * vjIm;
+                }
+                im[row + i] = 0.0;
+            }
+        }
+        d[n - 1] = re[(n - 1) * n + n - 1];
+    }
+
+    // Q = H_0 H_1 .. H_(count-1) as size x size {re, im} planes, reflector k acting on rows k + 1 .. size - 1
+    // with the tail of v at k * ld + k + 2 onwards in the reflector planes, accumulated last to first
+    private static double[][] formQ(double[] vRe, double[] vIm, double[] tauRe, double[] tauIm, int ld, int size,
+                                    int count) {
+        int n = size;
+        double[] qRe = new double[n * n], qIm = new double[n * n];
+        for (int i = 0; i < n; i++) {
+            qRe[i * n + i] = 1.0;
+        }
+        double[] wRe = new double[n], wIm = new double[n];
+        for (int k = count - 1; k >= 0; k--) {
+            double tRe = tauRe[k], tIm = tauIm[k];
+            if (tRe == 0.0 && tIm == 0.0) continue;
+            int lo = k + 1, len = n - lo;
+
+            // w = v^H Q(lo.., lo..)
+            System.arraycopy(qRe, lo * n + lo, wRe, lo, len);
+            System.arraycopy(qIm, lo * n + lo, wIm, lo, len);
+            for (int i = lo + 1; i < n; i++) {
+                double cRe = vRe[k * ld + i], cIm = -vIm[k * ld + i];
+                int row = i * n;
+                for (int j = lo; j < n; j++) {
+                    double aRe = qRe[row + j], aIm = qIm[row + j];
+                    wRe[j] += cRe * aRe - cIm * aIm;
+                    wIm[j] += cRe * aIm + cIm * aRe;
+                }
+            }
+
+            // Q(lo.., lo..) -= (tau v) w
+            for (int i = lo; i < n; i++) {
+                double viRe = i == lo ? 1.0 : vRe[k * ld + i], viIm = i == lo ? 0.0 : vIm[k * ld + i];
+                double fRe = tRe * viRe - tIm * viIm, fIm = tRe * viIm + tIm * viRe;
+                int row = i * n;
+                for (int j = lo; j < n; j++) {
+                    double bRe = wRe[j], bIm = wIm[j];
+                    qRe[row + j] -= fRe * bRe - fIm * bIm;
+                    qIm[row + j] -= fRe * bIm + fIm * bRe;
+                }
+            }
+        }
+        return new double[][]{qRe, qIm};
+    }
+
+    // D^-1 A D with D a diagonal of powers of two equalising row and column norms (|re| + |im|); returns D
+    private static double[] balance(double[] re, double[] im, int n) {
+        double[] scale = new double[n];
+        Arrays.fill(scale, 1.0);
+        boolean converged = false;
+        while (!converged) {
+            converged = true;
+            for (int i = 0; i < n; i++) {
+                double c = 0.0, r = 0.0;
+                for (int j = 0; j < n; j++) {
+                    if (j == i) continue;
+                    c += Math.abs(re[j * n + i]) + Math.abs(im[j * n + i]);
+                    r += Math.abs(re[i * n + j]) + Math.abs(im[i * n + j]);
+                }
+                if (c == 0.0 || r == 0.0) continue;
+                double g = r / RADIX, f = 1.0, s = c + r;
+                while (c < g) {
+                    f *= RADIX;
+                    c *= RADIX * RADIX;
+                }
+                g = r * RADIX;
+                while (c >= g) {
+                    f /= RADIX;
+                    c /= RADIX * RADIX;
+                }
+                if ((c + r) / f < 0.95 * s) {
+                    converged = false;
+                    scale[i] *= f;
+                    for (int j = 0; j < n; j++) {
+                        re[i * n + j] /= f;
+                        im[i * n + j] /= f;
+                        re[j * n + i] *= f;
+                        im[j * n + i] *= f;
+                    }
+                }
+            }
+        }
+        return scale;
+    }
+
+    // Q^H A Q = H upper Hessenberg for the leading size x size block of the ld x ld planes, reflector k
+    // applied as H_k^H from the left to the trailing rows (out to column ld, so a block whose right neighbour
+    // is already triangular stays consistent) and as H_k from the right to the block's rows, both as row
+    // sweeps. The tails of the reflectors go to the separate planes, if any, for formQ.
+    private static void hessenberg(double[] re, double[] im, int ld, int size, double[] reflectorsRe,
+                                   double[] reflectorsIm, double[] tauRe, double[] tauIm) {
+        double[] vRe = new double[size], vIm = new double[size], wRe = new double[ld], wIm = new double[ld];
+        for (int k = 0; k < size - 2; k++) {
+            int lo = k + 1, len = size - lo, width = ld - lo;
+            for (int i = lo; i < size; i++) {
+                vRe[i] = re[i * ld + k];
+                vIm[i] = im[i * ld + k];
+            }
+            Complex tau = CHouseholderKernel.generate(vRe, vIm, lo, vRe, vIm, lo + 1, len - 1);
+            double tRe = tau.getReal(), tIm = tau.getImag();
+            tauRe[k] = tRe;
+            tauIm[k] = tIm;
+            re[lo * ld + k] = vRe[lo];
+            im[lo * ld + k] = 0.0;
+            for (int i = lo + 1; i < size; i++) {
+                re[i * ld + k] = 0.0;
+                im[i * ld + k] = 0.0;
+            }
+            vRe[lo] = 1.0;
+            vIm[lo] = 0.0;
+            if (reflectorsRe != null) {
+                System.arraycopy(vRe, lo + 1, reflectorsRe, k * ld + lo + 1, len - 1);
+                System.arraycopy(vIm, lo + 1, reflectorsIm, k * ld + lo + 1, len - 1);
+            }
+            if (tRe == 0.0 && tIm == 0.0) continue;
+
+            // A(lo.., lo..) -= conj(tau) v (v^H A(lo.., lo..))
+            System.arraycopy(re, lo * ld + lo, wRe, lo, width);
+            System.arraycopy(im, lo * ld + lo, wIm, lo, width);
+            for (int i = lo + 1; i < size; i++) {
+                double cRe = vRe[i], cIm = -vIm[i];
+                int row = i * ld;
+                for (int j = lo; j < ld; j++) {
+                    double aRe = re[row + j], aIm = im[row + j];
+                    wRe[j] += cRe * aRe - cIm * aIm;
+                    wIm[j] += cRe * aIm + cIm * aRe;
+                }
+            }
+            for (int i = lo; i < size; i++) {
+                double fRe = tRe * vRe[i] + tIm * vIm[i], fIm = tRe * vIm[i] - tIm * vRe[i];
+                int row = i * ld;
+                for (int j = lo; j < ld; j++) {
+                    double bRe = wRe[j], bIm = wIm[j];
+                    re[row + j] -= fRe * bRe - fIm * bIm;
+                    im[row + j] -= fRe * bIm + fIm * bRe;
+                }
+            }
+
+            // A(.., lo..) -= tau (A(.., lo..) v) v^H
+            for (int i = 0; i < size; i++) {
+                int row = i * ld + lo;
+                Complex dot = BACKEND.complexDot(re, im, row, vRe, vIm, lo, len, false);
+                double fRe = tRe * dot.getReal() - tIm * dot.getImag();
+                double fIm = tRe * dot.getImag() + tIm * dot.getReal();
+                for (int j = 0; j < len; j++) {
+                    double bRe = vRe[lo + j], bIm = -vIm[lo + j];
+                    re[row + j] -= fRe * bRe - fIm * bIm;
+                    im[row + j] -= fRe * bIm + fIm * bRe;
+                }
+            }
+        }
+    }
+
+    // Single-shift QR on the Hessenberg matrix until it is upper triangular, each eigenvalue read off the
+    // diagonal as it deflates. With z the whole matrix and z are updated, leaving the Schur form
+    // T = Z^H A Z; without it only the active window is.
+    private static void schur(double[] re, double[] im, int n, double[][] z, double[] wr, double[] wi) {
+        double norm = 0.0;
+        for (int i = 0; i < n; i++) {
+            for (int j = Math.max(0, i - 1); j < n; j++) {
+                norm += Math.abs(re[i * n + j]) + Math.abs(im[i * n + j]);
+            }
+        }
+        double[] cs = new double[n], snRe = new double[n], snIm = new double[n];
+        double[] shiftRe = new double[AED_MAX_WINDOW], shiftIm = new double[AED_MAX_WINDOW];
+        int hi = n - 1, sweeps = 0, total = 0, shifts = 0;
+        while (hi >= 0) {
+            int l = hi;
+            while (l > 0) {
+                int diagonal = (l - 1) * n + l - 1, next = l * n + l;
+                double s = Math.abs(re[diagonal]) + Math.abs(im[diagonal]) + Math.abs(re[next]) + Math.abs(im[next]);
+                if (s == 0.0) {
+                    s = norm;
+                }
+                int sub = l * n + l - 1;
+                if (Math.abs(re[sub]) + Math.abs(im[sub]) <= EPS * s) {
+                    re[sub] = 0.0;
+                    im[sub] = 0.0;
+                    break;
+                }
+                l--;
+            }
+            if (l == hi) {
+                wr[hi] = re[hi * n + hi];
+                wi[hi] = im[hi * n + hi];
+                hi--;
+                sweeps = 0;
+                continue;
+            }
+            if (++total > MAX_SWEEPS * n) {
+                throw new ArithmeticException("Eigenvalue iteration did not converge.");
+            }
+            int window = hi - l + 1;
+            if (window < AED_MIN) {
+                shifts = 0;
+            } else if (shifts == 0) {
+                int nw = Math.max(AED_MIN_WINDOW, Math.min(AED_MAX_WINDOW, window / 4));
+                int deflated = aggressiveDeflation(re, im, n, z, l, hi, nw, shiftRe, shiftIm);
+                shifts = Math.min(nw - deflated, AED_SHIFTS * nw / 3);
+                if (deflated > 0) {
+                    sweeps = 0;
+                    continue;
+                }
+            }
+
+            double muRe, muIm;
+            int dd = hi * n + hi;
+            if (++sweeps % EXCEPTIONAL_SHIFT == 0) {
+                int sub = hi * n + hi - 1;
+                muRe = re[dd] + 0.75 * (Math.abs(re[sub]) + Math.abs(im[sub]));
+                muIm = im[dd];
+            } else if (shifts > 0) {
+                shifts--;
+                muRe = shiftRe[shifts];
+                muIm = shiftIm[shifts];
+            } else {
+                // Eigenvalue of the trailing 2 x 2 nearer its last diagonal entry: d - bc / (p + sqrt(p^2 + bc))
+                int aa = (hi - 1) * n + hi - 1, bb = (hi - 1) * n + hi, cc = hi * n + hi - 1;
+                double pRe = 0.5 * (re[aa] - re[dd]), pIm = 0.5 * (im[aa] - im[dd]);
+                double bcRe = re[bb] * re[cc] - im[bb] * im[cc], bcIm = re[bb] * im[cc] + im[bb] * re[cc];
+                double[] root = sqrt(pRe * pRe - pIm * pIm + bcRe, 2.0 * pRe * pIm + bcIm);
+                double rRe = root[0], rIm = root[1];
+                if (pRe * rRe + pIm * rIm < 0.0) {
+                    rRe = -rRe;
+                    rIm = -rIm;
+                }
+                double denRe = pRe + rRe, denIm = pIm + rIm;
+                double den = denRe * denRe + denIm * denIm;
+                muRe = re[dd];
+                muIm = im[dd];
+                if (den > 0.0) {
+                    muRe -= (bcRe * denRe + bcIm * denIm) / den;
+                    muIm -= (bcIm * denRe - bcRe * denIm) / den;
+                }
+            }
+            sweep(re, im, n, z, l, hi, muRe, muIm, cs, snRe, snIm);
+        }
+    }
+
+    // Aggressive early deflation on the trailing nw x nw block of the window [l, hi]: its Schur form T = V^H W V
+    // turns the single subdiagonal entry s left of it into the spike s conj(V(0, ..)), and every eigenvalue whose
+    // spike entry is negligible has converged though no subdiagonal entry of H shows it yet. Those are moved to
+    // the bottom of T, the rest are reflected and reduced back to Hessenberg form and V is applied to the rest
+    // of H and to z. The deflated eigenvalues are left behind zero subdiagonal entries for schur to pick up;
+    // returns how many there are, with H untouched when none. The kept eigenvalues go to shiftRe, shiftIm
+    // bottom first.
+    private static int aggressiveDeflation(double[] re, double[] im, int n, double[][] z, int l, int hi, int nw,
+                                           double[] shiftRe, double[] shiftIm) {
+        int kw = hi - nw + 1, spike = kw * n + kw - 1;
+        double sRe = re[spike], sIm = im[spike], sAbs = Math.abs(sRe) + Math.abs(sIm);
+        double[] tRe = new double[nw * nw], tIm = new double[nw * nw];
+        double[] vRe = new double[nw * nw], vIm = new double[nw * nw];
+        for (int i = 0; i < nw; i++) {
+            System.arraycopy(re, (kw + i) * n + kw, tRe, i * nw, nw);
+            System.arraycopy(im, (kw + i) * n + kw, tIm, i * nw, nw);
+            vRe[i * nw + i] = 1.0;
+        }
+        try {
+            schur(tRe, tIm, nw, new double[][]{vRe, vIm}, new double[nw], new double[nw]);
+        } catch (ArithmeticException e) {
+            return 0;
+        }
+
+        // Test the bottom eigenvalue of the undecided ones; keep it by moving it up to ilst, past the kept ones
+        int ns = nw, ilst = 0;
+        while (ilst < ns) {
+            int p = ns - 1;
+            double t = Math.abs(tRe[p * nw + p]) + Math.abs(tIm[p * nw + p]);
+            if (t == 0.0) {
+                t = sAbs;
+            }
+            if (sAbs * (Math.abs(vRe[p]) + Math.abs(vIm[p])) <= Math.max(Double.MIN_NORMAL, EPS * t)) {
+                ns--;
+            } else {
+                for (int k = p - 1; k >= ilst; k--) {
+                    swap(tRe, tIm, vRe, vIm, nw, k);
+                }
+                ilst++;
+            }
+        }
+        for (int j = 0; j < ns; j++) {
+            int p = (ns - 1 - j) * (nw + 1);
+            shiftRe[j] = tRe[p];
+            shiftIm[j] = tIm[p];
+        }
+        int deflated = nw - ns;
+        if (deflated == 0) {
+            return 0;
+        }
+
+        // Spike x = s conj(V(0, ..ns)); a reflector with H^H x = beta e_1 and a Hessenberg reduction of the
+        // leading ns x ns block of T, both also applied to V, bring the window back to Hessenberg form
+        double[] xRe = new double[ns], xIm = new double[ns];
+        for (int j = 0; j < ns; j++) {
+            xRe[j] = sRe * vRe[j] + sIm * vIm[j];
+            xIm[j] = sIm * vRe[j] - sRe * vIm[j];
+        }
+        if (ns > 1) {
+            Complex tau = CHouseholderKernel.generate(xRe, xIm, 0, xRe, xIm, 1, ns - 1);
+            reflect(tRe, tIm, vRe, vIm, nw, ns, xRe, xIm, tau.getReal(), tau.getImag());
+            xIm[0] = 0.0;
+        }
+        if (ns > 2) {
+            double[] reflectorsRe = new double[nw * nw], reflectorsIm = new double[nw * nw];
+            double[] tauRe = new double[ns], tauIm = new double[ns];
+            hessenberg(tRe, tIm, nw, ns, reflectorsRe, reflectorsIm, tauRe, tauIm);
+            double[][] q = formQ(reflectorsRe, reflectorsIm, tauRe, tauIm, nw, ns, ns - 2);
+            double[] wRe = new double[nw * ns], wIm = new double[nw * ns];
+            CMatrixKernel.gemm(nw, ns, ns, vRe, vIm, 0, nw, q[0], q[1], 0, ns, wRe, wIm, 0, ns);
+            for (int i = 0; i < nw; i++) {
+                System.arraycopy(wRe, i * ns, vRe, i * nw, ns);
+                System.arraycopy(wIm, i * ns, vIm, i * nw, ns);
+            }
+        }
+
+        re[spike] = ns > 0 ? xRe[0] : 0.0;
+        im[spike] = ns > 0 ? xIm[0] : 0.0;
+        for (int i = 0; i < nw; i++) {
+            System.arraycopy(tRe, i * nw, re, (kw + i) * n + kw, nw);
+            System.arraycopy(tIm, i * nw, im, (kw + i) * n + kw, nw);
+        }
+
+        // H(top..kw, window) V, and with z also V^H H(window, hi + 1..) and z(.., window) V
+        int top = z != null ? 0 : l;
+        multiplyRight(re, im, n, top, kw - top, kw, vRe, vIm, nw);
+        if (z != null) {
+            int right = n - 1 - hi;
+            if (right > 0) {
+                double[] hRe = new double[nw * nw], hIm = new double[nw * nw];
+                for (int i = 0; i < nw; i++) {
+                    for (int j = 0; j < nw; j++) {
+                        hRe[i * nw + j] = vRe[j * nw + i];
+                        hIm[i * nw + j] = -vIm[j * nw + i];
+                    }
+                }
+                double[] wRe = new double[nw * right], wIm = new double[nw * right];
+                CMatrixKernel.gemm(nw, right, nw, hRe, hIm, 0, nw, re, im, kw * n + hi + 1, n, wRe, wIm, 0, right);
+                for (int i = 0; i < nw; i++) {
+                    System.arraycopy(wRe, i * right, re, (kw + i) * n + hi + 1, right);
+                    System.arraycopy(wIm, i * right, im, (kw + i) * n + hi + 1, right);
+                }
+            }
+            multiplyRight(z[0], z[1], n, 0, n, kw, vRe, vIm, nw);
+        }
+        return deflated;
+    }
+
+    // Swaps the adjacent diagonal entries k, k + 1 of the upper triangular nw x nw T by the rotation that
+    // zeroes (T(k, k + 1), T(k + 1, k + 1) - T(k, k))'s second entry, applied to rows and columns of T and to V
+    private static void swap(double[] tRe, double[] tIm, double[] vRe, double[] vIm, int nw, int k) {
+        int kk = k * nw + k, kl = kk + nw + 1;
+        double t11Re = tRe[kk], t11Im = tIm[kk], t22Re = tRe[kl], t22Im = tIm[kl];
+        double fRe = tRe[kk + 1], fIm = tIm[kk + 1], gRe = t22Re - t11Re, gIm = t22Im - t11Im;
+        double fAbs = Math.hypot(fRe, fIm), gAbs = Math.hypot(gRe, gIm), norm = Math.hypot(fAbs, gAbs);
+        if (gAbs == 0.0) return;
+        double c, sRe, sIm;
+        if (fAbs == 0.0) {
+            c = 0.0;
+            sRe = gRe / gAbs;
+            sIm = -gIm / gAbs;
+        } else {
+            double phRe = fRe / fAbs, phIm = fIm / fAbs;
+            c = fAbs / norm;
+            sRe = (phRe * gRe + phIm * gIm) / norm;
+            sIm = (phIm * gRe - phRe * gIm) / norm;
+        }
+
+        // Rows k, k + 1 right of the pair: (c a + s b, c b - conj(s) a)
+        int row0 = k * nw, row1 = row0 + nw;
+        for (int j = k + 2; j < nw; j++) {
+            double aRe = tRe[row0 + j], aIm = tIm[row0 + j], bRe = tRe[row1 + j], bIm = tIm[row1 + j];
+            tRe[row0 + j] = c * aRe + sRe * bRe - sIm * bIm;
+            tIm[row0 + j] = c * aIm + sRe * bIm + sIm * bRe;
+            tRe[row1 + j] = c * bRe - sRe * aRe - sIm * aIm;
+            tIm[row1 + j] = c * bIm - sRe * aIm + sIm * aRe;
+        }
+        rotateColumns(tRe, tIm, nw, k, k, c, sRe, sIm);
+        rotateColumns(vRe, vIm, nw, nw, k, c, sRe, sIm);
+        tRe[kk] = t22Re;
+        tIm[kk] = t22Im;
+        tRe[kl] = t11Re;
+        tIm[kl] = t11Im;
+    }
+
+    // Rows [0, rows) of columns k, k + 1 become (c a + conj(s) b, c b - s a)
+    private static void rotateColumns(double[] re, double[] im, int ld, int rows, int k, double c, double sRe,
+                                      double sIm) {
+        for (int i = 0; i < rows; i++) {
+            int base = i * ld + k;
+            double aRe = re[base], aIm = im[base], bRe = re[base + 1], bIm = im[base + 1];
+            re[base] = c * aRe + sRe * bRe + sIm * bIm;
+            im[base] = c * aIm + sRe * bIm - sIm * bRe;
+            re[base + 1] = c * bRe - sRe * aRe + sIm * aIm;
+            im[base + 1] = c * bIm - sRe * aIm - sIm * aRe;
+        }
+    }
+
+    // T(..ns, ..) = H^H T(..ns, ..), T(..ns, ..ns) = T(..ns, ..ns) H and V(.., ..ns) = V(.., ..ns) H for
+    // H = I - tau v v^H, v = (1, x(1..ns)) and T upper triangular below its leading ns rows
+    private static void reflect(double[] tRe, double[] tIm, double[] vRe, double[] vIm, int nw, int ns,
+                                double[] xRe, double[] xIm, double tauRe, double tauIm) {
+        if (tauRe == 0.0 && tauIm == 0.0) return;
+        double headRe = xRe[0], headIm = xIm[0];
+        xRe[0] = 1.0;
+        xIm[0] = 0.0;
+        double[] wRe = new double[nw], wIm = new double[nw];
+        for (int i = 0; i < ns; i++) {
+            double cRe = xRe[i], cIm = -xIm[i];
+            int row = i * nw;
+            for (int j = 0; j < nw; j++) {
+                double aRe = tRe[row + j], aIm = tIm[row + j];
+                wRe[j] += cRe * aRe - cIm * aIm;
+                wIm[j] += cRe * aIm + cIm * aRe;
+            }
+        }
+        for (int i = 0; i < ns; i++) {
+            double fRe = tauRe * xRe[i] + tauIm * xIm[i], fIm = tauRe * xIm[i] - tauIm * xRe[i];
+            int row = i * nw;
+            for (int j = 0; j < nw; j++) {
+                double bRe = wRe[j], bIm = wIm[j];
+                tRe[row + j] -= fRe * bRe - fIm * bIm;
+                tIm[row + j] -= fRe * bIm + fIm * bRe;
+            }
+        }
+        reflectRows(tRe, tIm, nw, ns, ns, xRe, xIm, tauRe, tauIm);
+        reflectRows(vRe, vIm, nw, nw, ns, xRe, xIm, tauRe, tauIm);
+        xRe[0] = headRe;
+        xIm[0] = headIm;
+    }
+
+    // Rows [0, rows) of columns [0, ns) times H = I - tau x x^H
+    private static void reflectRows(double[] re, double[] im, int ld, int rows, int ns, double[] xRe, double[] xIm,
+                                    double tauRe, double tauIm) {
+        for (int i = 0; i < rows; i++) {
+            int row = i * ld;
+            Complex dot = BACKEND.complexDot(re, im, row, xRe, xIm, 0, ns, false);
+            double fRe = tauRe * dot.getReal() - tauIm * dot.getImag();
+            double fIm = tauRe * dot.getImag() + tauIm * dot.getReal();
+            for (int j = 0; j < ns; j++) {
+                double bRe = xRe[j], bIm = -xIm[j];
+                re[row + j] -= fRe * bRe - fIm * bIm;
+                im[row + j] -= fRe * bIm + fIm * bRe;
+            }
+        }
+    }
+
+    // Columns [col, col + nw) of rows [row, row + rows) times the nw x nw V
+    private static void multiplyRight(double[] re, double[] im, int n, int row, int rows, int col, double[] vRe,
+                                      double[] vIm, int nw) {
+        if (rows <= 0) return;
+        double[] wRe = new double[rows * nw], wIm = new double[rows * nw];
+        CMatrixKernel.gemm(rows, nw, nw, re, im, row * n + col, n, vRe, vIm, 0, nw, wRe, wIm, 0, nw);
+        for (int i = 0; i < rows; i++) {
+            System.arraycopy(wRe, i * nw, re, (row + i) * n + col, nw);
+            System.arraycopy(wIm, i * nw, im, (row + i) * n + col, nw);
+        }
+    }
+
+    // Principal square root {re, im}
+    private static double[] sqrt(double re, double im) {
+        double magnitude = Math.hypot(re, im);
+        if (magnitude == 0.0) {
+            return new double[]{0.0, 0.0};
+        }
+        double t = Math.sqrt(0.5 * (magnitude + Math.abs(re)));
+        return re >= 0.0 ? new double[]{t, im / (2.0 * t)} : new double[]{Math.abs(im) / (2.0 * t), Math.copySign(t, im)};
+    }
+
+    // One implicit single-shift step on the window [l, hi]: the rotation that zeroes the first column of
+    // H - mu starts a bulge that rotations chase down the subdiagonal. G = [c s; -conj(s) c] with real c acts on
+    // rows k, k + 1 and G^H on the columns. As in the real sweep, the rows above the window and z take the
+    // rotations afterwards, a block of rows at a time.
+    private static void sweep(double[] re, double[] im, int n, double[][] z, int l, int hi, double muRe, double muIm,
+                              double[] cs, double[] snRe, double[] snIm) {
+        int last = z != null ? n : hi + 1;
+        double xRe = re[l * n + l] - muRe, xIm = im[l * n + l] - muIm;
+        double yRe = re[(l + 1) * n + l], yIm = im[(l + 1) * n + l];
+        for (int k = l; k < hi; k++) {
+            if (k > l) {
+                xRe = re[k * n + k - 1];
+                xIm = im[k * n + k - 1];
+                yRe = re[(k + 1) * n + k - 1];
+                yIm = im[(k + 1) * n + k - 1];
+            }
+            double xAbs = Math.hypot(xRe, xIm), yAbs = Math.hypot(yRe, yIm);
+            double norm = Math.hypot(xAbs, yAbs);
+            double c, sRe, sIm, rRe, rIm;
+            if (norm == 0.0) {
+                c = 1.0;
+                sRe = 0.0;
+                sIm = 0.0;
+                rRe = 0.0;
+                rIm = 0.0;
+            } else if (xAbs == 0.0) {
+                c = 0.0;
+                sRe = yRe / yAbs;
+                sIm = -yIm / yAbs;
+                rRe = yAbs;
+                rIm = 0.0;
+            } else {
+                // c = |x| / norm, s = (x / |x|) conj(y) / norm, r = (x / |x|) norm
+                double phRe = xRe / xAbs, phIm = xIm / xAbs;
+                c = xAbs / norm;
+                sRe = (phRe * yRe + phIm * yIm) / norm;
+                sIm = (phIm * yRe - phRe * yIm) / norm;
+                rRe = phRe * norm;
+                rIm = phIm * norm;
+            }
+            cs[k] = c;
+            snRe[k] = sRe;
+            snIm[k] = sIm;
+            if (k > l) {
+                re[k * n + k - 1] = rRe;
+                im[k * n + k - 1] = rIm;
+                re[(k + 1) * n + k - 1] = 0.0;
+                im[(k + 1) * n + k - 1] = 0.0;
+            }
+
+            // Rows k, k + 1: [h_k; h_k1] = [c h_k + s h_k1; c h_k1 - conj(s) h_k]
+            int row0 = k * n, row1 = row0 + n;
+            for (int j = k; j < last; j++) {
+                double aRe = re[row0 + j], aIm = im[row0 + j], bRe = re[row1 + j], bIm = im[row1 + j];
+                re[row0 + j] = c * aRe + sRe * bRe - sIm * bIm;
+                im[row0 + j] = c * aIm + sRe * bIm + sIm * bRe;
+                re[row1 + j] = c * bRe - sRe * aRe - sIm * aIm;
+                im[row1 + j] = c * bIm - sRe * aIm + sIm * aRe;
+            }
+            applyRight(re, im, n, l, Math.min(k + 2, hi) + 1, k, k + 1, cs, snRe, snIm);
+        }
+        if (z != null) {
+            applyRight(re, im, n, 0, l, l, hi, cs, snRe, snIm);
+            applyRight(z[0], z[1], n, 0, n, l, hi, cs, snRe, snIm);
+        }
+    }
+
+    // Rows [rowStart, rowEnd) times G_k^H for k0 <= k < k1, ROWS rows at once: columns k, k + 1 become
+    // (c a + conj(s) b, c b - s a)
+    private static void applyRight(double[] re, double[] im, int n, int rowStart, int rowEnd, int k0, int k1,
+                                   double[] cs, double[] snRe, double[] snIm) {
+        for (int r0 = rowStart; r0 < rowEnd; r0 += ROWS) {
+            int r1 = Math.min(r0 + ROWS, rowEnd);
+            for (int k = k0; k < k1; k++) {
+                double c = cs[k], sRe = snRe[k], sIm = snIm[k];
+                for (int i = r0; i < r1; i++) {
+                    int base = i * n + k;
+                    double aRe = re[base], aIm = im[base], bRe = re[base + 1], bIm = im[base + 1];
+                    re[base] = c * aRe + sRe * bRe + sIm * bIm;
+                    im[base] = c * aIm + sRe * bIm - sIm * bRe;
+                    re[base + 1] = c * bRe - sRe * aRe + sIm * aIm;
+                    im[base + 1] = c * bIm - sRe * aIm - sIm * aRe;
+                }
+            }
+        }
+    }
+
+    // Eigenvectors of the upper triangular T by columns as {re, im}: x_i = 1 and, bottom-up,
+    // x_j = -T_j,> x_> / (T_jj - lambda_i), with divisors below small replaced by small
+    private double[][] schurVectors(double[] tRe, double[] tIm) {
+        double tNorm = 0.0;
+        for (int i = 0; i < n * n; i++) {
+            tNorm = Math.max(tNorm, Math.abs(tRe[i]) + Math.abs(tIm[i]));
+        }
+        double small = Math.max(EPS * tNorm, Double.MIN_NORMAL);
+
+        double[] xr = new double[n * n], xi = new double[n * n];
+        double[] ur = new double[n], ui = new double[n];
+        for (int e = 0; e < n; e++) {
+            double lambdaRe = this.valuesRe[e], lambdaIm = this.valuesIm[e];
+            Arrays.fill(ur, 0.0);
+            Arrays.fill(ui, 0.0);
+            ur[e] = 1.0;
+            for (int j = e - 1; j >= 0; j--) {
+                int row = j * n;
+                Complex dot = BACKEND.complexDot(tRe, tIm, row + j + 1, ur, ui, j + 1, e - j, false);
+                double sRe = -dot.getReal(), sIm = -dot.getImag();
+                double dRe = tRe[row + j] - lambdaRe, dIm = tIm[row + j] - lambdaIm;
+                if (Math.abs(dRe) + Math.abs(dIm) < small) {
+                    dRe = small;
+                    dIm = 0.0;
+                }
+                double inv = 1.0 / (dRe * dRe + dIm * dIm);
+                ur[j] = (sRe * dRe + sIm * dIm) * inv;
+                ui[j] = (sIm * dRe - sRe * dIm) * inv;
+
+                // Rescale instead of overflowing when T_jj was nearly lambda
+                if (Math.abs(ur[j]) + Math.abs(ui[j]) > 1e100) {
+                    for (int i = j; i <= e; i++) {
+                        ur[i] *= 1e-100;
+                        ui[i] *= 1e-100;
+                    }
+                }
+            }
+            for (int i = 0; i <= e; i++) {
+                xr[i * n + e] = ur[i];
+                xi[i * n + e] = ui[i];
+            }
+        }
+        return new double[][]{xr, xi};
+    }
+
+    // Undoes the balancing, V = D V, then scales every column to unit 2-norm
+    private static void normalize(double[] re, double[] im, double[] scale, int n) {
+        double[] norms = new double[n];
+        for (int i = 0; i < n; i++) {
+            int row = i * n;
+            double s = scale[i];
+            for (int j = 0; j < n; j++) {
+                re[row + j] *= s;
+                im[row + j] *= s;
+                norms[j] += re[row + j] * re[row + j] + im[row + j] * im[row + j];
+            }
+        }
+        for (int j = 0; j < n; j++) {
+            norms[j] = norms[j] > 0.0 ? 1.0 / Math.sqrt(norms[j]) : 1.0;
+        }
+        for (int i = 0; i < n; i++) {
+            int row = i * n;
+            for (int j = 0; j < n; j++) {
+                re[row + j] *= norms[j];
+                im[row + j] *= norms[j];
+            }
+        }
+    }
+}
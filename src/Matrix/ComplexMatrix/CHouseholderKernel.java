@@ -0,0 +1,105 @@
+package Matrix.ComplexMatrix;
+
+import Complex.Complex;
+import Simd.VectorBackend;
+import Simd.VectorBackends;
+
+// Complex Householder reflections H = I - tau v v^H on split re/im planes, with v = (1, v_1 .. v_len) and the
+// leading 1 implicit. As in the real kernel, the head of a vector is addressed apart from its tail. H is
+// not Hermitian for a complex tau, so apply() takes tau as given: pass conj(tau) to apply H^H.
+final class CHouseholderKernel {
+
+    private CHouseholderKernel() {
+        throw new UnsupportedOperationException("Cannot instantiate CHouseholderKernel.");
+    }
+
+    private static final VectorBackend BACKEND = VectorBackends.get();
+
+    // sqrt(sum |x_i|^2) over both planes, rescaled by the largest magnitude when the plain sum over- or
+    // underflows
+    static double norm(double[] re, double[] im, int off, int len) {
+        double sumSquares = BACKEND.dot(re, off, re, off, len) + BACKEND.dot(im, off, im, off, len);
+        if (sumSquares >= Double.MIN_NORMAL && sumSquares < Double.POSITIVE_INFINITY) {
+            return Math.sqrt(sumSquares);
+        }
+        double scale = 0.0;
+        for (int i = off; i < off + len; i++) {
+            scale = Math.max(scale, Math.max(Math.abs(re[i]), Math.abs(im[i])));
+        }
+        if (scale == 0.0 || scale == Double.POSITIVE_INFINITY) {
+            return scale;
+        }
+        double sum = 0.0;
+        for (int i = off; i < off + len; i++) {
+            double scaledRe = re[i] / scale, scaledIm = im[i] / scale;
+            sum += scaledRe * scaledRe + scaledIm * scaledIm;
+        }
+        return scale * Math.sqrt(sum);
+    }
+
+    // Reflector with H^H (head, tail) = (beta, 0) for a real beta: beta replaces the head, v overwrites the
+    // tail and tau is returned. A zero tail under a real head gives tau = 0, H = I.
+    static Complex generate(double[] headRe, double[] headIm, int headIdx,
+                            double[] tailRe, double[] tailIm, int tailOff, int len) {
+        double tailNorm = norm(tailRe, tailIm, tailOff, len);
+        double alphaRe = headRe[headIdx], alphaIm = headIm[headIdx];
+        if (tailNorm == 0.0 && alphaIm == 0.0) {
+            return Complex.ZERO;
+        }
+        double beta = -Math.copySign(Math.hypot(Math.hypot(alphaRe, alphaIm), tailNorm), alphaRe);
+
+        // v = tail / (alpha - beta)
+        double dRe = alphaRe - beta, dIm = alphaIm;
+        double scale = 1.0 / (dRe * dRe + dIm * dIm);
+        double sRe = dRe * scale, sIm = -dIm * scale;
+        for (int i = tailOff; i < tailOff + len; i++) {
+            double re = tailRe[i], im = tailIm[i];
+            tailRe[i] = Math.fma(re, sRe, -im * sIm);
+            tailIm[i] = Math.fma(re, sIm, im * sRe);
+        }
+        headRe[headIdx] = beta;
+        headIm[headIdx] = 0.0;
+        return new Complex((beta - alphaRe) / beta, -alphaIm / beta);
+    }
+
+    // (head, tail) -= tau v (v^H (head, tail)), i.e. I - tau v v^H applied to the vector
+    static void apply(double tauRe, double tauIm, double[] vRe, double[] vIm, int vOff, int len,
+                      double[] headRe, double[] headIm, int headIdx,
+                      double[] tailRe, double[] tailIm, int tailOff) {
+        if (tauRe == 0.0 && tauIm == 0.0) {
+            return;
+        }
+        Complex dot = BACKEND.complexDot(vRe, vIm, vOff, tailRe, tailIm, tailOff, len, true);
+        double hRe = headRe[headIdx] + dot.getReal(), hIm = headIm[headIdx] + dot.getImag();
+        double sRe = Math.fma(tauRe, hRe, -tauIm * hIm), sIm = Math.fma(tauRe, hIm, tauIm * hRe);
+        if (sRe == 0.0 && sIm == 0.0) {
+            return;
+        }
+        headRe[headIdx] -= sRe;
+        headIm[headIdx] -= sIm;
+        for (int i = 0; i < len; i++) {
+            double re = vRe[vOff + i], im = vIm[vOff + i];
+            tailRe[tailOff + i] -= Math.fma(sRe, re, -sIm * im);
+            tailIm[tailOff + i] -= Math.fma(sRe, im, sIm * re);
+        }
+    }
+
+    // Solves R x = y in place for an upper triangular n x n R held by columns: R(i, j) at j * ld + i
+    static void backSubstitute(double[] rRe, double[] rIm, int ld, int n, double[] yRe, double[] yIm, int yOff) {
+        for (int j = n - 1; j >= 0; j--) {
+            int column = j * ld;
+            double dRe = rRe[column + j], dIm = rIm[column + j];
+            double scale = 1.0 / (dRe * dRe + dIm * dIm);
+            double re = yRe[yOff + j], im = yIm[yOff + j];
+            double xRe = (re * dRe + im * dIm) * scale, xIm = (im * dRe - re * dIm) * scale;
+            yRe[yOff + j] = xRe;
+            yIm[yOff + j] = xIm;
+            if (xRe == 0.0 && xIm == 0.0) continue;
+            for (int i = 0; i < j; i++) {
+                double fRe = rRe[column + i], fIm = rIm[column + i];
+                yRe[yOff + i] -= Math.fma(fRe, xRe, -fIm * xIm);
+                yIm[yOff + i] -= Math.fma(fRe, xIm, fIm * xRe);
+            }
+        }
+    }
+}
@@ -0,0 +1,406 @@
+package Matrix.ComplexMatrix;
+
+import Complex.Complex;
+
+// P A P^T = L D L^H for a Hermitian A: the complex counterpart of RLDLDecomposition, with unit lower
+// triangular L, a block diagonal D of real 1 x 1 and Hermitian 2 x 2 blocks, and the same diagonal
+// pivoting and Bunch-Kaufman test. Only the lower triangle of A is read and the imaginary part of its
+// diagonal is taken as zero; the factors overwrite a packed copy of it.
+public final class CLDLDecomposition implements CDecomposition {
+
+    // (1 + sqrt(17)) / 8, which bounds the element growth of each accepted pivot step by 1 + 1 / ALPHA
+    private static final double ALPHA = (1.0 + Math.sqrt(17.0)) / 8.0;
+
+    private final int n;
+
+    // Packed by rows on split planes: l_ij (j < i) at i * (i + 1) / 2 + j, with the real d_i in the diagonal slot
+    private final double[] re, im;
+
+    // d_(i+1)i of D, nonzero exactly where i and i + 1 form a 2 x 2 block; l_(i+1)i is zero there
+    private final double[] subRe, subIm;
+
+    // Row i of P A P^T is row pivot[i] of A
+    private final int[] pivot;
+    private final boolean singular;
+
+    public CLDLDecomposition(CMatrix matrix) {
+        this(packedLower(matrix), matrix.getRows());
+    }
+
+    public CLDLDecomposition(PackedHermitianCMatrix matrix) {
+        this(packedCopy(matrix), matrix.getSize());
+    }
+
+    private static double[][] packedLower(CMatrix matrix) {
+        if (matrix == null || matrix.isMatrixNull()) {
+            throw new IllegalArgumentException("Matrix is empty or null.");
+        }
+        if (matrix.getRows() != matrix.getColumns()) {
+            throw new IllegalArgumentException("LDL^H decomposition is only defined for square matrices.");
+        }
+        if (matrix.getRows() > CPackedKernel.MAX_SIZE) {
+            throw new IllegalArgumentException("Matrix is too large for a packed triangular factor.");
+        }
+        return CPackedKernel.pack(matrix.getRealPlane(), matrix.getImagPlane(), matrix.getOffset(),
+                matrix.getStride(), matrix.getRows());
+    }
+
+    private static double[][] packedCopy(PackedHermitianCMatrix matrix) {
+        if (matrix == null) {
+            throw new IllegalArgumentException("Matrix is empty or null.");
+        }
+        return new double[][]{matrix.getRealData().clone(), matrix.getImagData().clone()};
+    }
+
+    private CLDLDecomposition(double[][] a, int n) {
+        this.n = n;
+        this.re = a[0];
+        this.im = a[1];
+        this.subRe = new double[n];
+        this.subIm = new double[n];
+        this.pivot = new int[n];
+        for (int i = 0; i < n; i++) {
+            this.pivot[i] = i;
+        }
+
+        boolean isSingular = false;
+        double[] aRe = this.re, aIm = this.im;
+        double[] columnRe = new double[n], columnIm = new double[n];
+        double[] nextRe = new double[n], nextIm = new double[n];
+
+        int k = 0;
+        while (k < n) {
+            // Largest remaining diagonal entry
+            int pivotIndex = k;
+            double max = Math.abs(aRe[CPackedKernel.row(k) + k]);
+            for (int i = k + 1; i < n; i++) {
+                double candidate = Math.abs(aRe[CPackedKernel.row(i) + i]);
+                if (candidate > max) {
+                    max = candidate;
+                    pivotIndex = i;
+                }
+            }
+            if (pivotIndex != k) {
+                this.interchange(k, pivotIndex);
+            }
+
+            int rowK = CPackedKernel.row(k);
+            double d = aRe[rowK + k];
+            double lambda = 0.0;
+            int m = k;
+            for (int i = k + 1; i < n; i++) {
+                int position = CPackedKernel.row(i) + k;
+                columnRe[i] = aRe[position];
+                columnIm[i] = aIm[position];
+                double candidate = Math.hypot(columnRe[i], columnIm[i]);
+                if (candidate > lambda) {
+                    lambda = candidate;
+                    m = i;
+                }
+            }
+            if (lambda == 0.0) {
+                // Nothing to eliminate below d; a zero d leaves A singular
+                if (d == 0.0) {
+                    isSingular = true;
+                }
+                k++;
+                continue;
+            }
+
+            // Bunch-Kaufman exactly as in RLDLDecomposition, sigma the largest off-diagonal modulus of row m
+            boolean block = false;
+            if (Math.abs(d) < ALPHA * lambda) {
+                int rowM = CPackedKernel.row(m);
+                double sigma = 0.0;
+                for (int j = k; j < m; j++) {
+                    sigma = Math.max(sigma, Math.hypot(aRe[rowM + j], aIm[rowM + j]));
+                }
+                for (int i = m + 1; i < n; i++) {
+                    int position = CPackedKernel.row(i) + m;
+                    sigma = Math.max(sigma, Math.hypot(aRe[position], aIm[position]));
+                }
+                block = Math.abs(d) * sigma < ALPHA * lambda * lambda;
+            }
+
+            if (!block) {
+                // l_ik = a_ik / d, then a_ij -= l_ik conj(a_jk) over the trailing lower triangle, row by row
+                for (int i = k + 1; i < n; i++) {
+                    int rowI = CPackedKernel.row(i);
+                    double sRe = columnRe[i] / d, sIm = columnIm[i] / d;
+                    aRe[rowI + k] = sRe;
+                    aIm[rowI + k] = sIm;
+                    if (sRe == 0.0 && sIm == 0.0) continue;
+                    for (int j = k + 1; j <= i; j++) {
+                        double cRe = columnRe[j], cIm = -columnIm[j];
+                        aRe[rowI + j] -= Math.fma(sRe, cRe, -sIm * cIm);
+                        aIm[rowI + j] -= Math.fma(sRe, cIm, sIm * cRe);
+                    }
+                    aIm[rowI + i] = 0.0;
+                }
+                k++;
+                continue;
+            }
+
+            if (m != k + 1) {
+                this.interchange(k + 1, m);
+            }
+            int rowK1 = CPackedKernel.row(k + 1);
+            double d11 = aRe[rowK + k], d22 = aRe[rowK1 + k + 1];
+            double d21Re = aRe[rowK1 + k], d21Im = aIm[rowK1 + k];
+
+            // D_k^-1 = [[d22, -conj(d21)], [-d21, d11]] / (d11 d22 - |d21|^2), the determinant near -|d21|^2
+            double determinant = d11 * d22 - (d21Re * d21Re + d21Im * d21Im);
+            double e11 = d22 / determinant, e22 = d11 / determinant;
+            double e21Re = -d21Re / determinant, e21Im = -d21Im / determinant;
+            for (int i = k + 2; i < n; i++) {
+                int rowI = CPackedKernel.row(i);
+                columnRe[i] = aRe[rowI + k];
+                columnIm[i] = aIm[rowI + k];
+                nextRe[i] = aRe[rowI + k + 1];
+                nextIm[i] = aIm[rowI + k + 1];
+            }
+
+            // (l_ik, l_i(k+1)) = (a_ik, a_i(k+1)) D_k^-1, then a_ij -= l_ik conj(a_jk) + l_i(k+1) conj(a_j(k+1))
+            for (int i = k + 2; i < n; i++) {
+                int rowI = CPackedKernel.row(i);
+                double cRe = columnRe[i], cIm = columnIm[i], nRe = nextRe[i], nIm = nextIm[i];
+                double l0Re = cRe * e11 + (nRe * e21Re - nIm * e21Im);
+                double l0Im = cIm * e11 + (nRe * e21Im + nIm * e21Re);
+                double l1Re = (cRe * e21Re + cIm * e21Im) + nRe * e22;
+                double l1Im = (cIm * e21Re - cRe * e21Im) + nIm * e22;
+                aRe[rowI + k] = l0Re;
+                aIm[rowI + k] = l0Im;
+                aRe[rowI + k + 1] = l1Re;
+                aIm[rowI + k + 1] = l1Im;
+                for (int j = k + 2; j <= i; j++) {
+                    double vRe = columnRe[j], vIm = -columnIm[j], wRe = nextRe[j], wIm = -nextIm[j];
+                    aRe[rowI + j] -= Math.fma(l0Re, vRe, -l0Im * vIm) + Math.fma(l1Re, wRe, -l1Im * wIm);
+                    aIm[rowI + j] -= Math.fma(l0Re, vIm, l0Im * vRe) + Math.fma(l1Re, wIm, l1Im * wRe);
+                }
+                aIm[rowI + i] = 0.0;
+            }
+            aRe[rowK1 + k] = 0.0;
+            aIm[rowK1 + k] = 0.0;
+            this.subRe[k] = d21Re;
+            this.subIm[k] = d21Im;
+            k += 2;
+        }
+
+        this.singular = isSingular;
+    }
+
+    // Symmetric interchange of rows and columns k < p, carried into the rows of L already computed
+    private void interchange(int k, int p) {
+        swapHermitian(this.re, this.im, this.n, k, p);
+        int temp = this.pivot[k];
+        this.pivot[k] = this.pivot[p];
+        this.pivot[p] = temp;
+    }
+
+    // Swaps rows and columns k < p of a Hermitian matrix held as its packed lower triangle. Entries that
+    // move between the two triangles are conjugated, including the one at (p, k).
+    private static void swapHermitian(double[] re, double[] im, int n, int k, int p) {
+        int rowK = CPackedKernel.row(k), rowP = CPackedKernel.row(p);
+        for (int j = 0; j < k; j++) {
+            swap(re, im, rowK + j, rowP + j, false);
+        }
+        swap(re, im, rowK + k, rowP + p, false);
+        for (int j = k + 1; j < p; j++) {
+            swap(re, im, CPackedKernel.row(j) + k, rowP + j, true);
+        }
+        im[rowP + k] = -im[rowP + k];
+        for (int i = p + 1; i < n; i++) {
+            int rowI = CPackedKernel.row(i);
+            swap(re, im, rowI + k, rowI + p, false);
+        }
+    }
+
+    private static void swap(double[] re, double[] im, int x, int y, boolean conjugate) {
+        double tempRe = re[x], tempIm = im[x];
+        re[x] = re[y];
+        im[x] = conjugate ? -im[y] : im[y];
+        re[y] = tempRe;
+        im[y] = conjugate ? -tempIm : tempIm;
+    }
+
+    @Override
+    public int getSize() {
+        return this.n;
+    }
+
+    public boolean isSingular() {
+        return this.singular;
+    }
+
+    public int[] getPivot() {
+        return this.pivot.clone();
+    }
+
+    private void requireNonSingular() {
+        if (this.singular) {
+            throw new IllegalArgumentException("Matrix is singular and cannot be inverted.");
+        }
+    }
+
+    public CMatrix getL() {
+        double[] lRe = new double[n * n], lIm = new double[n * n];
+        for (int i = 0; i < n; i++) {
+            System.arraycopy(this.re, CPackedKernel.row(i), lRe, i * n, i);
+            System.arraycopy(this.im, CPackedKernel.row(i), lIm, i * n, i);
+            lRe[i * n + i] = 1.0;
+        }
+        return new CMatrix(lRe, lIm, n, n);
+    }
+
+    // Real diagonal of D
+    public double[] getD() {
+        double[] d = new double[n];
+        for (int i = 0; i < n; i++) {
+            d[i] = this.re[CPackedKernel.row(i) + i];
+        }
+        return d;
+    }
+
+    // Subdiagonal of D: d_(i+1)i, zero outside the 2 x 2 blocks
+    public Complex[] getSubdiagonalD() {
+        Complex[] sub = new Complex[Math.max(n - 1, 0)];
+        for (int i = 0; i < sub.length; i++) {
+            sub[i] = new Complex(this.subRe[i], this.subIm[i]);
+        }
+        return sub;
+    }
+
+    private boolean startsBlock(int i) {
+        return this.subRe[i] != 0.0 || this.subIm[i] != 0.0;
+    }
+
+    // det(A) = det(D), real, a product over its blocks
+    @Override
+    public Complex getDeterminant() {
+        if (this.singular) {
+            return Complex.ZERO;
+        }
+        double determinant = 1.0;
+        for (int i = 0; i < n; i++) {
+            double d = this.re[CPackedKernel.row(i) + i];
+            if (this.startsBlock(i)) {
+                double sRe = this.subRe[i], sIm = this.subIm[i];
+                d = d * this.re[CPackedKernel.row(i + 1) + i + 1] - (sRe * sRe + sIm * sIm);
+                i++;
+            }
+            determinant *= d;
+        }
+        return new Complex(determinant, 0.0);
+    }
+
+    // D^-1 as {real diagonal, subdiagonal re, subdiagonal im}, block by block
+    private double[][] inverseD() {
+        double[] diagonal = new double[n], inverseRe = new double[n], inverseIm = new double[n];
+        for (int i = 0; i < n; i++) {
+            double d11 = this.re[CPackedKernel.row(i) + i];
+            if (!this.startsBlock(i)) {
+                diagonal[i] = 1.0 / d11;
+                continue;
+            }
+            double sRe = this.subRe[i], sIm = this.subIm[i], d22 = this.re[CPackedKernel.row(i + 1) + i + 1];
+            double determinant = d11 * d22 - (sRe * sRe + sIm * sIm);
+            diagonal[i] = d22 / determinant;
+            diagonal[i + 1] = d11 / determinant;
+            inverseRe[i] = -sRe / determinant;
+            inverseIm[i] = -sIm / determinant;
+            i++;
+        }
+        return new double[][]{diagonal, inverseRe, inverseIm};
+    }
+
+    // Solves A X = B for every column of B at once: X = P^T L^-H D^-1 L^-1 P B
+    @Override
+    public CMatrix solve(CMatrix b) {
+        if (b == null || b.isMatrixNull()) {
+            throw new IllegalArgumentException("Matrix is empty or null.");
+        }
+        if (b.getRows() != n) {
+            throw new IllegalArgumentException("Right-hand side must have " + n + " rows.");
+        }
+        this.requireNonSingular();
+
+        int m = b.getColumns();
+        double[] yRe = new double[n * m], yIm = new double[n * m];
+        double[] srcRe = b.getRealPlane(), srcIm = b.getImagPlane();
+        for (int i = 0; i < n; i++) {
+            int src = b.getOffset() + this.pivot[i] * b.getStride();
+            System.arraycopy(srcRe, src, yRe, i * m, m);
+            System.arraycopy(srcIm, src, yIm, i * m, m);
+        }
+
+        CPackedKernel.forwardSubstitute(this.re, this.im, n, true, yRe, yIm, m);
+        double[][] inverseD = this.inverseD();
+        double[] diagonal = inverseD[0], inverseRe = inverseD[1], inverseIm = inverseD[2];
+        for (int i = 0; i < n; i++) {
+            int rowI = i * m;
+            if (!this.startsBlock(i)) {
+                for (int j = 0; j < m; j++) {
+                    yRe[rowI + j] *= diagonal[i];
+                    yIm[rowI + j] *= diagonal[i];
+                }
+                continue;
+            }
+
+            // (y0, y1) <- (e11 y0 + conj(e21) y1, e21 y0 + e22 y1)
+            double e11 = diagonal[i], e22 = diagonal[i + 1], eRe = inverseRe[i], eIm = inverseIm[i];
+            for (int j = 0, rowI1 = rowI + m; j < m; j++) {
+                double y0Re = yRe[rowI + j], y0Im = yIm[rowI + j], y1Re = yRe[rowI1 + j], y1Im = yIm[rowI1 + j];
+                yRe[rowI + j] = e11 * y0Re + (eRe * y1Re + eIm * y1Im);
+                yIm[rowI + j] = e11 * y0Im + (eRe * y1Im - eIm * y1Re);
+                yRe[rowI1 + j] = (eRe * y0Re - eIm * y0Im) + e22 * y1Re;
+                yIm[rowI1 + j] = (eRe * y0Im + eIm * y0Re) + e22 * y1Im;
+            }
+            i++;
+        }
+        CPackedKernel.backSubstituteConjugateTranspose(this.re, this.im, n, true, yRe, yIm, m);
+
+        double[] xRe = new double[n * m], xIm = new double[n * m];
+        for (int i = 0; i < n; i++) {
+            System.arraycopy(yRe, i * m, xRe, this.pivot[i] * m, m);
+            System.arraycopy(yIm, i * m, xIm, this.pivot[i] * m, m);
+        }
+        return new CMatrix(xRe, xIm, n, m);
+    }
+
+    @Override
+    public CMatrix getInverse() {
+        double[][] packed = this.packedInverse();
+        double[][] dense = CPackedKernel.unpack(packed[0], packed[1], n);
+        return new CMatrix(dense[0], dense[1], n, n);
+    }
+
+    public PackedHermitianCMatrix getPackedInverse() {
+        double[][] packed = this.packedInverse();
+        return new PackedHermitianCMatrix(packed[0], packed[1], n);
+    }
+
+    // (P A P^T)^-1 = L^-H D^-1 L^-1, then scattered back through the pivots; an entry whose pivoted
+    // position lands in the upper triangle is stored conjugated at its mirror
+    private double[][] packedInverse() {
+        this.requireNonSingular();
+        double[][] inverseD = this.inverseD();
+        double[][] lower = CPackedKernel.invertLower(this.re, this.im, n, true);
+        double[][] permuted = CPackedKernel.weightedGram(lower[0], lower[1], inverseD[0], inverseD[1], inverseD[2], n);
+
+        double[] inverseRe = new double[permuted[0].length], inverseIm = new double[permuted[0].length];
+        for (int i = 0; i < n; i++) {
+            int rowI = CPackedKernel.row(i), pi = this.pivot[i];
+            for (int j = 0; j <= i; j++) {
+                int pj = this.pivot[j];
+                if (pi >= pj) {
+                    inverseRe[CPackedKernel.row(pi) + pj] = permuted[0][rowI + j];
+                    inverseIm[CPackedKernel.row(pi) + pj] = permuted[1][rowI + j];
+                } else {
+                    inverseRe[CPackedKernel.row(pj) + pi] = permuted[0][rowI + j];
+                    inverseIm[CPackedKernel.row(pj) + pi] = -permuted[1][rowI + j];
+                }
+            }
+        }
+        return new double[][]{inverseRe, inverseIm};
+    }
+}
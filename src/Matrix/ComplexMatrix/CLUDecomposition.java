@@ -0,0 +1,443 @@
+package Matrix.ComplexMatrix;
+
+import Complex.Complex;
+
+// PA = LU with partial pivoting on split re/im planes. Factor once, then reuse for any number
+// of solves, the determinant and the inverse.
+public final class CLUDecomposition implements CDecomposition {
+
+    private final int n;
+
+    // Packed factors, row-major n x n: unit-diagonal L strictly below the diagonal, U on and above it
+    private final double[] re, im;
+
+    // Row i of PA is row pivot[i] of A
+    private final int[] pivot;
+    private final int pivotSign;
+    private final boolean singular;
+
+    public CLUDecomposition(CMatrix matrix) {
+        if (matrix == null || matrix.isMatrixNull()) {
+            throw new IllegalArgumentException("Matrix is empty or null.");
+        }
+        if (matrix.getRows() != matrix.getColumns()) {
+            throw new IllegalArgumentException("LU decomposition is only defined for square matrices.");
+        }
+
+        this.n = matrix.getRows();
+        CMatrix copy = matrix.getCopyMatrix();
+        this.re = copy.getRealPlane();
+        this.im = copy.getImagPlane();
+        this.pivot = new int[n];
+        for (int i = 0; i < n; i++) {
+            this.pivot[i] = i;
+        }
+
+        int sign = 1;
+        boolean isSingular = false;
+        double[] aRe = this.re, aIm = this.im;
+
+        for (int k = 0; k < n; k++) {
+            // Find the pivot row (largest modulus in column k)
+            int pivotRow = k;
+            double max = modSquared(aRe[k * n + k], aIm[k * n + k]);
+            for (int i = k + 1; i < n; i++) {
+                double candidate = modSquared(aRe[i * n + k], aIm[i * n + k]);
+                if (candidate > max) {
+                    max = candidate;
+                    pivotRow = i;
+                }
+            }
+
+            // Swap rows if necessary
+            if (pivotRow != k) {
+                swapRows(aRe, k, pivotRow);
+                swapRows(aIm, k, pivotRow);
+                int temp = this.pivot[k];
+                this.pivot[k] = this.pivot[pivotRow];
+                this.pivot[pivotRow] = temp;
+                sign = -sign;
+            }
+
+            int rowK = k * n;
+            double pRe = aRe[rowK + k], pIm = aIm[rowK + k];
+            if (Math.abs(pRe) < Complex.EPSILON && Math.abs(pIm) < Complex.EPSILON) {
+                isSingular = true;
+                continue;
+            }
+
+            // 1 / pivot, so the elimination multiplies instead of dividing
+            double pMod = pRe * pRe + pIm * pIm;
+            double invRe = pRe / pMod, invIm = -pIm / pMod;
+
+            for (int i = k + 1; i < n; i++) {
+                int rowI = i * n;
+                double xRe = aRe[rowI + k], xIm = aIm[rowI + k];
+                if (xRe == 0.0 && xIm == 0.0) continue;
+
+                double fRe = Math.fma(xRe, invRe, -xIm * invIm);
+                double fIm = Math.fma(xRe, invIm, xIm * invRe);
+                aRe[rowI + k] = fRe;
+                aIm[rowI + k] = fIm;
+
+                for (int j = k + 1; j < n; j++) {
+                    double uRe = aRe[rowK + j], uIm = aIm[rowK + j];
+                    aRe[rowI + j] -= Math.fma(fRe, uRe, -fIm * uIm);
+                    aIm[rowI + j] -= Math.fma(fRe, uIm, fIm * uRe);
+                }
+            }
+        }
+
+        this.pivotSign = sign;
+        this.singular = isSingular;
+    }
+
+    private static double modSquared(double real, double imag) {
+        return real * real + imag * imag;
+    }
+
+    private void swapRows(double[] plane, int row1, int row2) {
+        int a = row1 * n, b = row2 * n;
+        for (int j = 0; j < n; j++) {
+            double temp = plane[a + j];
+            plane[a + j] = plane[b + j];
+            plane[b + j] = temp;
+        }
+    }
+
+    @Override
+    public int getSize() {
+        return this.n;
+    }
+
+    public boolean isSingular() {
+        return this.singular;
+    }
+
+    public int[] getPivot() {
+        return this.pivot.clone();
+    }
+
+    public CMatrix getL() {
+        double[] lRe = new double[n * n], lIm = new double[n * n];
+        for (int i = 0; i < n; i++) {
+            System.arraycopy(this.re, i * n, lRe, i * n, i);
+            System.arraycopy(this.im, i * n, lIm, i * n, i);
+            lRe[i * n + i] = 1.0;
+        }
+        return new CMatrix(lRe, lIm, n, n);
+    }
+
+    public CMatrix getU() {
+        double[] uRe = new double[n * n], uIm = new double[n * n];
+        for (int i = 0; i < n; i++) {
+            System.arraycopy(this.re, i * n + i, uRe, i * n + i, n - i);
+            System.arraycopy(this.im, i * n + i, uIm, i * n + i, n - i);
+        }
+        return new CMatrix(uRe, uIm, n, n);
+    }
+
+    @Override
+    public Complex getDeterminant() {
+        if (this.singular) {
+            return Complex.ZERO;
+        }
+        double detRe = this.pivotSign, detIm = 0.0;
+        for (int i = 0; i < n; i++) {
+            double dRe = this.re[i * n + i], dIm = this.im[i * n + i];
+            double t = Math.fma(detRe, dRe, -detIm * dIm);
+            detIm = Math.fma(detRe, dIm, detIm * dRe);
+            detRe = t;
+        }
+        return new Complex(detRe, detIm);
+    }
+
+    private void requireNonSingular() {
+        if (this.singular) {
+            throw new IllegalArgumentException("Matrix is singular and cannot be inverted.");
+        }
+    }
+
+    // Solves A X = B for every column of B at once, O(n^2) per column
+    @Override
+    public CMatrix solve(CMatrix b) {
+        if (b == null || b.isMatrixNull()) {
+            throw new IllegalArgumentException("Matrix is empty or null.");
+        }
+        if (b.getRows() != n) {
+            throw new IllegalArgumentException("Right-hand side must have " + n + " rows.");
+        }
+        this.requireNonSingular();
+
+        int m = b.getColumns();
+        double[] xRe = new double[n * m], xIm = new double[n * m];
+        double[] srcRe = b.getRealPlane(), srcIm = b.getImagPlane();
+
+        // X = P B
+        for (int i = 0; i < n; i++) {
+            int src = b.getOffset() + this.pivot[i] * b.getStride();
+            System.arraycopy(srcRe, src, xRe, i * m, m);
+            System.arraycopy(srcIm, src, xIm, i * m, m);
+        }
+
+        // Forward substitution with unit-diagonal L
+        for (int i = 1; i < n; i++) {
+            int rowI = i * m;
+            for (int k = 0; k < i; k++) {
+                double fRe = this.re[i * n + k], fIm = this.im[i * n + k];
+                if (fRe == 0.0 && fIm == 0.0) continue;
+                subtractScaledRow(xRe, xIm, rowI, k * m, m, fRe, fIm);
+            }
+        }
+
+        // Back substitution with U
+        for (int i = n - 1; i >= 0; i--) {
+            int rowI = i * m;
+            for (int k = i + 1; k < n; k++) {
+                double fRe = this.re[i * n + k], fIm = this.im[i * n + k];
+                if (fRe == 0.0 && fIm == 0.0) continue;
+                subtractScaledRow(xRe, xIm, rowI, k * m, m, fRe, fIm);
+            }
+            double dRe = this.re[i * n + i], dIm = this.im[i * n + i];
+            double dMod = dRe * dRe + dIm * dIm;
+            double invRe = dRe / dMod, invIm = -dIm / dMod;
+            for (int j = 0; j < m; j++) {
+                double vRe = xRe[rowI + j], vIm = xIm[rowI + j];
+                xRe[rowI + j] = Math.fma(vRe, invRe, -vIm * invIm);
+                xIm[rowI + j] = Math.fma(vRe, invIm, vIm * invRe);
+            }
+        }
+
+        return new CMatrix(xRe, xIm, n, m);
+    }
+
+    // x[target..target+m) -= f * x[source..source+m)
+    private static void subtractScaledRow(double[] xRe, double[] xIm, int target, int source, int m,
+                                          double fRe, double fIm) {
+        for (int j = 0; j < m; j++) {
+            double vRe = xRe[source + j], vIm = xIm[source + j];
+            xRe[target + j] -= Math.fma(fRe, vRe, -fIm * vIm);
+            xIm[target + j] -= Math.fma(fRe, vIm, fIm * vRe);
+        }
+    }
+
+    // Solves X A = B (right division B / A) without forming the inverse
+    public CMatrix solveLeft(CMatrix b) {
+        if (b == null || b.isMatrixNull()) {
+            throw new IllegalArgumentException("Matrix is empty or null.");
+        }
+        if (b.getColumns() != n) {
+            throw new IllegalArgumentException("Left-hand side must have " + n + " columns.");
+        }
+        this.requireNonSingular();
+
+        // Each row x of X satisfies A^T x = b, and A^T = U^T L^T P (plain transpose, no conjugation)
+        int rows = b.getRows();
+        double[] xRe = new double[rows * n], xIm = new double[rows * n];
+        double[] yRe = new double[n], yIm = new double[n];
+        double[] srcRe = b.getRealPlane(), srcIm = b.getImagPlane();
+
+        for (int r = 0; r < rows; r++) {
+            int rowB = b.getOffset() + r * b.getStride();
+
+            // U^T y = b (forward)
+            for (int i = 0; i < n; i++) {
+                double sumRe = srcRe[rowB + i], sumIm = srcIm[rowB + i];
+                for (int k = 0; k < i; k++) {
+                    double uRe = this.re[k * n + i], uIm = this.im[k * n + i];
+                    sumRe -= Math.fma(uRe, yRe[k], -uIm * yIm[k]);
+                    sumIm -= Math.fma(uRe, yIm[k], uIm * yRe[k]);
+                }
+                double dRe = this.re[i * n + i], dIm = this.im[i * n + i];
+                double dMod = dRe * dRe + dIm * dIm;
+                yRe[i] = (sumRe * dRe + sumIm * dIm) / dMod;
+                yIm[i] = (sumIm * dRe - sumRe * dIm) / dMod;
+            }
+
+            // L^T z = y (backward, unit diagonal), z overwrites y
+            for (int i = n - 1; i >= 0; i--) {
+                double sumRe = yRe[i], sumIm = yIm[i];
+                for (int k = i + 1; k < n; k++) {
+                    double lRe = this.re[k * n + i], lIm = this.im[k * n + i];
+                    sumRe -= Math.fma(lRe, yRe[k], -lIm * yIm[k]);
+                    sumIm -= Math.fma(lRe, yIm[k], lIm * yRe[k]);
+                }
+                yRe[i] = sumRe;
+                yIm[i] = sumIm;
+            }
+
+            // x = P^T z
+            int rowX = r * n;
+            for (int i = 0; i < n; i++) {
+                xRe[rowX + this.pivot[i]] = yRe[i];
+                xIm[rowX + this.pivot[i]] = yIm[i];
+            }
+        }
+
+        return new CMatrix(xRe, xIm, rows, n);
+    }
+
+    @Override
+    public CMatrix getInverse() {
+        return this.solve(CMatrixMath.identityMatrix(n));
+    }
+
+    // adj(A) in O(n^3): det(A) * A^-1 when A is nonsingular, otherwise the rank-deficient path below
+    public CMatrix getAdjugate() {
+        if (!this.singular) {
+            return this.getInverse().constProduct(this.getDeterminant());
+        }
+
+        // Rebuild A = P^T L U; this only happens for singular input
+        CMatrix l = this.getL(), u = this.getU();
+        double[] paRe = new double[n * n], paIm = new double[n * n];
+        CMatrixKernel.gemm(n, n, n, l.getRealPlane(), l.getImagPlane(), 0, n,
+                u.getRealPlane(), u.getImagPlane(), 0, n, paRe, paIm, 0, n);
+        double[] aRe = new double[n * n], aIm = new double[n * n];
+        for (int i = 0; i < n; i++) {
+            System.arraycopy(paRe, i * n, aRe, this.pivot[i] * n, n);
+            System.arraycopy(paIm, i * n, aIm, this.pivot[i] * n, n);
+        }
+        return rankDeficientAdjugate(aRe, aIm, n);
+    }
+
+    // Complete-pivoting elimination P A Q = L U reveals the rank: rank <= n-2 gives adj(A) = 0, and
+    // rank n-1 gives the rank-one adj(A) = sign(P) sign(Q) c (Q x)(e_n^T L^-1 P), where U x = 0 with
+    // x_n = 1 and c is the product of the n-1 nonzero pivots. The input planes are overwritten.
+    private static CMatrix rankDeficientAdjugate(double[] aRe, double[] aIm, int n) {
+        int[] rowPerm = new int[n], colPerm = new int[n];
+        for (int i = 0; i < n; i++) {
+            rowPerm[i] = i;
+            colPerm[i] = i;
+        }
+        int sign = 1;
+        int rank = n;
+
+        for (int k = 0; k < n; k++) {
+            int pivotRow = k, pivotCol = k;
+            double max = 0.0;
+            for (int i = k; i < n; i++) {
+                for (int j = k; j < n; j++) {
+                    double candidate = modSquared(aRe[i * n + j], aIm[i * n + j]);
+                    if (candidate > max) {
+                        max = candidate;
+                        pivotRow = i;
+                        pivotCol = j;
+                    }
+                }
+            }
+            if (Math.sqrt(max) < Complex.EPSILON) {
+                rank = k;
+                break;
+            }
+
+            if (pivotRow != k) {
+                int a = k * n, b = pivotRow * n;
+                for (int j = 0; j < n; j++) {
+                    double temp = aRe[a + j];
+                    aRe[a + j] = aRe[b + j];
+                    aRe[b + j] = temp;
+                    temp = aIm[a + j];
+                    aIm[a + j] = aIm[b + j];
+                    aIm[b + j] = temp;
+                }
+                int temp = rowPerm[k];
+                rowPerm[k] = rowPerm[pivotRow];
+                rowPerm[pivotRow] = temp;
+                sign = -sign;
+            }
+            if (pivotCol != k) {
+                for (int i = 0; i < n; i++) {
+                    int a = i * n + k, b = i * n + pivotCol;
+                    double temp = aRe[a];
+                    aRe[a] = aRe[b];
+                    aRe[b] = temp;
+                    temp = aIm[a];
+                    aIm[a] = aIm[b];
+                    aIm[b] = temp;
+                }
+                int temp = colPerm[k];
+                colPerm[k] = colPerm[pivotCol];
+                colPerm[pivotCol] = temp;
+                sign = -sign;
+            }
+
+            int rowK = k * n;
+            double pRe = aRe[rowK + k], pIm = aIm[rowK + k];
+            double pMod = pRe * pRe + pIm * pIm;
+            double invRe = pRe / pMod, invIm = -pIm / pMod;
+            for (int i = k + 1; i < n; i++) {
+                int rowI = i * n;
+                double xRe = aRe[rowI + k], xIm = aIm[rowI + k];
+                double fRe = Math.fma(xRe, invRe, -xIm * invIm);
+                double fIm = Math.fma(xRe, invIm, xIm * invRe);
+                aRe[rowI + k] = fRe;
+                aIm[rowI + k] = fIm;
+                if (fRe == 0.0 && fIm == 0.0) continue;
+                for (int j = k + 1; j < n; j++) {
+                    double uRe = aRe[rowK + j], uIm = aIm[rowK + j];
+                    aRe[rowI + j] -= Math.fma(fRe, uRe, -fIm * uIm);
+                    aIm[rowI + j] -= Math.fma(fRe, uIm, fIm * uRe);
+                }
+            }
+        }
+
+        double[] adjRe = new double[n * n], adjIm = new double[n * n];
+        if (rank < n - 1) {
+            return new CMatrix(adjRe, adjIm, n, n);
+        }
+
+        // U x = 0 with x_n = 1, and c = sign * product of the nonzero pivots
+        double[] xRe = new double[n], xIm = new double[n];
+        xRe[n - 1] = 1.0;
+        double cRe = sign, cIm = 0.0;
+        for (int i = n - 2; i >= 0; i--) {
+            double sumRe = 0.0, sumIm = 0.0;
+            for (int j = i + 1; j < n; j++) {
+                double uRe = aRe[i * n + j], uIm = aIm[i * n + j];
+                sumRe += Math.fma(uRe, xRe[j], -uIm * xIm[j]);
+                sumIm += Math.fma(uRe, xIm[j], uIm * xRe[j]);
+            }
+            double dRe = aRe[i * n + i], dIm = aIm[i * n + i];
+            double dMod = dRe * dRe + dIm * dIm;
+            xRe[i] = -(sumRe * dRe + sumIm * dIm) / dMod;
+            xIm[i] = -(sumIm * dRe - sumRe * dIm) / dMod;
+
+            double t = Math.fma(cRe, dRe, -cIm * dIm);
+            cIm = Math.fma(cRe, dIm, cIm * dRe);
+            cRe = t;
+        }
+
+        // L^T w = e_n (unit upper triangular)
+        double[] wRe = new double[n], wIm = new double[n];
+        wRe[n - 1] = 1.0;
+        for (int i = n - 2; i >= 0; i--) {
+            double sumRe = 0.0, sumIm = 0.0;
+            for (int j = i + 1; j < n; j++) {
+                double lRe = aRe[j * n + i], lIm = aIm[j * n + i];
+                sumRe += Math.fma(lRe, wRe[j], -lIm * wIm[j]);
+                sumIm += Math.fma(lRe, wIm[j], lIm * wRe[j]);
+            }
+            wRe[i] = -sumRe;
+            wIm[i] = -sumIm;
+        }
+
+        // u = Q x, v = w^T P, adj(A) = c * u v^T
+        double[] uRe = new double[n], uIm = new double[n], vRe = new double[n], vIm = new double[n];
+        for (int i = 0; i < n; i++) {
+            uRe[colPerm[i]] = xRe[i];
+            uIm[colPerm[i]] = xIm[i];
+            vRe[rowPerm[i]] = wRe[i];
+            vIm[rowPerm[i]] = wIm[i];
+        }
+        for (int r = 0; r < n; r++) {
+            double sRe = Math.fma(cRe, uRe[r], -cIm * uIm[r]);
+            double sIm = Math.fma(cRe, uIm[r], cIm * uRe[r]);
+            for (int col = 0; col < n; col++) {
+                adjRe[r * n + col] = Math.fma(sRe, vRe[col], -sIm * vIm[col]);
+                adjIm[r * n + col] = Math.fma(sRe, vIm[col], sIm * vRe[col]);
+            }
+        }
+        return new CMatrix(adjRe, adjIm, n, n);
+    }
+}
@@ -1,11 +1,23 @@
 package Matrix.ComplexMatrix;
 import Complex.*;
 import IO.IO;
+import Matrix.MatrixExecutionContext;
+import Matrix.MatrixStructure;
+import Random.RandomFill;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
 
 public class CMatrix extends Complex{
 
     private final int rows, cols;
-    private Complex[][] matrix;
+
+    // Split real/imaginary planes, row-major: element (i, j) is re[k] + i*im[k] with k = offset + i * stride + j
+    private final double[] re, im;
+    private final int offset, stride;
+
+    // Relative gap isHermitian() accepts between a_ji and conj(a_ij): a few ulps of rounding per entry
+    private static final double HERMITIAN_TOLERANCE = 16 * Math.ulp(1.0);
 
     public CMatrix(Complex[][] matrix){
         if (matrix == null || matrix.length == 0 || matrix[0].length == 0) {
@@ -14,11 +26,16 @@ public class CMatrix extends Complex{
 
         this.rows = matrix.length;
         this.cols = matrix[0].length;
-        this.matrix = new Complex[this.rows][this.cols];
+        this.offset = 0;
+        this.stride = this.cols;
+        this.re = new double[denseLength(this.rows, this.cols)];
+        this.im = new double[denseLength(this.rows, this.cols)];
 
         for (int i = 0; i < rows; i++) {
             for (int j = 0; j < cols; j++) {
-                this.matrix[i][j] = new Complex(matrix[i][j]); // Deep Copy
+                Complex element = matrix[i][j];
+                this.re[i * cols + j] = element.getReal(); // Deep Copy
+                this.im[i * cols + j] = element.getImag();
             }
         }
     }
@@ -29,7 +46,47 @@ public class CMatrix extends Complex{
         if(isRowColLessThanUnit()){
             throw new ArithmeticException("Error: Rows/Columns must be greater than or equal to 1");
         }
-        this.matrix = new Complex[this.rows][this.cols];
+        this.offset = 0;
+        this.stride = cols;
+        this.re = new double[denseLength(this.rows, this.cols)];
+        this.im = new double[denseLength(this.rows, this.cols)];
+    }
+
+    // Wraps existing row-major planes without copying; the matrix shares storage with the caller
+    public CMatrix(double[] re, double[] im, int offset, int stride, int rows, int cols){
+        if (re == null || im == null) {
+            throw new IllegalArgumentException("Matrix is empty or null.");
+        }
+        this.rows = rows;
+        this.cols = cols;
+        if(isRowColLessThanUnit()){
+            throw new ArithmeticException("Error: Rows/Columns must be greater than or equal to 1");
+        }
+        long end = (long) offset + (long) (rows - 1) * stride + cols;
+        if (offset < 0 || stride < cols || end > re.length || end > im.length) {
+            throw new IllegalArgumentException("Offset/stride do not fit inside the backing arrays.");
+        }
+        this.re = re;
+        this.im = im;
+        this.offset = offset;
+        this.stride = stride;
+    }
+
+    // Wraps dense row-major planes of exactly rows * cols elements
+    public CMatrix(double[] re, double[] im, int rows, int cols){
+        this(re, im, 0, cols, rows, cols);
+    }
+
+    private int index(int row, int col){
+        return this.offset + row * this.stride + col;
+    }
+
+    // rows * cols as a plane length; the int product would wrap silently past Integer.MAX_VALUE
+    private static int denseLength(int rows, int cols) {
+        if ((long) rows * cols > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Matrix is too large to store densely.");
+        }
+        return rows * cols;
     }
 
     private boolean isRowColLessThanUnit(){
@@ -41,7 +98,16 @@ public class CMatrix extends Complex{
     }
 
     private boolean rowColExceeded(int row, int col){
-        return row > this.rows || col > this.cols;
+        return row >= this.rows || col >= this.cols;
+    }
+
+    private void checkIndex(int row, int col){
+        if(row < 0 || col < 0){
+            throw new ArithmeticException("Error: Row/Column must be greater than or equal to 1");
+        }
+        else if(this.rowColExceeded(row, col)){
+            throw new ArithmeticException("Error: Row/Column must not be greater than the matrix dimensions");
+        }
     }
 
     public static int setRow(){
@@ -61,32 +127,81 @@ public class CMatrix extends Complex{
     }
 
     public boolean isMatrixNull(){
-        return this.matrix == null || this.matrix.length == 0 || this.matrix[0].length == 0;
+        return this.re == null || this.im == null || this.re.length == 0;
     }
 
+    // Raw real plane, shared with this matrix (see getOffset/getStride for the layout)
+    public double[] getRealPlane(){
+        return this.re;
+    }
+
+    // Raw imaginary plane, shared with this matrix (see getOffset/getStride for the layout)
+    public double[] getImagPlane(){
+        return this.im;
+    }
+
+    public int getOffset(){
+        return this.offset;
+    }
+
+    public int getStride(){
+        return this.stride;
+    }
+
+    // True when the elements occupy [0 .. rows*cols) of both planes with no padding between rows
+    public boolean isContiguous(){
+        return this.offset == 0 && this.stride == this.cols;
+    }
+
+    // Copies the elements out into a freshly allocated Complex[][]
     public Complex[][] getMatrix(){
-        return this.matrix;
+        Complex[][] copy = new Complex[this.rows][this.cols];
+        for (int i = 0; i < this.rows; i++) {
+            int base = this.index(i, 0);
+            for (int j = 0; j < this.cols; j++) {
+                copy[i][j] = new Complex(this.re[base + j], this.im[base + j]);
+            }
+        }
+        return copy;
     }
 
-    public void setElement(int row, int col, Complex element){
-        if(row < 0 || col < 0){
-            throw new ArithmeticException("Error: Row/Column must be greater than or equal to 1");
+    // Returns a view of the given block that shares storage with this matrix
+    public CMatrix getSubMatrixView(int rowStart, int colStart, int rows, int cols){
+        if (rowStart < 0 || colStart < 0 || rowStart + rows > this.rows || colStart + cols > this.cols) {
+            throw new IllegalArgumentException("Sub-matrix exceeds the matrix dimensions.");
         }
-        else if(this.rowColExceeded(row, col)){
-            throw new ArithmeticException("Error: Row/Column must not be greater than the matrix dimensions");
+        return new CMatrix(this.re, this.im, this.index(rowStart, colStart), this.stride, rows, cols);
+    }
+
+    public void setElement(int row, int col, Complex element){
+        if (element == null) {
+            throw new IllegalArgumentException("Element is null.");
         }
+        this.setElement(row, col, element.getReal(), element.getImag());
+    }
 
-        this.matrix[row][col] = element;
+    public void setElement(int row, int col, double real, double imag){
+        this.checkIndex(row, col);
+        int k = this.index(row, col);
+        this.re[k] = real;
+        this.im[k] = imag;
     }
 
+    // Returns a new Complex holding a copy of the element
     public Complex getElement(int row, int col){
-        if(row < 0 || col < 0){
-            throw new ArithmeticException("Error: Row/Column must be greater than or equal to 1");
-        }
-        else if(this.rowColExceeded(row, col)){
-            throw new ArithmeticException("Error: Row/Column must not be greater than the matrix dimensions");
-        }
-        return this.matrix[row][col];
+        this.checkIndex(row, col);
+        int k = this.index(row, col);
+        return new Complex(this.re[k], this.im[k]);
+    }
+
+    public double getReal(int row, int col){
+        this.checkIndex(row, col);
+        return this.re[this.index(row, col)];
+    }
+
+    public double getImag(int row, int col){
+        this.checkIndex(row, col);
+        return this.im[this.index(row, col)];
     }
 
     public void inputMatrix(){
@@ -103,15 +218,60 @@ public class CMatrix extends Complex{
 
         for(int i=0; i<this.rows; i++){
             for (int j=0; j<this.cols; j++){
-                this.matrix[i][j] = Complex.inputComplex("Enter value(" + (i + 1) + ", " + (j + 1) + "): ");
+                this.setElement(i, j, Complex.inputComplex("Enter value(" + (i + 1) + ", " + (j + 1) + "): "));
             }
         }
     }
 
+    public void fillRandom(boolean useInteger, double minRe, double maxRe, double minIm, double maxIm) {
+        this.fillRandom(useInteger, minRe, maxRe, minIm, maxIm, ThreadLocalRandom.current().nextLong(),
+                MatrixExecutionContext.serial());
+    }
+
+    // Real parts in [minRe, maxRe) and imaginary parts in [minIm, maxIm), or integers in the closed ranges.
+    // Like RMatrix.fillRandom, the result depends on the seed alone and not on the pool.
+    public void fillRandom(boolean useInteger, double minRe, double maxRe, double minIm, double maxIm,
+                           long seed, MatrixExecutionContext context) {
+        ForkJoinPool pool = this.fillPool(context);
+        if (useInteger) {
+            RandomFill.fillUniformInt(this.re, this.im, this.offset, this.stride, this.rows, this.cols,
+                    (int) minRe, (int) maxRe, (int) minIm, (int) maxIm, seed, pool);
+        } else {
+            RandomFill.fillUniform(this.re, this.im, this.offset, this.stride, this.rows, this.cols,
+                    minRe, maxRe, minIm, maxIm, seed, pool);
+        }
+    }
+
+    // Circularly symmetric complex normal entries with E|z|² = sigma²
+    public void fillGaussian(double sigma, long seed, MatrixExecutionContext context) {
+        RandomFill.fillGaussian(this.re, this.im, this.offset, this.stride, this.rows, this.cols,
+                sigma, seed, this.fillPool(context));
+    }
+
+    // Entries uniform on the disk |z| <= radius
+    public void fillDisk(double radius, long seed, MatrixExecutionContext context) {
+        RandomFill.fillDisk(this.re, this.im, this.offset, this.stride, this.rows, this.cols,
+                radius, seed, this.fillPool(context));
+    }
+
+    // Entries uniform on the annulus inner <= |z| <= outer
+    public void fillAnnulus(double inner, double outer, long seed, MatrixExecutionContext context) {
+        RandomFill.fillAnnulus(this.re, this.im, this.offset, this.stride, this.rows, this.cols,
+                inner, outer, seed, this.fillPool(context));
+    }
+
+    private ForkJoinPool fillPool(MatrixExecutionContext context) {
+        if (context == null) {
+            throw new IllegalArgumentException("Execution context is null.");
+        }
+        return context.shouldParallelize((long) this.rows * this.cols) ? context.getPool() : null;
+    }
+
     public boolean isMatrixZero() {
-        for (Complex[] row : this.matrix) {
-            for (Complex element : row) {
-                if (!element.isZero()) {
+        for (int i = 0; i < this.rows; i++) {
+            int base = this.index(i, 0);
+            for (int j = 0; j < this.cols; j++) {
+                if (Math.abs(this.re[base + j]) >= EPSILON || Math.abs(this.im[base + j]) >= EPSILON) {
                     return false;
                 }
             }
@@ -119,11 +279,11 @@ public class CMatrix extends Complex{
         return true;
     }
 
-    private static int computeMaxWidth(Complex[][] matrix, int precision) {
+    private int computeMaxWidth(int precision) {
         int maxWidth = 0;
-        for (Complex[] row : matrix) {
-            for (Complex num : row) {
-                String formatted = formatComplex(num, precision);
+        for (int i = 0; i < this.rows; i++) {
+            for (int j = 0; j < this.cols; j++) {
+                String formatted = formatComplex(this.getElement(i, j), precision);
                 if (formatted.length() > maxWidth) {
                     maxWidth = formatted.length();
                 }
@@ -137,11 +297,11 @@ public class CMatrix extends Complex{
         if (this.isMatrixNull()) {
             throw new IllegalArgumentException("Matrix is empty or null.");
         }
-        int columnWidth = computeMaxWidth(matrix, precision) + 3; // Add padding
+        int columnWidth = computeMaxWidth(precision) + 3; // Add padding
 
-        for (Complex[] row : matrix) {
-            for (Complex num : row) {
-                System.out.printf("%-" + columnWidth + "s", formatComplex(num, precision));
+        for (int i = 0; i < this.rows; i++) {
+            for (int j = 0; j < this.cols; j++) {
+                System.out.printf("%-" + columnWidth + "s", formatComplex(this.getElement(i, j), precision));
             }
             System.out.println();
         }
@@ -156,32 +316,34 @@ public class CMatrix extends Complex{
             throw new IllegalArgumentException("Matrix is empty or null.");
         }
 
-        int rows = this.matrix.length;
-        int cols = this.matrix[0].length;
-        Complex[][] copy = new Complex[rows][cols];
+        double[] copyRe = new double[denseLength(this.rows, this.cols)];
+        double[] copyIm = new double[denseLength(this.rows, this.cols)];
 
-        for (int i = 0; i < rows; i++) {
-            for (int j = 0; j < cols; j++) {
-                copy[i][j] = new Complex(this.matrix[i][j]); // Deep Copy
-            }
+        for (int i = 0; i < this.rows; i++) {
+            // Deep Copy
+            System.arraycopy(this.re, this.index(i, 0), copyRe, i * this.cols, this.cols);
+            System.arraycopy(this.im, this.index(i, 0), copyIm, i * this.cols, this.cols);
         }
-        return new CMatrix(copy);
+        return new CMatrix(copyRe, copyIm, this.rows, this.cols);
     }
 
     public CMatrix getTranspose(){
         if(this.isMatrixNull()){
             throw new IllegalArgumentException("Matrix is empty or null.");
         }
-        int row = this.matrix.length;
-        int column = this.matrix[0].length;
+        int row = this.rows;
+        int column = this.cols;
 
-        Complex[][] transpose = new Complex[column][row];
+        double[] transRe = new double[denseLength(column, row)];
+        double[] transIm = new double[denseLength(column, row)];
         for(int i=0; i<row; i++){
+            int base = this.index(i, 0);
             for(int j=0; j<column; j++){
-                transpose[j][i] = this.matrix[i][j];
+                transRe[j * row + i] = this.re[base + j];
+                transIm[j * row + i] = this.im[base + j];
             }
         }
-        return new CMatrix(transpose);
+        return new CMatrix(transRe, transIm, column, row);
     }
 
     public CMatrix constProduct(Complex element) {
@@ -190,32 +352,37 @@ public class CMatrix extends Complex{
             throw new IllegalArgumentException("Matrix is empty or null.");
         }
 
-        int rows = this.matrix.length;
-        int cols = this.matrix[0].length;
-        Complex[][] result = new Complex[rows][cols];
+        double c = element.getReal(), d = element.getImag();
+        double[] resultRe = new double[denseLength(this.rows, this.cols)];
+        double[] resultIm = new double[denseLength(this.rows, this.cols)];
 
-        for (int i = 0; i < rows; i++) {
-            for (int j = 0; j < cols; j++) {
-                result[i][j] = ComplexMath.multiply(element, this.matrix[i][j]);
+        for (int i = 0; i < this.rows; i++) {
+            int base = this.index(i, 0);
+            int out = i * this.cols;
+            for (int j = 0; j < this.cols; j++) {
+                double a = this.re[base + j], b = this.im[base + j];
+                resultRe[out + j] = Math.fma(c, a, -d * b);
+                resultIm[out + j] = Math.fma(c, b, d * a);
             }
         }
-        return new CMatrix(result);
+        return new CMatrix(resultRe, resultIm, this.rows, this.cols);
     }
 
     public Complex getTrace() {
         if (this.isMatrixNull()) {
             throw new IllegalArgumentException("Matrix is empty or null.");
         }
-        if (this.matrix.length != this.matrix[0].length) {
+        if (this.rows != this.cols) {
             throw new IllegalArgumentException("Trace does not exist because the matrix is not square.");
         }
 
-        Complex traceSum = Complex.ZERO; // Assuming Complex.ZERO exists
+        double traceRe = 0.0, traceIm = 0.0;
 
-        for (int i = 0; i < this.matrix.length; i++) {
-            traceSum = ComplexMath.add(traceSum, this.matrix[i][i]); // Summing diagonal elements
+        for (int i = 0; i < this.rows; i++) {
+            traceRe += this.re[this.index(i, i)]; // Summing diagonal elements
+            traceIm += this.im[this.index(i, i)];
         }
-        return traceSum;
+        return new Complex(traceRe, traceIm);
     }
 
     public CMatrix getCofactor(int elrow, int elcol) {
@@ -223,7 +390,7 @@ public class CMatrix extends Complex{
             throw new IllegalArgumentException("Matrix is empty or null.");
         }
 
-        int n = this.matrix.length;
+        int n = this.rows;
         if (n == 1) {
             throw new IllegalArgumentException("Cofactor does not exist for a 1×1 matrix.");
         }
@@ -237,159 +404,219 @@ public class CMatrix extends Complex{
         elrow -= 1;
         elcol -= 1;
 
-        Complex[][] cofactor = new Complex[n - 1][n - 1];
+        double[] cofactorRe = new double[(n - 1) * (n - 1)];
+        double[] cofactorIm = new double[(n - 1) * (n - 1)];
 
-        int cofactorRow = 0;
+        int pos = 0;
         for (int i = 0; i < n; i++) {
             if (i == elrow) continue; // Skip the given row
 
-            int cofactorCol = 0;
+            int base = this.index(i, 0);
             for (int j = 0; j < n; j++) {
                 if (j == elcol) continue; // Skip the given column
 
-                // Use the copy constructor to avoid reference issues
-                cofactor[cofactorRow][cofactorCol++] = new Complex(this.matrix[i][j]);
+                cofactorRe[pos] = this.re[base + j];
+                cofactorIm[pos++] = this.im[base + j];
             }
-            cofactorRow++;
         }
-        return new CMatrix(cofactor);
+        return new CMatrix(cofactorRe, cofactorIm, n - 1, n - 1);
     }
 
-    public Complex getDeterminant() {
-        int n = this.matrix.length;
-
-        if (this.matrix.length != this.matrix[0].length) {
-            throw new IllegalArgumentException("Determinant does not exist because the matrix is not square.");
+    // Factors the matrix once (PA = LU) so several solves, the determinant and the inverse can share it
+    public CLUDecomposition getLUDecomposition() {
+        if (this.isMatrixNull()) {
+            throw new IllegalArgumentException("Matrix is empty or null.");
         }
+        return new CLUDecomposition(this);
+    }
 
-        // Create copies of matrix for LU decomposition
-        Complex[][] U = new Complex[n][n];
-        Complex[][] L = new Complex[n][n];
+    // A = Q R by Householder reflections, for any matrix with at least as many rows as columns
+    public CQRDecomposition getQRDecomposition() {
+        return this.getQRDecomposition(MatrixExecutionContext.serial());
+    }
 
-        // Initialize U as a copy of the input matrix and L as the identity matrix
-        for (int i = 0; i < n; i++) {
-            for (int j = 0; j < n; j++) {
-                U[i][j] = new Complex(this.matrix[i][j]); // Copy matrix elements
-                L[i][j] = (i == j) ? Complex.ONE : new Complex(); // Identity matrix
-            }
+    public CQRDecomposition getQRDecomposition(MatrixExecutionContext context) {
+        if (this.isMatrixNull()) {
+            throw new IllegalArgumentException("Matrix is empty or null.");
         }
+        return new CQRDecomposition(this, context);
+    }
 
-        // LU Decomposition using Gaussian elimination
-        for (int k = 0; k < n; k++) {
-            if (U[k][k].isZero()) {
-                return Complex.ZERO;
-            }
+    // The X minimising ||A X - B|| for a tall A, through QR so the normal equations are never formed
+    public CMatrix solveLeastSquares(CMatrix b) {
+        return this.getQRDecomposition().solve(b);
+    }
 
-            for (int i = k + 1; i < n; i++) {
-                L[i][k] = ComplexMath.divide(U[i][k], U[k][k]); // Compute L
+    // A = L L^H for a Hermitian positive definite matrix; only the lower triangle is read
+    public CCholeskyDecomposition getCholeskyDecomposition() {
+        return this.getCholeskyDecomposition(MatrixExecutionContext.serial());
+    }
 
-                for (int j = k; j < n; j++) {
-                    U[i][j] = ComplexMath.subtract(U[i][j], ComplexMath.multiply(L[i][k], U[k][j])); // Update U
-                }
-            }
-        }
-        // Compute determinant as the product of diagonal elements of U
-        Complex determinant = Complex.ONE;
-        for (int i = 0; i < n; i++) {
-            determinant = ComplexMath.multiply(determinant, U[i][i]);
+    // Blocked Cholesky whose panel solves and trailing updates run on the context's pool
+    public CCholeskyDecomposition getCholeskyDecomposition(MatrixExecutionContext context) {
+        if (this.isMatrixNull()) {
+            throw new IllegalArgumentException("Matrix is empty or null.");
         }
-
-        return determinant;
+        return new CCholeskyDecomposition(this, context);
     }
 
-    public CMatrix getAdjoint() {
+    // P A P^T = L D L^H for a Hermitian matrix; only the lower triangle is read
+    public CLDLDecomposition getLDLDecomposition() {
         if (this.isMatrixNull()) {
             throw new IllegalArgumentException("Matrix is empty or null.");
         }
-        int n = this.matrix.length;
-        if (n != this.matrix[0].length) {
-            throw new IllegalArgumentException("Adjoint is only defined for square matrices.");
-        }
+        return new CLDLDecomposition(this);
+    }
+
+    // Eigenvalues alone, which skips forming any unitary factor: real and ascending for a Hermitian matrix,
+    // in Schur order otherwise
+    public Complex[] getEigenvalues() {
+        return this.getEigenDecomposition(false).getEigenvalues();
+    }
 
-        Complex[][] adjoint = new Complex[n][n];
+    public CEigenDecomposition getEigenDecomposition() {
+        return this.getEigenDecomposition(true);
+    }
 
-        // Compute cofactor matrix and store it in transposed form
-        for (int i = 0; i < n; i++) {
-            for (int j = 0; j < n; j++) {
-                // Compute determinant of minor directly without recursion where possible
-                CMatrix cofactor = this.getCofactor(i+1, j+1);
-                Complex determinant = cofactor.getDeterminant();
+    // Hermitian input takes the tridiagonal divide-and-conquer path, anything else Hessenberg + shifted QR
+    public CEigenDecomposition getEigenDecomposition(boolean computeEigenvectors) {
+        if (this.isMatrixNull()) {
+            throw new IllegalArgumentException("Matrix is empty or null.");
+        }
+        return new CEigenDecomposition(this, computeEigenvectors);
+    }
 
-                // Compute adjoint[j][i] (directly storing transposed cofactor)
-                Complex sign = ((i+1 + j+1) % 2 == 0) ? new Complex(1, 0) : new Complex(-1, 0);
-                adjoint[j][i] = ComplexMath.multiply(sign, determinant);
+    // a_ji == conj(a_ij) to within HERMITIAN_TOLERANCE of |a_ij| + |a_ji| + |a_ii| + |a_jj|, and a real
+    // diagonal to within the same of |a_ii|. A product Y Y^H rounds each mirrored pair along a different fma
+    // order and its off-diagonal sums cancel, so the diagonal, which bounds |a_ij| there, carries the scale;
+    // the factorizations read only the lower triangle, so the gap left in the upper one is harmless.
+    public boolean isHermitian() {
+        if (this.rows != this.cols) {
+            return false;
+        }
+        for (int i = 0; i < this.rows; i++) {
+            int base = this.index(i, 0);
+            double diagI = Math.abs(this.re[base + i]) + Math.abs(this.im[base + i]);
+            if (Math.abs(this.im[base + i]) > HERMITIAN_TOLERANCE * diagI) {
+                return false;
+            }
+            for (int j = 0; j < i; j++) {
+                int mirror = this.index(j, i), diagJ = this.index(j, j);
+                double lowRe = this.re[base + j], lowIm = this.im[base + j];
+                double upRe = this.re[mirror], upIm = this.im[mirror];
+                double gap = Math.abs(lowRe - upRe) + Math.abs(lowIm + upIm);
+                double scale = Math.abs(lowRe) + Math.abs(lowIm) + Math.abs(upRe) + Math.abs(upIm) + diagI
+                        + Math.abs(this.re[diagJ]) + Math.abs(this.im[diagJ]);
+                if (!(gap <= HERMITIAN_TOLERANCE * scale)) {
+                    return false;
+                }
             }
         }
+        return true;
+    }
 
-        return new CMatrix(adjoint);
+    // GENERAL unless the matrix is Hermitian by isHermitian(); a Hermitian matrix with a positive diagonal is
+    // tried as positive definite, which costs at most one Cholesky pass when it is not
+    public MatrixStructure detectStructure() {
+        if (!this.isHermitian()) {
+            return MatrixStructure.GENERAL;
+        }
+        for (int i = 0; i < this.rows; i++) {
+            if (!(this.re[this.index(i, i)] > 0.0)) {
+                return MatrixStructure.SYMMETRIC;
+            }
+        }
+        return MatrixStructure.POSITIVE_DEFINITE;
     }
 
-    public CMatrix getInverseMatrix() {
+    // The cheapest factorization the structure allows: Cholesky when POSITIVE_DEFINITE holds, falling back to
+    // LDL^H, which factors any Hermitian matrix, and LU for GENERAL. SYMMETRIC means Hermitian here, and the
+    // hint is trusted, so a matrix passed as Hermitian is factored from its lower triangle.
+    public CDecomposition getDecomposition(MatrixStructure structure) {
         if (this.isMatrixNull()) {
             throw new IllegalArgumentException("Matrix is empty or null.");
         }
+        if (structure == null) {
+            throw new IllegalArgumentException("Matrix structure cannot be null.");
+        }
+        if (this.rows != this.cols) {
+            throw new IllegalArgumentException("Decomposition is only defined for square matrices.");
+        }
+        if (structure == MatrixStructure.POSITIVE_DEFINITE) {
+            CCholeskyDecomposition cholesky = new CCholeskyDecomposition(this);
+            if (cholesky.isPositiveDefinite()) {
+                return cholesky;
+            }
+        }
+        if (structure != MatrixStructure.GENERAL) {
+            return new CLDLDecomposition(this);
+        }
+        return new CLUDecomposition(this);
+    }
 
-        int n = this.matrix.length;
-        if (n != this.matrix[0].length) {
-            throw new IllegalArgumentException("Inverse is only defined for square matrices.");
+    public Complex getDeterminant() {
+        if (this.rows != this.cols) {
+            throw new IllegalArgumentException("Determinant does not exist because the matrix is not square.");
         }
 
-        // Create an augmented matrix [A | I]
-        Complex[][] augmented = new Complex[n][2 * n];
-        for (int i = 0; i < n; i++) {
-            // Copy A
-            System.arraycopy(this.matrix[i], 0, augmented[i], 0, n);
-            for (int j = n; j < 2 * n; j++) {
-                augmented[i][j] = (i == j - n) ? Complex.ONE : Complex.ZERO; // Identity matrix
-            }
+        // Hermitian input takes the Cholesky or LDL^H path at half the flops of LU
+        return this.getDecomposition(this.detectStructure()).getDeterminant();
+    }
+
+    public Complex getDeterminant(MatrixStructure structure) {
+        if (this.rows != this.cols) {
+            throw new IllegalArgumentException("Determinant does not exist because the matrix is not square.");
         }
+        return this.getDecomposition(structure).getDeterminant();
+    }
 
-        // Perform Gaussian elimination to convert [A | I] into [I | A^-1]
-        for (int i = 0; i < n; i++) {
-            // Find the pivot row
-            int pivotRow = i;
-            for (int k = i + 1; k < n; k++) {
-                if (augmented[k][i].getMod() > augmented[pivotRow][i].getMod()) {
-                    pivotRow = k;
-                }
-            }
+    // Solves A X = B, choosing the factorization from detectStructure()
+    public CMatrix solve(CMatrix b) {
+        return this.solve(b, this.detectStructure());
+    }
 
-            // Swap rows if necessary
-            if (i != pivotRow) {
-                Complex[] temp = augmented[i];
-                augmented[i] = augmented[pivotRow];
-                augmented[pivotRow] = temp;
-            }
+    public CMatrix solve(CMatrix b, MatrixStructure structure) {
+        if (this.rows != this.cols) {
+            throw new IllegalArgumentException("Solve is only defined for square matrices.");
+        }
+        return this.getDecomposition(structure).solve(b);
+    }
 
-            // Check if the matrix is singular
-            if (augmented[i][i].equals(Complex.ZERO)) {
-                throw new IllegalArgumentException("Matrix is singular and cannot be inverted.");
-            }
+    public CMatrix getAdjoint() {
+        if (this.isMatrixNull()) {
+            throw new IllegalArgumentException("Matrix is empty or null.");
+        }
+        int n = this.rows;
+        if (n != this.cols) {
+            throw new IllegalArgumentException("Adjoint is only defined for square matrices.");
+        }
 
-            // Normalize the pivot row
-            Complex pivotValue = augmented[i][i];
-            for (int j = 0; j < 2 * n; j++) {
-                augmented[i][j] = ComplexMath.divide(augmented[i][j], pivotValue);
-            }
+        // adj(A) from one LU factorization instead of n^2 cofactor determinants
+        return this.getLUDecomposition().getAdjugate();
+    }
 
-            // Eliminate the other rows
-            for (int k = 0; k < n; k++) {
-                if (k != i) {
-                    Complex factor = augmented[k][i];
-                    for (int j = 0; j < 2 * n; j++) {
-                        augmented[k][j] = ComplexMath.subtract(augmented[k][j], ComplexMath.multiply(factor, augmented[i][j]));
-                    }
-                }
-            }
+    public CMatrix getInverseMatrix() {
+        if (this.isMatrixNull()) {
+            throw new IllegalArgumentException("Matrix is empty or null.");
         }
 
-        // Extract the inverse matrix from [I | A^-1]
-        Complex[][] inverseMatrix = new Complex[n][n];
-        for (int i = 0; i < n; i++) {
-            System.arraycopy(augmented[i], n, inverseMatrix[i], 0, n);
+        if (this.rows != this.cols) {
+            throw new IllegalArgumentException("Inverse is only defined for square matrices.");
+        }
+
+        // A Hermitian matrix inverts from its Cholesky or LDL^H factors in n^3/3 + n^3/3 multiply-adds
+        return this.getDecomposition(this.detectStructure()).getInverse();
+    }
+
+    public CMatrix getInverseMatrix(MatrixStructure structure) {
+        if (this.isMatrixNull()) {
+            throw new IllegalArgumentException("Matrix is empty or null.");
         }
 
-        return new CMatrix(inverseMatrix);
+        if (this.rows != this.cols) {
+            throw new IllegalArgumentException("Inverse is only defined for square matrices.");
+        }
+        return this.getDecomposition(structure).getInverse();
     }
 
-}
\ No newline at end of file
+}
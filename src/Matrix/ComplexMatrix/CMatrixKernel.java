@@ -0,0 +1,181 @@
+package Matrix.ComplexMatrix;
+
+public final class CMatrixKernel {
+
+    private CMatrixKernel() {
+        throw new UnsupportedOperationException("Cannot instantiate CMatrixKernel.");
+    }
+
+    // Register tile: MR x NR complex accumulators (2 doubles each) held in locals across the whole k loop
+    static final int MR = 2;
+    static final int NR = 2;
+
+    // Cache blocking as in RMatrixKernel: an MC x KC panel of A stays in L2 and a KC x NR sliver of B streams
+    // through L1, with both packed per block so the buffers never grow with the operands
+    static final int MC = 64;
+    static final int KC = 256;
+    static final int NC = 1024;
+
+    // Below this many complex multiply-adds packing costs more than it saves
+    private static final long SMALL_PRODUCT = 16L * 16L * 16L;
+
+    // C[m x n] += A[m x k] * B[k x n] on split re/im planes, row-major with explicit offsets and strides.
+    // Every accumulation over a KC slice runs in local doubles and each output cell is written once per slice.
+    public static void gemm(int m, int n, int k,
+                            double[] aRe, double[] aIm, int aOff, int lda,
+                            double[] bRe, double[] bIm, int bOff, int ldb,
+                            double[] cRe, double[] cIm, int cOff, int ldc) {
+        if (m <= 0 || n <= 0 || k <= 0) {
+            return;
+        }
+        if ((long) m * n * k <= SMALL_PRODUCT) {
+            gemmSmall(m, n, k, aRe, aIm, aOff, lda, bRe, bIm, bOff, ldb, cRe, cIm, cOff, ldc);
+            return;
+        }
+
+        // Panels are re/im interleaved: 2 doubles per complex entry
+        int kcMax = Math.min(KC, k);
+        int mcMax = Math.min(MC, roundUp(m, MR));
+        int ncMax = Math.min(NC, roundUp(n, NR));
+        double[] packedA = new double[2 * mcMax * kcMax];
+        double[] packedB = new double[2 * kcMax * ncMax];
+
+        for (int jc = 0; jc < n; jc += NC) {
+            int nc = Math.min(NC, n - jc);
+
+            for (int pc = 0; pc < k; pc += KC) {
+                int kc = Math.min(KC, k - pc);
+                packB(kc, nc, bRe, bIm, bOff + pc * ldb + jc, ldb, packedB);
+
+                for (int ic = 0; ic < m; ic += MC) {
+                    int mc = Math.min(MC, m - ic);
+                    packA(mc, kc, aRe, aIm, aOff + ic * lda + pc, lda, packedA);
+
+                    for (int jr = 0; jr < nc; jr += NR) {
+                        int nr = Math.min(NR, nc - jr);
+                        int bPanel = 2 * jr * kc;
+
+                        for (int ir = 0; ir < mc; ir += MR) {
+                            int mr = Math.min(MR, mc - ir);
+                            int cTile = cOff + (ic + ir) * ldc + jc + jr;
+                            microKernel(kc, packedA, 2 * ir * kc, packedB, bPanel, cRe, cIm, cTile, ldc, mr, nr);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static int roundUp(int value, int multiple) {
+        return (value + multiple - 1) / multiple * multiple;
+    }
+
+    // One dot product per output cell, accumulated in locals, for operands too small to amortise packing
+    private static void gemmSmall(int m, int n, int k,
+                                  double[] aRe, double[] aIm, int aOff, int lda,
+                                  double[] bRe, double[] bIm, int bOff, int ldb,
+                                  double[] cRe, double[] cIm, int cOff, int ldc) {
+        for (int i = 0; i < m; i++) {
+            int rowA = aOff + i * lda;
+            int rowC = cOff + i * ldc;
+            for (int j = 0; j < n; j++) {
+                double sumRe = 0.0, sumIm = 0.0;
+                int idxB = bOff + j;
+                for (int p = 0; p < k; p++) {
+                    double xRe = aRe[rowA + p], xIm = aIm[rowA + p];
+                    double yRe = bRe[idxB], yIm = bIm[idxB];
+                    sumRe = Math.fma(xRe, yRe, Math.fma(-xIm, yIm, sumRe));
+                    sumIm = Math.fma(xRe, yIm, Math.fma(xIm, yRe, sumIm));
+                    idxB += ldb;
+                }
+                cRe[rowC + j] += sumRe;
+                cIm[rowC + j] += sumIm;
+            }
+        }
+    }
+
+    // Packs an mc x kc block of A: panel r holds rows r*MR .. r*MR+MR column by column as (re, im) pairs;
+    // missing rows are zero
+    private static void packA(int mc, int kc, double[] aRe, double[] aIm, int aOff, int lda, double[] packed) {
+        int dst = 0;
+        for (int ir = 0; ir < mc; ir += MR) {
+            int mr = Math.min(MR, mc - ir);
+            int row0 = aOff + ir * lda;
+            int row1 = row0 + lda;
+            for (int p = 0; p < kc; p++) {
+                packed[dst] = aRe[row0 + p];
+                packed[dst + 1] = aIm[row0 + p];
+                if (mr == MR) {
+                    packed[dst + 2] = aRe[row1 + p];
+                    packed[dst + 3] = aIm[row1 + p];
+                } else {
+                    packed[dst + 2] = 0.0;
+                    packed[dst + 3] = 0.0;
+                }
+                dst += 2 * MR;
+            }
+        }
+    }
+
+    // Packs a kc x nc block of B: panel q holds columns q*NR .. q*NR+NR row by row as (re, im) pairs;
+    // missing columns are zero
+    private static void packB(int kc, int nc, double[] bRe, double[] bIm, int bOff, int ldb, double[] packed) {
+        int dst = 0;
+        for (int jr = 0; jr < nc; jr += NR) {
+            int nr = Math.min(NR, nc - jr);
+            for (int p = 0; p < kc; p++) {
+                int src = bOff + p * ldb + jr;
+                packed[dst] = bRe[src];
+                packed[dst + 1] = bIm[src];
+                if (nr == NR) {
+                    packed[dst + 2] = bRe[src + 1];
+                    packed[dst + 3] = bIm[src + 1];
+                } else {
+                    packed[dst + 2] = 0.0;
+                    packed[dst + 3] = 0.0;
+                }
+                dst += 2 * NR;
+            }
+        }
+    }
+
+    // 2x2 complex register tile: (a + ib)(c + id) = (ac - bd) + i(ad + bc), accumulated with FMA
+    private static void microKernel(int kc, double[] pa, int aIdx, double[] pb, int bIdx,
+                                    double[] cRe, double[] cIm, int cIdx, int ldc, int mr, int nr) {
+        double c00r = 0, c00i = 0, c01r = 0, c01i = 0;
+        double c10r = 0, c10i = 0, c11r = 0, c11i = 0;
+
+        for (int p = 0; p < kc; p++) {
+            double a0r = pa[aIdx], a0i = pa[aIdx + 1], a1r = pa[aIdx + 2], a1i = pa[aIdx + 3];
+            double b0r = pb[bIdx], b0i = pb[bIdx + 1], b1r = pb[bIdx + 2], b1i = pb[bIdx + 3];
+
+            c00r = Math.fma(a0r, b0r, Math.fma(-a0i, b0i, c00r));
+            c00i = Math.fma(a0r, b0i, Math.fma(a0i, b0r, c00i));
+            c01r = Math.fma(a0r, b1r, Math.fma(-a0i, b1i, c01r));
+            c01i = Math.fma(a0r, b1i, Math.fma(a0i, b1r, c01i));
+            c10r = Math.fma(a1r, b0r, Math.fma(-a1i, b0i, c10r));
+            c10i = Math.fma(a1r, b0i, Math.fma(a1i, b0r, c10i));
+            c11r = Math.fma(a1r, b1r, Math.fma(-a1i, b1i, c11r));
+            c11i = Math.fma(a1r, b1i, Math.fma(a1i, b1r, c11i));
+
+            aIdx += 2 * MR;
+            bIdx += 2 * NR;
+        }
+
+        cRe[cIdx] += c00r;
+        cIm[cIdx] += c00i;
+        if (nr == NR) {
+            cRe[cIdx + 1] += c01r;
+            cIm[cIdx + 1] += c01i;
+        }
+        if (mr == MR) {
+            int row1 = cIdx + ldc;
+            cRe[row1] += c10r;
+            cIm[row1] += c10i;
+            if (nr == NR) {
+                cRe[row1 + 1] += c11r;
+                cIm[row1 + 1] += c11i;
+            }
+        }
+    }
+}
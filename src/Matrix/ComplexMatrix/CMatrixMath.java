@@ -1,6 +1,8 @@
 package Matrix.ComplexMatrix;
 
-import Complex.*;
+import Matrix.MatrixExecutionContext;
+import Simd.VectorBackend;
+import Simd.VectorBackends;
 
 public final class CMatrixMath {
 
@@ -9,20 +11,14 @@ public final class CMatrixMath {
         throw new UnsupportedOperationException("Cannot instantiate MatrixMath.");
     }
 
+    private static final VectorBackend BACKEND = VectorBackends.get();
+
     public static CMatrix zeroMatrix(int rows, int cols) {
         if (rows <= 0 || cols <= 0) {
             throw new IllegalArgumentException("Matrix dimensions must be positive.");
         }
 
-        Complex[][] zeroMatrix = new Complex[rows][cols];
-
-        for (int i = 0; i < rows; i++) {
-            for (int j = 0; j < cols; j++) {
-                zeroMatrix[i][j] = Complex.ZERO;
-            }
-        }
-
-        return new CMatrix(zeroMatrix);
+        return new CMatrix(rows, cols);
     }
 
     public static CMatrix identityMatrix(int size) {
@@ -30,14 +26,12 @@ public final class CMatrixMath {
             throw new IllegalArgumentException("Matrix size must be positive.");
         }
 
-        Complex[][] identity = new Complex[size][size];
+        double[] identity = new double[size * size];
 
         for (int i = 0; i < size; i++) {
-            for (int j = 0; j < size; j++) {
-                identity[i][j] = (i == j) ? Complex.ONE : new Complex(0, 0);
-            }
+            identity[i * size + i] = 1.0;
         }
-        return new CMatrix(identity);
+        return new CMatrix(identity, new double[size * size], size, size);
     }
 
     public static CMatrix negativeIdentityMatrix(int size) {
@@ -45,14 +39,12 @@ public final class CMatrixMath {
             throw new IllegalArgumentException("Matrix size must be positive.");
         }
 
-        Complex[][] negativeIdentity = new Complex[size][size];
+        double[] negativeIdentity = new double[size * size];
 
         for (int i = 0; i < size; i++) {
-            for (int j = 0; j < size; j++) {
-                negativeIdentity[i][j] = (i == j) ? Complex.NEG_ONE : new Complex(0, 0);
-            }
+            negativeIdentity[i * size + i] = -1.0;
         }
-        return new CMatrix(negativeIdentity);
+        return new CMatrix(negativeIdentity, new double[size * size], size, size);
     }
 
     public static CMatrix add(CMatrix matrix1, CMatrix matrix2) {
@@ -71,15 +63,21 @@ public final class CMatrixMath {
         int rows = matrix1.getRows();
         int cols = matrix1.getColumns();
 
-        Complex[][] sum = new Complex[rows][cols];
+        double[] sumRe = new double[rows * cols];
+        double[] sumIm = new double[rows * cols];
+        double[] aRe = matrix1.getRealPlane(), aIm = matrix1.getImagPlane();
+        double[] bRe = matrix2.getRealPlane(), bIm = matrix2.getImagPlane();
+        int strideA = matrix1.getStride(), strideB = matrix2.getStride();
 
         for (int i = 0; i < rows; i++) {
-            for (int j = 0; j < cols; j++) {
-                sum[i][j] = ComplexMath.add(matrix1.getElement(i, j), matrix2.getElement(i, j));
-            }
+            int rowA = matrix1.getOffset() + i * strideA;
+            int rowB = matrix2.getOffset() + i * strideB;
+            int out = i * cols;
+            BACKEND.add(aRe, rowA, bRe, rowB, sumRe, out, cols);
+            BACKEND.add(aIm, rowA, bIm, rowB, sumIm, out, cols);
         }
 
-        return new CMatrix(sum);
+        return new CMatrix(sumRe, sumIm, rows, cols);
     }
 
     public static CMatrix subtract(CMatrix matrix1, CMatrix matrix2) {
@@ -98,15 +96,21 @@ public final class CMatrixMath {
         int rows = matrix1.getRows();
         int cols = matrix1.getColumns();
 
-        Complex[][] sub = new Complex[rows][cols];
+        double[] subRe = new double[rows * cols];
+        double[] subIm = new double[rows * cols];
+        double[] aRe = matrix1.getRealPlane(), aIm = matrix1.getImagPlane();
+        double[] bRe = matrix2.getRealPlane(), bIm = matrix2.getImagPlane();
+        int strideA = matrix1.getStride(), strideB = matrix2.getStride();
 
         for (int i = 0; i < rows; i++) {
-            for (int j = 0; j < cols; j++) {
-                sub[i][j] = ComplexMath.subtract(matrix1.getElement(i, j), matrix2.getElement(i, j));
-            }
+            int rowA = matrix1.getOffset() + i * strideA;
+            int rowB = matrix2.getOffset() + i * strideB;
+            int out = i * cols;
+            BACKEND.subtract(aRe, rowA, bRe, rowB, subRe, out, cols);
+            BACKEND.subtract(aIm, rowA, bIm, rowB, subIm, out, cols);
         }
 
-        return new CMatrix(sub);
+        return new CMatrix(subRe, subIm, rows, cols);
     }
 
     public static CMatrix product(CMatrix matrix1, CMatrix matrix2) {
@@ -124,22 +128,48 @@ public final class CMatrixMath {
         // Initialize product matrix
         CMatrix product = zeroMatrix(rows, cols);
 
-        // Transpose matrix2 for better memory locality
-        CMatrix matrix2T = matrix2.getTranspose();
-        Complex temp;
+        multiplyTile(matrix1, matrix2, product, 0, rows, 0, cols, common);
+        return product;
+    }
 
-        // Optimized multiplication loop
-        for (int i = 0; i < rows; i++) {
-            for (int j = 0; j < cols; j++) {
-                for (int k = 0; k < common; k++) {
-                    temp = ComplexMath.add(product.getElement(i, j), ComplexMath.multiply(matrix1.getElement(i, k), matrix2T.getElement(j, k)));
-                    product.setElement(i,j, temp);
-                }
-            }
+    // Same as product(), but splits the output into tiles that run on the context's pool
+    public static CMatrix product(CMatrix matrix1, CMatrix matrix2, MatrixExecutionContext context) {
+        if (context == null) {
+            throw new IllegalArgumentException("Execution context is null.");
+        }
+        if (matrix1.isMatrixNull() || matrix2.isMatrixNull()) {
+            throw new IllegalArgumentException("One or both matrices are empty or null.");
+        }
+        if (matrix1.getColumns() != matrix2.getRows()) {
+            throw new IllegalArgumentException("Multiplication not possible: Column count of Matrix 1 must match row count of Matrix 2.");
+        }
+
+        int rows = matrix1.getRows();
+        int cols = matrix2.getColumns();
+        int common = matrix1.getColumns();
+
+        if (!context.shouldParallelize((long) rows * cols * common)) {
+            return product(matrix1, matrix2);
         }
+
+        CMatrix product = zeroMatrix(rows, cols);
+
+        // Each tile owns a disjoint block of the output, so no synchronisation is needed
+        context.forEachTile(rows, cols, (rowStart, rowEnd, colStart, colEnd) ->
+                multiplyTile(matrix1, matrix2, product, rowStart, rowEnd, colStart, colEnd, common));
         return product;
     }
 
+    // product[rowStart..rowEnd)[colStart..colEnd) += matrix1 * matrix2 over that block
+    private static void multiplyTile(CMatrix matrix1, CMatrix matrix2, CMatrix product,
+                                     int rowStart, int rowEnd, int colStart, int colEnd, int common) {
+        int lda = matrix1.getStride(), ldb = matrix2.getStride(), ldc = product.getStride();
+        CMatrixKernel.gemm(rowEnd - rowStart, colEnd - colStart, common,
+                matrix1.getRealPlane(), matrix1.getImagPlane(), matrix1.getOffset() + rowStart * lda, lda,
+                matrix2.getRealPlane(), matrix2.getImagPlane(), matrix2.getOffset() + colStart, ldb,
+                product.getRealPlane(), product.getImagPlane(), product.getOffset() + rowStart * ldc + colStart, ldc);
+    }
+
     public static CMatrix powerInt(CMatrix matrix, int power) {
         if (matrix.isMatrixNull()) {
             throw new IllegalArgumentException("Matrix is empty or null.");
@@ -162,33 +192,15 @@ public final class CMatrixMath {
 
         while (power > 0) {
             if ((power & 1) == 1) { // If power is odd, multiply result with base
-                result = multiplyMatrices(result, base);
+                result = product(result, base);
             }
-            base = multiplyMatrices(base, base); // Square the base
+            base = product(base, base); // Square the base
             power >>= 1; // Equivalent to power = power / 2
         }
 
         return result;
     }
 
-    // Helper method for matrix multiplication
-    private static CMatrix multiplyMatrices(CMatrix A, CMatrix B) {
-        int n = A.getRows();
-        CMatrix result = zeroMatrix(n, n);
-
-        for (int i = 0; i < n; i++) {
-            for (int j = 0; j < n; j++) {
-                Complex sum = new Complex(0, 0);
-                for (int k = 0; k < n; k++) {
-                    sum = ComplexMath.add(sum, ComplexMath.multiply(A.getElement(i, k), B.getElement(k, j)));
-                }
-                result.setElement(i, j, sum);
-            }
-        }
-
-        return result;
-    }
-
     public static CMatrix divide(CMatrix matrix1, CMatrix matrix2) {
 
         if (matrix1.isMatrixNull() || matrix2.isMatrixNull()) {
@@ -201,8 +213,11 @@ public final class CMatrixMath {
             return null;
         }
 
-        CMatrix inverse = matrix2.getInverseMatrix();
-        return product(matrix1, inverse);
+        // X = A / B solves X B = A directly from the LU factors of B, without forming B^-1
+        if (matrix2.getRows() != matrix2.getColumns()) {
+            throw new IllegalArgumentException("Inverse is only defined for square matrices.");
+        }
+        return matrix2.getLUDecomposition().solveLeft(matrix1);
     }
 
 }
@@ -0,0 +1,221 @@
+package Matrix.ComplexMatrix;
+
+import Complex.Complex;
+import Simd.VectorBackend;
+import Simd.VectorBackends;
+
+import java.util.Arrays;
+
+// Kernels on a complex lower triangle packed by rows into split re/im planes: element (i, j), j <= i, lives
+// at row(i) + j. The triangle stands for a Hermitian matrix, so (j, i) is the conjugate of (i, j) and the
+// diagonal is real. Shared by the Hermitian Cholesky and LDL^H factorizations and PackedHermitianCMatrix.
+final class CPackedKernel {
+
+    private CPackedKernel() {
+        throw new UnsupportedOperationException("Cannot instantiate CPackedKernel.");
+    }
+
+    private static final VectorBackend BACKEND = VectorBackends.get();
+
+    // Largest order whose packed triangle, and the dense n x n matrix it unpacks to, fits in one array
+    static final int MAX_SIZE = 46340;
+
+    // i (i + 1) overflows an int from i = 46341, so the product is taken in long
+    static int row(int i) {
+        return (int) ((long) i * (i + 1) / 2);
+    }
+
+    static int length(int n) {
+        return (int) ((long) n * (n + 1) / 2);
+    }
+
+    // Lower triangle of an n x n block, packed by rows into {re, im}; the diagonal is taken as real
+    static double[][] pack(double[] re, double[] im, int offset, int stride, int n) {
+        double[] packedRe = new double[length(n)], packedIm = new double[length(n)];
+        for (int i = 0; i < n; i++) {
+            System.arraycopy(re, offset + i * stride, packedRe, row(i), i + 1);
+            System.arraycopy(im, offset + i * stride, packedIm, row(i), i);
+        }
+        return new double[][]{packedRe, packedIm};
+    }
+
+    // The full Hermitian n x n matrix, row-major, as {re, im}
+    static double[][] unpack(double[] packedRe, double[] packedIm, int n) {
+        double[] re = new double[n * n], im = new double[n * n];
+        for (int i = 0; i < n; i++) {
+            int r = row(i);
+            System.arraycopy(packedRe, r, re, i * n, i + 1);
+            System.arraycopy(packedIm, r, im, i * n, i);
+            for (int j = 0; j < i; j++) {
+                re[j * n + i] = packedRe[r + j];
+                im[j * n + i] = -packedIm[r + j];
+            }
+        }
+        return new double[][]{re, im};
+    }
+
+    // Row-oriented Cholesky in place: l_ij = (a_ij - sum_p l_ip conj(l_jp)) / l_jj over the contiguous
+    // packed rows, with a real positive diagonal. Returns false when the pivot of a row is not positive.
+    static boolean cholesky(double[] re, double[] im, int n) {
+        for (int i = 0; i < n; i++) {
+            int rowI = row(i);
+            for (int j = 0; j < i; j++) {
+                int rowJ = row(j);
+                Complex sum = BACKEND.complexDot(re, im, rowJ, re, im, rowI, j, true);
+                double diagonal = re[rowJ + j];
+                re[rowI + j] = (re[rowI + j] - sum.getReal()) / diagonal;
+                im[rowI + j] = (im[rowI + j] - sum.getImag()) / diagonal;
+            }
+            double pivot = re[rowI + i] - BACKEND.dot(re, rowI, re, rowI, i) - BACKEND.dot(im, rowI, im, rowI, i);
+            if (!(pivot > 0.0)) {
+                return false;
+            }
+            re[rowI + i] = Math.sqrt(pivot);
+            im[rowI + i] = 0.0;
+        }
+        return true;
+    }
+
+    // X = L^-1 X in place for a row-major n x m block X; L has a real diagonal, or a unit one when
+    // unitDiagonal is set
+    static void forwardSubstitute(double[] lRe, double[] lIm, int n, boolean unitDiagonal,
+                                  double[] xRe, double[] xIm, int m) {
+        for (int i = 0; i < n; i++) {
+            int rowL = row(i), rowI = i * m;
+            for (int k = 0; k < i; k++) {
+                double fRe = lRe[rowL + k], fIm = lIm[rowL + k];
+                if (fRe == 0.0 && fIm == 0.0) continue;
+                int rowK = k * m;
+                for (int j = 0; j < m; j++) {
+                    double vRe = xRe[rowK + j], vIm = xIm[rowK + j];
+                    xRe[rowI + j] -= Math.fma(fRe, vRe, -fIm * vIm);
+                    xIm[rowI + j] -= Math.fma(fRe, vIm, fIm * vRe);
+                }
+            }
+            if (!unitDiagonal) {
+                double diagonal = lRe[rowL + i];
+                for (int j = 0; j < m; j++) {
+                    xRe[rowI + j] /= diagonal;
+                    xIm[rowI + j] /= diagonal;
+                }
+            }
+        }
+    }
+
+    // X = L^-H X in place; row i of L scatters conj(l_ik) x_i into the rows above it once x_i is final
+    static void backSubstituteConjugateTranspose(double[] lRe, double[] lIm, int n, boolean unitDiagonal,
+                                                 double[] xRe, double[] xIm, int m) {
+        for (int i = n - 1; i >= 0; i--) {
+            int rowL = row(i), rowI = i * m;
+            if (!unitDiagonal) {
+                double diagonal = lRe[rowL + i];
+                for (int j = 0; j < m; j++) {
+                    xRe[rowI + j] /= diagonal;
+                    xIm[rowI + j] /= diagonal;
+                }
+            }
+            for (int k = 0; k < i; k++) {
+                double fRe = lRe[rowL + k], fIm = -lIm[rowL + k];
+                if (fRe == 0.0 && fIm == 0.0) continue;
+                int rowK = k * m;
+                for (int j = 0; j < m; j++) {
+                    double vRe = xRe[rowI + j], vIm = xIm[rowI + j];
+                    xRe[rowK + j] -= Math.fma(fRe, vRe, -fIm * vIm);
+                    xIm[rowK + j] -= Math.fma(fRe, vIm, fIm * vRe);
+                }
+            }
+        }
+    }
+
+    // L^-1, packed as {re, im}: row i of the inverse is -(l_i0 .. l_i,i-1) times the rows of the inverse
+    // above it, divided by the real l_ii
+    static double[][] invertLower(double[] lRe, double[] lIm, int n, boolean unitDiagonal) {
+        double[] invRe = new double[length(n)], invIm = new double[length(n)];
+        double[] sumRe = new double[n], sumIm = new double[n];
+        for (int i = 0; i < n; i++) {
+            int rowI = row(i);
+            Arrays.fill(sumRe, 0, i, 0.0);
+            Arrays.fill(sumIm, 0, i, 0.0);
+            for (int k = 0; k < i; k++) {
+                double fRe = lRe[rowI + k], fIm = lIm[rowI + k];
+                if (fRe == 0.0 && fIm == 0.0) continue;
+                int rowK = row(k);
+                for (int j = 0; j <= k; j++) {
+                    double vRe = invRe[rowK + j], vIm = invIm[rowK + j];
+                    sumRe[j] += Math.fma(fRe, vRe, -fIm * vIm);
+                    sumIm[j] += Math.fma(fRe, vIm, fIm * vRe);
+                }
+            }
+            double scale = unitDiagonal ? 1.0 : 1.0 / lRe[rowI + i];
+            for (int j = 0; j < i; j++) {
+                invRe[rowI + j] = -sumRe[j] * scale;
+                invIm[rowI + j] = -sumIm[j] * scale;
+            }
+            invRe[rowI + i] = scale;
+        }
+        return new double[][]{invRe, invIm};
+    }
+
+    // Lower triangle of W^H diag(weights) W for a packed lower triangular W, packed as {re, im}, as one
+    // rank-one update of the leading triangle per row of W; weights == null means all ones
+    static double[][] weightedGram(double[] wRe, double[] wIm, double[] weights, int n) {
+        double[] gramRe = new double[length(n)], gramIm = new double[length(n)];
+        for (int k = 0; k < n; k++) {
+            int rowK = row(k);
+            double weight = weights == null ? 1.0 : weights[k];
+            for (int i = 0; i <= k; i++) {
+                double sRe = weight * wRe[rowK + i], sIm = -weight * wIm[rowK + i];
+                if (sRe == 0.0 && sIm == 0.0) continue;
+                int rowI = row(i);
+                for (int j = 0; j <= i; j++) {
+                    double vRe = wRe[rowK + j], vIm = wIm[rowK + j];
+                    gramRe[rowI + j] += Math.fma(sRe, vRe, -sIm * vIm);
+                    gramIm[rowI + j] += Math.fma(sRe, vIm, sIm * vRe);
+                }
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            gramIm[row(i) + i] = 0.0;
+        }
+        return new double[][]{gramRe, gramIm};
+    }
+
+    // Lower triangle of W^H D W for a block diagonal D with real diagonal weights and subdiagonal coupling c:
+    // the diagonal part as above, plus for each nonzero c_k the cross terms conj(w_k+1,i) c_k w_kj and
+    // conj(w_ki) conj(c_k) w_k+1,j of the Hermitian 2 x 2 block that joins rows k and k + 1 of W
+    static double[][] weightedGram(double[] wRe, double[] wIm, double[] weights, double[] couplingRe,
+                                   double[] couplingIm, int n) {
+        double[][] gram = weightedGram(wRe, wIm, weights, n);
+        double[] gramRe = gram[0], gramIm = gram[1];
+        for (int k = 0; k + 1 < n; k++) {
+            double cRe = couplingRe[k], cIm = couplingIm[k];
+            if (cRe == 0.0 && cIm == 0.0) continue;
+            int rowK = row(k), rowK1 = row(k + 1);
+            for (int i = 0; i <= k + 1; i++) {
+                int rowI = row(i);
+                double uRe = wRe[rowK1 + i], uIm = -wIm[rowK1 + i];
+                double sRe = uRe * cRe - uIm * cIm, sIm = uRe * cIm + uIm * cRe;
+                if (sRe != 0.0 || sIm != 0.0) {
+                    for (int j = 0, end = Math.min(i, k); j <= end; j++) {
+                        double vRe = wRe[rowK + j], vIm = wIm[rowK + j];
+                        gramRe[rowI + j] += Math.fma(sRe, vRe, -sIm * vIm);
+                        gramIm[rowI + j] += Math.fma(sRe, vIm, sIm * vRe);
+                    }
+                }
+                if (i > k) continue;
+                double tRe = wRe[rowK + i] * cRe - wIm[rowK + i] * cIm;
+                double tIm = -(wRe[rowK + i] * cIm + wIm[rowK + i] * cRe);
+                if (tRe == 0.0 && tIm == 0.0) continue;
+                for (int j = 0; j <= i; j++) {
+                    double vRe = wRe[rowK1 + j], vIm = wIm[rowK1 + j];
+                    gramRe[rowI + j] += Math.fma(tRe, vRe, -tIm * vIm);
+                    gramIm[rowI + j] += Math.fma(tRe, vIm, tIm * vRe);
+                }
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            gramIm[row(i) + i] = 0.0;
+        }
+        return gram;
+    }
+}
@@ -0,0 +1,323 @@
+package Matrix.ComplexMatrix;
+
+import Complex.Complex;
+import Matrix.MatrixExecutionContext;
+import Simd.VectorBackend;
+import Simd.VectorBackends;
+
+// A = Q R for an m x n complex matrix with m >= n: the counterpart of RQRDecomposition with unitary Q and a
+// real diagonal in R. Q is kept as its reflectors H_j = I - tau_j v_j v_j^H, least-squares solves apply
+// Q^H and read R directly, and the factor is stored transposed on split planes, one column per row.
+public final class CQRDecomposition {
+
+    private static final VectorBackend BACKEND = VectorBackends.get();
+
+    // Reflectors aggregated into one compact WY update of the trailing columns
+    static final int BLOCK = 24;
+
+    // Rows of V handled per GEMM in a WY update, which bounds its scratch at STRIP x BLOCK
+    static final int STRIP = 1024;
+
+    private final int m, n;
+
+    // Column j of the factored A at j * m: R(0 .. j-1, j) above the diagonal slot, the real R(j, j) in it and
+    // the tail of v_j below it, v_j(j) = 1 being implicit
+    private final double[] re, im;
+    private final double[] tauRe, tauIm;
+
+    public CQRDecomposition(CMatrix matrix) {
+        this(matrix, MatrixExecutionContext.serial());
+    }
+
+    // Blocked as in RQRDecomposition, with Q_b^H = I - V T^H V^H applied to the trailing columns through the
+    // complex GEMM kernel
+    public CQRDecomposition(CMatrix matrix, MatrixExecutionContext context) {
+        if (matrix == null || matrix.isMatrixNull()) {
+            throw new IllegalArgumentException("Matrix is empty or null.");
+        }
+        if (matrix.getRows() < matrix.getColumns()) {
+            throw new IllegalArgumentException("QR decomposition requires at least as many rows as columns.");
+        }
+        if (context == null) {
+            throw new IllegalArgumentException("Execution context is null.");
+        }
+
+        this.m = matrix.getRows();
+        this.n = matrix.getColumns();
+        CMatrix transpose = matrix.getTranspose();
+        this.re = transpose.getRealPlane();
+        this.im = transpose.getImagPlane();
+        this.tauRe = new double[n];
+        this.tauIm = new double[n];
+
+        for (int k0 = 0; k0 < n; k0 += BLOCK) {
+            int kb = Math.min(BLOCK, n - k0);
+            this.factorPanel(k0, kb);
+            if (k0 + kb < n) {
+                this.updateTrailing(k0, kb, context);
+            }
+        }
+    }
+
+    // Unblocked Householder QR of columns [k0, k0 + kb), each H_j^H applied to the rest of the panel
+    private void factorPanel(int k0, int kb) {
+        for (int j = k0; j < k0 + kb; j++) {
+            int column = j * m + j, tail = m - j - 1;
+            Complex tau = CHouseholderKernel.generate(this.re, this.im, column, this.re, this.im, column + 1, tail);
+            this.tauRe[j] = tau.getReal();
+            this.tauIm[j] = tau.getImag();
+            for (int c = j + 1; c < k0 + kb; c++) {
+                int target = c * m + j;
+                CHouseholderKernel.apply(this.tauRe[j], -this.tauIm[j], this.re, this.im, column + 1, tail,
+                        this.re, this.im, target, this.re, this.im, target + 1);
+            }
+        }
+    }
+
+    // Columns to the right of the panel: A2 = (I - V T^H V^H) A2, held transposed as
+    // A2^T -= (A2^T conj(V)) conj(T) V^T
+    private void updateTrailing(int k0, int kb, MatrixExecutionContext context) {
+        int mk = m - k0, c0 = k0 + kb, nt = n - c0;
+        double[][] t = this.triangularFactor(k0, kb);
+        double[] tRe = t[0], tIm = t[1];
+        int strips = (mk + STRIP - 1) / STRIP;
+        boolean parallel = strips > 1 && context.shouldParallelize(8L * mk * nt * kb);
+        int a2 = c0 * m + k0;
+
+        // W = A2^T conj(V), summed over row strips of V
+        double[][] partialRe = new double[strips][], partialIm = new double[strips][];
+        MatrixExecutionContext.RangeTask product = (from, to) -> {
+            for (int s = from; s < to; s++) {
+                int r0 = s * STRIP, rows = Math.min(STRIP, mk - r0);
+                double[][] v = this.reflectorStrip(k0, kb, r0, rows, false);
+                double[] wRe = new double[nt * kb], wIm = new double[nt * kb];
+                CMatrixKernel.gemm(nt, kb, rows, this.re, this.im, a2 + r0, m, v[0], v[1], 0, kb, wRe, wIm, 0, kb);
+                partialRe[s] = wRe;
+                partialIm[s] = wIm;
+            }
+        };
+        if (parallel) {
+            context.forEachRange(strips, 1, product);
+        } else {
+            product.compute(0, strips);
+        }
+        double[] wRe = partialRe[0], wIm = partialIm[0];
+        for (int s = 1; s < strips; s++) {
+            for (int i = 0; i < wRe.length; i++) {
+                wRe[i] += partialRe[s][i];
+                wIm[i] += partialIm[s][i];
+            }
+        }
+
+        // W = -W conj(T), in place from the last column back since T is upper triangular
+        for (int i = 0; i < nt; i++) {
+            int row = i * kb;
+            for (int q = kb - 1; q >= 0; q--) {
+                double sumRe = 0.0, sumIm = 0.0;
+                for (int p = 0; p <= q; p++) {
+                    double aRe = wRe[row + p], aIm = wIm[row + p];
+                    double bRe = tRe[p * kb + q], bIm = -tIm[p * kb + q];
+                    sumRe += Math.fma(aRe, bRe, -aIm * bIm);
+                    sumIm += Math.fma(aRe, bIm, aIm * bRe);
+                }
+                wRe[row + q] = -sumRe;
+                wIm[row + q] = -sumIm;
+            }
+        }
+
+        // A2^T += W V^T, strip by strip
+        MatrixExecutionContext.RangeTask update = (from, to) -> {
+            for (int s = from; s < to; s++) {
+                int r0 = s * STRIP, rows = Math.min(STRIP, mk - r0);
+                double[][] vt = this.reflectorStrip(k0, kb, r0, rows, true);
+                CMatrixKernel.gemm(nt, rows, kb, wRe, wIm, 0, kb, vt[0], vt[1], 0, rows,
+                        this.re, this.im, a2 + r0, m);
+            }
+        };
+        if (parallel) {
+            context.forEachRange(strips, 1, update);
+        } else {
+            update.compute(0, strips);
+        }
+    }
+
+    // Upper triangular T of the compact WY form H_k0 .. H_(k0+kb-1) = I - V T V^H, built a column at a
+    // time: T(0 .. i-1, i) = -tau_i T(0 .. i-1, 0 .. i-1) V^H v_i
+    private double[][] triangularFactor(int k0, int kb) {
+        double[] tRe = new double[kb * kb], tIm = new double[kb * kb];
+        double[] zRe = new double[kb], zIm = new double[kb];
+        for (int i = 0; i < kb; i++) {
+            double tauR = this.tauRe[k0 + i], tauI = this.tauIm[k0 + i];
+            tRe[i * kb + i] = tauR;
+            tIm[i * kb + i] = tauI;
+            if (tauR == 0.0 && tauI == 0.0) continue;
+            int vi = (k0 + i) * m + k0 + i;
+            int tail = m - k0 - i - 1;
+            for (int p = 0; p < i; p++) {
+                int vp = (k0 + p) * m + k0 + i;
+                Complex dot = BACKEND.complexDot(this.re, this.im, vp + 1, this.re, this.im, vi + 1, tail, true);
+                zRe[p] = this.re[vp] + dot.getReal();
+                zIm[p] = -this.im[vp] + dot.getImag();
+            }
+            for (int p = 0; p < i; p++) {
+                double sumRe = 0.0, sumIm = 0.0;
+                for (int q = p; q < i; q++) {
+                    double aRe = tRe[p * kb + q], aIm = tIm[p * kb + q];
+                    sumRe += Math.fma(aRe, zRe[q], -aIm * zIm[q]);
+                    sumIm += Math.fma(aRe, zIm[q], aIm * zRe[q]);
+                }
+                tRe[p * kb + i] = -Math.fma(tauR, sumRe, -tauI * sumIm);
+                tIm[p * kb + i] = -Math.fma(tauR, sumIm, tauI * sumRe);
+            }
+        }
+        return new double[][]{tRe, tIm};
+    }
+
+    // Rows [r0, r0 + rows) of the m - k0 by kb reflector block V, with its unit diagonal and zero upper
+    // triangle made explicit: as its kb x rows transpose when transposed is set, otherwise as the rows x kb
+    // block conj(V)
+    private double[][] reflectorStrip(int k0, int kb, int r0, int rows, boolean transposed) {
+        double[] vtRe = new double[kb * rows], vtIm = new double[kb * rows];
+        for (int p = 0; p < kb; p++) {
+            int from = Math.max(r0, p + 1);
+            if (from < r0 + rows) {
+                int src = (k0 + p) * m + k0 + from, dst = p * rows + from - r0;
+                System.arraycopy(this.re, src, vtRe, dst, r0 + rows - from);
+                System.arraycopy(this.im, src, vtIm, dst, r0 + rows - from);
+            }
+            if (p >= r0 && p < r0 + rows) {
+                vtRe[p * rows + p - r0] = 1.0;
+            }
+        }
+        if (transposed) {
+            return new double[][]{vtRe, vtIm};
+        }
+        double[] vRe = new double[rows * kb], vIm = new double[rows * kb];
+        for (int p = 0; p < kb; p++) {
+            for (int r = 0; r < rows; r++) {
+                vRe[r * kb + p] = vtRe[p * rows + r];
+                vIm[r * kb + p] = -vtIm[p * rows + r];
+            }
+        }
+        return new double[][]{vRe, vIm};
+    }
+
+    public int getRows() {
+        return this.m;
+    }
+
+    public int getColumns() {
+        return this.n;
+    }
+
+    // The n x n upper triangular factor, with a real diagonal
+    public CMatrix getR() {
+        double[] rRe = new double[n * n], rIm = new double[n * n];
+        for (int j = 0; j < n; j++) {
+            for (int i = 0; i <= j; i++) {
+                rRe[i * n + j] = this.re[j * m + i];
+                rIm[i * n + j] = this.im[j * m + i];
+            }
+        }
+        return new CMatrix(rRe, rIm, n, n);
+    }
+
+    // The m x n matrix of orthonormal columns (thin Q), as H_0 .. H_(n-1) applied to the first n columns of I
+    public CMatrix getQ() {
+        double[] qtRe = new double[n * m], qtIm = new double[n * m];
+        for (int j = 0; j < n; j++) {
+            qtRe[j * m + j] = 1.0;
+        }
+        for (int j = n - 1; j >= 0; j--) {
+            int column = j * m + j;
+            for (int c = j; c < n; c++) {
+                int target = c * m + j;
+                CHouseholderKernel.apply(this.tauRe[j], this.tauIm[j], this.re, this.im, column + 1, m - j - 1,
+                        qtRe, qtIm, target, qtRe, qtIm, target + 1);
+            }
+        }
+        return new CMatrix(qtRe, qtIm, n, m).getTranspose();
+    }
+
+    // No diagonal element of R is negligible next to the largest one, so least-squares solutions are unique
+    public boolean isFullRank() {
+        double max = 0.0;
+        for (int j = 0; j < n; j++) {
+            max = Math.max(max, Math.abs(this.re[j * m + j]));
+        }
+        double tolerance = max * m * Math.ulp(1.0);
+        for (int j = 0; j < n; j++) {
+            if (!(Math.abs(this.re[j * m + j]) > tolerance)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void requireFullRank() {
+        if (!this.isFullRank()) {
+            throw new IllegalArgumentException("Matrix is rank deficient; the least-squares solution is not unique.");
+        }
+    }
+
+    private void checkRightHandSide(CMatrix b) {
+        if (b == null || b.isMatrixNull()) {
+            throw new IllegalArgumentException("Matrix is empty or null.");
+        }
+        if (b.getRows() != m) {
+            throw new IllegalArgumentException("Right-hand side must have " + m + " rows.");
+        }
+    }
+
+    // Q^H B for an m-row B, column by column on a transposed copy
+    public CMatrix multiplyQConjugateTranspose(CMatrix b) {
+        this.checkRightHandSide(b);
+        double[][] y = this.applyQConjugateTranspose(b);
+        return new CMatrix(y[0], y[1], b.getColumns(), m).getTranspose();
+    }
+
+    // B transposed into one contiguous row per column, with Q^H applied to each
+    private double[][] applyQConjugateTranspose(CMatrix b) {
+        int k = b.getColumns();
+        CMatrix transpose = b.getTranspose();
+        double[] yRe = transpose.getRealPlane(), yIm = transpose.getImagPlane();
+        for (int j = 0; j < n; j++) {
+            int column = j * m + j;
+            for (int q = 0; q < k; q++) {
+                int target = q * m + j;
+                CHouseholderKernel.apply(this.tauRe[j], -this.tauIm[j], this.re, this.im, column + 1, m - j - 1,
+                        yRe, yIm, target, yRe, yIm, target + 1);
+            }
+        }
+        return new double[][]{yRe, yIm};
+    }
+
+    // Least-squares solution of A X = B for every column of B at once: R X = (Q^H B)(0 .. n-1)
+    public CMatrix solve(CMatrix b) {
+        this.checkRightHandSide(b);
+        this.requireFullRank();
+        int k = b.getColumns();
+        double[][] y = this.applyQConjugateTranspose(b);
+        double[] xRe = new double[n * k], xIm = new double[n * k];
+        for (int q = 0; q < k; q++) {
+            CHouseholderKernel.backSubstitute(this.re, this.im, m, n, y[0], y[1], q * m);
+            for (int i = 0; i < n; i++) {
+                xRe[i * k + q] = y[0][q * m + i];
+                xIm[i * k + q] = y[1][q * m + i];
+            }
+        }
+        return new CMatrix(xRe, xIm, n, k);
+    }
+
+    // ||A X - B||^2 for each column of B, read off the last m - n entries of Q^H B
+    public double[] getResidualSumOfSquares(CMatrix b) {
+        this.checkRightHandSide(b);
+        double[][] y = this.applyQConjugateTranspose(b);
+        double[] residual = new double[b.getColumns()];
+        for (int q = 0; q < residual.length; q++) {
+            double norm = CHouseholderKernel.norm(y[0], y[1], q * m + n, m - n);
+            residual[q] = norm * norm;
+        }
+        return residual;
+    }
+}
@@ -0,0 +1,173 @@
+package Matrix.ComplexMatrix;
+
+import Complex.Complex;
+import Complex.ComplexVector;
+
+// Hermitian matrix holding only its lower triangle, packed by rows into split re/im planes of n(n+1)/2
+// doubles each: element (i, j) with j <= i lives at i * (i + 1) / 2 + j, and (j, i) reads its conjugate.
+// The diagonal is real. Half the memory of a CMatrix, and the Cholesky and LDL^H factorizations work on
+// the packed rows directly.
+public final class PackedHermitianCMatrix {
+
+    private final int n;
+    private final double[] re, im;
+
+    public PackedHermitianCMatrix(int n) {
+        checkSize(n);
+        this.n = n;
+        this.re = new double[CPackedKernel.length(n)];
+        this.im = new double[CPackedKernel.length(n)];
+    }
+
+    // Wraps packed planes without copying; the matrix shares storage with the caller
+    public PackedHermitianCMatrix(double[] re, double[] im, int n) {
+        checkSize(n);
+        int length = CPackedKernel.length(n);
+        if (re == null || im == null || re.length != length || im.length != length) {
+            throw new IllegalArgumentException("Packed planes must hold n(n+1)/2 = " + length + " elements.");
+        }
+        this.n = n;
+        this.re = re;
+        this.im = im;
+    }
+
+    private static void checkSize(int n) {
+        if (n < 1) {
+            throw new IllegalArgumentException("Size must be greater than or equal to 1.");
+        }
+        if (n > CPackedKernel.MAX_SIZE) {
+            throw new IllegalArgumentException("Size must not exceed " + CPackedKernel.MAX_SIZE + ".");
+        }
+    }
+
+    // Packs the lower triangle of a square matrix; the upper triangle and the imaginary part of the
+    // diagonal are not read
+    public static PackedHermitianCMatrix fromDense(CMatrix matrix) {
+        if (matrix == null || matrix.isMatrixNull()) {
+            throw new IllegalArgumentException("Matrix is empty or null.");
+        }
+        if (matrix.getRows() != matrix.getColumns()) {
+            throw new IllegalArgumentException("Hermitian storage is only defined for square matrices.");
+        }
+        int n = matrix.getRows();
+        checkSize(n);
+        double[][] packed = CPackedKernel.pack(matrix.getRealPlane(), matrix.getImagPlane(),
+                matrix.getOffset(), matrix.getStride(), n);
+        return new PackedHermitianCMatrix(packed[0], packed[1], n);
+    }
+
+    public int getSize() {
+        return this.n;
+    }
+
+    // Raw packed planes, shared with this matrix
+    public double[] getRealData() {
+        return this.re;
+    }
+
+    public double[] getImagData() {
+        return this.im;
+    }
+
+    private void checkIndex(int row, int col) {
+        if (row < 0 || col < 0 || row >= this.n || col >= this.n) {
+            throw new IllegalArgumentException("Row/Column is outside the matrix dimensions.");
+        }
+    }
+
+    public Complex getElement(int row, int col) {
+        this.checkIndex(row, col);
+        if (row >= col) {
+            int k = CPackedKernel.row(row) + col;
+            return new Complex(this.re[k], this.im[k]);
+        }
+        int k = CPackedKernel.row(col) + row;
+        return new Complex(this.re[k], -this.im[k]);
+    }
+
+    // Sets (row, col) and, through the shared slot, (col, row) to the conjugate; a diagonal element must be real
+    public void setElement(int row, int col, double real, double imag) {
+        this.checkIndex(row, col);
+        if (row == col && imag != 0.0) {
+            throw new IllegalArgumentException("Diagonal of a Hermitian matrix must be real.");
+        }
+        if (row >= col) {
+            int k = CPackedKernel.row(row) + col;
+            this.re[k] = real;
+            this.im[k] = imag;
+        } else {
+            int k = CPackedKernel.row(col) + row;
+            this.re[k] = real;
+            this.im[k] = -imag;
+        }
+    }
+
+    public void setElement(int row, int col, Complex element) {
+        if (element == null) {
+            throw new IllegalArgumentException("Element cannot be null.");
+        }
+        this.setElement(row, col, element.getReal(), element.getImag());
+    }
+
+    public CMatrix toDense() {
+        double[][] dense = CPackedKernel.unpack(this.re, this.im, this.n);
+        return new CMatrix(dense[0], dense[1], this.n, this.n);
+    }
+
+    // y = A x, reading each stored element once for both of its positions
+    public ComplexVector multiply(ComplexVector x) {
+        if (x == null || x.length() != this.n) {
+            throw new IllegalArgumentException("Vector must have " + this.n + " elements.");
+        }
+        double[] xRe = x.getRealPlane(), xIm = x.getImagPlane();
+        ComplexVector y = new ComplexVector(this.n);
+        double[] yRe = y.getRealPlane(), yIm = y.getImagPlane();
+        for (int i = 0; i < this.n; i++) {
+            int row = CPackedKernel.row(i);
+            double xr = xRe[i], xi = xIm[i], sumRe = 0.0, sumIm = 0.0;
+            for (int j = 0; j < i; j++) {
+                double ar = this.re[row + j], ai = this.im[row + j];
+                // a_ij x_j into y_i, conj(a_ij) x_i into y_j
+                sumRe += Math.fma(ar, xRe[j], -ai * xIm[j]);
+                sumIm += Math.fma(ar, xIm[j], ai * xRe[j]);
+                yRe[j] += Math.fma(ar, xr, ai * xi);
+                yIm[j] += Math.fma(ar, xi, -ai * xr);
+            }
+            double d = this.re[row + i];
+            yRe[i] += Math.fma(d, xr, sumRe);
+            yIm[i] += Math.fma(d, xi, sumIm);
+        }
+        return y;
+    }
+
+    public CCholeskyDecomposition getCholeskyDecomposition() {
+        return new CCholeskyDecomposition(this);
+    }
+
+    public CLDLDecomposition getLDLDecomposition() {
+        return new CLDLDecomposition(this);
+    }
+
+    // Cholesky when the matrix is positive definite, otherwise LDL^H
+    public CDecomposition getDecomposition() {
+        CCholeskyDecomposition cholesky = this.getCholeskyDecomposition();
+        if (cholesky.isPositiveDefinite()) {
+            return cholesky;
+        }
+        return this.getLDLDecomposition();
+    }
+
+    // Real for a Hermitian matrix
+    public double getDeterminant() {
+        return this.getDecomposition().getDeterminant().getReal();
+    }
+
+    // The inverse of a Hermitian matrix is Hermitian, so it comes back packed as well
+    public PackedHermitianCMatrix getInverseMatrix() {
+        CCholeskyDecomposition cholesky = this.getCholeskyDecomposition();
+        if (cholesky.isPositiveDefinite()) {
+            return cholesky.getPackedInverse();
+        }
+        return this.getLDLDecomposition().getPackedInverse();
+    }
+}
@@ -0,0 +1,309 @@
+package Matrix.ComplexMatrix;
+
+import Complex.Complex;
+import Matrix.RealMatrix.SparseRMatrix;
+import Matrix.SparseFormat;
+import Matrix.SparseIndex;
+
+import java.util.Arrays;
+
+// Immutable sparse complex matrix in compressed row (CSR) or compressed column (CSC) form, the complex
+// counterpart of SparseRMatrix with split real/imaginary value planes like CMatrix. Build one from
+// coordinates with Builder, from a CMatrix or a SparseRMatrix, or wrap existing compressed arrays.
+// Products and matrix-vector multiplies live in SparseCMatrixMath.
+public final class SparseCMatrix {
+
+    private final int rows, cols;
+    private final SparseFormat format;
+
+    // Along the compressed dimension (rows for CSR, columns for CSC), the entries of index m are
+    // re[p] + i*im[p] at minor index indices[p] for pointers[m] <= p < pointers[m + 1], minor indices increasing
+    private final int[] pointers, indices;
+    private final double[] re, im;
+
+    // Wraps compressed arrays without copying after checking the pattern; the caller must not modify them
+    public SparseCMatrix(int rows, int cols, SparseFormat format, int[] pointers, int[] indices, double[] re, double[] im) {
+        checkDimensions(rows, cols);
+        if (format == null || re == null || im == null) {
+            throw new IllegalArgumentException("Format and values cannot be null.");
+        }
+        boolean csr = format == SparseFormat.CSR;
+        SparseIndex.checkPattern(pointers, indices, csr ? rows : cols, csr ? cols : rows, Math.min(re.length, im.length));
+        this.rows = rows;
+        this.cols = cols;
+        this.format = format;
+        this.pointers = pointers;
+        this.indices = indices;
+        this.re = re;
+        this.im = im;
+    }
+
+    // Trusted arrays from the builder and the kernels
+    private SparseCMatrix(SparseFormat format, int rows, int cols, int[] pointers, int[] indices, double[] re, double[] im) {
+        this.rows = rows;
+        this.cols = cols;
+        this.format = format;
+        this.pointers = pointers;
+        this.indices = indices;
+        this.re = re;
+        this.im = im;
+    }
+
+    static SparseCMatrix wrapUnchecked(SparseFormat format, int rows, int cols, int[] pointers, int[] indices,
+                                       double[] re, double[] im) {
+        return new SparseCMatrix(format, rows, cols, pointers, indices, re, im);
+    }
+
+    private static void checkDimensions(int rows, int cols) {
+        if (rows < 1 || cols < 1) {
+            throw new IllegalArgumentException("Rows/Columns must be greater than or equal to 1.");
+        }
+    }
+
+    public int getRows() {
+        return this.rows;
+    }
+
+    public int getColumns() {
+        return this.cols;
+    }
+
+    public SparseFormat getFormat() {
+        return this.format;
+    }
+
+    public int getNonZeroCount() {
+        return this.pointers[this.pointers.length - 1];
+    }
+
+    // Raw compressed arrays, shared with this matrix
+    public int[] getPointers() {
+        return this.pointers;
+    }
+
+    public int[] getIndices() {
+        return this.indices;
+    }
+
+    public double[] getRealValues() {
+        return this.re;
+    }
+
+    public double[] getImagValues() {
+        return this.im;
+    }
+
+    // Binary search within the row (CSR) or column (CSC); unstored entries are 0
+    public Complex getElement(int row, int col) {
+        if (row < 0 || col < 0 || row >= this.rows || col >= this.cols) {
+            throw new IllegalArgumentException("Row/Column is outside the matrix dimensions.");
+        }
+        int position = this.format == SparseFormat.CSR
+                ? SparseIndex.find(this.pointers, this.indices, row, col)
+                : SparseIndex.find(this.pointers, this.indices, col, row);
+        return position < 0 ? new Complex(0, 0) : new Complex(this.re[position], this.im[position]);
+    }
+
+    // The same arrays read the other way round: O(1), sharing storage with this matrix
+    public SparseCMatrix getTranspose() {
+        return new SparseCMatrix(this.format.transposed(), this.cols, this.rows, this.pointers, this.indices, this.re, this.im);
+    }
+
+    // Shares the pattern and the real plane; only the imaginary plane is negated into a copy
+    public SparseCMatrix getConjugateTranspose() {
+        int nnz = this.getNonZeroCount();
+        double[] im = new double[nnz];
+        for (int p = 0; p < nnz; p++) {
+            im[p] = -this.im[p];
+        }
+        return new SparseCMatrix(this.format.transposed(), this.cols, this.rows, this.pointers, this.indices, this.re, im);
+    }
+
+    public SparseCMatrix toCSR() {
+        return this.toFormat(SparseFormat.CSR);
+    }
+
+    public SparseCMatrix toCSC() {
+        return this.toFormat(SparseFormat.CSC);
+    }
+
+    // Recompresses along the other dimension in O(nnz + rows + cols); returns this when already in format
+    public SparseCMatrix toFormat(SparseFormat format) {
+        if (format == null) {
+            throw new IllegalArgumentException("Format cannot be null.");
+        }
+        if (format == this.format) {
+            return this;
+        }
+        boolean csr = this.format == SparseFormat.CSR;
+        int majorDim = csr ? this.rows : this.cols, minorDim = csr ? this.cols : this.rows;
+        int nnz = this.getNonZeroCount();
+        int[] pointers = new int[minorDim + 1], indices = new int[nnz];
+        int[] source = SparseIndex.transpose(this.pointers, this.indices, majorDim, minorDim, pointers, indices);
+        double[] re = new double[nnz], im = new double[nnz];
+        for (int q = 0; q < nnz; q++) {
+            re[q] = this.re[source[q]];
+            im[q] = this.im[source[q]];
+        }
+        return new SparseCMatrix(format, this.rows, this.cols, pointers, indices, re, im);
+    }
+
+    public CMatrix toDense() {
+        if ((long) this.rows * this.cols > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Matrix is too large to store densely.");
+        }
+        double[] denseRe = new double[this.rows * this.cols], denseIm = new double[this.rows * this.cols];
+        boolean csr = this.format == SparseFormat.CSR;
+        int majorDim = csr ? this.rows : this.cols;
+        for (int m = 0; m < majorDim; m++) {
+            for (int p = this.pointers[m]; p < this.pointers[m + 1]; p++) {
+                int k = csr ? m * this.cols + this.indices[p] : this.indices[p] * this.cols + m;
+                denseRe[k] = this.re[p];
+                denseIm[k] = this.im[p];
+            }
+        }
+        return new CMatrix(denseRe, denseIm, this.rows, this.cols);
+    }
+
+    // Keeps the entries of matrix that are not exactly 0
+    public static SparseCMatrix fromDense(CMatrix matrix, SparseFormat format) {
+        if (matrix == null || matrix.isMatrixNull()) {
+            throw new IllegalArgumentException("Matrix is empty or null.");
+        }
+        if (format == null) {
+            throw new IllegalArgumentException("Format cannot be null.");
+        }
+        int rows = matrix.getRows(), cols = matrix.getColumns();
+        double[] dataRe = matrix.getRealPlane(), dataIm = matrix.getImagPlane();
+        int offset = matrix.getOffset(), stride = matrix.getStride();
+
+        int[] pointers = new int[rows + 1];
+        for (int i = 0; i < rows; i++) {
+            int count = 0;
+            for (int j = 0, k = offset + i * stride; j < cols; j++, k++) {
+                if (dataRe[k] != 0.0 || dataIm[k] != 0.0) {
+                    count++;
+                }
+            }
+            pointers[i + 1] = pointers[i] + count;
+        }
+        int[] indices = new int[pointers[rows]];
+        double[] re = new double[pointers[rows]], im = new double[pointers[rows]];
+        for (int i = 0, p = 0; i < rows; i++) {
+            for (int j = 0, k = offset + i * stride; j < cols; j++, k++) {
+                if (dataRe[k] != 0.0 || dataIm[k] != 0.0) {
+                    indices[p] = j;
+                    re[p] = dataRe[k];
+                    im[p++] = dataIm[k];
+                }
+            }
+        }
+        return new SparseCMatrix(SparseFormat.CSR, rows, cols, pointers, indices, re, im).toFormat(format);
+    }
+
+    // Shares the pattern of a real sparse matrix, with a zero imaginary plane
+    public static SparseCMatrix fromReal(SparseRMatrix matrix) {
+        if (matrix == null) {
+            throw new IllegalArgumentException("Sparse matrix is null.");
+        }
+        return new SparseCMatrix(matrix.getFormat(), matrix.getRows(), matrix.getColumns(), matrix.getPointers(),
+                matrix.getIndices(), matrix.getValues(), new double[matrix.getNonZeroCount()]);
+    }
+
+    // Collects (row, col, value) triplets in any order; entries added at the same position are summed.
+    // Explicit zeros are kept. A builder can be reused after build().
+    public static final class Builder {
+
+        private final int rows, cols;
+        private int[] rowIndices, colIndices;
+        private double[] re, im;
+        private int count;
+
+        public Builder(int rows, int cols) {
+            this(rows, cols, 16);
+        }
+
+        public Builder(int rows, int cols, int expectedEntries) {
+            checkDimensions(rows, cols);
+            if (expectedEntries < 0) {
+                throw new IllegalArgumentException("Expected entry count cannot be negative.");
+            }
+            this.rows = rows;
+            this.cols = cols;
+            this.rowIndices = new int[expectedEntries];
+            this.colIndices = new int[expectedEntries];
+            this.re = new double[expectedEntries];
+            this.im = new double[expectedEntries];
+        }
+
+        public Builder add(int row, int col, Complex value) {
+            if (value == null) {
+                throw new IllegalArgumentException("Value cannot be null.");
+            }
+            return this.add(row, col, value.getReal(), value.getImag());
+        }
+
+        public Builder add(int row, int col, double real, double imag) {
+            if (row < 0 || col < 0 || row >= this.rows || col >= this.cols) {
+                throw new IllegalArgumentException("Row/Column is outside the matrix dimensions.");
+            }
+            if (this.count == this.re.length) {
+                int capacity = Math.max(16, this.count + (this.count >> 1));
+                this.rowIndices = Arrays.copyOf(this.rowIndices, capacity);
+                this.colIndices = Arrays.copyOf(this.colIndices, capacity);
+                this.re = Arrays.copyOf(this.re, capacity);
+                this.im = Arrays.copyOf(this.im, capacity);
+            }
+            this.rowIndices[this.count] = row;
+            this.colIndices[this.count] = col;
+            this.re[this.count] = real;
+            this.im[this.count++] = imag;
+            return this;
+        }
+
+        public int getEntryCount() {
+            return this.count;
+        }
+
+        public SparseCMatrix build() {
+            return this.build(SparseFormat.CSR);
+        }
+
+        // Sorts the triplets by (major, minor) with counting passes and sums duplicates: O(entries + rows + cols)
+        public SparseCMatrix build(SparseFormat format) {
+            if (format == null) {
+                throw new IllegalArgumentException("Format cannot be null.");
+            }
+            boolean csr = format == SparseFormat.CSR;
+            int[] major = csr ? this.rowIndices : this.colIndices, minor = csr ? this.colIndices : this.rowIndices;
+            int majorDim = csr ? this.rows : this.cols, minorDim = csr ? this.cols : this.rows;
+            int[] order = SparseIndex.sortOrder(major, minor, this.count, majorDim, minorDim);
+
+            int[] pointers = new int[majorDim + 1], indices = new int[this.count];
+            double[] re = new double[this.count], im = new double[this.count];
+            int nnz = 0, lastMajor = -1;
+            for (int t = 0; t < this.count; t++) {
+                int k = order[t], m = major[k], n = minor[k];
+                if (m == lastMajor && indices[nnz - 1] == n) {
+                    re[nnz - 1] += this.re[k];
+                    im[nnz - 1] += this.im[k];
+                } else {
+                    indices[nnz] = n;
+                    re[nnz] = this.re[k];
+                    im[nnz++] = this.im[k];
+                    pointers[m + 1]++;
+                    lastMajor = m;
+                }
+            }
+            for (int m = 0; m < majorDim; m++) {
+                pointers[m + 1] += pointers[m];
+            }
+            if (nnz < this.count) {
+                indices = Arrays.copyOf(indices, nnz);
+                re = Arrays.copyOf(re, nnz);
+                im = Arrays.copyOf(im, nnz);
+            }
+            return new SparseCMatrix(format, this.rows, this.cols, pointers, indices, re, im);
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package Matrix.ComplexMatrix;
+
+import Complex.ComplexVector;
+import Matrix.MatrixExecutionContext;
+import Matrix.SparseFormat;
+import Matrix.SparseIndex;
+
+import java.util.Arrays;
+
+// Products and matrix-vector multiplies for SparseCMatrix, alone and against dense CMatrix operands; the
+// complex counterpart of SparseRMatrixMath, with the same CSR/CSC handling and row-parallel kernels.
+public final class SparseCMatrixMath {
+
+    private SparseCMatrixMath() {
+        throw new UnsupportedOperationException("Cannot instantiate SparseCMatrixMath.");
+    }
+
+    // Complex multiply-adds handed to one task, so that short sparse rows are batched
+    private static final long TASK_WORK = 1L << 14;
+
+    // y = A x
+    public static ComplexVector multiply(SparseCMatrix matrix, ComplexVector x) {
+        checkSparse(matrix);
+        ComplexVector y = new ComplexVector(matrix.getRows());
+        multiply(matrix, x, y, MatrixExecutionContext.serial());
+        return y;
+    }
+
+    // y = A x into an existing y (which must not be x); CSR rows are split across the context's pool
+    public static void multiply(SparseCMatrix matrix, ComplexVector x, ComplexVector y, MatrixExecutionContext context) {
+        checkSparse(matrix);
+        if (context == null) {
+            throw new IllegalArgumentException("Execution context is null.");
+        }
+        if (x == null || y == null || x.length() != matrix.getColumns() || y.length() != matrix.getRows()) {
+            throw new IllegalArgumentException("Vector lengths do not match the matrix dimensions.");
+        }
+        if (x.getRealPlane() == y.getRealPlane() || x.getImagPlane() == y.getImagPlane()) {
+            throw new IllegalArgumentException("Result vector cannot share storage with the input vector.");
+        }
+        int[] pointers = matrix.getPointers(), indices = matrix.getIndices();
+        double[] aRe = matrix.getRealValues(), aIm = matrix.getImagValues();
+        double[] xRe = x.getRealPlane(), xIm = x.getImagPlane();
+        double[] yRe = y.getRealPlane(), yIm = y.getImagPlane();
+
+        if (matrix.getFormat() == SparseFormat.CSC) {
+            // Columns scatter into shared rows, so this stays on one thread
+            Arrays.fill(yRe, 0.0);
+            Arrays.fill(yIm, 0.0);
+            for (int j = 0; j < matrix.getColumns(); j++) {
+                double br = xRe[j], bi = xIm[j];
+                for (int p = pointers[j]; p < pointers[j + 1]; p++) {
+                    int i = indices[p];
+                    yRe[i] += Math.fma(aRe[p], br, -aIm[p] * bi);
+                    yIm[i] += Math.fma(aRe[p], bi, aIm[p] * br);
+                }
+            }
+            return;
+        }
+
+        runRows(matrix.getRows(), matrix.getNonZeroCount(), context, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                double sumRe = 0.0, sumIm = 0.0;
+                for (int p = pointers[i]; p < pointers[i + 1]; p++) {
+                    double br = xRe[indices[p]], bi = xIm[indices[p]];
+                    sumRe += Math.fma(aRe[p], br, -aIm[p] * bi);
+                    sumIm += Math.fma(aRe[p], bi, aIm[p] * br);
+                }
+                yRe[i] = sumRe;
+                yIm[i] = sumIm;
+            }
+        });
+    }
+
+    public static CMatrix product(SparseCMatrix matrix1, CMatrix matrix2) {
+        return product(matrix1, matrix2, MatrixExecutionContext.serial());
+    }
+
+    // Sparse x dense: each stored a_ik adds a_ik * (row k of B) to row i of the product
+    public static CMatrix product(SparseCMatrix matrix1, CMatrix matrix2, MatrixExecutionContext context) {
+        checkSparse(matrix1);
+        checkDense(matrix2);
+        if (context == null) {
+            throw new IllegalArgumentException("Execution context is null.");
+        }
+        if (matrix1.getColumns() != matrix2.getRows()) {
+            throw new IllegalArgumentException("Multiplication not possible: Column count of Matrix 1 must match row count of Matrix 2.");
+        }
+        SparseCMatrix a = matrix1.toCSR();
+        int rows = a.getRows(), cols = matrix2.getColumns();
+        checkDenseSize(rows, cols);
+        int[] pointers = a.getPointers(), indices = a.getIndices();
+        double[] aRe = a.getRealValues(), aIm = a.getImagValues();
+        double[] bRe = matrix2.getRealPlane(), bIm = matrix2.getImagPlane();
+        int bOff = matrix2.getOffset(), ldb = matrix2.getStride();
+        double[] cRe = new double[rows * cols], cIm = new double[rows * cols];
+
+        runRows(rows, (long) a.getNonZeroCount() * cols, context, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                int row = i * cols;
+                for (int p = pointers[i]; p < pointers[i + 1]; p++) {
+                    double ar = aRe[p], ai = aIm[p];
+                    int bRow = bOff + indices[p] * ldb;
+                    for (int j = 0; j < cols; j++) {
+                        double br = bRe[bRow + j], bi = bIm[bRow + j];
+                        cRe[row + j] += Math.fma(ar, br, -ai * bi);
+                        cIm[row + j] += Math.fma(ar, bi, ai * br);
+                    }
+                }
+            }
+        });
+        return new CMatrix(cRe, cIm, rows, cols);
+    }
+
+    public static CMatrix product(CMatrix matrix1, SparseCMatrix matrix2) {
+        return product(matrix1, matrix2, MatrixExecutionContext.serial());
+    }
+
+    // Dense x sparse: each a_ik scatters a_ik * (sparse row k of B) into row i of the product
+    public static CMatrix product(CMatrix matrix1, SparseCMatrix matrix2, MatrixExecutionContext context) {
+        checkDense(matrix1);
+        checkSparse(matrix2);
+        if (context == null) {
+            throw new IllegalArgumentException("Execution context is null.");
+        }
+        if (matrix1.getColumns() != matrix2.getRows()) {
+            throw new IllegalArgumentException("Multiplication not possible: Column count of Matrix 1 must match row count of Matrix 2.");
+        }
+        SparseCMatrix b = matrix2.toCSR();
+        int rows = matrix1.getRows(), cols = b.getColumns(), common = matrix1.getColumns();
+        checkDenseSize(rows, cols);
+        int[] pointers = b.getPointers(), indices = b.getIndices();
+        double[] bRe = b.getRealValues(), bIm = b.getImagValues();
+        double[] aRe = matrix1.getRealPlane(), aIm = matrix1.getImagPlane();
+        int aOff = matrix1.getOffset(), lda = matrix1.getStride();
+        double[] cRe = new double[rows * cols], cIm = new double[rows * cols];
+
+        runRows(rows, (long) rows * b.getNonZeroCount(), context, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                int row = i * cols, aRow = aOff + i * lda;
+                for (int k = 0; k < common; k++) {
+                    double ar = aRe[aRow + k], ai = aIm[aRow + k];
+                    if (ar == 0.0 && ai == 0.0) {
+                        continue;
+                    }
+                    for (int p = pointers[k]; p < pointers[k + 1]; p++) {
+                        int j = row + indices[p];
+                        cRe[j] += Math.fma(ar, bRe[p], -ai * bIm[p]);
+                        cIm[j] += Math.fma(ar, bIm[p], ai * bRe[p]);
+                    }
+                }
+            }
+        });
+        return new CMatrix(cRe, cIm, rows, cols);
+    }
+
+    // Sparse x sparse by Gustavson's algorithm, in matrix1's format. For CSC the CSR kernel computes
+    // C^T = B^T A^T, whose CSR arrays are the CSC arrays of C.
+    public static SparseCMatrix product(SparseCMatrix matrix1, SparseCMatrix matrix2) {
+        checkSparse(matrix1);
+        checkSparse(matrix2);
+        if (matrix1.getColumns() != matrix2.getRows()) {
+            throw new IllegalArgumentException("Multiplication not possible: Column count of Matrix 1 must match row count of Matrix 2.");
+        }
+        SparseFormat format = matrix1.getFormat();
+        SparseCMatrix b = matrix2.toFormat(format);
+        SparseCMatrix first = format == SparseFormat.CSR ? matrix1 : b;
+        SparseCMatrix second = format == SparseFormat.CSR ? b : matrix1;
+        int rows = format == SparseFormat.CSR ? matrix1.getRows() : b.getColumns();
+        int cols = format == SparseFormat.CSR ? b.getColumns() : matrix1.getRows();
+
+        int[] aPointers = first.getPointers(), aIndices = first.getIndices();
+        int[] bPointers = second.getPointers(), bIndices = second.getIndices();
+        double[] aRe = first.getRealValues(), aIm = first.getImagValues();
+        double[] bRe = second.getRealValues(), bIm = second.getImagValues();
+        int[][] pattern = SparseIndex.productPattern(aPointers, aIndices, bPointers, bIndices, rows, cols);
+        int[] pointers = pattern[0], indices = pattern[1];
+        double[] cRe = new double[indices.length], cIm = new double[indices.length];
+
+        // Dense accumulators over the columns, cleared again while they are read out
+        double[] accRe = new double[cols], accIm = new double[cols];
+        for (int i = 0; i < rows; i++) {
+            for (int p = aPointers[i]; p < aPointers[i + 1]; p++) {
+                double ar = aRe[p], ai = aIm[p];
+                int k = aIndices[p];
+                for (int q = bPointers[k]; q < bPointers[k + 1]; q++) {
+                    int j = bIndices[q];
+                    accRe[j] += Math.fma(ar, bRe[q], -ai * bIm[q]);
+                    accIm[j] += Math.fma(ar, bIm[q], ai * bRe[q]);
+                }
+            }
+            for (int t = pointers[i]; t < pointers[i + 1]; t++) {
+                int j = indices[t];
+                cRe[t] = accRe[j];
+                cIm[t] = accIm[j];
+                accRe[j] = 0.0;
+                accIm[j] = 0.0;
+            }
+        }
+        return SparseCMatrix.wrapUnchecked(format, matrix1.getRows(), b.getColumns(), pointers, indices, cRe, cIm);
+    }
+
+    // Runs a row kernel serially, or in row ranges of about TASK_WORK multiply-adds when the context
+    // finds the total worth splitting
+    private static void runRows(int rows, long work, MatrixExecutionContext context, MatrixExecutionContext.RangeTask task) {
+        if (!context.shouldParallelize(work)) {
+            task.compute(0, rows);
+            return;
+        }
+        int grain = (int) Math.max(1, Math.min(rows, TASK_WORK * rows / Math.max(1, work)));
+        context.forEachRange(rows, grain, task);
+    }
+
+    private static void checkSparse(SparseCMatrix matrix) {
+        if (matrix == null) {
+            throw new IllegalArgumentException("Sparse matrix is null.");
+        }
+    }
+
+    private static void checkDense(CMatrix matrix) {
+        if (matrix == null || matrix.isMatrixNull()) {
+            throw new IllegalArgumentException("Matrix is null or not initialized.");
+        }
+    }
+
+    private static void checkDenseSize(int rows, int cols) {
+        if ((long) rows * cols > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Product is too large to store densely.");
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package Matrix;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+public final class MatrixExecutionContext {
+
+    // Products with fewer multiply-adds than this run on the calling thread
+    public static final long DEFAULT_PARALLEL_THRESHOLD = 96L * 96L * 96L;
+
+    // Edge length of the output tiles handed to the pool (a multiple of the GEMM register tile)
+    public static final int DEFAULT_TILE_SIZE = 128;
+
+    private static final MatrixExecutionContext SERIAL = new MatrixExecutionContext(null, Long.MAX_VALUE, DEFAULT_TILE_SIZE);
+
+    private final ForkJoinPool pool;
+    private final long parallelThreshold;
+    private final int tileSize;
+
+    public MatrixExecutionContext(ForkJoinPool pool) {
+        this(pool, DEFAULT_PARALLEL_THRESHOLD, DEFAULT_TILE_SIZE);
+    }
+
+    public MatrixExecutionContext(ForkJoinPool pool, long parallelThreshold, int tileSize) {
+        if (parallelThreshold < 0) {
+            throw new IllegalArgumentException("Parallel threshold cannot be negative.");
+        }
+        if (tileSize < 1) {
+            throw new IllegalArgumentException("Tile size must be greater than or equal to 1.");
+        }
+        this.pool = pool;
+        this.parallelThreshold = parallelThreshold;
+        this.tileSize = tileSize;
+    }
+
+    // Runs everything on the calling thread
+    public static MatrixExecutionContext serial() {
+        return SERIAL;
+    }
+
+    // Shares the JVM-wide common pool
+    public static MatrixExecutionContext commonPool() {
+        return new MatrixExecutionContext(ForkJoinPool.commonPool());
+    }
+
+    public ForkJoinPool getPool() {
+        return this.pool;
+    }
+
+    public long getParallelThreshold() {
+        return this.parallelThreshold;
+    }
+
+    public int getTileSize() {
+        return this.tileSize;
+    }
+
+    // True when a job of the given size (in multiply-adds) is worth splitting across the pool
+    public boolean shouldParallelize(long work) {
+        return this.pool != null && this.pool.getParallelism() > 1 && work >= this.parallelThreshold;
+    }
+
+    @FunctionalInterface
+    public interface TileTask {
+        // Computes output rows [rowStart, rowEnd) x columns [colStart, colEnd)
+        void compute(int rowStart, int rowEnd, int colStart, int colEnd);
+    }
+
+    // Splits a rows x cols output into tiles and runs them on the pool; tiles never overlap
+    public void forEachTile(int rows, int cols, TileTask task) {
+        int tileRows = (rows + this.tileSize - 1) / this.tileSize;
+        int tileCols = (cols + this.tileSize - 1) / this.tileSize;
+        int tiles = tileRows * tileCols;
+
+        if (this.pool == null || tiles == 1) {
+            for (int t = 0; t < tiles; t++) {
+                runTile(t, tileCols, rows, cols, task);
+            }
+            return;
+        }
+        this.pool.invoke(new TileAction(0, tiles, tileCols, rows, cols, task));
+    }
+
+    private void runTile(int t, int tileCols, int rows, int cols, TileTask task) {
+        int rowStart = (t / tileCols) * this.tileSize;
+        int colStart = (t % tileCols) * this.tileSize;
+        task.compute(rowStart, Math.min(rows, rowStart + this.tileSize),
+                colStart, Math.min(cols, colStart + this.tileSize));
+    }
+
+    @FunctionalInterface
+    public interface RangeTask {
+        // Processes indices [from, to)
+        void compute(int from, int to);
+    }
+
+    // Splits [0, n) into ranges of at most grain indices and runs them on the pool; for row-parallel
+    // kernels whose work per row is uneven or much smaller than a tile
+    public void forEachRange(int n, int grain, RangeTask task) {
+        forEachRange(this.pool, n, grain, task);
+    }
+
+    // As above on a bare pool, for index-parallel kernels outside the matrix classes. A null pool, a
+    // single-worker pool or a range within one grain runs on the calling thread.
+    public static void forEachRange(ForkJoinPool pool, int n, int grain, RangeTask task) {
+        if (grain < 1) {
+            throw new IllegalArgumentException("Grain must be greater than or equal to 1.");
+        }
+        if (pool == null || pool.getParallelism() == 1 || n <= grain) {
+            task.compute(0, n);
+            return;
+        }
+        pool.invoke(new RangeAction(0, n, grain, task));
+    }
+
+    // Halves the tile range until a single tile remains
+    private final class TileAction extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int from, to, tileCols, rows, cols;
+        private final TileTask task;
+
+        TileAction(int from, int to, int tileCols, int rows, int cols, TileTask task) {
+            this.from = from;
+            this.to = to;
+            this.tileCols = tileCols;
+            this.rows = rows;
+            this.cols = cols;
+            this.task = task;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.to - this.from == 1) {
+                runTile(this.from, this.tileCols, this.rows, this.cols, this.task);
+                return;
+            }
+            int mid = (this.from + this.to) >>> 1;
+            invokeAll(new TileAction(this.from, mid, this.tileCols, this.rows, this.cols, this.task),
+                    new TileAction(mid, this.to, this.tileCols, this.rows, this.cols, this.task));
+        }
+    }
+
+    // Halves the index range down to the grain
+    private static final class RangeAction extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int from, to, grain;
+        private final RangeTask task;
+
+        RangeAction(int from, int to, int grain, RangeTask task) {
+            this.from = from;
+            this.to = to;
+            this.grain = grain;
+            this.task = task;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.to - this.from <= this.grain) {
+                this.task.compute(this.from, this.to);
+                return;
+            }
+            int mid = (this.from + this.to) >>> 1;
+            invokeAll(new RangeAction(this.from, mid, this.grain, this.task),
+                    new RangeAction(mid, this.to, this.grain, this.task));
+        }
+    }
+}
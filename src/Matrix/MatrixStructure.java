@@ -0,0 +1,14 @@
+package Matrix;
+
+// What a caller knows about a square matrix, used to pick the cheapest factorization for its solves,
+// determinant and inverse. For complex matrices SYMMETRIC and POSITIVE_DEFINITE mean Hermitian and
+// Hermitian positive definite. A hint is trusted: the symmetric factorizations read the lower triangle
+// only, and fall back to the next more general one when the factorization they need does not exist.
+public enum MatrixStructure {
+    // LU with partial pivoting, 2n^3/3 flops
+    GENERAL,
+    // LDL^T with diagonal pivoting, n^3/3 flops
+    SYMMETRIC,
+    // Cholesky, n^3/3 flops and no pivoting
+    POSITIVE_DEFINITE
+}
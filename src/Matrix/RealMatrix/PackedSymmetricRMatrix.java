@@ -0,0 +1,126 @@
+package Matrix.RealMatrix;
+
+// Symmetric matrix holding only its lower triangle, packed by rows into n(n+1)/2 doubles: element (i, j)
+// with j <= i lives at i * (i + 1) / 2 + j, and (j, i) reads the same slot. Half the memory of an RMatrix,
+// and the Cholesky and LDL^T factorizations work on the packed rows directly.
+public final class PackedSymmetricRMatrix {
+
+    private final int n;
+    private final double[] data;
+
+    public PackedSymmetricRMatrix(int n) {
+        checkSize(n);
+        this.n = n;
+        this.data = new double[RPackedKernel.length(n)];
+    }
+
+    // Wraps a packed lower triangle without copying; the matrix shares storage with the caller
+    public PackedSymmetricRMatrix(double[] data, int n) {
+        checkSize(n);
+        if (data == null || data.length != RPackedKernel.length(n)) {
+            throw new IllegalArgumentException("Packed data must hold n(n+1)/2 = " + RPackedKernel.length(n) + " elements.");
+        }
+        this.n = n;
+        this.data = data;
+    }
+
+    private static void checkSize(int n) {
+        if (n < 1) {
+            throw new IllegalArgumentException("Size must be greater than or equal to 1.");
+        }
+        if (n > RPackedKernel.MAX_SIZE) {
+            throw new IllegalArgumentException("Size must not exceed " + RPackedKernel.MAX_SIZE + ".");
+        }
+    }
+
+    // Packs the lower triangle of a square matrix; the upper triangle is not read
+    public static PackedSymmetricRMatrix fromDense(RMatrix matrix) {
+        if (matrix == null || matrix.isMatrixNull()) {
+            throw new IllegalArgumentException("Matrix is empty or null.");
+        }
+        if (matrix.getRows() != matrix.getColumns()) {
+            throw new IllegalArgumentException("Symmetric storage is only defined for square matrices.");
+        }
+        int n = matrix.getRows();
+        checkSize(n);
+        return new PackedSymmetricRMatrix(RPackedKernel.pack(matrix.getData(), matrix.getOffset(), matrix.getStride(), n), n);
+    }
+
+    public int getSize() {
+        return this.n;
+    }
+
+    // Raw packed storage, shared with this matrix
+    public double[] getData() {
+        return this.data;
+    }
+
+    private int index(int row, int col) {
+        if (row < 0 || col < 0 || row >= this.n || col >= this.n) {
+            throw new IllegalArgumentException("Row/Column is outside the matrix dimensions.");
+        }
+        return row >= col ? RPackedKernel.row(row) + col : RPackedKernel.row(col) + row;
+    }
+
+    public double getElement(int row, int col) {
+        return this.data[this.index(row, col)];
+    }
+
+    // Sets both (row, col) and (col, row)
+    public void setElement(int row, int col, double element) {
+        this.data[this.index(row, col)] = element;
+    }
+
+    public RMatrix toDense() {
+        return new RMatrix(RPackedKernel.unpack(this.data, this.n), this.n, this.n);
+    }
+
+    // y = A x, reading each stored element once for both of its positions
+    public double[] multiply(double[] x) {
+        if (x == null || x.length != this.n) {
+            throw new IllegalArgumentException("Vector must have " + this.n + " elements.");
+        }
+        double[] y = new double[this.n];
+        for (int i = 0; i < this.n; i++) {
+            int row = RPackedKernel.row(i);
+            double xi = x[i], sum = 0.0;
+            for (int j = 0; j < i; j++) {
+                double aij = this.data[row + j];
+                sum = Math.fma(aij, x[j], sum);
+                y[j] = Math.fma(aij, xi, y[j]);
+            }
+            y[i] += Math.fma(this.data[row + i], xi, sum);
+        }
+        return y;
+    }
+
+    public RCholeskyDecomposition getCholeskyDecomposition() {
+        return new RCholeskyDecomposition(this);
+    }
+
+    public RLDLDecomposition getLDLDecomposition() {
+        return new RLDLDecomposition(this);
+    }
+
+    // Cholesky when the matrix is positive definite, otherwise LDL^T
+    public RDecomposition getDecomposition() {
+        RCholeskyDecomposition cholesky = this.getCholeskyDecomposition();
+        if (cholesky.isPositiveDefinite()) {
+            return cholesky;
+        }
+        return this.getLDLDecomposition();
+    }
+
+    public double getDeterminant() {
+        return this.getDecomposition().getDeterminant();
+    }
+
+    // The inverse of a symmetric matrix is symmetric, so it comes back packed as well
+    public PackedSymmetricRMatrix getInverseMatrix() {
+        RCholeskyDecomposition cholesky = this.getCholeskyDecomposition();
+        if (cholesky.isPositiveDefinite()) {
+            return cholesky.getPackedInverse();
+        }
+        return this.getLDLDecomposition().getPackedInverse();
+    }
+}
@@ -0,0 +1,242 @@
+package Matrix.RealMatrix;
+
+import Matrix.MatrixExecutionContext;
+import Simd.VectorBackend;
+import Simd.VectorBackends;
+
+// A = L L^T for a symmetric positive definite A, at half the flops of LU and with no pivoting. Only the
+// lower triangle of A is read. The factor is kept packed by rows (n(n+1)/2 doubles); a matrix that turns
+// out not to be positive definite is reported by isPositiveDefinite() rather than thrown, so callers can
+// fall back to LDL^T or LU.
+public final class RCholeskyDecomposition implements RDecomposition {
+
+    private static final VectorBackend BACKEND = VectorBackends.get();
+
+    // Edge of the diagonal blocks in the blocked factorization
+    static final int BLOCK = 64;
+
+    private final int n;
+
+    // L packed by rows: l_ij (j <= i) at i * (i + 1) / 2 + j
+    private final double[] l;
+    private final boolean positiveDefinite;
+
+    public RCholeskyDecomposition(RMatrix matrix) {
+        this(matrix, MatrixExecutionContext.serial());
+    }
+
+    // Right-looking blocked factorization: each block column factors its diagonal block, solves the panel
+    // below it row by row and subtracts L21 L21^T from the trailing lower triangle through the GEMM kernel.
+    // Panel rows and trailing tiles are independent, so both run on the context's pool. When the context
+    // would not split the work, the row-oriented factorization of the packed triangle runs instead: on one
+    // thread its contiguous SIMD dot products keep up with the GEMM updates and it needs no n x n copy.
+    public RCholeskyDecomposition(RMatrix matrix, MatrixExecutionContext context) {
+        if (matrix == null || matrix.isMatrixNull()) {
+            throw new IllegalArgumentException("Matrix is empty or null.");
+        }
+        if (matrix.getRows() != matrix.getColumns()) {
+            throw new IllegalArgumentException("Cholesky decomposition is only defined for square matrices.");
+        }
+        if (context == null) {
+            throw new IllegalArgumentException("Execution context is null.");
+        }
+        if (matrix.getRows() > RPackedKernel.MAX_SIZE) {
+            throw new IllegalArgumentException("Matrix is too large for a packed triangular factor.");
+        }
+
+        this.n = matrix.getRows();
+        if (n <= BLOCK || !context.shouldParallelize((long) n * n * n / 6)) {
+            this.l = RPackedKernel.pack(matrix.getData(), matrix.getOffset(), matrix.getStride(), n);
+            this.positiveDefinite = RPackedKernel.cholesky(this.l, n);
+            return;
+        }
+        double[] a = matrix.getCopyMatrix().getData();
+        this.positiveDefinite = factorBlocked(a, n, context);
+        this.l = RPackedKernel.pack(a, 0, n, n);
+    }
+
+    // Factors a packed matrix in place of a copy of its triangle, so memory stays at n(n+1)/2 throughout
+    public RCholeskyDecomposition(PackedSymmetricRMatrix matrix) {
+        if (matrix == null) {
+            throw new IllegalArgumentException("Matrix is empty or null.");
+        }
+        this.n = matrix.getSize();
+        this.l = matrix.getData().clone();
+        this.positiveDefinite = RPackedKernel.cholesky(this.l, n);
+    }
+
+    private static boolean factorBlocked(double[] a, int n, MatrixExecutionContext context) {
+        for (int k0 = 0; k0 < n; k0 += BLOCK) {
+            int kb = Math.min(BLOCK, n - k0);
+            if (!factorDiagonalBlock(a, n, k0, kb)) {
+                return false;
+            }
+            if (k0 + kb < n) {
+                eliminateBelow(a, n, k0, kb, context);
+            }
+        }
+        return true;
+    }
+
+    // Solves the panel below the diagonal block at (k0, k0) and updates the trailing matrix with it
+    private static void eliminateBelow(double[] a, int n, int k0, int kb, MatrixExecutionContext context) {
+        int r0 = k0 + kb, m = n - r0;
+
+        // L21 = A21 L11^-T: one forward substitution per row of the panel
+        MatrixExecutionContext.RangeTask panel = (from, to) -> {
+            for (int i = r0 + from; i < r0 + to; i++) {
+                int rowI = i * n + k0;
+                for (int j = 0; j < kb; j++) {
+                    int rowJ = (k0 + j) * n + k0;
+                    a[rowI + j] = (a[rowI + j] - BACKEND.dot(a, rowI, a, rowJ, j)) / a[rowJ + j];
+                }
+            }
+        };
+        long panelWork = (long) m * kb * kb / 2;
+        if (context.shouldParallelize(panelWork)) {
+            context.forEachRange(m, Math.max(1, context.getTileSize() / 4), panel);
+        } else {
+            panel.compute(0, m);
+        }
+
+        // A22 -= L21 L21^T as A22 += L21 W with W = -L21^T, on the tiles that touch the lower triangle
+        double[] w = new double[kb * m];
+        for (int i = 0; i < m; i++) {
+            int rowI = (r0 + i) * n + k0;
+            for (int p = 0; p < kb; p++) {
+                w[p * m + i] = -a[rowI + p];
+            }
+        }
+        long updateWork = (long) m * m * kb / 2;
+        if (context.shouldParallelize(updateWork)) {
+            context.forEachTile(m, m, (rowStart, rowEnd, colStart, colEnd) -> {
+                if (colStart >= rowEnd) {
+                    return;
+                }
+                RMatrixKernel.gemm(rowEnd - rowStart, colEnd - colStart, kb,
+                        a, (r0 + rowStart) * n + k0, n,
+                        w, colStart, m,
+                        a, (r0 + rowStart) * n + r0 + colStart, n);
+            });
+        } else {
+            // Row strips, each running up to the end of its own diagonal block
+            for (int i0 = 0; i0 < m; i0 += BLOCK) {
+                int ib = Math.min(BLOCK, m - i0);
+                RMatrixKernel.gemm(ib, i0 + ib, kb,
+                        a, (r0 + i0) * n + k0, n,
+                        w, 0, m,
+                        a, (r0 + i0) * n + r0, n);
+            }
+        }
+    }
+
+    // Unblocked row-oriented Cholesky of the kb x kb diagonal block at (k0, k0), whose earlier columns have
+    // already been subtracted by the trailing updates
+    private static boolean factorDiagonalBlock(double[] a, int n, int k0, int kb) {
+        for (int i = k0; i < k0 + kb; i++) {
+            int rowI = i * n + k0;
+            for (int j = 0; j < i - k0; j++) {
+                int rowJ = (k0 + j) * n + k0;
+                a[rowI + j] = (a[rowI + j] - BACKEND.dot(a, rowI, a, rowJ, j)) / a[rowJ + j];
+            }
+            double pivot = a[rowI + i - k0] - BACKEND.dot(a, rowI, a, rowI, i - k0);
+            if (!(pivot > 0.0)) {
+                return false;
+            }
+            a[rowI + i - k0] = Math.sqrt(pivot);
+        }
+        return true;
+    }
+
+    @Override
+    public int getSize() {
+        return this.n;
+    }
+
+    public boolean isPositiveDefinite() {
+        return this.positiveDefinite;
+    }
+
+    private void requirePositiveDefinite() {
+        if (!this.positiveDefinite) {
+            throw new IllegalArgumentException("Matrix is not positive definite.");
+        }
+    }
+
+    public RMatrix getL() {
+        this.requirePositiveDefinite();
+        double[] dense = new double[n * n];
+        for (int i = 0; i < n; i++) {
+            System.arraycopy(this.l, RPackedKernel.row(i), dense, i * n, i + 1);
+        }
+        return new RMatrix(dense, n, n);
+    }
+
+    // det(A) = product of l_ii^2
+    @Override
+    public double getDeterminant() {
+        this.requirePositiveDefinite();
+        double determinant = 1.0;
+        for (int i = 0; i < n; i++) {
+            double diagonal = this.l[RPackedKernel.row(i) + i];
+            determinant *= diagonal * diagonal;
+        }
+        return determinant;
+    }
+
+    // log det(A) = 2 sum log l_ii, finite where the determinant itself under- or overflows
+    public double getLogDeterminant() {
+        this.requirePositiveDefinite();
+        double sum = 0.0;
+        for (int i = 0; i < n; i++) {
+            sum += Math.log(this.l[RPackedKernel.row(i) + i]);
+        }
+        return 2.0 * sum;
+    }
+
+    // Solves A x = b in O(n^2)
+    @Override
+    public double[] solve(double[] b) {
+        if (b == null || b.length != n) {
+            throw new IllegalArgumentException("Right-hand side must have " + n + " elements.");
+        }
+        this.requirePositiveDefinite();
+        double[] x = b.clone();
+        RPackedKernel.forwardSubstitute(this.l, n, false, x, 1);
+        RPackedKernel.backSubstituteTranspose(this.l, n, false, x, 1);
+        return x;
+    }
+
+    // Solves A X = B for every column of B at once: L Y = B, then L^T X = Y
+    @Override
+    public RMatrix solve(RMatrix b) {
+        if (b == null || b.isMatrixNull()) {
+            throw new IllegalArgumentException("Matrix is empty or null.");
+        }
+        if (b.getRows() != n) {
+            throw new IllegalArgumentException("Right-hand side must have " + n + " rows.");
+        }
+        this.requirePositiveDefinite();
+        int m = b.getColumns();
+        double[] x = b.getCopyMatrix().getData();
+        RPackedKernel.forwardSubstitute(this.l, n, false, x, m);
+        RPackedKernel.backSubstituteTranspose(this.l, n, false, x, m);
+        return new RMatrix(x, n, m);
+    }
+
+    // A^-1 = L^-T L^-1 in n^3/3 multiply-adds, against n^3 for LU followed by n solves
+    @Override
+    public RMatrix getInverse() {
+        return new RMatrix(RPackedKernel.unpack(this.packedInverse(), n), n, n);
+    }
+
+    // The inverse in packed form, at half the memory of getInverse()
+    public PackedSymmetricRMatrix getPackedInverse() {
+        return new PackedSymmetricRMatrix(this.packedInverse(), n);
+    }
+
+    private double[] packedInverse() {
+        this.requirePositiveDefinite();
+        return RPackedKernel.weightedGram(RPackedKernel.invertLower(this.l, n, false), null, n);
+    }
+}
@@ -0,0 +1,18 @@
+package Matrix.RealMatrix;
+
+// A factorization of a square matrix, reused for any number of solves, the determinant and the inverse.
+// RMatrix.getDecomposition picks LU, LDL^T or Cholesky from the matrix structure.
+public interface RDecomposition {
+
+    int getSize();
+
+    double getDeterminant();
+
+    // Solves A x = b
+    double[] solve(double[] b);
+
+    // Solves A X = B for every column of B at once
+    RMatrix solve(RMatrix b);
+
+    RMatrix getInverse();
+}
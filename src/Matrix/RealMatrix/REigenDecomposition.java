@@ -0,0 +1,715 @@
+package Matrix.RealMatrix;
+
+import Complex.Complex;
+import Matrix.ComplexMatrix.CMatrix;
+import Matrix.MatrixStructure;
+import Simd.VectorBackend;
+import Simd.VectorBackends;
+
+import java.util.Arrays;
+
+// A V = V Lambda for a square real matrix. Symmetric input is reduced to tridiagonal form by Householder
+// similarity transforms and handed to RTridiagonalEigen, giving real eigenvalues in ascending order and
+// orthonormal eigenvectors. Any other matrix is balanced, reduced to upper Hessenberg form and brought to real
+// Schur form by Francis double-shift QR, so a complex conjugate pair costs no complex arithmetic until its
+// eigenvectors are read off the quasi-triangular factor; those eigenvalues stay in Schur order. Eigenvectors
+// are optional: without them no orthogonal factor is formed and each QR sweep only touches the active window.
+public final class REigenDecomposition {
+
+    private static final VectorBackend BACKEND = VectorBackends.get();
+
+    private static final double EPS = Math.ulp(1.0);
+
+    // QR sweeps allowed per eigenvalue before the iteration is declared stuck
+    private static final int MAX_SWEEPS = 30;
+
+    // Every tenth sweep on one window uses an ad hoc shift to break cycles of the standard one
+    private static final int EXCEPTIONAL_SHIFT = 10;
+
+    // Balancing scales by powers of two, so it never rounds
+    private static final double RADIX = 2.0;
+
+    // Rows interleaved when a whole sweep is applied from the right: the reflectors of one sweep overlap, so
+    // within a single row each update waits on the previous one
+    private static final int ROWS = 16;
+
+    private final int n;
+    private final boolean symmetric;
+    private final double[] valuesRe, valuesIm;
+
+    // Row-major n x n with the eigenvector of eigenvalue j in column j, null when not computed; the imaginary
+    // plane is also null when every eigenvalue is real
+    private final double[] vectorsRe, vectorsIm;
+
+    public REigenDecomposition(RMatrix matrix) {
+        this(matrix, true);
+    }
+
+    // The path follows isSymmetric(): exact symmetry takes the tridiagonal path, anything else the general one
+    public REigenDecomposition(RMatrix matrix, boolean computeEigenvectors) {
+        this(matrix, matrix != null && matrix.isSymmetric() ? MatrixStructure.SYMMETRIC : MatrixStructure.GENERAL,
+                computeEigenvectors);
+    }
+
+    // The hint is trusted: SYMMETRIC and POSITIVE_DEFINITE read the lower triangle only
+    public REigenDecomposition(RMatrix matrix, MatrixStructure structure, boolean computeEigenvectors) {
+        if (matrix == null || matrix.isMatrixNull()) {
+            throw new IllegalArgumentException("Matrix is empty or null.");
+        }
+        if (matrix.getRows() != matrix.getColumns()) {
+            throw new IllegalArgumentException("Eigen-decomposition is only defined for square matrices.");
+        }
+        if (structure == null) {
+            throw new IllegalArgumentException("Matrix structure cannot be null.");
+        }
+
+        this.n = matrix.getRows();
+        this.symmetric = structure != MatrixStructure.GENERAL;
+        double[] a = matrix.getCopyMatrix().getData();
+        for (double value : a) {
+            if (!Double.isFinite(value)) {
+                throw new IllegalArgumentException("Matrix contains NaN or infinite entries.");
+            }
+        }
+
+        this.valuesIm = new double[n];
+        if (this.symmetric) {
+            double[] d = new double[n], e = new double[n - 1], tau = new double[n];
+            tridiagonalize(a, n, d, e, tau);
+            if (!computeEigenvectors) {
+                this.valuesRe = RTridiagonalEigen.eigenvalues(d, e);
+                this.vectorsRe = null;
+            } else {
+                double[][] decomposition = RTridiagonalEigen.decompose(d, e);
+                this.valuesRe = decomposition[0];
+                this.vectorsRe = new double[n * n];
+                RMatrixKernel.gemm(n, n, n, formQ(a, tau, n), 0, n, decomposition[1], 0, n, this.vectorsRe, 0, n);
+            }
+            this.vectorsIm = null;
+            return;
+        }
+
+        this.valuesRe = new double[n];
+        double[] scale = balance(a, n);
+        double[] reflectors = computeEigenvectors ? new double[n * n] : null;
+        double[] tau = new double[n];
+        hessenberg(a, n, reflectors, tau);
+        double[] z = computeEigenvectors ? formQ(reflectors, tau, n) : null;
+        schur(a, n, z, this.valuesRe, this.valuesIm);
+        if (!computeEigenvectors) {
+            this.vectorsRe = null;
+            this.vectorsIm = null;
+            return;
+        }
+
+        boolean complex = false;
+        for (double im : this.valuesIm) {
+            complex |= im != 0.0;
+        }
+        double[][] x = this.schurVectors(a);
+        this.vectorsRe = new double[n * n];
+        RMatrixKernel.gemm(n, n, n, z, 0, n, x[0], 0, n, this.vectorsRe, 0, n);
+        if (complex) {
+            this.vectorsIm = new double[n * n];
+            RMatrixKernel.gemm(n, n, n, z, 0, n, x[1], 0, n, this.vectorsIm, 0, n);
+        } else {
+            this.vectorsIm = null;
+        }
+        normalize(this.vectorsRe, this.vectorsIm, scale, n);
+    }
+
+    public int getSize() {
+        return this.n;
+    }
+
+    // True when the symmetric path was taken: real eigenvalues ascending, orthonormal eigenvectors
+    public boolean isSymmetric() {
+        return this.symmetric;
+    }
+
+    public boolean hasEigenvectors() {
+        return this.vectorsRe != null;
+    }
+
+    public boolean hasComplexEigenvalues() {
+        for (double im : this.valuesIm) {
+            if (im != 0.0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Complex conjugate pairs are adjacent, the one with positive imaginary part first
+    public Complex[] getEigenvalues() {
+        Complex[] values = new Complex[n];
+        for (int i = 0; i < n; i++) {
+            values[i] = new Complex(this.valuesRe[i], this.valuesIm[i]);
+        }
+        return values;
+    }
+
+    public double[] getRealEigenvalues() {
+        if (this.hasComplexEigenvalues()) {
+            throw new IllegalArgumentException("Matrix has complex eigenvalues.");
+        }
+        return this.valuesRe.clone();
+    }
+
+    // Unit-norm eigenvectors by columns, in the order of getEigenvalues()
+    public CMatrix getEigenvectors() {
+        this.checkEigenvectors();
+        double[] im = this.vectorsIm != null ? this.vectorsIm.clone() : new double[n * n];
+        return new CMatrix(this.vectorsRe.clone(), im, n, n);
+    }
+
+    public RMatrix getRealEigenvectors() {
+        this.checkEigenvectors();
+        if (this.vectorsIm != null) {
+            throw new IllegalArgumentException("Matrix has complex eigenvalues.");
+        }
+        return new RMatrix(this.vectorsRe.clone(), n, n);
+    }
+
+    private void checkEigenvectors() {
+        if (this.vectorsRe == null) {
+            throw new IllegalArgumentException("Eigenvectors were not computed.");
+        }
+    }
+
+    // Q^T A Q = T for a symmetric A held in its lower triangle, one reflector per column. Each step forms
+    // p = tau A22 v from the lower triangle alone, then the rank-two update A22 -= v w^T + w v^T, both row by
+    // row. Reflector k keeps its tail in row k right of the superdiagonal, which the reduction never reads.
+    private static void tridiagonalize(double[] a, int n, double[] d, double[] e, double[] tau) {
+        double[] v = new double[n], p = new double[n];
+        for (int k = 0; k < n - 2; k++) {
+            int lo = k + 1;
+            for (int i = lo; i < n; i++) {
+                v[i] = a[i * n + k];
+            }
+            double t = RHouseholderKernel.generate(v, lo, v, lo + 1, n - lo - 1);
+            tau[k] = t;
+            d[k] = a[k * n + k];
+            e[k] = v[lo];
+            v[lo] = 1.0;
+            System.arraycopy(v, lo + 1, a, k * n + lo + 1, n - lo - 1);
+            if (t == 0.0) continue;
+
+            for (int i = lo; i < n; i++) {
+                p[i] = 0.0;
+            }
+            for (int i = lo; i < n; i++) {
+                int row = i * n;
+                double vi = v[i];
+                p[i] += BACKEND.dot(a, row + lo, v, lo, i - lo) + a[row + i] * vi;
+                for (int j = lo; j < i; j++) {
+                    p[j] += a[row + j] * vi;
+                }
+            }
+            for (int i = lo; i < n; i++) {
+                p[i] *= t;
+            }
+            double alpha = -0.5 * t * BACKEND.dot(p, lo, v, lo, n - lo);
+            for (int i = lo; i < n; i++) {
+                p[i] += alpha * v[i];
+            }
+            for (int i = lo; i < n; i++) {
+                int row = i * n;
+                double vi = v[i], wi = p[i];
+                for (int j = lo; j <= i; j++) {
+                    a[row + j] -= vi * p[j] + wi * v[j];
+                }
+            }
+        }
+        if (n >= 2) {
+            d[n - 2] = a[(n - 2) * n + n - 2];
+            e[n - 2] = a[(n - 1) * n + n - 2];
+        }
+        d[n - 1] = a[(n - 1) * n + n - 1];
+    }
+
+    // Q = H_0 H_1 .. H_(n-3), reflector k acting on rows k + 1 .. n - 1 with the tail of v in row k of
+    // reflectors from column k + 2. Accumulated last to first, so each step only touches the trailing block
+    // it changes, row by row.
+    private static double[] formQ(double[] reflectors, double[] tau, int n) {
+        double[] q = new double[n * n];
+        for (int i = 0; i < n; i++) {
+            q[i * n + i] = 1.0;
+        }
+        double[] w = new double[n];
+        for (int k = n - 3; k >= 0; k--) {
+            double t = tau[k];
+            if (t == 0.0) continue;
+            int lo = k + 1, len = n - lo;
+            System.arraycopy(q, lo * n + lo, w, lo, len);
+            for (int i = lo + 1; i < n; i++) {
+                double vi = reflectors[k * n + i];
+                int row = i * n;
+                for (int j = lo; j < n; j++) {
+                    w[j] += vi * q[row + j];
+                }
+            }
+            for (int i = lo; i < n; i++) {
+                double f = t * (i == lo ? 1.0 : reflectors[k * n + i]);
+                int row = i * n;
+                for (int j = lo; j < n; j++) {
+                    q[row + j] -= f * w[j];
+                }
+            }
+        }
+        return q;
+    }
+
+    // D^-1 A D with D a diagonal of powers of two chosen so each row and its column have similar norms
+    // (Parlett and Reinsch). Eigenvalues are unchanged but become better conditioned for QR. Returns D.
+    private static double[] balance(double[] a, int n) {
+        double[] scale = new double[n];
+        Arrays.fill(scale, 1.0);
+        boolean converged = false;
+        while (!converged) {
+            converged = true;
+            for (int i = 0; i < n; i++) {
+                double c = 0.0, r = 0.0;
+                for (int j = 0; j < n; j++) {
+                    if (j == i) continue;
+                    c += Math.abs(a[j * n + i]);
+                    r += Math.abs(a[i * n + j]);
+                }
+                if (c == 0.0 || r == 0.0) continue;
+                double g = r / RADIX, f = 1.0, s = c + r;
+                while (c < g) {
+                    f *= RADIX;
+                    c *= RADIX * RADIX;
+                }
+                g = r * RADIX;
+                while (c >= g) {
+                    f /= RADIX;
+                    c /= RADIX * RADIX;
+                }
+                if ((c + r) / f < 0.95 * s) {
+                    converged = false;
+                    scale[i] *= f;
+                    for (int j = 0; j < n; j++) {
+                        a[i * n + j] /= f;
+                        a[j * n + i] *= f;
+                    }
+                }
+            }
+        }
+        return scale;
+    }
+
+    // Q^T A Q = H upper Hessenberg: reflector k zeroes column k below the subdiagonal and is applied from the
+    // left to the trailing rows and from the right to every row, both as row sweeps. The tails of the
+    // reflectors go to the separate array, if any, for formQ.
+    private static void hessenberg(double[] a, int n, double[] reflectors, double[] tau) {
+        double[] v = new double[n], w = new double[n];
+        for (int k = 0; k < n - 2; k++) {
+            int lo = k + 1, len = n - lo;
+            for (int i = lo; i < n; i++) {
+                v[i] = a[i * n + k];
+            }
+            double t = RHouseholderKernel.generate(v, lo, v, lo + 1, len - 1);
+            tau[k] = t;
+            a[lo * n + k] = v[lo];
+            for (int i = lo + 1; i < n; i++) {
+                a[i * n + k] = 0.0;
+            }
+            v[lo] = 1.0;
+            if (reflectors != null) {
+                System.arraycopy(v, lo + 1, reflectors, k * n + lo + 1, len - 1);
+            }
+            if (t == 0.0) continue;
+
+            // A(lo.., lo..) -= tau v (v^T A(lo.., lo..))
+            System.arraycopy(a, lo * n + lo, w, lo, len);
+            for (int i = lo + 1; i < n; i++) {
+                double vi = v[i];
+                int row = i * n;
+                for (int j = lo; j < n; j++) {
+                    w[j] += vi * a[row + j];
+                }
+            }
+            for (int i = lo; i < n; i++) {
+                double f = t * v[i];
+                int row = i * n;
+                for (int j = lo; j < n; j++) {
+                    a[row + j] -= f * w[j];
+                }
+            }
+
+            // A(.., lo..) -= tau (A(.., lo..) v) v^T
+            for (int i = 0; i < n; i++) {
+                int row = i * n + lo;
+                double f = t * BACKEND.dot(a, row, v, lo, len);
+                for (int j = 0; j < len; j++) {
+                    a[row + j] -= f * v[lo + j];
+                }
+            }
+        }
+    }
+
+    // Francis double-shift QR on the Hessenberg h until it is quasi-triangular, reading eigenvalues off the
+    // 1 x 1 and 2 x 2 diagonal blocks as they deflate. With z the whole of h and z are updated, leaving the
+    // real Schur form T = Z^T A Z; without it only the active window is.
+    private static void schur(double[] h, int n, double[] z, double[] wr, double[] wi) {
+        double norm = 0.0;
+        for (int i = 0; i < n; i++) {
+            for (int j = Math.max(0, i - 1); j < n; j++) {
+                norm += Math.abs(h[i * n + j]);
+            }
+        }
+        double[] taus = new double[n], v1s = new double[n], v2s = new double[n];
+        int hi = n - 1, sweeps = 0, total = 0;
+        while (hi >= 0) {
+            int l = hi;
+            while (l > 0) {
+                double s = Math.abs(h[(l - 1) * n + l - 1]) + Math.abs(h[l * n + l]);
+                if (s == 0.0) {
+                    s = norm;
+                }
+                if (Math.abs(h[l * n + l - 1]) <= EPS * s) {
+                    h[l * n + l - 1] = 0.0;
+                    break;
+                }
+                l--;
+            }
+            if (l == hi) {
+                wr[hi] = h[hi * n + hi];
+                wi[hi] = 0.0;
+                hi--;
+                sweeps = 0;
+                continue;
+            }
+            if (l == hi - 1) {
+                blockEigenvalues(h, n, hi - 1, wr, wi);
+                hi -= 2;
+                sweeps = 0;
+                continue;
+            }
+            if (++total > MAX_SWEEPS * n) {
+                throw new ArithmeticException("Eigenvalue iteration did not converge.");
+            }
+
+            // The shifts enter only through their sum and product, so a complex pair stays real
+            double sum, product;
+            if (++sweeps % EXCEPTIONAL_SHIFT == 0) {
+                double w = Math.abs(h[hi * n + hi - 1]) + Math.abs(h[(hi - 1) * n + hi - 2]);
+                double base = h[hi * n + hi] + 0.75 * w;
+                sum = 2.0 * base;
+                product = base * base + 0.4375 * w * w;
+            } else {
+                double a = h[(hi - 1) * n + hi - 1], d = h[hi * n + hi];
+                sum = a + d;
+                product = a * d - h[(hi - 1) * n + hi] * h[hi * n + hi - 1];
+            }
+            sweep(h, n, z, l, hi, sum, product, taus, v1s, v2s);
+        }
+    }
+
+    // One implicit double-shift step on the window [l, hi]: the first column of (H - s1)(H - s2) starts a
+    // 3 x 3 bulge that reflectors chase down the subdiagonal. Only the window rows the chase reads next take
+    // each reflector from the right at once; the rows above the window and z take the whole sweep afterwards,
+    // a block of rows at a time, so those row segments are streamed through cache once per sweep rather than
+    // once per reflector.
+    private static void sweep(double[] h, int n, double[] z, int l, int hi, double sum, double product,
+                              double[] taus, double[] v1s, double[] v2s) {
+        int last = z != null ? n : hi + 1;
+        double h00 = h[l * n + l], h10 = h[(l + 1) * n + l];
+        double x = h00 * h00 + h[l * n + l + 1] * h10 - sum * h00 + product;
+        double y = h10 * (h00 + h[(l + 1) * n + l + 1] - sum);
+        double w = h10 * h[(l + 2) * n + l + 1];
+
+        for (int k = l; k < hi; k++) {
+            boolean three = k < hi - 1;
+            if (k > l) {
+                x = h[k * n + k - 1];
+                y = h[(k + 1) * n + k - 1];
+                w = three ? h[(k + 2) * n + k - 1] : 0.0;
+            }
+            taus[k] = 0.0;
+            double scale = Math.abs(x) + Math.abs(y) + Math.abs(w);
+            if (scale == 0.0) continue;
+            double xs = x / scale, ys = y / scale, ws = w / scale;
+            double beta = -Math.copySign(scale * Math.sqrt(xs * xs + ys * ys + ws * ws), x);
+            double tau = (beta - x) / beta;
+            double v1 = y / (x - beta), v2 = w / (x - beta);
+            taus[k] = tau;
+            v1s[k] = v1;
+            v2s[k] = v2;
+            if (k > l) {
+                h[k * n + k - 1] = beta;
+                h[(k + 1) * n + k - 1] = 0.0;
+                if (three) {
+                    h[(k + 2) * n + k - 1] = 0.0;
+                }
+            }
+
+            int row0 = k * n, row1 = row0 + n, row2 = row1 + n;
+            int end = Math.min(k + 3, hi);
+            if (three) {
+                for (int j = k; j < last; j++) {
+                    double s = tau * (h[row0 + j] + v1 * h[row1 + j] + v2 * h[row2 + j]);
+                    h[row0 + j] -= s;
+                    h[row1 + j] -= s * v1;
+                    h[row2 + j] -= s * v2;
+                }
+                for (int i = l; i <= end; i++) {
+                    int base = i * n + k;
+                    double s = tau * (h[base] + v1 * h[base + 1] + v2 * h[base + 2]);
+                    h[base] -= s;
+                    h[base + 1] -= s * v1;
+                    h[base + 2] -= s * v2;
+                }
+            } else {
+                for (int j = k; j < last; j++) {
+                    double s = tau * (h[row0 + j] + v1 * h[row1 + j]);
+                    h[row0 + j] -= s;
+                    h[row1 + j] -= s * v1;
+                }
+                for (int i = l; i <= end; i++) {
+                    int base = i * n + k;
+                    double s = tau * (h[base] + v1 * h[base + 1]);
+                    h[base] -= s;
+                    h[base + 1] -= s * v1;
+                }
+            }
+        }
+        if (z != null) {
+            applyRight(h, n, 0, l, l, hi, hi, taus, v1s, v2s);
+            applyRight(z, n, 0, n, l, hi, hi, taus, v1s, v2s);
+        }
+    }
+
+    // Rows [rowStart, rowEnd) of a times the reflectors k0 .. k1 - 1 of a sweep ending at hi, ROWS rows at once
+    private static void applyRight(double[] a, int n, int rowStart, int rowEnd, int k0, int k1, int hi,
+                                   double[] taus, double[] v1s, double[] v2s) {
+        for (int r0 = rowStart; r0 < rowEnd; r0 += ROWS) {
+            int r1 = Math.min(r0 + ROWS, rowEnd);
+            for (int k = k0; k < k1; k++) {
+                double tau = taus[k];
+                if (tau == 0.0) continue;
+                double v1 = v1s[k];
+                if (k < hi - 1) {
+                    double v2 = v2s[k];
+                    for (int i = r0; i < r1; i++) {
+                        int base = i * n + k;
+                        double s = tau * (a[base] + v1 * a[base + 1] + v2 * a[base + 2]);
+                        a[base] -= s;
+                        a[base + 1] -= s * v1;
+                        a[base + 2] -= s * v2;
+                    }
+                } else {
+                    for (int i = r0; i < r1; i++) {
+                        int base = i * n + k;
+                        double s = tau * (a[base] + v1 * a[base + 1]);
+                        a[base] -= s;
+                        a[base + 1] -= s * v1;
+                    }
+                }
+            }
+        }
+    }
+
+    // Eigenvalues of the 2 x 2 block at (p, p), a complex pair with the positive imaginary part first
+    private static void blockEigenvalues(double[] h, int n, int p, double[] wr, double[] wi) {
+        double a = h[p * n + p], b = h[p * n + p + 1];
+        double c = h[(p + 1) * n + p], d = h[(p + 1) * n + p + 1];
+        double half = 0.5 * (a - d);
+        double discriminant = half * half + b * c;
+        if (discriminant >= 0.0) {
+            // Larger root first, the smaller from the product so neither cancels
+            double root = half + Math.copySign(Math.sqrt(discriminant), half);
+            wr[p] = d + root;
+            wr[p + 1] = root != 0.0 ? d - b * c / root : d;
+            wi[p] = 0.0;
+            wi[p + 1] = 0.0;
+        } else {
+            double im = Math.sqrt(-discriminant);
+            wr[p] = d + half;
+            wr[p + 1] = d + half;
+            wi[p] = im;
+            wi[p + 1] = -im;
+        }
+    }
+
+    // Eigenvectors of the quasi-triangular T by columns as {re, im} planes. For eigenvalue lambda of the block
+    // at p, the block's own eigenvector is written directly and the rows above solved bottom-up as 1 x 1 or
+    // 2 x 2 systems (T_jj - lambda) x_j = -T_j,> x_>, in complex arithmetic only when lambda is complex. The
+    // conjugate of a pair takes the conjugate vector.
+    private double[][] schurVectors(double[] t) {
+        double tNorm = 0.0;
+        for (double value : t) {
+            tNorm = Math.max(tNorm, Math.abs(value));
+        }
+        double small = Math.max(EPS * tNorm, Double.MIN_NORMAL);
+
+        double[] xr = new double[n * n], xi = new double[n * n];
+        double[] ur = new double[n], ui = new double[n];
+        for (int p = 0; p < n; ) {
+            boolean pair = p < n - 1 && t[(p + 1) * n + p] != 0.0;
+            int size = pair ? 2 : 1;
+            for (int e = p; e < p + size; e++) {
+                if (e > p && this.valuesIm[p] != 0.0) {
+                    for (int i = 0; i < n; i++) {
+                        xr[i * n + e] = xr[i * n + p];
+                        xi[i * n + e] = -xi[i * n + p];
+                    }
+                    continue;
+                }
+                quasiTriangularSolve(t, n, p, size, this.valuesRe[e], this.valuesIm[e], small, ur, ui);
+                for (int i = 0; i < p + size; i++) {
+                    xr[i * n + e] = ur[i];
+                    xi[i * n + e] = ui[i];
+                }
+            }
+            p += size;
+        }
+        return new double[][]{xr, xi};
+    }
+
+    private static void quasiTriangularSolve(double[] t, int n, int p, int size, double lambdaRe, double lambdaIm,
+                                             double small, double[] ur, double[] ui) {
+        Arrays.fill(ur, 0.0);
+        Arrays.fill(ui, 0.0);
+        if (size == 1) {
+            ur[p] = 1.0;
+        } else {
+            // (b, lambda - a) and (lambda - d, c) both lie in the null space; take the larger
+            double a = t[p * n + p], b = t[p * n + p + 1], c = t[(p + 1) * n + p], d = t[(p + 1) * n + p + 1];
+            double first = b * b + (lambdaRe - a) * (lambdaRe - a) + lambdaIm * lambdaIm;
+            double second = c * c + (lambdaRe - d) * (lambdaRe - d) + lambdaIm * lambdaIm;
+            if (first >= second) {
+                ur[p] = b;
+                ur[p + 1] = lambdaRe - a;
+                ui[p + 1] = lambdaIm;
+            } else {
+                ur[p] = lambdaRe - d;
+                ui[p] = lambdaIm;
+                ur[p + 1] = c;
+            }
+        }
+
+        int end = p + size;
+        double[] m = new double[8], rhs = new double[4], x = new double[4];
+        for (int j = p - 1; j >= 0; ) {
+            boolean block = j > 0 && t[j * n + j - 1] != 0.0;
+            int top = block ? j - 1 : j;
+            int len = end - j - 1;
+            if (!block) {
+                int row = j * n;
+                double sRe = -BACKEND.dot(t, row + j + 1, ur, j + 1, len);
+                double sIm = lambdaIm != 0.0 ? -BACKEND.dot(t, row + j + 1, ui, j + 1, len) : 0.0;
+                double dRe = t[row + j] - lambdaRe, dIm = -lambdaIm;
+                if (Math.abs(dRe) + Math.abs(dIm) < small) {
+                    dRe = small;
+                    dIm = 0.0;
+                }
+                double inv = 1.0 / (dRe * dRe + dIm * dIm);
+                ur[j] = (sRe * dRe + sIm * dIm) * inv;
+                ui[j] = (sIm * dRe - sRe * dIm) * inv;
+            } else {
+                for (int r = 0; r < 2; r++) {
+                    int row = (top + r) * n;
+                    rhs[2 * r] = -BACKEND.dot(t, row + j + 1, ur, j + 1, len);
+                    rhs[2 * r + 1] = lambdaIm != 0.0 ? -BACKEND.dot(t, row + j + 1, ui, j + 1, len) : 0.0;
+                    for (int c = 0; c < 2; c++) {
+                        m[4 * r + 2 * c] = t[row + top + c] - (r == c ? lambdaRe : 0.0);
+                        m[4 * r + 2 * c + 1] = r == c ? -lambdaIm : 0.0;
+                    }
+                }
+                solve2x2(m, rhs, x, small);
+                ur[top] = x[0];
+                ui[top] = x[1];
+                ur[j] = x[2];
+                ui[j] = x[3];
+            }
+
+            // Rescale instead of overflowing when the system above was nearly singular
+            double magnitude = Math.abs(ur[top]) + Math.abs(ui[top]) + Math.abs(ur[j]) + Math.abs(ui[j]);
+            if (magnitude > 1e100) {
+                for (int i = top; i < end; i++) {
+                    ur[i] *= 1e-100;
+                    ui[i] *= 1e-100;
+                }
+            }
+            j = top - 1;
+        }
+    }
+
+    // Complex 2 x 2 solve M x = rhs by elimination with complete pivoting, entries interleaved (re, im) and M
+    // row-major; pivots below small are replaced by small
+    private static void solve2x2(double[] m, double[] rhs, double[] x, double small) {
+        int pivot = 0;
+        double max = -1.0;
+        for (int i = 0; i < 4; i++) {
+            double magnitude = Math.abs(m[2 * i]) + Math.abs(m[2 * i + 1]);
+            if (magnitude > max) {
+                max = magnitude;
+                pivot = i;
+            }
+        }
+        int r = pivot / 2, c = pivot % 2, r2 = 1 - r, c2 = 1 - c;
+        double uRe = m[4 * r + 2 * c], uIm = m[4 * r + 2 * c + 1];
+        if (max < small) {
+            uRe = small;
+            uIm = 0.0;
+        }
+        double inv = 1.0 / (uRe * uRe + uIm * uIm);
+
+        // l = M(r2, c) / u
+        double aRe = m[4 * r2 + 2 * c], aIm = m[4 * r2 + 2 * c + 1];
+        double lRe = (aRe * uRe + aIm * uIm) * inv, lIm = (aIm * uRe - aRe * uIm) * inv;
+        double bRe = m[4 * r + 2 * c2], bIm = m[4 * r + 2 * c2 + 1];
+        double u2Re = m[4 * r2 + 2 * c2] - (lRe * bRe - lIm * bIm);
+        double u2Im = m[4 * r2 + 2 * c2 + 1] - (lRe * bIm + lIm * bRe);
+        if (Math.abs(u2Re) + Math.abs(u2Im) < small) {
+            u2Re = small;
+            u2Im = 0.0;
+        }
+        double sRe = rhs[2 * r2] - (lRe * rhs[2 * r] - lIm * rhs[2 * r + 1]);
+        double sIm = rhs[2 * r2 + 1] - (lRe * rhs[2 * r + 1] + lIm * rhs[2 * r]);
+        double inv2 = 1.0 / (u2Re * u2Re + u2Im * u2Im);
+        double x2Re = (sRe * u2Re + sIm * u2Im) * inv2, x2Im = (sIm * u2Re - sRe * u2Im) * inv2;
+
+        double tRe = rhs[2 * r] - (bRe * x2Re - bIm * x2Im);
+        double tIm = rhs[2 * r + 1] - (bRe * x2Im + bIm * x2Re);
+        x[2 * c2] = x2Re;
+        x[2 * c2 + 1] = x2Im;
+        x[2 * c] = (tRe * uRe + tIm * uIm) * inv;
+        x[2 * c + 1] = (tIm * uRe - tRe * uIm) * inv;
+    }
+
+    // Undoes the balancing, V = D V, then scales every column to unit 2-norm
+    private static void normalize(double[] re, double[] im, double[] scale, int n) {
+        double[] norms = new double[n];
+        for (int i = 0; i < n; i++) {
+            int row = i * n;
+            double s = scale[i];
+            for (int j = 0; j < n; j++) {
+                re[row + j] *= s;
+                norms[j] += re[row + j] * re[row + j];
+            }
+            if (im != null) {
+                for (int j = 0; j < n; j++) {
+                    im[row + j] *= s;
+                    norms[j] += im[row + j] * im[row + j];
+                }
+            }
+        }
+        for (int j = 0; j < n; j++) {
+            norms[j] = norms[j] > 0.0 ? 1.0 / Math.sqrt(norms[j]) : 1.0;
+        }
+        for (int i = 0; i < n; i++) {
+            int row = i * n;
+            for (int j = 0; j < n; j++) {
+                re[row + j] *= norms[j];
+            }
+            if (im != null) {
+                for (int j = 0; j < n; j++) {
+                    im[row + j] *= norms[j];
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package Matrix.RealMatrix;
+
+import Simd.VectorBackend;
+import Simd.VectorBackends;
+
+// Householder reflections H = I - tau v v^T with v = (1, v_1 .. v_len) and the leading 1 implicit. The head
+// element of a vector is addressed separately from its tail, so the same kernels serve a column of a QR
+// factor (head and tail in one row) and a row of R stacked on a panel of new rows (head in R, tail in the
+// panel). Shared by RQRDecomposition and RStreamingLeastSquares.
+final class RHouseholderKernel {
+
+    private RHouseholderKernel() {
+        throw new UnsupportedOperationException("Cannot instantiate RHouseholderKernel.");
+    }
+
+    private static final VectorBackend BACKEND = VectorBackends.get();
+
+    // ||x[off .. off + len)||, rescaled by the largest magnitude when the plain sum of squares over- or
+    // underflows
+    static double norm(double[] x, int off, int len) {
+        double sumSquares = BACKEND.dot(x, off, x, off, len);
+        if (sumSquares >= Double.MIN_NORMAL && sumSquares < Double.POSITIVE_INFINITY) {
+            return Math.sqrt(sumSquares);
+        }
+        double scale = 0.0;
+        for (int i = off; i < off + len; i++) {
+            scale = Math.max(scale, Math.abs(x[i]));
+        }
+        if (scale == 0.0 || scale == Double.POSITIVE_INFINITY) {
+            return scale;
+        }
+        double sum = 0.0;
+        for (int i = off; i < off + len; i++) {
+            double scaled = x[i] / scale;
+            sum += scaled * scaled;
+        }
+        return scale * Math.sqrt(sum);
+    }
+
+    // Reflector that maps (head, tail) to (beta, 0): beta replaces the head, v overwrites the tail and tau is
+    // returned. beta takes the sign opposite to the head so 1 - head / beta never cancels. A tail that is
+    // already zero gives tau = 0, H = I.
+    static double generate(double[] head, int headIdx, double[] tail, int tailOff, int len) {
+        double tailNorm = norm(tail, tailOff, len);
+        if (tailNorm == 0.0) {
+            return 0.0;
+        }
+        double alpha = head[headIdx];
+        double beta = -Math.copySign(Math.hypot(alpha, tailNorm), alpha);
+        double scale = 1.0 / (alpha - beta);
+        for (int i = tailOff; i < tailOff + len; i++) {
+            tail[i] *= scale;
+        }
+        head[headIdx] = beta;
+        return (beta - alpha) / beta;
+    }
+
+    // (head, tail) = H (head, tail) for the reflector (tau, v)
+    static void apply(double tau, double[] v, int vOff, int len,
+                      double[] head, int headIdx, double[] tail, int tailOff) {
+        if (tau == 0.0) {
+            return;
+        }
+        double s = tau * (head[headIdx] + BACKEND.dot(v, vOff, tail, tailOff, len));
+        if (s == 0.0) {
+            return;
+        }
+        head[headIdx] -= s;
+        for (int i = 0; i < len; i++) {
+            tail[tailOff + i] -= s * v[vOff + i];
+        }
+    }
+
+    // Solves R x = y in place for an upper triangular n x n R held by columns: R(i, j) at r[j * ld + i]
+    static void backSubstitute(double[] r, int ld, int n, double[] y, int yOff) {
+        for (int j = n - 1; j >= 0; j--) {
+            int column = j * ld;
+            double x = y[yOff + j] / r[column + j];
+            y[yOff + j] = x;
+            if (x == 0.0) continue;
+            for (int i = 0; i < j; i++) {
+                y[yOff + i] -= r[column + i] * x;
+            }
+        }
+    }
+}
@@ -0,0 +1,362 @@
+package Matrix.RealMatrix;
+
+import java.util.Arrays;
+
+// P A P^T = L D L^T for a symmetric A: unit lower triangular L, block diagonal D with 1 x 1 and 2 x 2
+// blocks, and Bunch-Kaufman symmetric pivoting, so every symmetric matrix factors, indefinite and singular
+// ones included. Each step first brings the largest remaining diagonal entry forward, which lets every
+// semidefinite matrix through on 1 x 1 pivots alone; a 2 x 2 block is taken only where that pivot fails
+// the Bunch-Kaufman growth test. Only the lower triangle of A is read, and the factors overwrite a packed
+// copy of it, so no square root is taken and no n x n buffer is needed.
+public final class RLDLDecomposition implements RDecomposition {
+
+    // (1 + sqrt(17)) / 8, which bounds the element growth of each accepted pivot step by 1 + 1 / ALPHA
+    private static final double ALPHA = (1.0 + Math.sqrt(17.0)) / 8.0;
+
+    private final int n;
+
+    // Packed by rows: l_ij (j < i) at i * (i + 1) / 2 + j, with d_ii in the diagonal slot
+    private final double[] ld;
+
+    // d_(i+1)i of D, nonzero exactly where i and i + 1 form a 2 x 2 block; l_(i+1)i is zero there
+    private final double[] subdiagonal;
+
+    // Row i of P A P^T is row pivot[i] of A
+    private final int[] pivot;
+    private final boolean singular;
+
+    public RLDLDecomposition(RMatrix matrix) {
+        this(packedLower(matrix), matrix.getRows());
+    }
+
+    public RLDLDecomposition(PackedSymmetricRMatrix matrix) {
+        this(checkedData(matrix).clone(), matrix.getSize());
+    }
+
+    private static double[] packedLower(RMatrix matrix) {
+        if (matrix == null || matrix.isMatrixNull()) {
+            throw new IllegalArgumentException("Matrix is empty or null.");
+        }
+        if (matrix.getRows() != matrix.getColumns()) {
+            throw new IllegalArgumentException("LDL^T decomposition is only defined for square matrices.");
+        }
+        if (matrix.getRows() > RPackedKernel.MAX_SIZE) {
+            throw new IllegalArgumentException("Matrix is too large for a packed triangular factor.");
+        }
+        return RPackedKernel.pack(matrix.getData(), matrix.getOffset(), matrix.getStride(), matrix.getRows());
+    }
+
+    private static double[] checkedData(PackedSymmetricRMatrix matrix) {
+        if (matrix == null) {
+            throw new IllegalArgumentException("Matrix is empty or null.");
+        }
+        return matrix.getData();
+    }
+
+    private RLDLDecomposition(double[] a, int n) {
+        this.n = n;
+        this.ld = a;
+        this.subdiagonal = new double[n];
+        this.pivot = new int[n];
+        for (int i = 0; i < n; i++) {
+            this.pivot[i] = i;
+        }
+
+        boolean isSingular = false;
+        double[] column = new double[n], next = new double[n];
+
+        int k = 0;
+        while (k < n) {
+            // Largest remaining diagonal entry
+            int pivotIndex = k;
+            double max = Math.abs(a[RPackedKernel.row(k) + k]);
+            for (int i = k + 1; i < n; i++) {
+                double candidate = Math.abs(a[RPackedKernel.row(i) + i]);
+                if (candidate > max) {
+                    max = candidate;
+                    pivotIndex = i;
+                }
+            }
+            if (pivotIndex != k) {
+                this.interchange(a, k, pivotIndex);
+            }
+
+            int rowK = RPackedKernel.row(k);
+            double d = a[rowK + k];
+            double lambda = 0.0;
+            int m = k;
+            for (int i = k + 1; i < n; i++) {
+                column[i] = a[RPackedKernel.row(i) + k];
+                double candidate = Math.abs(column[i]);
+                if (candidate > lambda) {
+                    lambda = candidate;
+                    m = i;
+                }
+            }
+            if (lambda == 0.0) {
+                // Nothing to eliminate below d; a zero d leaves A singular
+                if (d == 0.0) {
+                    isSingular = true;
+                }
+                k++;
+                continue;
+            }
+
+            // Bunch-Kaufman: d is kept when |d| >= ALPHA * lambda or |d| * sigma >= ALPHA * lambda^2, sigma the
+            // largest off-diagonal entry of row m; otherwise rows k, m make the 2 x 2 block. The alternative of
+            // a 1 x 1 pivot at a_mm never arises, since |a_mm| <= |d| < ALPHA * lambda <= ALPHA * sigma.
+            boolean block = false;
+            if (Math.abs(d) < ALPHA * lambda) {
+                int rowM = RPackedKernel.row(m);
+                double sigma = 0.0;
+                for (int j = k; j < m; j++) {
+                    sigma = Math.max(sigma, Math.abs(a[rowM + j]));
+                }
+                for (int i = m + 1; i < n; i++) {
+                    sigma = Math.max(sigma, Math.abs(a[RPackedKernel.row(i) + m]));
+                }
+                block = Math.abs(d) * sigma < ALPHA * lambda * lambda;
+            }
+
+            if (!block) {
+                // l_ik = a_ik / d, then a_ij -= a_ik a_jk / d over the trailing lower triangle, row by row
+                for (int i = k + 1; i < n; i++) {
+                    int rowI = RPackedKernel.row(i);
+                    double scale = column[i] / d;
+                    a[rowI + k] = scale;
+                    if (scale == 0.0) continue;
+                    for (int j = k + 1; j <= i; j++) {
+                        a[rowI + j] -= scale * column[j];
+                    }
+                }
+                k++;
+                continue;
+            }
+
+            if (m != k + 1) {
+                this.interchange(a, k + 1, m);
+            }
+            int rowK1 = RPackedKernel.row(k + 1);
+            double d11 = a[rowK + k], d21 = a[rowK1 + k], d22 = a[rowK1 + k + 1];
+
+            // |d11 d22| < ALPHA^2 d21^2, so the determinant is close to -d21^2 and cannot cancel
+            double determinant = d11 * d22 - d21 * d21;
+            double e11 = d22 / determinant, e21 = -d21 / determinant, e22 = d11 / determinant;
+            for (int i = k + 2; i < n; i++) {
+                int rowI = RPackedKernel.row(i);
+                column[i] = a[rowI + k];
+                next[i] = a[rowI + k + 1];
+            }
+
+            // (l_ik, l_i(k+1)) = (a_ik, a_i(k+1)) D_k^-1, then a_ij -= l_ik a_jk + l_i(k+1) a_j(k+1)
+            for (int i = k + 2; i < n; i++) {
+                int rowI = RPackedKernel.row(i);
+                double l0 = column[i] * e11 + next[i] * e21, l1 = column[i] * e21 + next[i] * e22;
+                a[rowI + k] = l0;
+                a[rowI + k + 1] = l1;
+                if (l0 == 0.0 && l1 == 0.0) continue;
+                for (int j = k + 2; j <= i; j++) {
+                    a[rowI + j] -= l0 * column[j] + l1 * next[j];
+                }
+            }
+            a[rowK1 + k] = 0.0;
+            this.subdiagonal[k] = d21;
+            k += 2;
+        }
+
+        this.singular = isSingular;
+    }
+
+    // Symmetric interchange of rows and columns k < p, carried into the rows of L already computed
+    private void interchange(double[] a, int k, int p) {
+        swapSymmetric(a, this.n, k, p);
+        int temp = this.pivot[k];
+        this.pivot[k] = this.pivot[p];
+        this.pivot[p] = temp;
+    }
+
+    // Swaps rows and columns k < p of a symmetric matrix held as its packed lower triangle
+    private static void swapSymmetric(double[] a, int n, int k, int p) {
+        int rowK = RPackedKernel.row(k), rowP = RPackedKernel.row(p);
+        for (int j = 0; j < k; j++) {
+            swap(a, rowK + j, rowP + j);
+        }
+        swap(a, rowK + k, rowP + p);
+        for (int j = k + 1; j < p; j++) {
+            swap(a, RPackedKernel.row(j) + k, rowP + j);
+        }
+        for (int i = p + 1; i < n; i++) {
+            int rowI = RPackedKernel.row(i);
+            swap(a, rowI + k, rowI + p);
+        }
+    }
+
+    private static void swap(double[] a, int x, int y) {
+        double temp = a[x];
+        a[x] = a[y];
+        a[y] = temp;
+    }
+
+    @Override
+    public int getSize() {
+        return this.n;
+    }
+
+    public boolean isSingular() {
+        return this.singular;
+    }
+
+    public int[] getPivot() {
+        return this.pivot.clone();
+    }
+
+    private void requireNonSingular() {
+        if (this.singular) {
+            throw new IllegalArgumentException("Matrix is singular and cannot be inverted.");
+        }
+    }
+
+    public RMatrix getL() {
+        double[] dense = new double[n * n];
+        for (int i = 0; i < n; i++) {
+            System.arraycopy(this.ld, RPackedKernel.row(i), dense, i * n, i);
+            dense[i * n + i] = 1.0;
+        }
+        return new RMatrix(dense, n, n);
+    }
+
+    // Diagonal of D
+    public double[] getD() {
+        double[] d = new double[n];
+        for (int i = 0; i < n; i++) {
+            d[i] = this.ld[RPackedKernel.row(i) + i];
+        }
+        return d;
+    }
+
+    // Subdiagonal of D: d_(i+1)i, zero outside the 2 x 2 blocks
+    public double[] getSubdiagonalD() {
+        return Arrays.copyOf(this.subdiagonal, Math.max(n - 1, 0));
+    }
+
+    // det(A) = det(D), a product over its blocks, since det(P)^2 = 1
+    @Override
+    public double getDeterminant() {
+        if (this.singular) {
+            return 0.0;
+        }
+        double determinant = 1.0;
+        for (int i = 0; i < n; i++) {
+            double d = this.ld[RPackedKernel.row(i) + i];
+            if (this.subdiagonal[i] != 0.0) {
+                double offDiagonal = this.subdiagonal[i];
+                d = d * this.ld[RPackedKernel.row(i + 1) + i + 1] - offDiagonal * offDiagonal;
+                i++;
+            }
+            determinant *= d;
+        }
+        return determinant;
+    }
+
+    // D^-1 as {diagonal, subdiagonal}, block by block
+    private double[][] inverseD() {
+        double[] diagonal = new double[n], subdiagonal = new double[n];
+        for (int i = 0; i < n; i++) {
+            double d11 = this.ld[RPackedKernel.row(i) + i];
+            if (this.subdiagonal[i] == 0.0) {
+                diagonal[i] = 1.0 / d11;
+                continue;
+            }
+            double d21 = this.subdiagonal[i], d22 = this.ld[RPackedKernel.row(i + 1) + i + 1];
+            double determinant = d11 * d22 - d21 * d21;
+            diagonal[i] = d22 / determinant;
+            diagonal[i + 1] = d11 / determinant;
+            subdiagonal[i] = -d21 / determinant;
+            i++;
+        }
+        return new double[][]{diagonal, subdiagonal};
+    }
+
+    // Solves A x = b in O(n^2)
+    @Override
+    public double[] solve(double[] b) {
+        if (b == null || b.length != n) {
+            throw new IllegalArgumentException("Right-hand side must have " + n + " elements.");
+        }
+        return this.solve(new RMatrix(b.clone(), n, 1)).getData();
+    }
+
+    // Solves A X = B for every column of B at once: X = P^T L^-T D^-1 L^-1 P B
+    @Override
+    public RMatrix solve(RMatrix b) {
+        if (b == null || b.isMatrixNull()) {
+            throw new IllegalArgumentException("Matrix is empty or null.");
+        }
+        if (b.getRows() != n) {
+            throw new IllegalArgumentException("Right-hand side must have " + n + " rows.");
+        }
+        this.requireNonSingular();
+
+        int m = b.getColumns();
+        double[] y = new double[n * m];
+        double[] src = b.getData();
+        for (int i = 0; i < n; i++) {
+            System.arraycopy(src, b.getOffset() + this.pivot[i] * b.getStride(), y, i * m, m);
+        }
+
+        RPackedKernel.forwardSubstitute(this.ld, n, true, y, m);
+        double[][] inverseD = this.inverseD();
+        double[] diagonal = inverseD[0], subdiagonal = inverseD[1];
+        for (int i = 0; i < n; i++) {
+            int rowI = i * m;
+            if (subdiagonal[i] == 0.0) {
+                for (int j = 0; j < m; j++) {
+                    y[rowI + j] *= diagonal[i];
+                }
+                continue;
+            }
+            double e11 = diagonal[i], e21 = subdiagonal[i], e22 = diagonal[i + 1];
+            for (int j = 0, rowI1 = rowI + m; j < m; j++) {
+                double y0 = y[rowI + j], y1 = y[rowI1 + j];
+                y[rowI + j] = e11 * y0 + e21 * y1;
+                y[rowI1 + j] = e21 * y0 + e22 * y1;
+            }
+            i++;
+        }
+        RPackedKernel.backSubstituteTranspose(this.ld, n, true, y, m);
+
+        double[] x = new double[n * m];
+        for (int i = 0; i < n; i++) {
+            System.arraycopy(y, i * m, x, this.pivot[i] * m, m);
+        }
+        return new RMatrix(x, n, m);
+    }
+
+    @Override
+    public RMatrix getInverse() {
+        return new RMatrix(RPackedKernel.unpack(this.packedInverse(), n), n, n);
+    }
+
+    public PackedSymmetricRMatrix getPackedInverse() {
+        return new PackedSymmetricRMatrix(this.packedInverse(), n);
+    }
+
+    // (P A P^T)^-1 = L^-T D^-1 L^-1 in n^3/3 multiply-adds, then scattered back through the pivots
+    private double[] packedInverse() {
+        this.requireNonSingular();
+        double[][] inverseD = this.inverseD();
+        double[] permuted = RPackedKernel.weightedGram(RPackedKernel.invertLower(this.ld, n, true), inverseD[0],
+                inverseD[1], n);
+
+        double[] inverse = new double[permuted.length];
+        for (int i = 0; i < n; i++) {
+            int rowI = RPackedKernel.row(i), pi = this.pivot[i];
+            for (int j = 0; j <= i; j++) {
+                int pj = this.pivot[j];
+                int target = pi >= pj ? RPackedKernel.row(pi) + pj : RPackedKernel.row(pj) + pi;
+                inverse[target] = permuted[rowI + j];
+            }
+        }
+        return inverse;
+    }
+}
@@ -0,0 +1,372 @@
+package Matrix.RealMatrix;
+
+// PA = LU with partial pivoting. Factor once, then reuse for any number of solves,
+// the determinant and the inverse.
+public final class RLUDecomposition implements RDecomposition {
+
+    private final int n;
+
+    // Packed factors, row-major n x n: unit-diagonal L strictly below the diagonal, U on and above it
+    private final double[] lu;
+
+    // Row i of PA is row pivot[i] of A
+    private final int[] pivot;
+    private final int pivotSign;
+    private final boolean singular;
+
+    public RLUDecomposition(RMatrix matrix) {
+        if (matrix == null || matrix.isMatrixNull()) {
+            throw new IllegalArgumentException("Matrix is empty or null.");
+        }
+        if (matrix.getRows() != matrix.getColumns()) {
+            throw new IllegalArgumentException("LU decomposition is only defined for square matrices.");
+        }
+
+        this.n = matrix.getRows();
+        this.lu = matrix.getCopyMatrix().getData();
+        this.pivot = new int[n];
+        for (int i = 0; i < n; i++) {
+            this.pivot[i] = i;
+        }
+
+        int sign = 1;
+        boolean isSingular = false;
+        double[] a = this.lu;
+
+        for (int k = 0; k < n; k++) {
+            // Find the pivot row
+            int pivotRow = k;
+            double max = Math.abs(a[k * n + k]);
+            for (int i = k + 1; i < n; i++) {
+                double candidate = Math.abs(a[i * n + k]);
+                if (candidate > max) {
+                    max = candidate;
+                    pivotRow = i;
+                }
+            }
+
+            // Swap rows if necessary
+            if (pivotRow != k) {
+                int rowK = k * n, rowP = pivotRow * n;
+                for (int j = 0; j < n; j++) {
+                    double temp = a[rowK + j];
+                    a[rowK + j] = a[rowP + j];
+                    a[rowP + j] = temp;
+                }
+                int temp = this.pivot[k];
+                this.pivot[k] = this.pivot[pivotRow];
+                this.pivot[pivotRow] = temp;
+                sign = -sign;
+            }
+
+            double pivotValue = a[k * n + k];
+            if (pivotValue == 0.0) {
+                // Whole column is zero below the diagonal: nothing to eliminate
+                isSingular = true;
+                continue;
+            }
+
+            // Eliminate below the pivot, updating the trailing rows in contiguous sweeps
+            int rowK = k * n;
+            for (int i = k + 1; i < n; i++) {
+                int rowI = i * n;
+                double factor = a[rowI + k] / pivotValue;
+                a[rowI + k] = factor;
+                if (factor == 0.0) continue;
+                for (int j = k + 1; j < n; j++) {
+                    a[rowI + j] -= factor * a[rowK + j];
+                }
+            }
+        }
+
+        this.pivotSign = sign;
+        this.singular = isSingular;
+    }
+
+    @Override
+    public int getSize() {
+        return this.n;
+    }
+
+    public boolean isSingular() {
+        return this.singular;
+    }
+
+    public int[] getPivot() {
+        return this.pivot.clone();
+    }
+
+    public RMatrix getL() {
+        double[] l = new double[n * n];
+        for (int i = 0; i < n; i++) {
+            System.arraycopy(this.lu, i * n, l, i * n, i);
+            l[i * n + i] = 1.0;
+        }
+        return new RMatrix(l, n, n);
+    }
+
+    public RMatrix getU() {
+        double[] u = new double[n * n];
+        for (int i = 0; i < n; i++) {
+            System.arraycopy(this.lu, i * n + i, u, i * n + i, n - i);
+        }
+        return new RMatrix(u, n, n);
+    }
+
+    @Override
+    public double getDeterminant() {
+        if (this.singular) {
+            return 0.0;
+        }
+        double determinant = this.pivotSign;
+        for (int i = 0; i < n; i++) {
+            determinant *= this.lu[i * n + i];
+        }
+        return determinant;
+    }
+
+    private void requireNonSingular() {
+        if (this.singular) {
+            throw new IllegalArgumentException("Matrix is singular and cannot be inverted.");
+        }
+    }
+
+    // Solves A x = b in O(n^2)
+    @Override
+    public double[] solve(double[] b) {
+        if (b == null || b.length != n) {
+            throw new IllegalArgumentException("Right-hand side must have " + n + " elements.");
+        }
+        RMatrix x = this.solve(new RMatrix(b.clone(), n, 1));
+        return x.getData();
+    }
+
+    // Solves A X = B for every column of B at once
+    @Override
+    public RMatrix solve(RMatrix b) {
+        if (b == null || b.isMatrixNull()) {
+            throw new IllegalArgumentException("Matrix is empty or null.");
+        }
+        if (b.getRows() != n) {
+            throw new IllegalArgumentException("Right-hand side must have " + n + " rows.");
+        }
+        this.requireNonSingular();
+
+        int m = b.getColumns();
+        double[] x = new double[n * m];
+        double[] src = b.getData();
+
+        // X = P B
+        for (int i = 0; i < n; i++) {
+            System.arraycopy(src, b.getOffset() + this.pivot[i] * b.getStride(), x, i * m, m);
+        }
+
+        // Forward substitution with unit-diagonal L
+        for (int i = 1; i < n; i++) {
+            int rowI = i * m;
+            for (int k = 0; k < i; k++) {
+                double factor = this.lu[i * n + k];
+                if (factor == 0.0) continue;
+                int rowK = k * m;
+                for (int j = 0; j < m; j++) {
+                    x[rowI + j] -= factor * x[rowK + j];
+                }
+            }
+        }
+
+        // Back substitution with U
+        for (int i = n - 1; i >= 0; i--) {
+            int rowI = i * m;
+            for (int k = i + 1; k < n; k++) {
+                double factor = this.lu[i * n + k];
+                if (factor == 0.0) continue;
+                int rowK = k * m;
+                for (int j = 0; j < m; j++) {
+                    x[rowI + j] -= factor * x[rowK + j];
+                }
+            }
+            double diagonal = this.lu[i * n + i];
+            for (int j = 0; j < m; j++) {
+                x[rowI + j] /= diagonal;
+            }
+        }
+
+        return new RMatrix(x, n, m);
+    }
+
+    // Solves X A = B (right division B / A) without forming the inverse
+    public RMatrix solveLeft(RMatrix b) {
+        if (b == null || b.isMatrixNull()) {
+            throw new IllegalArgumentException("Matrix is empty or null.");
+        }
+        if (b.getColumns() != n) {
+            throw new IllegalArgumentException("Left-hand side must have " + n + " columns.");
+        }
+        this.requireNonSingular();
+
+        // Each row x of X satisfies A^T x = b, and A^T = U^T L^T P
+        int rows = b.getRows();
+        double[] x = new double[rows * n];
+        double[] y = new double[n];
+        double[] src = b.getData();
+
+        for (int r = 0; r < rows; r++) {
+            int rowB = b.getOffset() + r * b.getStride();
+
+            // U^T y = b (forward)
+            for (int i = 0; i < n; i++) {
+                double sum = src[rowB + i];
+                for (int k = 0; k < i; k++) {
+                    sum -= this.lu[k * n + i] * y[k];
+                }
+                y[i] = sum / this.lu[i * n + i];
+            }
+
+            // L^T z = y (backward, unit diagonal), z overwrites y
+            for (int i = n - 1; i >= 0; i--) {
+                double sum = y[i];
+                for (int k = i + 1; k < n; k++) {
+                    sum -= this.lu[k * n + i] * y[k];
+                }
+                y[i] = sum;
+            }
+
+            // x = P^T z
+            int rowX = r * n;
+            for (int i = 0; i < n; i++) {
+                x[rowX + this.pivot[i]] = y[i];
+            }
+        }
+
+        return new RMatrix(x, rows, n);
+    }
+
+    @Override
+    public RMatrix getInverse() {
+        return this.solve(RMatrixMath.identityMatrix(n));
+    }
+
+    // adj(A) in O(n^3): det(A) * A^-1 when A is nonsingular, otherwise the rank-deficient path below
+    public RMatrix getAdjugate() {
+        if (!this.singular) {
+            return this.getInverse().constProduct(this.getDeterminant());
+        }
+
+        // Rebuild A = P^T L U; this only happens for singular input
+        double[] pa = new double[n * n];
+        RMatrixKernel.gemm(n, n, n, this.getL().getData(), 0, n, this.getU().getData(), 0, n, pa, 0, n);
+        double[] a = new double[n * n];
+        for (int i = 0; i < n; i++) {
+            System.arraycopy(pa, i * n, a, this.pivot[i] * n, n);
+        }
+        return rankDeficientAdjugate(a, n);
+    }
+
+    // Complete-pivoting elimination P A Q = L U reveals the rank exactly: rank <= n-2 gives adj(A) = 0,
+    // and rank n-1 gives the rank-one adj(A) = sign(P) sign(Q) c (Q x)(e_n^T L^-1 P), where U x = 0 with
+    // x_n = 1 and c is the product of the n-1 nonzero pivots. The input array is overwritten.
+    private static RMatrix rankDeficientAdjugate(double[] a, int n) {
+        int[] rowPerm = new int[n], colPerm = new int[n];
+        for (int i = 0; i < n; i++) {
+            rowPerm[i] = i;
+            colPerm[i] = i;
+        }
+        int sign = 1;
+        int rank = n;
+
+        for (int k = 0; k < n; k++) {
+            int pivotRow = k, pivotCol = k;
+            double max = 0.0;
+            for (int i = k; i < n; i++) {
+                for (int j = k; j < n; j++) {
+                    double candidate = Math.abs(a[i * n + j]);
+                    if (candidate > max) {
+                        max = candidate;
+                        pivotRow = i;
+                        pivotCol = j;
+                    }
+                }
+            }
+            if (max == 0.0) {
+                rank = k;
+                break;
+            }
+
+            if (pivotRow != k) {
+                for (int j = 0; j < n; j++) {
+                    double temp = a[k * n + j];
+                    a[k * n + j] = a[pivotRow * n + j];
+                    a[pivotRow * n + j] = temp;
+                }
+                int temp = rowPerm[k];
+                rowPerm[k] = rowPerm[pivotRow];
+                rowPerm[pivotRow] = temp;
+                sign = -sign;
+            }
+            if (pivotCol != k) {
+                for (int i = 0; i < n; i++) {
+                    double temp = a[i * n + k];
+                    a[i * n + k] = a[i * n + pivotCol];
+                    a[i * n + pivotCol] = temp;
+                }
+                int temp = colPerm[k];
+                colPerm[k] = colPerm[pivotCol];
+                colPerm[pivotCol] = temp;
+                sign = -sign;
+            }
+
+            double pivotValue = a[k * n + k];
+            for (int i = k + 1; i < n; i++) {
+                double factor = a[i * n + k] / pivotValue;
+                a[i * n + k] = factor;
+                if (factor == 0.0) continue;
+                for (int j = k + 1; j < n; j++) {
+                    a[i * n + j] -= factor * a[k * n + j];
+                }
+            }
+        }
+
+        double[] adjugate = new double[n * n];
+        if (rank < n - 1) {
+            return new RMatrix(adjugate, n, n);
+        }
+
+        // U x = 0 with x_n = 1, and c = product of the nonzero pivots
+        double[] x = new double[n];
+        x[n - 1] = 1.0;
+        double c = sign;
+        for (int i = n - 2; i >= 0; i--) {
+            double sum = 0.0;
+            for (int j = i + 1; j < n; j++) {
+                sum += a[i * n + j] * x[j];
+            }
+            x[i] = -sum / a[i * n + i];
+            c *= a[i * n + i];
+        }
+
+        // L^T w = e_n (unit upper triangular)
+        double[] w = new double[n];
+        w[n - 1] = 1.0;
+        for (int i = n - 2; i >= 0; i--) {
+            double sum = 0.0;
+            for (int j = i + 1; j < n; j++) {
+                sum += a[j * n + i] * w[j];
+            }
+            w[i] = -sum;
+        }
+
+        // u = Q x, v = w^T P, adj(A) = c * u v^T
+        double[] u = new double[n], v = new double[n];
+        for (int i = 0; i < n; i++) {
+            u[colPerm[i]] = x[i];
+            v[rowPerm[i]] = w[i];
+        }
+        for (int r = 0; r < n; r++) {
+            double scaled = c * u[r];
+            for (int col = 0; col < n; col++) {
+                adjugate[r * n + col] = scaled * v[col];
+            }
+        }
+        return new RMatrix(adjugate, n, n);
+    }
+}
@@ -1,13 +1,22 @@
 package Matrix.RealMatrix;
 
+import java.util.Arrays;
 import java.util.Objects;
-import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+import Complex.Complex;
 import IO.IO;
+import Matrix.MatrixExecutionContext;
+import Matrix.MatrixStructure;
+import Random.RandomFill;
 
 public class RMatrix {
 
     private final int rows, cols;
-    private double[][] matrix;
+
+    // Row-major backing store: element (i, j) lives at data[offset + i * stride + j]
+    private final double[] data;
+    private final int offset, stride;
 
     public RMatrix(double[][] matrix){
         if (matrix == null || matrix.length == 0 || matrix[0].length == 0) {
@@ -16,11 +25,13 @@ public class RMatrix {
 
         this.rows = matrix.length;
         this.cols = matrix[0].length;
-        this.matrix = new double[this.rows][this.cols];
+        this.offset = 0;
+        this.stride = this.cols;
+        this.data = new double[denseLength(this.rows, this.cols)];
 
         for (int i = 0; i < rows; i++) {
             // Deep Copy
-            System.arraycopy(matrix[i], 0, this.matrix[i], 0, cols);
+            System.arraycopy(matrix[i], 0, this.data, i * this.stride, cols);
         }
     }
 
@@ -30,7 +41,44 @@ public class RMatrix {
         if (isRowColLessThanUnit()) {
             throw new ArithmeticException("Error: Rows/Columns must be greater than or equal to 1");
         }
-        this.matrix = new double[this.rows][this.cols];
+        this.offset = 0;
+        this.stride = cols;
+        this.data = new double[denseLength(this.rows, this.cols)];
+    }
+
+    // Wraps an existing row-major buffer without copying; the matrix shares storage with the caller
+    public RMatrix(double[] data, int offset, int stride, int rows, int cols){
+        if (data == null) {
+            throw new IllegalArgumentException("Matrix is empty or null.");
+        }
+        this.rows = rows;
+        this.cols = cols;
+        if (isRowColLessThanUnit()) {
+            throw new ArithmeticException("Error: Rows/Columns must be greater than or equal to 1");
+        }
+        if (offset < 0 || stride < cols || (long) offset + (long) (rows - 1) * stride + cols > data.length) {
+            throw new IllegalArgumentException("Offset/stride do not fit inside the backing array.");
+        }
+        this.data = data;
+        this.offset = offset;
+        this.stride = stride;
+    }
+
+    // Wraps a dense row-major buffer of exactly rows * cols elements
+    public RMatrix(double[] data, int rows, int cols){
+        this(data, 0, cols, rows, cols);
+    }
+
+    private int index(int row, int col){
+        return this.offset + row * this.stride + col;
+    }
+
+    // rows * cols as an array length; the int product would wrap silently past Integer.MAX_VALUE
+    private static int denseLength(int rows, int cols) {
+        if ((long) rows * cols > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Matrix is too large to store densely.");
+        }
+        return rows * cols;
     }
 
     private boolean isRowColLessThanUnit(){
@@ -62,11 +110,42 @@ public class RMatrix {
     }
 
     public boolean isMatrixNull(){
-        return this.matrix == null || this.matrix.length == 0 || this.matrix[0].length == 0;
+        return this.data == null || this.data.length == 0;
+    }
+
+    // Raw row-major storage, shared with this matrix (see getOffset/getStride for the layout)
+    public double[] getData(){
+        return this.data;
     }
 
+    public int getOffset(){
+        return this.offset;
+    }
+
+    public int getStride(){
+        return this.stride;
+    }
+
+    // True when the elements occupy data[0 .. rows*cols) with no padding between rows
+    public boolean isContiguous(){
+        return this.offset == 0 && this.stride == this.cols;
+    }
+
+    // Copies the elements out into a freshly allocated double[][]
     public double[][] getMatrix(){
-        return this.matrix;
+        double[][] copy = new double[this.rows][this.cols];
+        for (int i = 0; i < this.rows; i++) {
+            System.arraycopy(this.data, this.index(i, 0), copy[i], 0, this.cols);
+        }
+        return copy;
+    }
+
+    // Returns a view of the given block that shares storage with this matrix
+    public RMatrix getSubMatrixView(int rowStart, int colStart, int rows, int cols){
+        if (rowStart < 0 || colStart < 0 || rowStart + rows > this.rows || colStart + cols > this.cols) {
+            throw new IllegalArgumentException("Sub-matrix exceeds the matrix dimensions.");
+        }
+        return new RMatrix(this.data, this.index(rowStart, colStart), this.stride, rows, cols);
     }
 
     public void setElement(int row, int col, double element){
@@ -76,7 +155,7 @@ public class RMatrix {
             throw new ArithmeticException("Error: Row/Column must not be greater than the matrix dimensions");
         }
 
-        this.matrix[row][col] = element;
+        this.data[this.index(row, col)] = element;
     }
 
     public double getElement(int row, int col){
@@ -85,7 +164,7 @@ public class RMatrix {
         } else if (this.rowColExceeded(row, col)) {
             throw new ArithmeticException("Error: Row/Column must not be greater than the matrix dimensions");
         }
-        return this.matrix[row][col];
+        return this.data[this.index(row, col)];
     }
 
     public void inputMatrix(){
@@ -95,15 +174,16 @@ public class RMatrix {
         System.out.println("Enter values:");
         for(int i = 0; i < this.rows; i++){
             for (int j = 0; j < this.cols; j++){
-                this.matrix[i][j] = IO.getDouble("Enter value(" + (i + 1) + ", " + (j + 1) + "): ");
+                this.data[this.index(i, j)] = IO.getDouble("Enter value(" + (i + 1) + ", " + (j + 1) + "): ");
             }
         }
     }
 
     public boolean isMatrixZero() {
-        for (double[] row : this.matrix) {
-            for (double element : row) {
-                if (element != 0.0) {
+        for (int i = 0; i < this.rows; i++) {
+            int base = this.index(i, 0);
+            for (int j = 0; j < this.cols; j++) {
+                if (this.data[base + j] != 0.0) {
                     return false;
                 }
             }
@@ -111,13 +191,13 @@ public class RMatrix {
         return true;
     }
 
-    private static int computeMaxWidth(double[][] matrix, int precision) {
+    private int computeMaxWidth(int precision) {
         int maxWidth = 0;
 
-        for (double[] row : matrix) {
-            for (double num : row) {
+        for (int i = 0; i < this.rows; i++) {
+            for (int j = 0; j < this.cols; j++) {
                 // Always show sign so we reserve space for negative symbol
-                String formatted = String.format("%." + precision + "f", num);
+                String formatted = String.format("%." + precision + "f", this.data[this.index(i, j)]);
                 maxWidth = Math.max(maxWidth, formatted.length());
             }
         }
@@ -130,12 +210,12 @@ public class RMatrix {
             throw new IllegalArgumentException("Matrix is empty or null.");
         }
 
-        int columnWidth = computeMaxWidth(matrix, precision) + 1; // Padding
+        int columnWidth = computeMaxWidth(precision) + 1; // Padding
 
-        for (double[] row : matrix) {
-            for (double num : row) {
+        for (int i = 0; i < this.rows; i++) {
+            for (int j = 0; j < this.cols; j++) {
                 // Print without the plus sign
-                System.out.printf("%" + columnWidth + "." + precision + "f", num);
+                System.out.printf("%" + columnWidth + "." + precision + "f", this.data[this.index(i, j)]);
             }
             System.out.println();
         }
@@ -151,15 +231,13 @@ public class RMatrix {
             throw new IllegalArgumentException("Matrix is empty or null.");
         }
 
-        int rows = this.matrix.length;
-        int cols = this.matrix[0].length;
-        double[][] copy = new double[rows][cols];
+        double[] copy = new double[denseLength(this.rows, this.cols)];
 
-        for (int i = 0; i < rows; i++) {
+        for (int i = 0; i < this.rows; i++) {
             // Deep Copy
-            System.arraycopy(this.matrix[i], 0, copy[i], 0, cols);
+            System.arraycopy(this.data, this.index(i, 0), copy, i * this.cols, this.cols);
         }
-        return new RMatrix(copy);
+        return new RMatrix(copy, this.rows, this.cols);
     }
 
     public RMatrix getTranspose() {
@@ -167,16 +245,17 @@ public class RMatrix {
             throw new IllegalArgumentException("Matrix is empty or null.");
         }
 
-        int row = this.matrix.length;
-        int column = this.matrix[0].length;
-        double[][] transpose = new double[column][row];
+        int row = this.rows;
+        int column = this.cols;
+        double[] transpose = new double[denseLength(column, row)];
 
         for (int i = 0; i < row; i++) {
+            int base = this.index(i, 0);
             for (int j = 0; j < column; j++) {
-                transpose[j][i] = this.matrix[i][j];
+                transpose[j * row + i] = this.data[base + j];
             }
         }
-        return new RMatrix(transpose);
+        return new RMatrix(transpose, column, row);
     }
 
     public RMatrix constProduct(double element) {
@@ -184,30 +263,30 @@ public class RMatrix {
             throw new IllegalArgumentException("Matrix is empty or null.");
         }
 
-        int rows = this.matrix.length;
-        int cols = this.matrix[0].length;
-        double[][] result = new double[rows][cols];
+        double[] result = new double[denseLength(this.rows, this.cols)];
 
-        for (int i = 0; i < rows; i++) {
-            for (int j = 0; j < cols; j++) {
-                result[i][j] = element * this.matrix[i][j];
+        for (int i = 0; i < this.rows; i++) {
+            int base = this.index(i, 0);
+            int out = i * this.cols;
+            for (int j = 0; j < this.cols; j++) {
+                result[out + j] = element * this.data[base + j];
             }
         }
-        return new RMatrix(result);
+        return new RMatrix(result, this.rows, this.cols);
     }
 
     public double getTrace() {
         if (this.isMatrixNull()) {
             throw new IllegalArgumentException("Matrix is empty or null.");
         }
-        if (this.matrix.length != this.matrix[0].length) {
+        if (this.rows != this.cols) {
             throw new IllegalArgumentException("Trace does not exist because the matrix is not square.");
         }
 
         double traceSum = 0.0;
 
-        for (int i = 0; i < this.matrix.length; i++) {
-            traceSum += this.matrix[i][i]; // Summing diagonal elements
+        for (int i = 0; i < this.rows; i++) {
+            traceSum += this.data[this.index(i, i)]; // Summing diagonal elements
         }
         return traceSum;
     }
@@ -217,7 +296,7 @@ public class RMatrix {
             throw new IllegalArgumentException("Matrix is empty or null.");
         }
 
-        int n = this.matrix.length;
+        int n = this.rows;
         if (n == 1) {
             throw new IllegalArgumentException("Cofactor does not exist for a 1×1 matrix.");
         }
@@ -231,175 +310,241 @@ public class RMatrix {
         elrow -= 1;
         elcol -= 1;
 
-        double[][] cofactor = new double[n - 1][n - 1];
+        double[] cofactor = new double[(n - 1) * (n - 1)];
 
-        int cofactorRow = 0;
+        int pos = 0;
         for (int i = 0; i < n; i++) {
             if (i == elrow) continue; // Skip the given row
 
-            int cofactorCol = 0;
+            int base = this.index(i, 0);
             for (int j = 0; j < n; j++) {
                 if (j == elcol) continue; // Skip the given column
 
-                cofactor[cofactorRow][cofactorCol++] = this.matrix[i][j];
+                cofactor[pos++] = this.data[base + j];
             }
-            cofactorRow++;
         }
-        return new RMatrix(cofactor);
+        return new RMatrix(cofactor, n - 1, n - 1);
     }
 
-    public double getDeterminant() {
-        int n = this.matrix.length;
+    // Factors the matrix once (PA = LU) so several solves, the determinant and the inverse can share it
+    public RLUDecomposition getLUDecomposition() {
+        if (this.isMatrixNull()) {
+            throw new IllegalArgumentException("Matrix is empty or null.");
+        }
+        return new RLUDecomposition(this);
+    }
 
-        if (this.matrix.length != this.matrix[0].length) {
-            throw new IllegalArgumentException("Determinant does not exist because the matrix is not square.");
+    // A = Q R by Householder reflections, for any matrix with at least as many rows as columns
+    public RQRDecomposition getQRDecomposition() {
+        return this.getQRDecomposition(MatrixExecutionContext.serial());
+    }
+
+    public RQRDecomposition getQRDecomposition(MatrixExecutionContext context) {
+        if (this.isMatrixNull()) {
+            throw new IllegalArgumentException("Matrix is empty or null.");
         }
+        return new RQRDecomposition(this, context);
+    }
 
-        // Create a copy of the matrix for LU decomposition
-        double[][] U = new double[n][n];
+    // The X minimising ||A X - B|| for a tall A, through QR so the normal equations are never formed
+    public RMatrix solveLeastSquares(RMatrix b) {
+        return this.getQRDecomposition().solve(b);
+    }
 
-        // Initialize U as a copy of the input matrix
-        for (int i = 0; i < n; i++) {
-            // Copy matrix elements
-            System.arraycopy(this.matrix[i], 0, U[i], 0, n);
+    // A = L L^T for a symmetric positive definite matrix; only the lower triangle is read
+    public RCholeskyDecomposition getCholeskyDecomposition() {
+        return this.getCholeskyDecomposition(MatrixExecutionContext.serial());
+    }
+
+    // Blocked Cholesky whose panel solves and trailing updates run on the context's pool
+    public RCholeskyDecomposition getCholeskyDecomposition(MatrixExecutionContext context) {
+        if (this.isMatrixNull()) {
+            throw new IllegalArgumentException("Matrix is empty or null.");
         }
+        return new RCholeskyDecomposition(this, context);
+    }
 
-        double determinant = 1.0;
+    // P A P^T = L D L^T for a symmetric matrix; only the lower triangle is read
+    public RLDLDecomposition getLDLDecomposition() {
+        if (this.isMatrixNull()) {
+            throw new IllegalArgumentException("Matrix is empty or null.");
+        }
+        return new RLDLDecomposition(this);
+    }
 
-        // LU Decomposition using Gaussian elimination
-        for (int k = 0; k < n; k++) {
-            if (U[k][k] == 0.0) {
-                return 0.0; // Determinant is zero if a pivot element is zero
-            }
+    // Eigenvalues alone, which skips forming any orthogonal factor: real and ascending for a symmetric matrix,
+    // in Schur order with conjugate pairs adjacent otherwise
+    public Complex[] getEigenvalues() {
+        return this.getEigenDecomposition(false).getEigenvalues();
+    }
 
-            for (int i = k + 1; i < n; i++) {
-                double factor = U[i][k] / U[k][k];
+    public REigenDecomposition getEigenDecomposition() {
+        return this.getEigenDecomposition(true);
+    }
 
-                for (int j = k; j < n; j++) {
-                    U[i][j] -= factor * U[k][j]; // Update U
+    // Symmetric input takes the tridiagonal divide-and-conquer path, anything else Hessenberg + Francis QR
+    public REigenDecomposition getEigenDecomposition(boolean computeEigenvectors) {
+        if (this.isMatrixNull()) {
+            throw new IllegalArgumentException("Matrix is empty or null.");
+        }
+        return new REigenDecomposition(this, computeEigenvectors);
+    }
+
+    // Exact test: a_ij == a_ji for every pair
+    public boolean isSymmetric() {
+        if (this.rows != this.cols) {
+            return false;
+        }
+        for (int i = 1; i < this.rows; i++) {
+            int base = this.index(i, 0);
+            for (int j = 0; j < i; j++) {
+                if (this.data[base + j] != this.data[this.index(j, i)]) {
+                    return false;
                 }
             }
         }
-        // Compute determinant as the product of diagonal elements of U
-        for (int i = 0; i < n; i++) {
-            determinant *= U[i][i];
-        }
+        return true;
+    }
 
-        return determinant;
+    // GENERAL unless the matrix is exactly symmetric; a symmetric matrix with a positive diagonal is
+    // tried as positive definite, which costs at most one Cholesky pass when it is not
+    public MatrixStructure detectStructure() {
+        if (!this.isSymmetric()) {
+            return MatrixStructure.GENERAL;
+        }
+        for (int i = 0; i < this.rows; i++) {
+            if (!(this.data[this.index(i, i)] > 0.0)) {
+                return MatrixStructure.SYMMETRIC;
+            }
+        }
+        return MatrixStructure.POSITIVE_DEFINITE;
     }
 
-    public RMatrix getAdjoint() {
+    // The cheapest factorization the structure allows: Cholesky when POSITIVE_DEFINITE holds, falling back to
+    // LDL^T, which factors any symmetric matrix, and LU for GENERAL. The hint is trusted, so a non-symmetric
+    // matrix passed as SYMMETRIC or POSITIVE_DEFINITE is factored from its lower triangle.
+    public RDecomposition getDecomposition(MatrixStructure structure) {
         if (this.isMatrixNull()) {
             throw new IllegalArgumentException("Matrix is empty or null.");
         }
-        int n = this.matrix.length;
-        if (n != this.matrix[0].length) {
-            throw new IllegalArgumentException("Adjoint is only defined for square matrices.");
+        if (structure == null) {
+            throw new IllegalArgumentException("Matrix structure cannot be null.");
         }
+        if (this.rows != this.cols) {
+            throw new IllegalArgumentException("Decomposition is only defined for square matrices.");
+        }
+        if (structure == MatrixStructure.POSITIVE_DEFINITE) {
+            RCholeskyDecomposition cholesky = new RCholeskyDecomposition(this);
+            if (cholesky.isPositiveDefinite()) {
+                return cholesky;
+            }
+        }
+        if (structure != MatrixStructure.GENERAL) {
+            return new RLDLDecomposition(this);
+        }
+        return new RLUDecomposition(this);
+    }
 
-        double[][] adjoint = new double[n][n];
+    public double getDeterminant() {
+        if (this.rows != this.cols) {
+            throw new IllegalArgumentException("Determinant does not exist because the matrix is not square.");
+        }
 
-        // Compute cofactor matrix and store it in transposed form
-        for (int i = 0; i < n; i++) {
-            for (int j = 0; j < n; j++) {
-                // Compute determinant of minor directly without recursion where possible
-                RMatrix cofactor = this.getCofactor(i + 1, j + 1);
-                double determinant = cofactor.getDeterminant();
+        // Symmetric input takes the Cholesky or LDL^T path at half the flops of LU
+        return this.getDecomposition(this.detectStructure()).getDeterminant();
+    }
 
-                // Compute adjoint[j][i] (directly storing transposed cofactor)
-                double sign = ((i + 1 + j + 1) % 2 == 0) ? 1.0 : -1.0;
-                adjoint[j][i] = sign * determinant;
-            }
+    public double getDeterminant(MatrixStructure structure) {
+        if (this.rows != this.cols) {
+            throw new IllegalArgumentException("Determinant does not exist because the matrix is not square.");
         }
+        return this.getDecomposition(structure).getDeterminant();
+    }
 
-        return new RMatrix(adjoint);
+    // Solves A X = B, choosing the factorization from detectStructure()
+    public RMatrix solve(RMatrix b) {
+        return this.solve(b, this.detectStructure());
     }
 
-    public RMatrix getInverseMatrix() {
-        if (this.isMatrixNull()) {
-            throw new IllegalArgumentException("Matrix is empty or null.");
+    public RMatrix solve(RMatrix b, MatrixStructure structure) {
+        if (this.rows != this.cols) {
+            throw new IllegalArgumentException("Solve is only defined for square matrices.");
         }
+        return this.getDecomposition(structure).solve(b);
+    }
 
-        int n = this.matrix.length;
-        if (n != this.matrix[0].length) {
-            throw new IllegalArgumentException("Inverse is only defined for square matrices.");
+    public RMatrix getAdjoint() {
+        if (this.isMatrixNull()) {
+            throw new IllegalArgumentException("Matrix is empty or null.");
         }
-
-        // Create an augmented matrix [A | I]
-        double[][] augmented = new double[n][2 * n];
-        for (int i = 0; i < n; i++) {
-            // Copy A
-            System.arraycopy(this.matrix[i], 0, augmented[i], 0, n);
-            for (int j = n; j < 2 * n; j++) {
-                augmented[i][j] = (i == j - n) ? 1.0 : 0.0; // Identity matrix
-            }
+        int n = this.rows;
+        if (n != this.cols) {
+            throw new IllegalArgumentException("Adjoint is only defined for square matrices.");
         }
 
-        // Perform Gaussian elimination to convert [A | I] into [I | A^-1]
-        for (int i = 0; i < n; i++) {
-            // Find the pivot row
-            int pivotRow = i;
-            for (int k = i + 1; k < n; k++) {
-                if (Math.abs(augmented[k][i]) > Math.abs(augmented[pivotRow][i])) {
-                    pivotRow = k;
-                }
-            }
+        // adj(A) from one LU factorization instead of n^2 cofactor determinants
+        return this.getLUDecomposition().getAdjugate();
+    }
 
-            // Swap rows if necessary
-            if (i != pivotRow) {
-                double[] temp = augmented[i];
-                augmented[i] = augmented[pivotRow];
-                augmented[pivotRow] = temp;
-            }
+    public RMatrix getInverseMatrix() {
+        if (this.isMatrixNull()) {
+            throw new IllegalArgumentException("Matrix is empty or null.");
+        }
 
-            // Check if the matrix is singular
-            if (augmented[i][i] == 0.0) {
-                throw new IllegalArgumentException("Matrix is singular and cannot be inverted.");
-            }
+        if (this.rows != this.cols) {
+            throw new IllegalArgumentException("Inverse is only defined for square matrices.");
+        }
 
-            // Normalize the pivot row
-            double pivotValue = augmented[i][i];
-            for (int j = 0; j < 2 * n; j++) {
-                augmented[i][j] /= pivotValue;
-            }
+        // A symmetric matrix inverts from its Cholesky or LDL^T factors in n^3/3 + n^3/3 multiply-adds
+        return this.getDecomposition(this.detectStructure()).getInverse();
+    }
 
-            // Eliminate the other rows
-            for (int k = 0; k < n; k++) {
-                if (k != i) {
-                    double factor = augmented[k][i];
-                    for (int j = 0; j < 2 * n; j++) {
-                        augmented[k][j] -= factor * augmented[i][j];
-                    }
-                }
-            }
+    public RMatrix getInverseMatrix(MatrixStructure structure) {
+        if (this.isMatrixNull()) {
+            throw new IllegalArgumentException("Matrix is empty or null.");
         }
 
-        // Extract the inverse matrix from [I | A^-1]
-        double[][] inverseMatrix = new double[n][n];
-        for (int i = 0; i < n; i++) {
-            System.arraycopy(augmented[i], n, inverseMatrix[i], 0, n);
+        if (this.rows != this.cols) {
+            throw new IllegalArgumentException("Inverse is only defined for square matrices.");
         }
-
-        return new RMatrix(inverseMatrix);
+        return this.getDecomposition(structure).getInverse();
     }
 
     public void fillRandom(boolean useInteger, double min, double max) {
+        this.fillRandom(useInteger, min, max, ThreadLocalRandom.current().nextLong(), MatrixExecutionContext.serial());
+    }
+
+    public void fillRandom(boolean useInteger, double min, double max, long seed) {
+        this.fillRandom(useInteger, min, max, seed, MatrixExecutionContext.serial());
+    }
+
+    // Elements are numbered row-major and drawn in fixed chunks, each from its own stream split off the
+    // seed, so the matrix depends on the seed alone and not on how many workers filled it
+    public void fillRandom(boolean useInteger, double min, double max, long seed, MatrixExecutionContext context) {
         if (min > max) {
             throw new IllegalArgumentException("Minimum value cannot be greater than maximum value.");
         }
+        ForkJoinPool pool = this.fillPool(context);
+        if (useInteger) {
+            RandomFill.fillUniformInt(this.data, this.offset, this.stride, this.rows, this.cols,
+                    (int) min, (int) max, seed, pool);
+        } else {
+            RandomFill.fillUniform(this.data, this.offset, this.stride, this.rows, this.cols,
+                    min, max, seed, pool);
+        }
+    }
 
-        Random rand = new Random();
-        for (int i = 0; i < this.rows; i++) {
-            for (int j = 0; j < this.cols; j++) {
-                if (useInteger) {
-                    int randomInt = (int) (min + rand.nextInt((int) (max - min + 1)));
-                    this.matrix[i][j] = randomInt;
-                } else {
-                    double randomDouble = min + (max - min) * rand.nextDouble();
-                    this.matrix[i][j] = randomDouble;
-                }
-            }
+    // Normal entries with the given mean and standard deviation
+    public void fillGaussian(double mean, double sigma, long seed, MatrixExecutionContext context) {
+        RandomFill.fillGaussian(this.data, this.offset, this.stride, this.rows, this.cols,
+                mean, sigma, seed, this.fillPool(context));
+    }
+
+    private ForkJoinPool fillPool(MatrixExecutionContext context) {
+        if (context == null) {
+            throw new IllegalArgumentException("Execution context is null.");
         }
+        return context.shouldParallelize((long) this.rows * this.cols) ? context.getPool() : null;
     }
 
     public void zeroMatrix() {
@@ -408,9 +553,8 @@ public class RMatrix {
         }
 
         for (int i = 0; i < this.rows; i++) {
-            for (int j = 0; j < this.cols; j++) {
-                this.matrix[i][j] = 0.0;
-            }
+            int base = this.index(i, 0);
+            Arrays.fill(this.data, base, base + this.cols, 0.0);
         }
     }
 
@@ -421,9 +565,9 @@ public class RMatrix {
 
         int size = this.rows;
 
-        this.matrix = new double[size][size];
+        this.zeroMatrix();
         for (int i = 0; i < size; i++) {
-            matrix[i][i] = 1.0;
+            this.data[this.index(i, i)] = 1.0;
         }
     }
 
@@ -433,9 +577,9 @@ public class RMatrix {
         }
 
         int size = this.rows;
-        this.matrix = new double[size][size];
+        this.zeroMatrix();
         for (int i = 0; i < size; i++) {
-            matrix[i][i] = -1.0;
+            this.data[this.index(i, i)] = -1.0;
         }
     }
 
@@ -447,7 +591,7 @@ public class RMatrix {
         if (this.rows != other.rows || this.cols != other.cols) return false;
         for (int i = 0; i < rows; i++) {
             for (int j = 0; j < cols; j++) {
-                if (Double.compare(this.matrix[i][j], other.matrix[i][j]) != 0) return false;
+                if (Double.compare(this.data[this.index(i, j)], other.data[other.index(i, j)]) != 0) return false;
             }
         }
         return true;
@@ -458,7 +602,7 @@ public class RMatrix {
         int result = Objects.hash(rows, cols);
         for (int i = 0; i < rows; i++) {
             for (int j = 0; j < cols; j++) {
-                result = (int) (31 * result + matrix[i][j]);
+                result = (int) (31 * result + this.data[this.index(i, j)]);
             }
         }
         return result;
@@ -471,7 +615,7 @@ public class RMatrix {
         for (int i = 0; i < rows; i++) {
             sb.append("[ ");
             for (int j = 0; j < cols; j++) {
-                sb.append(String.format("%.4f", matrix[i][j]));
+                sb.append(String.format("%.4f", this.data[this.index(i, j)]));
                 if (j < cols - 1) sb.append(", ");
             }
             sb.append(" ]\n");
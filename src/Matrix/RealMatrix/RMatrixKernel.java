@@ -0,0 +1,169 @@
+package Matrix.RealMatrix;
+
+import Simd.VectorBackend;
+import Simd.VectorBackends;
+
+import java.util.Arrays;
+
+public final class RMatrixKernel {
+
+    private RMatrixKernel() {
+        throw new UnsupportedOperationException("Cannot instantiate RMatrixKernel.");
+    }
+
+    private static final VectorBackend BACKEND = VectorBackends.get();
+
+    // Register tile computed by the micro-kernel (MR rows x NR columns of C held in locals)
+    static final int MR = 4;
+    static final int NR = 4;
+
+    // Cache blocking: an MC x KC panel of A stays in L2, a KC x NR sliver of B streams through L1
+    static final int MC = 96;
+    static final int KC = 256;
+    static final int NC = 2048;
+
+    // Below this many multiply-adds packing costs more than it saves
+    private static final long SMALL_PRODUCT = 32L * 32L * 32L;
+
+    // C[m x n] += A[m x k] * B[k x n], all operands row-major with explicit offsets and strides
+    public static void gemm(int m, int n, int k,
+                            double[] a, int aOff, int lda,
+                            double[] b, int bOff, int ldb,
+                            double[] c, int cOff, int ldc) {
+        if (m <= 0 || n <= 0 || k <= 0) {
+            return;
+        }
+        if ((long) m * n * k <= SMALL_PRODUCT) {
+            gemmSmall(m, n, k, a, aOff, lda, b, bOff, ldb, c, cOff, ldc);
+            return;
+        }
+
+        int kcMax = Math.min(KC, k);
+        int mcMax = Math.min(MC, roundUp(m, MR));
+        int ncMax = Math.min(NC, roundUp(n, NR));
+        double[] packedA = new double[mcMax * kcMax];
+        double[] packedB = new double[kcMax * ncMax];
+        double[] tile = new double[MR * NR];
+
+        for (int jc = 0; jc < n; jc += NC) {
+            int nc = Math.min(NC, n - jc);
+
+            for (int pc = 0; pc < k; pc += KC) {
+                int kc = Math.min(KC, k - pc);
+                packB(kc, nc, b, bOff + pc * ldb + jc, ldb, packedB);
+
+                for (int ic = 0; ic < m; ic += MC) {
+                    int mc = Math.min(MC, m - ic);
+                    packA(mc, kc, a, aOff + ic * lda + pc, lda, packedA);
+
+                    for (int jr = 0; jr < nc; jr += NR) {
+                        int nr = Math.min(NR, nc - jr);
+                        int bPanel = jr * kc;
+
+                        for (int ir = 0; ir < mc; ir += MR) {
+                            int mr = Math.min(MR, mc - ir);
+                            int cTile = cOff + (ic + ir) * ldc + jc + jr;
+                            microKernel(kc, packedA, ir * kc, packedB, bPanel, c, cTile, ldc, mr, nr, tile);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static int roundUp(int value, int multiple) {
+        return (value + multiple - 1) / multiple * multiple;
+    }
+
+    // Straight i-k-j loop for operands too small to amortise packing. Zero entries of A are not skipped, so
+    // 0 * NaN and 0 * Inf in B still propagate NaN as in the plain triple loop
+    private static void gemmSmall(int m, int n, int k,
+                                  double[] a, int aOff, int lda,
+                                  double[] b, int bOff, int ldb,
+                                  double[] c, int cOff, int ldc) {
+        for (int i = 0; i < m; i++) {
+            int rowA = aOff + i * lda;
+            int rowC = cOff + i * ldc;
+            for (int p = 0; p < k; p++) {
+                double aip = a[rowA + p];
+                int rowB = bOff + p * ldb;
+                for (int j = 0; j < n; j++) {
+                    c[rowC + j] += aip * b[rowB + j];
+                }
+            }
+        }
+    }
+
+    // Packs an mc x kc block of A into MR-row panels: panel r holds A[r*MR .. r*MR+MR)[0..kc) column by column
+    private static void packA(int mc, int kc, double[] a, int aOff, int lda, double[] packed) {
+        int dst = 0;
+        for (int ir = 0; ir < mc; ir += MR) {
+            int mr = Math.min(MR, mc - ir);
+            int row = aOff + ir * lda;
+            if (mr == MR) {
+                int r0 = row, r1 = row + lda, r2 = row + 2 * lda, r3 = row + 3 * lda;
+                for (int p = 0; p < kc; p++) {
+                    packed[dst] = a[r0 + p];
+                    packed[dst + 1] = a[r1 + p];
+                    packed[dst + 2] = a[r2 + p];
+                    packed[dst + 3] = a[r3 + p];
+                    dst += MR;
+                }
+            } else {
+                // Zero-pad the ragged edge so the micro-kernel always sees full panels
+                for (int p = 0; p < kc; p++) {
+                    for (int i = 0; i < MR; i++) {
+                        packed[dst + i] = (i < mr) ? a[row + i * lda + p] : 0.0;
+                    }
+                    dst += MR;
+                }
+            }
+        }
+    }
+
+    // Packs a kc x nc block of B into NR-column panels: panel q holds B[0..kc)[q*NR .. q*NR+NR) row by row
+    private static void packB(int kc, int nc, double[] b, int bOff, int ldb, double[] packed) {
+        int dst = 0;
+        for (int jr = 0; jr < nc; jr += NR) {
+            int nr = Math.min(NR, nc - jr);
+            int col = bOff + jr;
+            if (nr == NR) {
+                for (int p = 0; p < kc; p++) {
+                    int src = col + p * ldb;
+                    packed[dst] = b[src];
+                    packed[dst + 1] = b[src + 1];
+                    packed[dst + 2] = b[src + 2];
+                    packed[dst + 3] = b[src + 3];
+                    dst += NR;
+                }
+            } else {
+                for (int p = 0; p < kc; p++) {
+                    int src = col + p * ldb;
+                    for (int j = 0; j < NR; j++) {
+                        packed[dst + j] = (j < nr) ? b[src + j] : 0.0;
+                    }
+                    dst += NR;
+                }
+            }
+        }
+    }
+
+    // 4x4 register tile: C[mr x nr] += packedA panel * packedB panel over kc, computed by the active backend
+    private static void microKernel(int kc, double[] pa, int aIdx, double[] pb, int bIdx,
+                                    double[] c, int cIdx, int ldc, int mr, int nr, double[] tile) {
+        if (mr == MR && nr == NR) {
+            BACKEND.gemmMicroKernel(kc, pa, aIdx, pb, bIdx, c, cIdx, ldc);
+            return;
+        }
+
+        // Ragged edge tile: compute the full tile in the per-call scratch and only write back the cells that
+        // exist in C
+        Arrays.fill(tile, 0.0);
+        BACKEND.gemmMicroKernel(kc, pa, aIdx, pb, bIdx, tile, 0, NR);
+        for (int i = 0; i < mr; i++) {
+            for (int j = 0; j < nr; j++) {
+                c[cIdx + i * ldc + j] += tile[i * NR + j];
+            }
+        }
+    }
+}
@@ -1,16 +1,22 @@
 package Matrix.RealMatrix;
 
+import Matrix.MatrixExecutionContext;
+import Simd.VectorBackend;
+import Simd.VectorBackends;
+
 public final class RMatrixMath {
 
     private RMatrixMath() {
         throw new UnsupportedOperationException("Cannot instantiate MatrixMath.");
     }
 
+    private static final VectorBackend BACKEND = VectorBackends.get();
+
     public static RMatrix add(RMatrix matrix1, RMatrix matrix2) {
-        if (matrix1 == null || matrix1.getMatrix() == null) {
+        if (matrix1 == null || matrix1.isMatrixNull()) {
             throw new IllegalArgumentException("Matrix 1 is null or not initialized.");
         }
-        if (matrix2 == null || matrix2.getMatrix() == null) {
+        if (matrix2 == null || matrix2.isMatrixNull()) {
             throw new IllegalArgumentException("Matrix 2 is null or not initialized.");
         }
 
@@ -21,22 +27,24 @@ public final class RMatrixMath {
         int rows = matrix1.getRows();
         int cols = matrix1.getColumns();
 
-        double[][] sum = new double[rows][cols];
+        double[] sum = new double[rows * cols];
+        double[] a = matrix1.getData(), b = matrix2.getData();
+        int strideA = matrix1.getStride(), strideB = matrix2.getStride();
 
         for (int i = 0; i < rows; i++) {
-            for (int j = 0; j < cols; j++) {
-                sum[i][j] = matrix1.getElement(i, j) + matrix2.getElement(i, j);
-            }
+            int rowA = matrix1.getOffset() + i * strideA;
+            int rowB = matrix2.getOffset() + i * strideB;
+            BACKEND.add(a, rowA, b, rowB, sum, i * cols, cols);
         }
 
-        return new RMatrix(sum);
+        return new RMatrix(sum, rows, cols);
     }
 
     public static RMatrix subtract(RMatrix matrix1, RMatrix matrix2) {
-        if (matrix1 == null || matrix1.getMatrix() == null) {
+        if (matrix1 == null || matrix1.isMatrixNull()) {
             throw new IllegalArgumentException("Matrix 1 is null or not initialized.");
         }
-        if (matrix2 == null || matrix2.getMatrix() == null) {
+        if (matrix2 == null || matrix2.isMatrixNull()) {
             throw new IllegalArgumentException("Matrix 2 is null or not initialized.");
         }
 
@@ -47,19 +55,21 @@ public final class RMatrixMath {
         int rows = matrix1.getRows();
         int cols = matrix1.getColumns();
 
-        double[][] sub = new double[rows][cols];
+        double[] sub = new double[rows * cols];
+        double[] a = matrix1.getData(), b = matrix2.getData();
+        int strideA = matrix1.getStride(), strideB = matrix2.getStride();
 
         for (int i = 0; i < rows; i++) {
-            for (int j = 0; j < cols; j++) {
-                sub[i][j] = matrix1.getElement(i, j) - matrix2.getElement(i, j);
-            }
+            int rowA = matrix1.getOffset() + i * strideA;
+            int rowB = matrix2.getOffset() + i * strideB;
+            BACKEND.subtract(a, rowA, b, rowB, sub, i * cols, cols);
         }
 
-        return new RMatrix(sub);
+        return new RMatrix(sub, rows, cols);
     }
 
     public static RMatrix product(RMatrix matrix1, RMatrix matrix2) {
-        if (matrix1 == null || matrix1.getMatrix() == null || matrix2 == null || matrix2.getMatrix() == null) {
+        if (matrix1 == null || matrix1.isMatrixNull() || matrix2 == null || matrix2.isMatrixNull()) {
             throw new IllegalArgumentException("One or both matrices are null or not initialized.");
         }
 
@@ -72,27 +82,59 @@ public final class RMatrixMath {
         int common = matrix1.getColumns();
 
         // Initialize product matrix
-        double[][] product = new double[rows][cols];
+        double[] product = new double[rows * cols];
 
-        // Transpose matrix2 for better memory locality
-        RMatrix matrix2T = matrix2.getTranspose();
+        // Blocked, packed GEMM straight on the backing arrays
+        RMatrixKernel.gemm(rows, cols, common,
+                matrix1.getData(), matrix1.getOffset(), matrix1.getStride(),
+                matrix2.getData(), matrix2.getOffset(), matrix2.getStride(),
+                product, 0, cols);
 
-        // Optimized multiplication loop
-        for (int i = 0; i < rows; i++) {
-            for (int j = 0; j < cols; j++) {
-                double sum = 0.0;
-                for (int k = 0; k < common; k++) {
-                    sum += matrix1.getElement(i, k) * matrix2T.getElement(j, k);
-                }
-                product[i][j] = sum;
-            }
+        return new RMatrix(product, rows, cols);
+    }
+
+    // Same as product(), but splits the output into tiles that run on the context's pool
+    public static RMatrix product(RMatrix matrix1, RMatrix matrix2, MatrixExecutionContext context) {
+        if (context == null) {
+            throw new IllegalArgumentException("Execution context is null.");
+        }
+        if (matrix1 == null || matrix1.isMatrixNull() || matrix2 == null || matrix2.isMatrixNull()) {
+            throw new IllegalArgumentException("One or both matrices are null or not initialized.");
+        }
+
+        if (matrix1.getColumns() != matrix2.getRows()) {
+            throw new IllegalArgumentException("Multiplication not possible: Column count of Matrix 1 must match row count of Matrix 2.");
+        }
+
+        int rows = matrix1.getRows();
+        int cols = matrix2.getColumns();
+        int common = matrix1.getColumns();
+
+        if (!context.shouldParallelize((long) rows * cols * common)) {
+            return product(matrix1, matrix2);
         }
 
-        return new RMatrix(product);
+        double[] product = new double[rows * cols];
+        double[] a = matrix1.getData(), b = matrix2.getData();
+        int aOff = matrix1.getOffset(), lda = matrix1.getStride();
+        int bOff = matrix2.getOffset(), ldb = matrix2.getStride();
+
+        // Each tile owns a disjoint block of the output, so no synchronisation is needed
+        context.forEachTile(rows, cols, (rowStart, rowEnd, colStart, colEnd) ->
+                RMatrixKernel.gemm(rowEnd - rowStart, colEnd - colStart, common,
+                        a, aOff + rowStart * lda, lda,
+                        b, bOff + colStart, ldb,
+                        product, rowStart * cols + colStart, cols));
+
+        return new RMatrix(product, rows, cols);
     }
 
     public static RMatrix powerInt(RMatrix matrix, int power) {
-        if (matrix == null || matrix.getMatrix() == null) {
+        return powerInt(matrix, power, MatrixExecutionContext.serial());
+    }
+
+    public static RMatrix powerInt(RMatrix matrix, int power, MatrixExecutionContext context) {
+        if (matrix == null || matrix.isMatrixNull()) {
             throw new IllegalArgumentException("Matrix is empty or null.");
         }
 
@@ -113,45 +155,27 @@ public final class RMatrixMath {
 
         while (power > 0) {
             if ((power & 1) == 1) {
-                result = multiplyMatrices(result, base);
+                result = product(result, base, context);
             }
-            base = multiplyMatrices(base, base);
+            base = product(base, base, context);
             power >>= 1;
         }
 
         return result;
     }
 
-    // Helper method for matrix multiplication
-    private static RMatrix multiplyMatrices(RMatrix A, RMatrix B) {
-        int n = A.getRows();
-        double[][] result = new double[n][n];
-
-        for (int i = 0; i < n; i++) {
-            for (int j = 0; j < n; j++) {
-                double sum = 0.0;
-                for (int k = 0; k < n; k++) {
-                    sum += A.getElement(i, k) * B.getElement(k, j);
-                }
-                result[i][j] = sum;
-            }
-        }
-
-        return new RMatrix(result);
-    }
-
     // Helper to create an identity matrix
     public static RMatrix identityMatrix(int size) {
-        double[][] identity = new double[size][size];
+        double[] identity = new double[size * size];
         for (int i = 0; i < size; i++) {
-            identity[i][i] = 1.0;
+            identity[i * size + i] = 1.0;
         }
-        return new RMatrix(identity);
+        return new RMatrix(identity, size, size);
     }
 
     public static RMatrix divide(RMatrix matrix1, RMatrix matrix2) {
-        if (matrix1 == null || matrix1.getMatrix() == null ||
-                matrix2 == null || matrix2.getMatrix() == null) {
+        if (matrix1 == null || matrix1.isMatrixNull() ||
+                matrix2 == null || matrix2.isMatrixNull()) {
             System.out.println("Matrix is empty or null.");
             return null;
         }
@@ -162,7 +186,10 @@ public final class RMatrixMath {
             return null;
         }
 
-        RMatrix inverse = matrix2.getInverseMatrix();
-        return product(matrix1, inverse);
+        // X = A / B solves X B = A directly from the LU factors of B, without forming B^-1
+        if (matrix2.getRows() != matrix2.getColumns()) {
+            throw new IllegalArgumentException("Inverse is only defined for square matrices.");
+        }
+        return matrix2.getLUDecomposition().solveLeft(matrix1);
     }
 }
\ No newline at end of file
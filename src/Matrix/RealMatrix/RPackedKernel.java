@@ -0,0 +1,183 @@
+package Matrix.RealMatrix;
+
+import Simd.VectorBackend;
+import Simd.VectorBackends;
+
+import java.util.Arrays;
+
+// Kernels on a lower triangle packed by rows: element (i, j), j <= i, lives at row(i) + j, so every row
+// is contiguous. Shared by the Cholesky and LDL^T factorizations and PackedSymmetricRMatrix.
+final class RPackedKernel {
+
+    private RPackedKernel() {
+        throw new UnsupportedOperationException("Cannot instantiate RPackedKernel.");
+    }
+
+    private static final VectorBackend BACKEND = VectorBackends.get();
+
+    // Largest order whose packed triangle, and the dense n x n matrix it unpacks to, fits in one array
+    static final int MAX_SIZE = 46340;
+
+    // i (i + 1) overflows an int from i = 46341, so the product is taken in long
+    static int row(int i) {
+        return (int) ((long) i * (i + 1) / 2);
+    }
+
+    static int length(int n) {
+        return (int) ((long) n * (n + 1) / 2);
+    }
+
+    // Lower triangle of an n x n row-major block at data[offset] with the given stride, packed by rows
+    static double[] pack(double[] data, int offset, int stride, int n) {
+        double[] packed = new double[length(n)];
+        for (int i = 0; i < n; i++) {
+            System.arraycopy(data, offset + i * stride, packed, row(i), i + 1);
+        }
+        return packed;
+    }
+
+    // The full symmetric n x n matrix, row-major
+    static double[] unpack(double[] packed, int n) {
+        double[] dense = new double[n * n];
+        for (int i = 0; i < n; i++) {
+            int r = row(i);
+            System.arraycopy(packed, r, dense, i * n, i + 1);
+            for (int j = 0; j < i; j++) {
+                dense[j * n + i] = packed[r + j];
+            }
+        }
+        return dense;
+    }
+
+    // Row-oriented Cholesky in place: l_ij = (a_ij - l_i . l_j) / l_jj over the contiguous packed rows.
+    // Returns false, leaving the rows above i factored, when the pivot of row i is not positive.
+    static boolean cholesky(double[] a, int n) {
+        for (int i = 0; i < n; i++) {
+            int rowI = row(i);
+            for (int j = 0; j < i; j++) {
+                int rowJ = row(j);
+                a[rowI + j] = (a[rowI + j] - BACKEND.dot(a, rowI, a, rowJ, j)) / a[rowJ + j];
+            }
+            double pivot = a[rowI + i] - BACKEND.dot(a, rowI, a, rowI, i);
+            if (!(pivot > 0.0)) {
+                return false;
+            }
+            a[rowI + i] = Math.sqrt(pivot);
+        }
+        return true;
+    }
+
+    // X = L^-1 X in place for a row-major n x m block X; a unit diagonal is implied when unitDiagonal is set
+    static void forwardSubstitute(double[] l, int n, boolean unitDiagonal, double[] x, int m) {
+        for (int i = 0; i < n; i++) {
+            int rowL = row(i), rowI = i * m;
+            for (int k = 0; k < i; k++) {
+                double factor = l[rowL + k];
+                if (factor == 0.0) continue;
+                int rowK = k * m;
+                for (int j = 0; j < m; j++) {
+                    x[rowI + j] -= factor * x[rowK + j];
+                }
+            }
+            if (!unitDiagonal) {
+                double diagonal = l[rowL + i];
+                for (int j = 0; j < m; j++) {
+                    x[rowI + j] /= diagonal;
+                }
+            }
+        }
+    }
+
+    // X = L^-T X in place; row i of L scatters into the rows above it once x_i is final
+    static void backSubstituteTranspose(double[] l, int n, boolean unitDiagonal, double[] x, int m) {
+        for (int i = n - 1; i >= 0; i--) {
+            int rowL = row(i), rowI = i * m;
+            if (!unitDiagonal) {
+                double diagonal = l[rowL + i];
+                for (int j = 0; j < m; j++) {
+                    x[rowI + j] /= diagonal;
+                }
+            }
+            for (int k = 0; k < i; k++) {
+                double factor = l[rowL + k];
+                if (factor == 0.0) continue;
+                int rowK = k * m;
+                for (int j = 0; j < m; j++) {
+                    x[rowK + j] -= factor * x[rowI + j];
+                }
+            }
+        }
+    }
+
+    // L^-1, packed, in n^3/6 multiply-adds: row i of the inverse is -(l_i0 .. l_i,i-1) times the rows of
+    // the inverse above it, divided by l_ii
+    static double[] invertLower(double[] l, int n, boolean unitDiagonal) {
+        double[] inverse = new double[length(n)];
+        double[] sum = new double[n];
+        for (int i = 0; i < n; i++) {
+            int rowI = row(i);
+            Arrays.fill(sum, 0, i, 0.0);
+            for (int k = 0; k < i; k++) {
+                double factor = l[rowI + k];
+                if (factor == 0.0) continue;
+                int rowK = row(k);
+                for (int j = 0; j <= k; j++) {
+                    sum[j] = Math.fma(factor, inverse[rowK + j], sum[j]);
+                }
+            }
+            double scale = unitDiagonal ? 1.0 : 1.0 / l[rowI + i];
+            for (int j = 0; j < i; j++) {
+                inverse[rowI + j] = -sum[j] * scale;
+            }
+            inverse[rowI + i] = scale;
+        }
+        return inverse;
+    }
+
+    // Lower triangle of W^T diag(weights) W for a packed lower triangular W, packed, as one rank-one update
+    // of the leading triangle per row of W (n^3/6 multiply-adds); weights == null means all ones
+    static double[] weightedGram(double[] w, double[] weights, int n) {
+        double[] gram = new double[length(n)];
+        for (int k = 0; k < n; k++) {
+            int rowK = row(k);
+            double weight = weights == null ? 1.0 : weights[k];
+            for (int i = 0; i <= k; i++) {
+                double scale = weight * w[rowK + i];
+                if (scale == 0.0) continue;
+                int rowI = row(i);
+                for (int j = 0; j <= i; j++) {
+                    gram[rowI + j] = Math.fma(scale, w[rowK + j], gram[rowI + j]);
+                }
+            }
+        }
+        return gram;
+    }
+
+    // Lower triangle of W^T D W for a block diagonal D with diagonal weights and subdiagonal coupling: the
+    // diagonal part as above, plus for each nonzero coupling[k] the cross terms c (w_k+1 w_k^T + w_k w_k+1^T)
+    // of the 2 x 2 block that joins rows k and k + 1 of W
+    static double[] weightedGram(double[] w, double[] weights, double[] coupling, int n) {
+        double[] gram = weightedGram(w, weights, n);
+        for (int k = 0; k + 1 < n; k++) {
+            double c = coupling[k];
+            if (c == 0.0) continue;
+            int rowK = row(k), rowK1 = row(k + 1);
+            for (int i = 0; i <= k + 1; i++) {
+                int rowI = row(i);
+                double s = c * w[rowK1 + i];
+                if (s != 0.0) {
+                    for (int j = 0, end = Math.min(i, k); j <= end; j++) {
+                        gram[rowI + j] = Math.fma(s, w[rowK + j], gram[rowI + j]);
+                    }
+                }
+                double t = i <= k ? c * w[rowK + i] : 0.0;
+                if (t != 0.0) {
+                    for (int j = 0; j <= i; j++) {
+                        gram[rowI + j] = Math.fma(t, w[rowK1 + j], gram[rowI + j]);
+                    }
+                }
+            }
+        }
+        return gram;
+    }
+}
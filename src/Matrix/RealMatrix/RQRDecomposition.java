@@ -0,0 +1,301 @@
+package Matrix.RealMatrix;
+
+import Matrix.MatrixExecutionContext;
+import Simd.VectorBackend;
+import Simd.VectorBackends;
+
+// A = Q R for an m x n matrix with m >= n, by Householder reflections. Q is kept as its reflectors and is
+// only applied, never formed, so a least-squares solve costs O(mn^2) and reads R directly: A^T A and its
+// squared condition number never appear. The factor is stored transposed, one column of A per contiguous
+// row, so every reflector and every column it touches is a unit-stride SIMD pass however tall A is.
+public final class RQRDecomposition {
+
+    private static final VectorBackend BACKEND = VectorBackends.get();
+
+    // Reflectors aggregated into one compact WY update of the trailing columns
+    static final int BLOCK = 32;
+
+    // Rows of V handled per GEMM in a WY update, which bounds its scratch at STRIP x BLOCK
+    static final int STRIP = 2048;
+
+    private final int m, n;
+
+    // Column j of the factored A at j * m: R(0 .. j-1, j) above the diagonal slot, R(j, j) in it and the
+    // tail of v_j below it, v_j(j) = 1 being implicit
+    private final double[] qr;
+    private final double[] tau;
+
+    public RQRDecomposition(RMatrix matrix) {
+        this(matrix, MatrixExecutionContext.serial());
+    }
+
+    // Blocked right-looking factorization: each block of BLOCK columns is factored one reflector at a time,
+    // then applied to the trailing columns at once as Q_b^T = I - V T^T V^T through the GEMM kernel. The
+    // row strips of that update are independent, so they run on the context's pool.
+    public RQRDecomposition(RMatrix matrix, MatrixExecutionContext context) {
+        if (matrix == null || matrix.isMatrixNull()) {
+            throw new IllegalArgumentException("Matrix is empty or null.");
+        }
+        if (matrix.getRows() < matrix.getColumns()) {
+            throw new IllegalArgumentException("QR decomposition requires at least as many rows as columns.");
+        }
+        if (context == null) {
+            throw new IllegalArgumentException("Execution context is null.");
+        }
+
+        this.m = matrix.getRows();
+        this.n = matrix.getColumns();
+        this.qr = matrix.getTranspose().getData();
+        this.tau = new double[n];
+
+        for (int k0 = 0; k0 < n; k0 += BLOCK) {
+            int kb = Math.min(BLOCK, n - k0);
+            this.factorPanel(k0, kb);
+            if (k0 + kb < n) {
+                this.updateTrailing(k0, kb, context);
+            }
+        }
+    }
+
+    // Unblocked Householder QR of columns [k0, k0 + kb), each reflector applied to the rest of the panel
+    private void factorPanel(int k0, int kb) {
+        for (int j = k0; j < k0 + kb; j++) {
+            int column = j * m + j;
+            this.tau[j] = RHouseholderKernel.generate(this.qr, column, this.qr, column + 1, m - j - 1);
+            for (int c = j + 1; c < k0 + kb; c++) {
+                int target = c * m + j;
+                RHouseholderKernel.apply(this.tau[j], this.qr, column + 1, m - j - 1,
+                        this.qr, target, this.qr, target + 1);
+            }
+        }
+    }
+
+    // Columns to the right of the panel: A2 = (I - V T^T V^T) A2, held transposed as A2^T -= (A2^T V) T V^T
+    private void updateTrailing(int k0, int kb, MatrixExecutionContext context) {
+        int mk = m - k0, c0 = k0 + kb, nt = n - c0;
+        double[] t = this.triangularFactor(k0, kb);
+        int strips = (mk + STRIP - 1) / STRIP;
+        boolean parallel = strips > 1 && context.shouldParallelize(2L * mk * nt * kb);
+
+        // W = A2^T V, summed over row strips of V
+        double[][] partial = new double[strips][];
+        MatrixExecutionContext.RangeTask product = (from, to) -> {
+            for (int s = from; s < to; s++) {
+                int r0 = s * STRIP, rows = Math.min(STRIP, mk - r0);
+                double[] v = this.reflectorStrip(k0, kb, r0, rows, false);
+                double[] w = new double[nt * kb];
+                RMatrixKernel.gemm(nt, kb, rows, this.qr, c0 * m + k0 + r0, m, v, 0, kb, w, 0, kb);
+                partial[s] = w;
+            }
+        };
+        if (parallel) {
+            context.forEachRange(strips, 1, product);
+        } else {
+            product.compute(0, strips);
+        }
+        double[] w = partial[0];
+        for (int s = 1; s < strips; s++) {
+            for (int i = 0; i < w.length; i++) {
+                w[i] += partial[s][i];
+            }
+        }
+
+        // W = -W T, in place from the last column back since T is upper triangular
+        for (int i = 0; i < nt; i++) {
+            int row = i * kb;
+            for (int q = kb - 1; q >= 0; q--) {
+                double sum = 0.0;
+                for (int p = 0; p <= q; p++) {
+                    sum += w[row + p] * t[p * kb + q];
+                }
+                w[row + q] = -sum;
+            }
+        }
+
+        // A2^T += W V^T, strip by strip
+        MatrixExecutionContext.RangeTask update = (from, to) -> {
+            for (int s = from; s < to; s++) {
+                int r0 = s * STRIP, rows = Math.min(STRIP, mk - r0);
+                double[] vt = this.reflectorStrip(k0, kb, r0, rows, true);
+                RMatrixKernel.gemm(nt, rows, kb, w, 0, kb, vt, 0, rows, this.qr, c0 * m + k0 + r0, m);
+            }
+        };
+        if (parallel) {
+            context.forEachRange(strips, 1, update);
+        } else {
+            update.compute(0, strips);
+        }
+    }
+
+    // Upper triangular T of the compact WY form H_k0 .. H_(k0+kb-1) = I - V T V^T, built a column at a
+    // time: T(0 .. i-1, i) = -tau_i T(0 .. i-1, 0 .. i-1) V^T v_i
+    private double[] triangularFactor(int k0, int kb) {
+        double[] t = new double[kb * kb];
+        double[] z = new double[kb];
+        for (int i = 0; i < kb; i++) {
+            double tauI = this.tau[k0 + i];
+            t[i * kb + i] = tauI;
+            if (tauI == 0.0) continue;
+            int vi = (k0 + i) * m + k0 + i;
+            int tail = m - k0 - i - 1;
+            for (int p = 0; p < i; p++) {
+                int vp = (k0 + p) * m + k0 + i;
+                z[p] = this.qr[vp] + BACKEND.dot(this.qr, vp + 1, this.qr, vi + 1, tail);
+            }
+            for (int p = 0; p < i; p++) {
+                double sum = 0.0;
+                for (int q = p; q < i; q++) {
+                    sum += t[p * kb + q] * z[q];
+                }
+                t[p * kb + i] = -tauI * sum;
+            }
+        }
+        return t;
+    }
+
+    // Rows [r0, r0 + rows) of the m - k0 by kb reflector block V, with its unit diagonal and zero upper
+    // triangle made explicit: as a rows x kb block, or as its kb x rows transpose when transposed is set
+    private double[] reflectorStrip(int k0, int kb, int r0, int rows, boolean transposed) {
+        double[] vt = new double[kb * rows];
+        for (int p = 0; p < kb; p++) {
+            int from = Math.max(r0, p + 1);
+            if (from < r0 + rows) {
+                System.arraycopy(this.qr, (k0 + p) * m + k0 + from, vt, p * rows + from - r0, r0 + rows - from);
+            }
+            if (p >= r0 && p < r0 + rows) {
+                vt[p * rows + p - r0] = 1.0;
+            }
+        }
+        if (transposed) {
+            return vt;
+        }
+        double[] v = new double[rows * kb];
+        for (int p = 0; p < kb; p++) {
+            for (int r = 0; r < rows; r++) {
+                v[r * kb + p] = vt[p * rows + r];
+            }
+        }
+        return v;
+    }
+
+    public int getRows() {
+        return this.m;
+    }
+
+    public int getColumns() {
+        return this.n;
+    }
+
+    // The n x n upper triangular factor
+    public RMatrix getR() {
+        double[] r = new double[n * n];
+        for (int j = 0; j < n; j++) {
+            for (int i = 0; i <= j; i++) {
+                r[i * n + j] = this.qr[j * m + i];
+            }
+        }
+        return new RMatrix(r, n, n);
+    }
+
+    // The m x n matrix of orthonormal columns (thin Q), as H_0 .. H_(n-1) applied to the first n columns of I
+    public RMatrix getQ() {
+        double[] qt = new double[n * m];
+        for (int j = 0; j < n; j++) {
+            qt[j * m + j] = 1.0;
+        }
+        for (int j = n - 1; j >= 0; j--) {
+            int column = j * m + j;
+            for (int c = j; c < n; c++) {
+                int target = c * m + j;
+                RHouseholderKernel.apply(this.tau[j], this.qr, column + 1, m - j - 1, qt, target, qt, target + 1);
+            }
+        }
+        return new RMatrix(qt, n, m).getTranspose();
+    }
+
+    // No diagonal element of R is negligible next to the largest one, so least-squares solutions are unique
+    public boolean isFullRank() {
+        double max = 0.0;
+        for (int j = 0; j < n; j++) {
+            max = Math.max(max, Math.abs(this.qr[j * m + j]));
+        }
+        double tolerance = max * m * Math.ulp(1.0);
+        for (int j = 0; j < n; j++) {
+            if (!(Math.abs(this.qr[j * m + j]) > tolerance)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void requireFullRank() {
+        if (!this.isFullRank()) {
+            throw new IllegalArgumentException("Matrix is rank deficient; the least-squares solution is not unique.");
+        }
+    }
+
+    // Q^T B for an m-row B, column by column on a transposed copy
+    public RMatrix multiplyQTranspose(RMatrix b) {
+        this.checkRightHandSide(b);
+        return new RMatrix(this.applyQTranspose(b), b.getColumns(), m).getTranspose();
+    }
+
+    private void checkRightHandSide(RMatrix b) {
+        if (b == null || b.isMatrixNull()) {
+            throw new IllegalArgumentException("Matrix is empty or null.");
+        }
+        if (b.getRows() != m) {
+            throw new IllegalArgumentException("Right-hand side must have " + m + " rows.");
+        }
+    }
+
+    // B transposed into one contiguous row per column, with Q^T applied to each
+    private double[] applyQTranspose(RMatrix b) {
+        int k = b.getColumns();
+        double[] y = b.getTranspose().getData();
+        for (int j = 0; j < n; j++) {
+            int column = j * m + j;
+            for (int q = 0; q < k; q++) {
+                int target = q * m + j;
+                RHouseholderKernel.apply(this.tau[j], this.qr, column + 1, m - j - 1, y, target, y, target + 1);
+            }
+        }
+        return y;
+    }
+
+    // Least-squares solution of A x = b: the x minimising ||A x - b||, exact when b lies in the range of A
+    public double[] solve(double[] b) {
+        if (b == null || b.length != m) {
+            throw new IllegalArgumentException("Right-hand side must have " + m + " elements.");
+        }
+        return this.solve(new RMatrix(b, m, 1)).getData();
+    }
+
+    // Least-squares solution of A X = B for every column of B at once: R X = (Q^T B)(0 .. n-1)
+    public RMatrix solve(RMatrix b) {
+        this.checkRightHandSide(b);
+        this.requireFullRank();
+        int k = b.getColumns();
+        double[] y = this.applyQTranspose(b);
+        double[] x = new double[n * k];
+        for (int q = 0; q < k; q++) {
+            RHouseholderKernel.backSubstitute(this.qr, m, n, y, q * m);
+            for (int i = 0; i < n; i++) {
+                x[i * k + q] = y[q * m + i];
+            }
+        }
+        return new RMatrix(x, n, k);
+    }
+
+    // ||A X - B||^2 for each column of B, read off the last m - n entries of Q^T B
+    public double[] getResidualSumOfSquares(RMatrix b) {
+        this.checkRightHandSide(b);
+        double[] y = this.applyQTranspose(b);
+        double[] residual = new double[b.getColumns()];
+        for (int q = 0; q < residual.length; q++) {
+            double norm = RHouseholderKernel.norm(y, q * m + n, m - n);
+            residual[q] = norm * norm;
+        }
+        return residual;
+    }
+}
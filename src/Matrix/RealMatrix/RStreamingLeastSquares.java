@@ -0,0 +1,129 @@
+package Matrix.RealMatrix;
+
+// Least squares over a system too tall to hold at once, fed a panel of rows at a time. Only the n x n
+// triangle R and the n x k block Q^T B survive between panels: each panel P is folded in by a Householder
+// QR of [R; P] that exploits R being triangular, at O(p n (n + k)) per p-row panel and O(n (n + k + p))
+// memory, so a 10^6 x 50 regression keeps 50 x 51 doubles beyond its current panel. The result matches
+// RQRDecomposition on the stacked rows up to rounding, and A^T A is never formed.
+public final class RStreamingLeastSquares {
+
+    private final int n, k;
+
+    // R held by columns, R(i, j) at j * n + i, and Q^T B held by columns of B, (Q^T B)(i, q) at q * n + i
+    private final double[] r, c;
+    private final double[] residualSumOfSquares;
+    private long rowCount;
+
+    public RStreamingLeastSquares(int columns) {
+        this(columns, 1);
+    }
+
+    public RStreamingLeastSquares(int columns, int rightHandSides) {
+        if (columns < 1 || rightHandSides < 1) {
+            throw new IllegalArgumentException("Columns and right-hand sides must be greater than or equal to 1.");
+        }
+        this.n = columns;
+        this.k = rightHandSides;
+        this.r = new double[n * n];
+        this.c = new double[n * k];
+        this.residualSumOfSquares = new double[k];
+    }
+
+    public int getColumns() {
+        return this.n;
+    }
+
+    public long getRowCount() {
+        return this.rowCount;
+    }
+
+    // Folds the rows of A (p x n) and their right-hand sides B (p x k) into the factorization
+    public void addRows(RMatrix a, RMatrix b) {
+        if (a == null || a.isMatrixNull() || b == null || b.isMatrixNull()) {
+            throw new IllegalArgumentException("Matrix is empty or null.");
+        }
+        if (a.getColumns() != n) {
+            throw new IllegalArgumentException("Panel must have " + n + " columns.");
+        }
+        if (b.getColumns() != k || b.getRows() != a.getRows()) {
+            throw new IllegalArgumentException("Right-hand side must be " + a.getRows() + " x " + k + ".");
+        }
+
+        // Column j of [R; P] is R(j, j) over column j of P once the reflectors before it have run, so each
+        // reflector has R(j, j) as its head and a contiguous row of the transposed panel as its tail
+        int p = a.getRows();
+        double[] pt = a.getTranspose().getData();
+        double[] bt = b.getTranspose().getData();
+        for (int j = 0; j < n; j++) {
+            int v = j * p;
+            double tau = RHouseholderKernel.generate(this.r, j * n + j, pt, v, p);
+            for (int col = j + 1; col < n; col++) {
+                RHouseholderKernel.apply(tau, pt, v, p, this.r, col * n + j, pt, col * p);
+            }
+            for (int q = 0; q < k; q++) {
+                RHouseholderKernel.apply(tau, pt, v, p, this.c, q * n + j, bt, q * p);
+            }
+        }
+
+        // What is left of the panel's right-hand side lies outside the range of A
+        for (int q = 0; q < k; q++) {
+            double norm = RHouseholderKernel.norm(bt, q * p, p);
+            this.residualSumOfSquares[q] += norm * norm;
+        }
+        this.rowCount += p;
+    }
+
+    public void addRows(RMatrix a, double[] b) {
+        if (b == null) {
+            throw new IllegalArgumentException("Right-hand side cannot be null.");
+        }
+        this.addRows(a, new RMatrix(b, b.length, 1));
+    }
+
+    // The n x n upper triangular factor of all rows so far
+    public RMatrix getR() {
+        double[] upper = new double[n * n];
+        for (int j = 0; j < n; j++) {
+            for (int i = 0; i <= j; i++) {
+                upper[i * n + j] = this.r[j * n + i];
+            }
+        }
+        return new RMatrix(upper, n, n);
+    }
+
+    // Same tolerance as RQRDecomposition.isFullRank(), against the rows seen so far
+    public boolean isFullRank() {
+        double max = 0.0;
+        for (int j = 0; j < n; j++) {
+            max = Math.max(max, Math.abs(this.r[j * n + j]));
+        }
+        double tolerance = max * Math.max(n, this.rowCount) * Math.ulp(1.0);
+        for (int j = 0; j < n; j++) {
+            if (!(Math.abs(this.r[j * n + j]) > tolerance)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // The n x k least-squares solution over every row added so far; adding more rows afterwards is allowed
+    public RMatrix solve() {
+        if (!this.isFullRank()) {
+            throw new IllegalArgumentException("Matrix is rank deficient; the least-squares solution is not unique.");
+        }
+        double[] y = this.c.clone();
+        double[] x = new double[n * k];
+        for (int q = 0; q < k; q++) {
+            RHouseholderKernel.backSubstitute(this.r, n, n, y, q * n);
+            for (int i = 0; i < n; i++) {
+                x[i * k + q] = y[q * n + i];
+            }
+        }
+        return new RMatrix(x, n, k);
+    }
+
+    // ||A X - B||^2 for each column of B over every row added so far
+    public double[] getResidualSumOfSquares() {
+        return this.residualSumOfSquares.clone();
+    }
+}
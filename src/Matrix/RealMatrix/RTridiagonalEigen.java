@@ -0,0 +1,464 @@
+package Matrix.RealMatrix;
+
+import java.util.Arrays;
+
+// Eigenvalues and eigenvectors of a real symmetric tridiagonal matrix, given as its diagonal d (n) and its
+// off-diagonal e (n - 1), e[i] coupling rows i and i + 1. Eigenvalues alone come from implicit QL in O(n^2);
+// eigenvectors from Cuppen's divide and conquer, which splits T in two, solves both halves recursively and
+// merges them through the secular equation of a rank-one update, with the merge products done by GEMM.
+// Shared by the symmetric path of REigenDecomposition and the Hermitian path of CEigenDecomposition.
+public final class RTridiagonalEigen {
+
+    private RTridiagonalEigen() {
+        throw new UnsupportedOperationException("Cannot instantiate RTridiagonalEigen.");
+    }
+
+    private static final double EPS = Math.ulp(1.0);
+
+    // Subproblems of at most this order are solved by QL with vectors instead of splitting further
+    static final int LEAF = 32;
+
+    // QL sweeps allowed per eigenvalue before giving up
+    private static final int MAX_SWEEPS = 30;
+
+    // Secular equation iterations allowed per root; each one at least halves the bracket
+    private static final int MAX_SECULAR_ITERATIONS = 100;
+
+    private static void checkArguments(double[] d, double[] e) {
+        if (d == null || e == null) {
+            throw new IllegalArgumentException("Diagonal and off-diagonal cannot be null.");
+        }
+        if (d.length < 1 || e.length != d.length - 1) {
+            throw new IllegalArgumentException("Off-diagonal must have one element fewer than the diagonal.");
+        }
+    }
+
+    // The eigenvalues in ascending order; d and e are not modified
+    public static double[] eigenvalues(double[] d, double[] e) {
+        checkArguments(d, e);
+        int n = d.length;
+        double[] values = d.clone();
+        double[] off = Arrays.copyOf(e, n);
+        ql(values, off, 0, n, null, 0);
+        Arrays.sort(values);
+        return values;
+    }
+
+    // {eigenvalues ascending, eigenvectors}: the second array is n x n row-major with the orthonormal
+    // eigenvector of eigenvalue i in column i. d and e are not modified.
+    public static double[][] decompose(double[] d, double[] e) {
+        checkArguments(d, e);
+        int n = d.length;
+        double[] values = d.clone();
+        double[] off = Arrays.copyOf(e, n);
+        double[] vectors = new double[n * n];
+        divide(values, off, 0, n, vectors, n);
+        return new double[][]{values, vectors};
+    }
+
+    // Eigen-decomposition of the tridiagonal block [s, s + len): on return values[s .. s + len) holds its
+    // eigenvalues ascending and the diagonal block of q at (s, s) its eigenvectors by columns
+    private static void divide(double[] d, double[] e, int s, int len, double[] q, int ld) {
+        if (len <= LEAF) {
+            double[] off = Arrays.copyOfRange(e, s, s + len);
+            off[len - 1] = 0.0;
+            for (int i = 0; i < len; i++) {
+                q[(s + i) * ld + s + i] = 1.0;
+            }
+            ql(d, off, s, len, q, ld);
+            sortWithVectors(d, s, len, q, ld);
+            return;
+        }
+
+        // T = diag(T1 - rho e_last e_last^T, T2 - rho e_1 e_1^T) + rho u u^T with u = (e_last, sign(beta) e_1)
+        int n1 = len / 2, n2 = len - n1;
+        double beta = e[s + n1 - 1];
+        double rho = Math.abs(beta);
+        d[s + n1 - 1] -= rho;
+        d[s + n1] -= rho;
+        divide(d, e, s, n1, q, ld);
+        divide(d, e, s + n1, n2, q, ld);
+        merge(d, s, n1, n2, rho, beta < 0.0 ? -1.0 : 1.0, q, ld);
+    }
+
+    // Eigenvalues of D + rho z z^T, where D holds the sorted eigenvalues of both halves and z = Q^T u, and the
+    // eigenvectors Q U that follow from them. Components of z that are negligible, and pairs of nearly equal
+    // eigenvalues (rotated so one component vanishes), deflate: their eigenpairs pass through unchanged.
+    private static void merge(double[] d, int s, int n1, int n2, double rho, double sign, double[] q, int ld) {
+        int n = n1 + n2;
+
+        // The local eigenvector block, row-major n x n, and z from its last top row and first bottom row
+        double[] local = new double[n * n];
+        for (int i = 0; i < n; i++) {
+            System.arraycopy(q, (s + i) * ld + s, local, i * n, n);
+        }
+        double[] z = new double[n];
+        double[] values = Arrays.copyOfRange(d, s, s + n);
+        for (int j = 0; j < n1; j++) {
+            z[j] = local[(n1 - 1) * n + j] * Math.sqrt(0.5);
+        }
+        for (int j = n1; j < n; j++) {
+            z[j] = sign * local[n1 * n + j] * Math.sqrt(0.5);
+        }
+        rho *= 2.0;
+
+        // 1: column only in the top rows, 3: only in the bottom rows, 2: mixed by a deflating rotation
+        int[] type = new int[n];
+        for (int j = 0; j < n; j++) {
+            type[j] = j < n1 ? 1 : 3;
+        }
+
+        // Both halves are already sorted, so one merge orders the poles
+        int[] order = new int[n];
+        for (int a = 0, b = n1, t = 0; t < n; t++) {
+            order[t] = (b >= n || (a < n1 && values[a] <= values[b])) ? a++ : b++;
+        }
+
+        double maxValue = 0.0, maxZ = 0.0;
+        for (int j = 0; j < n; j++) {
+            maxValue = Math.max(maxValue, Math.abs(values[j]));
+            maxZ = Math.max(maxZ, Math.abs(z[j]));
+        }
+        double tolerance = 8.0 * EPS * Math.max(maxValue, maxZ);
+
+        int[] poles = new int[n], deflated = new int[n];
+        int k = 0, kDeflated = 0, previous = -1;
+        for (int t = 0; t < n; t++) {
+            int j = order[t];
+            if (rho * Math.abs(z[j]) <= tolerance) {
+                deflated[kDeflated++] = j;
+                continue;
+            }
+            if (previous < 0) {
+                previous = j;
+                continue;
+            }
+            double c = z[j], sn = z[previous];
+            double tau = Math.hypot(c, sn);
+            c /= tau;
+            sn = -sn / tau;
+            if (Math.abs((values[j] - values[previous]) * c * sn) <= tolerance) {
+                // A rotation of the two columns moves all of z onto j, and previous deflates
+                z[j] = tau;
+                z[previous] = 0.0;
+                for (int i = 0; i < n; i++) {
+                    double qp = local[i * n + previous], qj = local[i * n + j];
+                    local[i * n + previous] = c * qp + sn * qj;
+                    local[i * n + j] = c * qj - sn * qp;
+                }
+                if (type[previous] != type[j]) {
+                    type[previous] = 2;
+                    type[j] = 2;
+                }
+                double vp = values[previous], vj = values[j];
+                values[previous] = vp * c * c + vj * sn * sn;
+                values[j] = vp * sn * sn + vj * c * c;
+                deflated[kDeflated++] = previous;
+            } else {
+                poles[k++] = previous;
+            }
+            previous = j;
+        }
+        if (previous >= 0) {
+            poles[k++] = previous;
+        }
+
+        double[] merged = new double[n * n];
+        double[] eigenvalues = new double[n];
+        if (k > 0) {
+            // Rotations can nudge a pole past its neighbour; the secular solver needs them strictly ordered
+            Integer[] sorted = new Integer[k];
+            for (int i = 0; i < k; i++) {
+                sorted[i] = poles[i];
+            }
+            Arrays.sort(sorted, (x, y) -> Double.compare(values[x], values[y]));
+            double[] pole = new double[k], weight = new double[k];
+            for (int i = 0; i < k; i++) {
+                poles[i] = sorted[i];
+                pole[i] = values[poles[i]];
+                weight[i] = z[poles[i]];
+            }
+
+            // delta[i * k + j] = pole_j - lambda_i, formed against the nearer pole so it stays accurate
+            double[] delta = new double[k * k];
+            for (int i = 0; i < k; i++) {
+                eigenvalues[i] = secularRoot(pole, weight, k, rho, i, delta, i * k);
+            }
+            double[] u = secularVectors(pole, weight, k, rho, delta);
+            mergeVectors(local, n, n1, poles, type, k, u, merged);
+        }
+        for (int i = 0; i < kDeflated; i++) {
+            int j = deflated[i];
+            eigenvalues[k + i] = values[j];
+            for (int r = 0; r < n; r++) {
+                merged[r * n + k + i] = local[r * n + j];
+            }
+        }
+
+        // Final ascending order, written back into d and the block of q
+        Integer[] rank = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            rank[i] = i;
+        }
+        Arrays.sort(rank, (x, y) -> Double.compare(eigenvalues[x], eigenvalues[y]));
+        for (int i = 0; i < n; i++) {
+            d[s + i] = eigenvalues[rank[i]];
+        }
+        for (int r = 0; r < n; r++) {
+            int row = (s + r) * ld + s, src = r * n;
+            for (int i = 0; i < n; i++) {
+                q[row + i] = merged[src + rank[i]];
+            }
+        }
+    }
+
+    // Root i of 1 + rho sum_j w_j^2 / (pole_j - lambda) = 0, which lies in (pole_i, pole_(i+1)), or in
+    // (pole_(k-1), pole_(k-1) + rho |w|^2] for the last one. The unknown is the offset tau from whichever end of
+    // the interval is nearer, so pole_j - lambda = (pole_j - origin) - tau keeps full relative accuracy. Each
+    // step solves a model that keeps the two nearest poles exactly and fits the rest by value and slope
+    // (Bunch, Nielsen and Sorensen); a step that leaves the bracket bisects instead.
+    private static double secularRoot(double[] pole, double[] weight, int k, double rho, int i,
+                                      double[] delta, int off) {
+        boolean last = i == k - 1;
+        int origin;
+        double lo, hi, tau;
+        if (last) {
+            double weightSquares = 0.0;
+            for (int j = 0; j < k; j++) {
+                weightSquares += weight[j] * weight[j];
+            }
+            origin = i;
+            lo = 0.0;
+            hi = rho * weightSquares;
+            tau = hi;
+        } else {
+            double gap = pole[i + 1] - pole[i], mid = 0.5 * gap;
+            double f = 1.0;
+            for (int j = 0; j < k; j++) {
+                f += rho * weight[j] * weight[j] / ((pole[j] - pole[i]) - mid);
+            }
+            if (f >= 0.0) {
+                origin = i;
+                lo = 0.0;
+                hi = mid;
+                tau = mid;
+            } else {
+                origin = i + 1;
+                lo = -(gap - mid);
+                hi = 0.0;
+                tau = lo;
+            }
+        }
+        double base = pole[origin];
+        for (int j = 0; j < k; j++) {
+            delta[off + j] = pole[j] - base;
+        }
+
+        double[] shifted = new double[k];
+        for (int iteration = 0; iteration < MAX_SECULAR_ITERATIONS; iteration++) {
+            double psi = 0.0, dPsi = 0.0, phi = 0.0, dPhi = 0.0;
+            for (int j = 0; j < k; j++) {
+                double gap = delta[off + j] - tau;
+                shifted[j] = gap;
+                double term = rho * weight[j] / gap;
+                if (j <= i) {
+                    psi += term * weight[j];
+                    dPsi += term * term / rho;
+                } else {
+                    phi += term * weight[j];
+                    dPhi += term * term / rho;
+                }
+            }
+            double w = 1.0 + psi + phi;
+            double error = 8.0 * (1.0 + phi - psi) + 3.0 * Math.abs(tau) * (dPsi + dPhi);
+            if (Math.abs(w) <= EPS * error || (!(hi - lo > EPS * Math.max(Math.abs(lo), Math.abs(hi))))) {
+                break;
+            }
+            if (w < 0.0) {
+                lo = Math.max(lo, tau);
+            } else {
+                hi = Math.min(hi, tau);
+            }
+
+            double step;
+            double left = shifted[i];
+            if (last) {
+                double c = w - left * dPsi;
+                step = c > 0.0 ? left + dPsi * left * left / c : Double.NaN;
+            } else {
+                double right = shifted[i + 1];
+                double c = w - left * dPsi - right * dPhi;
+                double a = (left + right) * w - left * right * (dPsi + dPhi);
+                double b = left * right * w;
+                if (c == 0.0) {
+                    step = b / a;
+                } else {
+                    double root = Math.sqrt(Math.abs(a * a - 4.0 * b * c));
+                    step = a <= 0.0 ? (a - root) / (2.0 * c) : 2.0 * b / (a + root);
+                }
+            }
+            double next = tau + step;
+            if (!(next > lo && next < hi)) {
+                next = 0.5 * (lo + hi);
+            }
+            if (next == tau) {
+                break;
+            }
+            tau = next;
+            if (iteration == MAX_SECULAR_ITERATIONS - 1) {
+                throw new ArithmeticException("Secular equation did not converge.");
+            }
+        }
+        for (int j = 0; j < k; j++) {
+            delta[off + j] -= tau;
+        }
+        return base + tau;
+    }
+
+    // Eigenvectors of D + rho w w^T as a k x k row-major block, column i for root i. The weights are first
+    // recomputed from the roots (Gu and Eisenstat), so the vectors come out orthogonal to working precision
+    // even where the computed roots are close to the poles.
+    private static double[] secularVectors(double[] pole, double[] weight, int k, double rho, double[] delta) {
+        double[] exact = new double[k];
+        for (int j = 0; j < k; j++) {
+            double product = -delta[(k - 1) * k + j] / rho;
+            for (int l = 0; l < j; l++) {
+                product *= -delta[l * k + j] / (pole[l] - pole[j]);
+            }
+            for (int l = j; l < k - 1; l++) {
+                product *= -delta[l * k + j] / (pole[l + 1] - pole[j]);
+            }
+            exact[j] = Math.copySign(Math.sqrt(Math.abs(product)), weight[j]);
+        }
+
+        double[] u = new double[k * k];
+        for (int i = 0; i < k; i++) {
+            double norm = 0.0;
+            for (int j = 0; j < k; j++) {
+                double value = exact[j] / delta[i * k + j];
+                u[j * k + i] = value;
+                norm += value * value;
+            }
+            double scale = 1.0 / Math.sqrt(norm);
+            for (int j = 0; j < k; j++) {
+                u[j * k + i] *= scale;
+            }
+        }
+        return u;
+    }
+
+    // merged(:, 0 .. k) = local(:, poles) U. Poles are regrouped by where their columns are nonzero, so the
+    // top rows multiply only the top and mixed columns and the bottom rows only the mixed and bottom ones.
+    private static void mergeVectors(double[] local, int n, int n1, int[] poles, int[] type, int k,
+                                     double[] u, double[] merged) {
+        int[] grouped = new int[k];
+        int count1 = 0, count2 = 0, t = 0;
+        for (int group = 1; group <= 3; group++) {
+            for (int i = 0; i < k; i++) {
+                if (type[poles[i]] == group) {
+                    grouped[t++] = i;
+                    if (group == 1) count1++;
+                    if (group == 2) count2++;
+                }
+            }
+        }
+
+        double[] columns = new double[n * k], rows = new double[k * k];
+        for (int g = 0; g < k; g++) {
+            int p = grouped[g], column = poles[p];
+            for (int r = 0; r < n; r++) {
+                columns[r * k + g] = local[r * n + column];
+            }
+            System.arraycopy(u, p * k, rows, g * k, k);
+        }
+        int n2 = n - n1, top = count1 + count2, bottom = k - count1;
+        RMatrixKernel.gemm(n1, k, top, columns, 0, k, rows, 0, k, merged, 0, n);
+        RMatrixKernel.gemm(n2, k, bottom, columns, n1 * k + count1, k, rows, count1 * k, k, merged, n1 * n, n);
+    }
+
+    // Implicit QL on the tridiagonal block [s, s + len) with off-diagonal off[0 .. len - 1) (off[len - 1] = 0),
+    // accumulating the rotations into the columns of the block of q when q is not null
+    private static void ql(double[] d, double[] off, int s, int len, double[] q, int ld) {
+        double shift = 0.0, scale = 0.0;
+        for (int l = 0; l < len; l++) {
+            scale = Math.max(scale, Math.abs(d[s + l]) + Math.abs(off[l]));
+            int m = l;
+            while (m < len - 1 && Math.abs(off[m]) > EPS * scale) {
+                m++;
+            }
+            if (m > l) {
+                int sweeps = 0;
+                do {
+                    if (++sweeps > MAX_SWEEPS) {
+                        throw new ArithmeticException("Eigenvalue iteration did not converge.");
+                    }
+                    // Wilkinson-style shift from the leading 2 x 2, applied to the whole remaining block
+                    double g = d[s + l];
+                    double p = (d[s + l + 1] - g) / (2.0 * off[l]);
+                    double r = Math.copySign(Math.hypot(p, 1.0), p);
+                    d[s + l] = off[l] / (p + r);
+                    d[s + l + 1] = off[l] * (p + r);
+                    double next = d[s + l + 1];
+                    double h = g - d[s + l];
+                    for (int i = l + 2; i < len; i++) {
+                        d[s + i] -= h;
+                    }
+                    shift += h;
+
+                    // Chase the bulge from m back up to l
+                    p = d[s + m];
+                    double c = 1.0, c2 = 1.0, c3 = 1.0, sn = 0.0, s2 = 0.0;
+                    double offNext = off[l + 1];
+                    for (int i = m - 1; i >= l; i--) {
+                        c3 = c2;
+                        c2 = c;
+                        s2 = sn;
+                        g = c * off[i];
+                        h = c * p;
+                        r = Math.hypot(p, off[i]);
+                        off[i + 1] = sn * r;
+                        sn = off[i] / r;
+                        c = p / r;
+                        p = c * d[s + i] - sn * g;
+                        d[s + i + 1] = h + sn * (c * g + sn * d[s + i]);
+                        if (q != null) {
+                            for (int row = s; row < s + len; row++) {
+                                int base = row * ld + s;
+                                double right = q[base + i + 1], leftValue = q[base + i];
+                                q[base + i + 1] = sn * leftValue + c * right;
+                                q[base + i] = c * leftValue - sn * right;
+                            }
+                        }
+                    }
+                    p = -sn * s2 * c3 * offNext * off[l] / next;
+                    off[l] = sn * p;
+                    d[s + l] = c * p;
+                } while (Math.abs(off[l]) > EPS * scale);
+            }
+            d[s + l] += shift;
+            off[l] = 0.0;
+        }
+    }
+
+    // Selection sort of a small block's eigenvalues, carrying the eigenvector columns along
+    private static void sortWithVectors(double[] d, int s, int len, double[] q, int ld) {
+        for (int i = 0; i < len - 1; i++) {
+            int min = i;
+            for (int j = i + 1; j < len; j++) {
+                if (d[s + j] < d[s + min]) {
+                    min = j;
+                }
+            }
+            if (min == i) continue;
+            double temp = d[s + i];
+            d[s + i] = d[s + min];
+            d[s + min] = temp;
+            for (int row = s; row < s + len; row++) {
+                int base = row * ld + s;
+                temp = q[base + i];
+                q[base + i] = q[base + min];
+                q[base + min] = temp;
+            }
+        }
+    }
+}
@@ -0,0 +1,266 @@
+package Matrix.RealMatrix;
+
+import Matrix.SparseFormat;
+import Matrix.SparseIndex;
+
+import java.util.Arrays;
+
+// Immutable sparse real matrix in compressed row (CSR) or compressed column (CSC) form. Only the stored
+// entries take memory, so systems far too large for RMatrix fit as long as their non-zeros do. Build one
+// from coordinates with Builder, from an RMatrix with fromDense, or wrap existing compressed arrays.
+// Products and matrix-vector multiplies live in SparseRMatrixMath.
+public final class SparseRMatrix {
+
+    private final int rows, cols;
+    private final SparseFormat format;
+
+    // Along the compressed dimension (rows for CSR, columns for CSC), the entries of index m are
+    // values[p] at minor index indices[p] for pointers[m] <= p < pointers[m + 1], minor indices increasing
+    private final int[] pointers, indices;
+    private final double[] values;
+
+    // Wraps compressed arrays without copying after checking the pattern; the caller must not modify them
+    public SparseRMatrix(int rows, int cols, SparseFormat format, int[] pointers, int[] indices, double[] values) {
+        checkDimensions(rows, cols);
+        if (format == null || values == null) {
+            throw new IllegalArgumentException("Format and values cannot be null.");
+        }
+        boolean csr = format == SparseFormat.CSR;
+        SparseIndex.checkPattern(pointers, indices, csr ? rows : cols, csr ? cols : rows, values.length);
+        this.rows = rows;
+        this.cols = cols;
+        this.format = format;
+        this.pointers = pointers;
+        this.indices = indices;
+        this.values = values;
+    }
+
+    // Trusted arrays from the builder and the kernels
+    private SparseRMatrix(SparseFormat format, int rows, int cols, int[] pointers, int[] indices, double[] values) {
+        this.rows = rows;
+        this.cols = cols;
+        this.format = format;
+        this.pointers = pointers;
+        this.indices = indices;
+        this.values = values;
+    }
+
+    static SparseRMatrix wrapUnchecked(SparseFormat format, int rows, int cols, int[] pointers, int[] indices,
+                                       double[] values) {
+        return new SparseRMatrix(format, rows, cols, pointers, indices, values);
+    }
+
+    private static void checkDimensions(int rows, int cols) {
+        if (rows < 1 || cols < 1) {
+            throw new IllegalArgumentException("Rows/Columns must be greater than or equal to 1.");
+        }
+    }
+
+    public int getRows() {
+        return this.rows;
+    }
+
+    public int getColumns() {
+        return this.cols;
+    }
+
+    public SparseFormat getFormat() {
+        return this.format;
+    }
+
+    public int getNonZeroCount() {
+        return this.pointers[this.pointers.length - 1];
+    }
+
+    // Raw compressed arrays, shared with this matrix
+    public int[] getPointers() {
+        return this.pointers;
+    }
+
+    public int[] getIndices() {
+        return this.indices;
+    }
+
+    public double[] getValues() {
+        return this.values;
+    }
+
+    // Binary search within the row (CSR) or column (CSC); unstored entries are 0
+    public double getElement(int row, int col) {
+        if (row < 0 || col < 0 || row >= this.rows || col >= this.cols) {
+            throw new IllegalArgumentException("Row/Column is outside the matrix dimensions.");
+        }
+        int position = this.format == SparseFormat.CSR
+                ? SparseIndex.find(this.pointers, this.indices, row, col)
+                : SparseIndex.find(this.pointers, this.indices, col, row);
+        return position < 0 ? 0.0 : this.values[position];
+    }
+
+    // The same arrays read the other way round: O(1), sharing storage with this matrix
+    public SparseRMatrix getTranspose() {
+        return new SparseRMatrix(this.format.transposed(), this.cols, this.rows, this.pointers, this.indices, this.values);
+    }
+
+    public SparseRMatrix toCSR() {
+        return this.toFormat(SparseFormat.CSR);
+    }
+
+    public SparseRMatrix toCSC() {
+        return this.toFormat(SparseFormat.CSC);
+    }
+
+    // Recompresses along the other dimension in O(nnz + rows + cols); returns this when already in format
+    public SparseRMatrix toFormat(SparseFormat format) {
+        if (format == null) {
+            throw new IllegalArgumentException("Format cannot be null.");
+        }
+        if (format == this.format) {
+            return this;
+        }
+        boolean csr = this.format == SparseFormat.CSR;
+        int majorDim = csr ? this.rows : this.cols, minorDim = csr ? this.cols : this.rows;
+        int nnz = this.getNonZeroCount();
+        int[] pointers = new int[minorDim + 1], indices = new int[nnz];
+        int[] source = SparseIndex.transpose(this.pointers, this.indices, majorDim, minorDim, pointers, indices);
+        double[] values = new double[nnz];
+        for (int q = 0; q < nnz; q++) {
+            values[q] = this.values[source[q]];
+        }
+        return new SparseRMatrix(format, this.rows, this.cols, pointers, indices, values);
+    }
+
+    public RMatrix toDense() {
+        if ((long) this.rows * this.cols > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Matrix is too large to store densely.");
+        }
+        double[] dense = new double[this.rows * this.cols];
+        boolean csr = this.format == SparseFormat.CSR;
+        int majorDim = csr ? this.rows : this.cols;
+        for (int m = 0; m < majorDim; m++) {
+            for (int p = this.pointers[m]; p < this.pointers[m + 1]; p++) {
+                int k = csr ? m * this.cols + this.indices[p] : this.indices[p] * this.cols + m;
+                dense[k] = this.values[p];
+            }
+        }
+        return new RMatrix(dense, this.rows, this.cols);
+    }
+
+    // Keeps the entries of matrix that are not exactly 0
+    public static SparseRMatrix fromDense(RMatrix matrix, SparseFormat format) {
+        if (matrix == null || matrix.isMatrixNull()) {
+            throw new IllegalArgumentException("Matrix is empty or null.");
+        }
+        if (format == null) {
+            throw new IllegalArgumentException("Format cannot be null.");
+        }
+        int rows = matrix.getRows(), cols = matrix.getColumns();
+        double[] data = matrix.getData();
+        int offset = matrix.getOffset(), stride = matrix.getStride();
+
+        int[] pointers = new int[rows + 1];
+        for (int i = 0; i < rows; i++) {
+            int count = 0;
+            for (int j = 0, k = offset + i * stride; j < cols; j++, k++) {
+                if (data[k] != 0.0) {
+                    count++;
+                }
+            }
+            pointers[i + 1] = pointers[i] + count;
+        }
+        int[] indices = new int[pointers[rows]];
+        double[] values = new double[pointers[rows]];
+        for (int i = 0, p = 0; i < rows; i++) {
+            for (int j = 0, k = offset + i * stride; j < cols; j++, k++) {
+                if (data[k] != 0.0) {
+                    indices[p] = j;
+                    values[p++] = data[k];
+                }
+            }
+        }
+        return new SparseRMatrix(SparseFormat.CSR, rows, cols, pointers, indices, values).toFormat(format);
+    }
+
+    // Collects (row, col, value) triplets in any order; entries added at the same position are summed.
+    // Explicit zeros are kept. A builder can be reused after build().
+    public static final class Builder {
+
+        private final int rows, cols;
+        private int[] rowIndices, colIndices;
+        private double[] values;
+        private int count;
+
+        public Builder(int rows, int cols) {
+            this(rows, cols, 16);
+        }
+
+        public Builder(int rows, int cols, int expectedEntries) {
+            checkDimensions(rows, cols);
+            if (expectedEntries < 0) {
+                throw new IllegalArgumentException("Expected entry count cannot be negative.");
+            }
+            this.rows = rows;
+            this.cols = cols;
+            this.rowIndices = new int[expectedEntries];
+            this.colIndices = new int[expectedEntries];
+            this.values = new double[expectedEntries];
+        }
+
+        public Builder add(int row, int col, double value) {
+            if (row < 0 || col < 0 || row >= this.rows || col >= this.cols) {
+                throw new IllegalArgumentException("Row/Column is outside the matrix dimensions.");
+            }
+            if (this.count == this.values.length) {
+                int capacity = Math.max(16, this.count + (this.count >> 1));
+                this.rowIndices = Arrays.copyOf(this.rowIndices, capacity);
+                this.colIndices = Arrays.copyOf(this.colIndices, capacity);
+                this.values = Arrays.copyOf(this.values, capacity);
+            }
+            this.rowIndices[this.count] = row;
+            this.colIndices[this.count] = col;
+            this.values[this.count++] = value;
+            return this;
+        }
+
+        public int getEntryCount() {
+            return this.count;
+        }
+
+        public SparseRMatrix build() {
+            return this.build(SparseFormat.CSR);
+        }
+
+        // Sorts the triplets by (major, minor) with counting passes and sums duplicates: O(entries + rows + cols)
+        public SparseRMatrix build(SparseFormat format) {
+            if (format == null) {
+                throw new IllegalArgumentException("Format cannot be null.");
+            }
+            boolean csr = format == SparseFormat.CSR;
+            int[] major = csr ? this.rowIndices : this.colIndices, minor = csr ? this.colIndices : this.rowIndices;
+            int majorDim = csr ? this.rows : this.cols, minorDim = csr ? this.cols : this.rows;
+            int[] order = SparseIndex.sortOrder(major, minor, this.count, majorDim, minorDim);
+
+            int[] pointers = new int[majorDim + 1], indices = new int[this.count];
+            double[] values = new double[this.count];
+            int nnz = 0, lastMajor = -1;
+            for (int t = 0; t < this.count; t++) {
+                int k = order[t], m = major[k], n = minor[k];
+                if (m == lastMajor && indices[nnz - 1] == n) {
+                    values[nnz - 1] += this.values[k];
+                } else {
+                    indices[nnz] = n;
+                    values[nnz++] = this.values[k];
+                    pointers[m + 1]++;
+                    lastMajor = m;
+                }
+            }
+            for (int m = 0; m < majorDim; m++) {
+                pointers[m + 1] += pointers[m];
+            }
+            if (nnz < this.count) {
+                indices = Arrays.copyOf(indices, nnz);
+                values = Arrays.copyOf(values, nnz);
+            }
+            return new SparseRMatrix(format, this.rows, this.cols, pointers, indices, values);
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package Matrix.RealMatrix;
+
+import Matrix.MatrixExecutionContext;
+import Matrix.SparseFormat;
+import Matrix.SparseIndex;
+
+import java.util.Arrays;
+
+// Products and matrix-vector multiplies for SparseRMatrix, alone and against dense RMatrix operands. Work
+// is proportional to the stored entries, never to rows * cols of the sparse operand. Row-parallel
+// kernels run on a MatrixExecutionContext; CSC operands are recompressed to CSR first where a kernel
+// needs rows, except for the matrix-vector multiply, which runs CSC directly on the calling thread.
+public final class SparseRMatrixMath {
+
+    private SparseRMatrixMath() {
+        throw new UnsupportedOperationException("Cannot instantiate SparseRMatrixMath.");
+    }
+
+    // Multiply-adds handed to one task, so that short sparse rows are batched
+    private static final long TASK_WORK = 1L << 15;
+
+    // y = A x
+    public static double[] multiply(SparseRMatrix matrix, double[] x) {
+        checkSparse(matrix);
+        double[] y = new double[matrix.getRows()];
+        multiply(matrix, x, y, MatrixExecutionContext.serial());
+        return y;
+    }
+
+    // y = A x into an existing y (which must not be x); CSR rows are split across the context's pool
+    public static void multiply(SparseRMatrix matrix, double[] x, double[] y, MatrixExecutionContext context) {
+        checkSparse(matrix);
+        if (context == null) {
+            throw new IllegalArgumentException("Execution context is null.");
+        }
+        if (x == null || y == null || x.length != matrix.getColumns() || y.length != matrix.getRows()) {
+            throw new IllegalArgumentException("Vector lengths do not match the matrix dimensions.");
+        }
+        if (x == y) {
+            throw new IllegalArgumentException("Result vector cannot be the input vector.");
+        }
+        int[] pointers = matrix.getPointers(), indices = matrix.getIndices();
+        double[] values = matrix.getValues();
+
+        if (matrix.getFormat() == SparseFormat.CSC) {
+            // Columns scatter into shared rows, so this stays on one thread
+            Arrays.fill(y, 0.0);
+            for (int j = 0; j < matrix.getColumns(); j++) {
+                double xj = x[j];
+                for (int p = pointers[j]; p < pointers[j + 1]; p++) {
+                    y[indices[p]] = Math.fma(values[p], xj, y[indices[p]]);
+                }
+            }
+            return;
+        }
+
+        int rows = matrix.getRows();
+        long work = matrix.getNonZeroCount();
+        MatrixExecutionContext.RangeTask task = (from, to) -> {
+            for (int i = from; i < to; i++) {
+                double sum = 0.0;
+                for (int p = pointers[i]; p < pointers[i + 1]; p++) {
+                    sum = Math.fma(values[p], x[indices[p]], sum);
+                }
+                y[i] = sum;
+            }
+        };
+        runRows(rows, work, context, task);
+    }
+
+    public static RMatrix product(SparseRMatrix matrix1, RMatrix matrix2) {
+        return product(matrix1, matrix2, MatrixExecutionContext.serial());
+    }
+
+    // Sparse x dense: each stored a_ik adds a_ik * (row k of B) to row i of the product
+    public static RMatrix product(SparseRMatrix matrix1, RMatrix matrix2, MatrixExecutionContext context) {
+        checkSparse(matrix1);
+        checkDense(matrix2);
+        if (context == null) {
+            throw new IllegalArgumentException("Execution context is null.");
+        }
+        if (matrix1.getColumns() != matrix2.getRows()) {
+            throw new IllegalArgumentException("Multiplication not possible: Column count of Matrix 1 must match row count of Matrix 2.");
+        }
+        SparseRMatrix a = matrix1.toCSR();
+        int rows = a.getRows(), cols = matrix2.getColumns();
+        checkDenseSize(rows, cols);
+        int[] pointers = a.getPointers(), indices = a.getIndices();
+        double[] values = a.getValues();
+        double[] b = matrix2.getData();
+        int bOff = matrix2.getOffset(), ldb = matrix2.getStride();
+        double[] product = new double[rows * cols];
+
+        runRows(rows, (long) a.getNonZeroCount() * cols, context, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                int row = i * cols;
+                for (int p = pointers[i]; p < pointers[i + 1]; p++) {
+                    double aik = values[p];
+                    int bRow = bOff + indices[p] * ldb;
+                    for (int j = 0; j < cols; j++) {
+                        product[row + j] = Math.fma(aik, b[bRow + j], product[row + j]);
+                    }
+                }
+            }
+        });
+        return new RMatrix(product, rows, cols);
+    }
+
+    public static RMatrix product(RMatrix matrix1, SparseRMatrix matrix2) {
+        return product(matrix1, matrix2, MatrixExecutionContext.serial());
+    }
+
+    // Dense x sparse: each a_ik scatters a_ik * (sparse row k of B) into row i of the product
+    public static RMatrix product(RMatrix matrix1, SparseRMatrix matrix2, MatrixExecutionContext context) {
+        checkDense(matrix1);
+        checkSparse(matrix2);
+        if (context == null) {
+            throw new IllegalArgumentException("Execution context is null.");
+        }
+        if (matrix1.getColumns() != matrix2.getRows()) {
+            throw new IllegalArgumentException("Multiplication not possible: Column count of Matrix 1 must match row count of Matrix 2.");
+        }
+        SparseRMatrix b = matrix2.toCSR();
+        int rows = matrix1.getRows(), cols = b.getColumns(), common = matrix1.getColumns();
+        checkDenseSize(rows, cols);
+        int[] pointers = b.getPointers(), indices = b.getIndices();
+        double[] values = b.getValues();
+        double[] a = matrix1.getData();
+        int aOff = matrix1.getOffset(), lda = matrix1.getStride();
+        double[] product = new double[rows * cols];
+
+        runRows(rows, (long) rows * b.getNonZeroCount(), context, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                int row = i * cols, aRow = aOff + i * lda;
+                for (int k = 0; k < common; k++) {
+                    double aik = a[aRow + k];
+                    if (aik == 0.0) {
+                        continue;
+                    }
+                    for (int p = pointers[k]; p < pointers[k + 1]; p++) {
+                        product[row + indices[p]] = Math.fma(aik, values[p], product[row + indices[p]]);
+                    }
+                }
+            }
+        });
+        return new RMatrix(product, rows, cols);
+    }
+
+    // Sparse x sparse by Gustavson's algorithm, in matrix1's format. For CSC the CSR kernel computes
+    // C^T = B^T A^T, whose CSR arrays are the CSC arrays of C.
+    public static SparseRMatrix product(SparseRMatrix matrix1, SparseRMatrix matrix2) {
+        checkSparse(matrix1);
+        checkSparse(matrix2);
+        if (matrix1.getColumns() != matrix2.getRows()) {
+            throw new IllegalArgumentException("Multiplication not possible: Column count of Matrix 1 must match row count of Matrix 2.");
+        }
+        SparseFormat format = matrix1.getFormat();
+        SparseRMatrix b = matrix2.toFormat(format);
+        SparseRMatrix first = format == SparseFormat.CSR ? matrix1 : b;
+        SparseRMatrix second = format == SparseFormat.CSR ? b : matrix1;
+        int rows = format == SparseFormat.CSR ? matrix1.getRows() : b.getColumns();
+        int cols = format == SparseFormat.CSR ? b.getColumns() : matrix1.getRows();
+
+        int[] aPointers = first.getPointers(), aIndices = first.getIndices();
+        int[] bPointers = second.getPointers(), bIndices = second.getIndices();
+        double[] aValues = first.getValues(), bValues = second.getValues();
+        int[][] pattern = SparseIndex.productPattern(aPointers, aIndices, bPointers, bIndices, rows, cols);
+        int[] pointers = pattern[0], indices = pattern[1];
+        double[] values = new double[indices.length];
+
+        // Dense accumulator over the columns, cleared again while it is read out
+        double[] accumulator = new double[cols];
+        for (int i = 0; i < rows; i++) {
+            for (int p = aPointers[i]; p < aPointers[i + 1]; p++) {
+                double aik = aValues[p];
+                int k = aIndices[p];
+                for (int q = bPointers[k]; q < bPointers[k + 1]; q++) {
+                    accumulator[bIndices[q]] = Math.fma(aik, bValues[q], accumulator[bIndices[q]]);
+                }
+            }
+            for (int t = pointers[i]; t < pointers[i + 1]; t++) {
+                values[t] = accumulator[indices[t]];
+                accumulator[indices[t]] = 0.0;
+            }
+        }
+        return SparseRMatrix.wrapUnchecked(format, matrix1.getRows(), b.getColumns(), pointers, indices, values);
+    }
+
+    // Runs a row kernel serially, or in row ranges of about TASK_WORK multiply-adds when the context
+    // finds the total worth splitting
+    private static void runRows(int rows, long work, MatrixExecutionContext context, MatrixExecutionContext.RangeTask task) {
+        if (!context.shouldParallelize(work)) {
+            task.compute(0, rows);
+            return;
+        }
+        int grain = (int) Math.max(1, Math.min(rows, TASK_WORK * rows / Math.max(1, work)));
+        context.forEachRange(rows, grain, task);
+    }
+
+    private static void checkSparse(SparseRMatrix matrix) {
+        if (matrix == null) {
+            throw new IllegalArgumentException("Sparse matrix is null.");
+        }
+    }
+
+    private static void checkDense(RMatrix matrix) {
+        if (matrix == null || matrix.isMatrixNull()) {
+            throw new IllegalArgumentException("Matrix is null or not initialized.");
+        }
+    }
+
+    private static void checkDenseSize(int rows, int cols) {
+        if ((long) rows * cols > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Product is too large to store densely.");
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package Matrix.Solvers;
+
+import Complex.Complex;
+import Complex.ComplexVector;
+
+import java.util.Arrays;
+
+// Right-preconditioned BiCGSTAB (van der Vorst) for general square systems. Each iteration costs two
+// operator and two preconditioner applications and stores seven vectors, independent of the iteration
+// count. Convergence is not monotone and can break down (rho or omega reaching 0); the result then
+// reports the last residual without convergence, and GMRES is the robust alternative.
+public final class BiCGSTAB {
+
+    private BiCGSTAB() {
+        throw new UnsupportedOperationException("Cannot instantiate BiCGSTAB.");
+    }
+
+    public static SolverResult solve(RLinearOperator operator, double[] b, double[] x, double tolerance, int maxIterations) {
+        return solve(operator, b, x, RPreconditioner.identity(), tolerance, maxIterations);
+    }
+
+    // Iterates from the initial guess in x until ||b - A x|| <= tolerance * ||b||
+    public static SolverResult solve(RLinearOperator operator, double[] b, double[] x, RPreconditioner preconditioner,
+                                     double tolerance, int maxIterations) {
+        KrylovSupport.checkArguments(operator, b, x, preconditioner, tolerance, maxIterations);
+        int n = operator.size();
+        double bNorm = KrylovSupport.norm(b);
+        if (bNorm == 0.0) {
+            Arrays.fill(x, 0.0);
+            return new SolverResult(true, 0, 0.0);
+        }
+
+        double[] r = new double[n], shadow = new double[n], p = new double[n], v = new double[n];
+        double[] pHat = new double[n], sHat = new double[n], t = new double[n];
+        KrylovSupport.residual(operator, b, x, r);
+        double relative = KrylovSupport.norm(r) / bNorm;
+        if (relative <= tolerance) {
+            return new SolverResult(true, 0, relative);
+        }
+        System.arraycopy(r, 0, shadow, 0, n);
+        double rho = 1.0, alpha = 1.0, omega = 1.0;
+
+        for (int k = 1; k <= maxIterations; k++) {
+            double rhoNext = KrylovSupport.dot(shadow, r);
+            if (rhoNext == 0.0 || omega == 0.0) {
+                return new SolverResult(false, k - 1, relative);
+            }
+            double beta = (rhoNext / rho) * (alpha / omega);
+            rho = rhoNext;
+            for (int i = 0; i < n; i++) {
+                p[i] = Math.fma(beta, Math.fma(-omega, v[i], p[i]), r[i]);
+            }
+            preconditioner.apply(p, pHat);
+            operator.apply(pHat, v);
+            double shadowV = KrylovSupport.dot(shadow, v);
+            if (shadowV == 0.0) {
+                return new SolverResult(false, k, relative);
+            }
+            alpha = rho / shadowV;
+
+            // s = r - alpha v overwrites r
+            for (int i = 0; i < n; i++) {
+                r[i] = Math.fma(-alpha, v[i], r[i]);
+            }
+            relative = KrylovSupport.norm(r) / bNorm;
+            if (relative <= tolerance) {
+                for (int i = 0; i < n; i++) {
+                    x[i] = Math.fma(alpha, pHat[i], x[i]);
+                }
+                return new SolverResult(true, k, relative);
+            }
+
+            preconditioner.apply(r, sHat);
+            operator.apply(sHat, t);
+            double tt = KrylovSupport.dot(t, t);
+            omega = tt == 0.0 ? 0.0 : KrylovSupport.dot(t, r) / tt;
+            for (int i = 0; i < n; i++) {
+                x[i] = Math.fma(alpha, pHat[i], Math.fma(omega, sHat[i], x[i]));
+                r[i] = Math.fma(-omega, t[i], r[i]);
+            }
+            relative = KrylovSupport.norm(r) / bNorm;
+            if (relative <= tolerance) {
+                return new SolverResult(true, k, relative);
+            }
+        }
+        return new SolverResult(false, maxIterations, relative);
+    }
+
+    public static SolverResult solve(CLinearOperator operator, ComplexVector b, ComplexVector x, double tolerance,
+                                     int maxIterations) {
+        return solve(operator, b, x, CPreconditioner.identity(), tolerance, maxIterations);
+    }
+
+    // The complex iteration, with Hermitian inner products <a, b> = sum conj(a_i) b_i
+    public static SolverResult solve(CLinearOperator operator, ComplexVector b, ComplexVector x,
+                                     CPreconditioner preconditioner, double tolerance, int maxIterations) {
+        KrylovSupport.checkArguments(operator, b, x, preconditioner, tolerance, maxIterations);
+        int n = operator.size();
+        double[] xRe = x.getRealPlane(), xIm = x.getImagPlane();
+        double bNorm = KrylovSupport.norm(b);
+        if (bNorm == 0.0) {
+            Arrays.fill(xRe, 0.0);
+            Arrays.fill(xIm, 0.0);
+            return new SolverResult(true, 0, 0.0);
+        }
+
+        ComplexVector r = new ComplexVector(n), shadow = new ComplexVector(n), p = new ComplexVector(n);
+        ComplexVector v = new ComplexVector(n), pHat = new ComplexVector(n), sHat = new ComplexVector(n);
+        ComplexVector t = new ComplexVector(n);
+        double[] rRe = r.getRealPlane(), rIm = r.getImagPlane(), pRe = p.getRealPlane(), pIm = p.getImagPlane();
+        double[] vRe = v.getRealPlane(), vIm = v.getImagPlane(), tRe = t.getRealPlane(), tIm = t.getImagPlane();
+        double[] phRe = pHat.getRealPlane(), phIm = pHat.getImagPlane();
+        double[] shRe = sHat.getRealPlane(), shIm = sHat.getImagPlane();
+
+        KrylovSupport.residual(operator, b, x, r);
+        double relative = KrylovSupport.norm(r) / bNorm;
+        if (relative <= tolerance) {
+            return new SolverResult(true, 0, relative);
+        }
+        System.arraycopy(rRe, 0, shadow.getRealPlane(), 0, n);
+        System.arraycopy(rIm, 0, shadow.getImagPlane(), 0, n);
+        double rhoRe = 1.0, rhoIm = 0.0, alphaRe = 1.0, alphaIm = 0.0, omegaRe = 1.0, omegaIm = 0.0;
+
+        for (int k = 1; k <= maxIterations; k++) {
+            Complex rhoNext = KrylovSupport.dot(shadow, r);
+            double nr = rhoNext.getReal(), ni = rhoNext.getImag();
+            if ((nr == 0.0 && ni == 0.0) || (omegaRe == 0.0 && omegaIm == 0.0)) {
+                return new SolverResult(false, k - 1, relative);
+            }
+            // beta = (rhoNext / rho) (alpha / omega)
+            double qr = nr * alphaRe - ni * alphaIm, qi = nr * alphaIm + ni * alphaRe;
+            double dr = rhoRe * omegaRe - rhoIm * omegaIm, di = rhoRe * omegaIm + rhoIm * omegaRe;
+            double dd = dr * dr + di * di;
+            double betaRe = (qr * dr + qi * di) / dd, betaIm = (qi * dr - qr * di) / dd;
+            rhoRe = nr;
+            rhoIm = ni;
+
+            // p = r + beta (p - omega v)
+            for (int i = 0; i < n; i++) {
+                double wr = pRe[i] - (omegaRe * vRe[i] - omegaIm * vIm[i]);
+                double wi = pIm[i] - (omegaRe * vIm[i] + omegaIm * vRe[i]);
+                pRe[i] = rRe[i] + Math.fma(betaRe, wr, -betaIm * wi);
+                pIm[i] = rIm[i] + Math.fma(betaRe, wi, betaIm * wr);
+            }
+            preconditioner.apply(p, pHat);
+            operator.apply(pHat, v);
+            Complex shadowV = KrylovSupport.dot(shadow, v);
+            double sr = shadowV.getReal(), si = shadowV.getImag(), ss = sr * sr + si * si;
+            if (ss == 0.0) {
+                return new SolverResult(false, k, relative);
+            }
+            alphaRe = (rhoRe * sr + rhoIm * si) / ss;
+            alphaIm = (rhoIm * sr - rhoRe * si) / ss;
+
+            // s = r - alpha v overwrites r
+            for (int i = 0; i < n; i++) {
+                rRe[i] -= Math.fma(alphaRe, vRe[i], -alphaIm * vIm[i]);
+                rIm[i] -= Math.fma(alphaRe, vIm[i], alphaIm * vRe[i]);
+            }
+            relative = KrylovSupport.norm(r) / bNorm;
+            if (relative <= tolerance) {
+                for (int i = 0; i < n; i++) {
+                    xRe[i] += Math.fma(alphaRe, phRe[i], -alphaIm * phIm[i]);
+                    xIm[i] += Math.fma(alphaRe, phIm[i], alphaIm * phRe[i]);
+                }
+                return new SolverResult(true, k, relative);
+            }
+
+            preconditioner.apply(r, sHat);
+            operator.apply(sHat, t);
+            double tt = KrylovSupport.norm(t);
+            tt *= tt;
+            if (tt == 0.0) {
+                omegaRe = 0.0;
+                omegaIm = 0.0;
+            } else {
+                Complex ts = KrylovSupport.dot(t, r);
+                omegaRe = ts.getReal() / tt;
+                omegaIm = ts.getImag() / tt;
+            }
+            for (int i = 0; i < n; i++) {
+                xRe[i] += Math.fma(alphaRe, phRe[i], -alphaIm * phIm[i]) + Math.fma(omegaRe, shRe[i], -omegaIm * shIm[i]);
+                xIm[i] += Math.fma(alphaRe, phIm[i], alphaIm * phRe[i]) + Math.fma(omegaRe, shIm[i], omegaIm * shRe[i]);
+                rRe[i] -= Math.fma(omegaRe, tRe[i], -omegaIm * tIm[i]);
+                rIm[i] -= Math.fma(omegaRe, tIm[i], omegaIm * tRe[i]);
+            }
+            relative = KrylovSupport.norm(r) / bNorm;
+            if (relative <= tolerance) {
+                return new SolverResult(true, k, relative);
+            }
+        }
+        return new SolverResult(false, maxIterations, relative);
+    }
+}
@@ -0,0 +1,97 @@
+package Matrix.Solvers;
+
+import Complex.ComplexVector;
+import Matrix.ComplexMatrix.SparseCMatrix;
+
+import java.util.Arrays;
+
+// ILU(0) for complex CSR matrices; the same elimination as RIncompleteLU on split re/im planes
+final class CIncompleteLU implements CPreconditioner {
+
+    private final int n;
+    private final int[] pointers, indices, diagonal;
+    private final double[] re, im;
+
+    CIncompleteLU(SparseCMatrix matrix) {
+        if (matrix.getRows() != matrix.getColumns()) {
+            throw new IllegalArgumentException("Preconditioner is only defined for square matrices.");
+        }
+        this.n = matrix.getRows();
+        this.pointers = matrix.getPointers();
+        this.indices = matrix.getIndices();
+        this.re = Arrays.copyOf(matrix.getRealValues(), matrix.getNonZeroCount());
+        this.im = Arrays.copyOf(matrix.getImagValues(), matrix.getNonZeroCount());
+        this.diagonal = new int[this.n];
+
+        int[] pointers = this.pointers, indices = this.indices, diagonal = this.diagonal;
+        double[] re = this.re, im = this.im;
+        for (int i = 0; i < this.n; i++) {
+            diagonal[i] = Arrays.binarySearch(indices, pointers[i], pointers[i + 1], i);
+            if (diagonal[i] < 0) {
+                throw new ArithmeticException("ILU(0) needs every diagonal entry stored; row " + i + " has none.");
+            }
+        }
+
+        int[] position = new int[this.n];
+        Arrays.fill(position, -1);
+        for (int i = 0; i < this.n; i++) {
+            for (int p = pointers[i]; p < pointers[i + 1]; p++) {
+                position[indices[p]] = p;
+            }
+            for (int p = pointers[i]; p < diagonal[i]; p++) {
+                int k = indices[p], d = diagonal[k];
+                // multiplier = lu[p] / lu[d]
+                double norm = re[d] * re[d] + im[d] * im[d];
+                double mr = (re[p] * re[d] + im[p] * im[d]) / norm;
+                double mi = (im[p] * re[d] - re[p] * im[d]) / norm;
+                re[p] = mr;
+                im[p] = mi;
+                for (int q = d + 1; q < pointers[k + 1]; q++) {
+                    int target = position[indices[q]];
+                    if (target >= 0) {
+                        re[target] -= Math.fma(mr, re[q], -mi * im[q]);
+                        im[target] -= Math.fma(mr, im[q], mi * re[q]);
+                    }
+                }
+            }
+            for (int p = pointers[i]; p < pointers[i + 1]; p++) {
+                position[indices[p]] = -1;
+            }
+            double pivot = re[diagonal[i]] * re[diagonal[i]] + im[diagonal[i]] * im[diagonal[i]];
+            if (pivot == 0.0 || !Double.isFinite(pivot)) {
+                throw new ArithmeticException("ILU(0) met a zero pivot in row " + i + ".");
+            }
+        }
+    }
+
+    @Override
+    public void apply(ComplexVector r, ComplexVector z) {
+        int[] pointers = this.pointers, indices = this.indices, diagonal = this.diagonal;
+        double[] re = this.re, im = this.im;
+        double[] rRe = r.getRealPlane(), rIm = r.getImagPlane(), zRe = z.getRealPlane(), zIm = z.getImagPlane();
+        // L y = r, unit diagonal
+        for (int i = 0; i < this.n; i++) {
+            double sumRe = rRe[i], sumIm = rIm[i];
+            for (int p = pointers[i]; p < diagonal[i]; p++) {
+                int j = indices[p];
+                sumRe -= Math.fma(re[p], zRe[j], -im[p] * zIm[j]);
+                sumIm -= Math.fma(re[p], zIm[j], im[p] * zRe[j]);
+            }
+            zRe[i] = sumRe;
+            zIm[i] = sumIm;
+        }
+        // U z = y
+        for (int i = this.n - 1; i >= 0; i--) {
+            double sumRe = zRe[i], sumIm = zIm[i];
+            for (int p = diagonal[i] + 1; p < pointers[i + 1]; p++) {
+                int j = indices[p];
+                sumRe -= Math.fma(re[p], zRe[j], -im[p] * zIm[j]);
+                sumIm -= Math.fma(re[p], zIm[j], im[p] * zRe[j]);
+            }
+            int d = diagonal[i];
+            double norm = re[d] * re[d] + im[d] * im[d];
+            zRe[i] = (sumRe * re[d] + sumIm * im[d]) / norm;
+            zIm[i] = (sumIm * re[d] - sumRe * im[d]) / norm;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package Matrix.Solvers;
+
+import Complex.ComplexVector;
+import Matrix.ComplexMatrix.CMatrix;
+import Matrix.ComplexMatrix.SparseCMatrix;
+import Matrix.ComplexMatrix.SparseCMatrixMath;
+import Matrix.MatrixExecutionContext;
+
+// A square complex linear map y = A x, the complex counterpart of RLinearOperator
+public interface CLinearOperator {
+
+    // Dimension n of x and y
+    int size();
+
+    // y = A x; the solvers never pass vectors that share storage as x and y
+    void apply(ComplexVector x, ComplexVector y);
+
+    static CLinearOperator of(SparseCMatrix matrix) {
+        return of(matrix, MatrixExecutionContext.serial());
+    }
+
+    // Multiplies through SparseCMatrixMath, splitting CSR rows across the context's pool
+    static CLinearOperator of(SparseCMatrix matrix, MatrixExecutionContext context) {
+        if (matrix == null || context == null) {
+            throw new IllegalArgumentException("Matrix and execution context cannot be null.");
+        }
+        if (matrix.getRows() != matrix.getColumns()) {
+            throw new IllegalArgumentException("Linear operator must be square.");
+        }
+        return new CLinearOperator() {
+            @Override
+            public int size() {
+                return matrix.getRows();
+            }
+
+            @Override
+            public void apply(ComplexVector x, ComplexVector y) {
+                SparseCMatrixMath.multiply(matrix, x, y, context);
+            }
+        };
+    }
+
+    static CLinearOperator of(CMatrix matrix) {
+        if (matrix == null || matrix.isMatrixNull()) {
+            throw new IllegalArgumentException("Matrix is empty or null.");
+        }
+        if (matrix.getRows() != matrix.getColumns()) {
+            throw new IllegalArgumentException("Linear operator must be square.");
+        }
+        return new CLinearOperator() {
+            @Override
+            public int size() {
+                return matrix.getRows();
+            }
+
+            @Override
+            public void apply(ComplexVector x, ComplexVector y) {
+                int n = matrix.getRows(), offset = matrix.getOffset(), stride = matrix.getStride();
+                double[] aRe = matrix.getRealPlane(), aIm = matrix.getImagPlane();
+                double[] xRe = x.getRealPlane(), xIm = x.getImagPlane();
+                double[] yRe = y.getRealPlane(), yIm = y.getImagPlane();
+                for (int i = 0; i < n; i++) {
+                    double sumRe = 0.0, sumIm = 0.0;
+                    for (int j = 0, k = offset + i * stride; j < n; j++, k++) {
+                        sumRe += Math.fma(aRe[k], xRe[j], -aIm[k] * xIm[j]);
+                        sumIm += Math.fma(aRe[k], xIm[j], aIm[k] * xRe[j]);
+                    }
+                    yRe[i] = sumRe;
+                    yIm[i] = sumIm;
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,58 @@
+package Matrix.Solvers;
+
+import Complex.ComplexVector;
+import Matrix.ComplexMatrix.SparseCMatrix;
+import Matrix.SparseFormat;
+
+// z = M^-1 r for complex systems, the counterpart of RPreconditioner
+@FunctionalInterface
+public interface CPreconditioner {
+
+    // z = M^-1 r; the solvers never pass vectors that share storage as r and z
+    void apply(ComplexVector r, ComplexVector z);
+
+    // M = I
+    static CPreconditioner identity() {
+        return (r, z) -> {
+            System.arraycopy(r.getRealPlane(), 0, z.getRealPlane(), 0, r.length());
+            System.arraycopy(r.getImagPlane(), 0, z.getImagPlane(), 0, r.length());
+        };
+    }
+
+    // M = diag(A); every diagonal entry must be non-zero
+    static CPreconditioner jacobi(SparseCMatrix matrix) {
+        if (matrix == null) {
+            throw new IllegalArgumentException("Sparse matrix is null.");
+        }
+        if (matrix.getRows() != matrix.getColumns()) {
+            throw new IllegalArgumentException("Preconditioner is only defined for square matrices.");
+        }
+        int n = matrix.getRows();
+        double[] inverseRe = new double[n], inverseIm = new double[n];
+        for (int i = 0; i < n; i++) {
+            double dr = matrix.getElement(i, i).getReal(), di = matrix.getElement(i, i).getImag();
+            double norm = dr * dr + di * di;
+            if (norm == 0.0) {
+                throw new ArithmeticException("Jacobi preconditioner needs a non-zero diagonal; row " + i + " has none.");
+            }
+            inverseRe[i] = dr / norm;
+            inverseIm[i] = -di / norm;
+        }
+        return (r, z) -> {
+            double[] rRe = r.getRealPlane(), rIm = r.getImagPlane(), zRe = z.getRealPlane(), zIm = z.getImagPlane();
+            for (int i = 0; i < n; i++) {
+                double a = rRe[i], b = rIm[i];
+                zRe[i] = Math.fma(inverseRe[i], a, -inverseIm[i] * b);
+                zIm[i] = Math.fma(inverseRe[i], b, inverseIm[i] * a);
+            }
+        };
+    }
+
+    // M = L U with the sparsity pattern of A (ILU(0)); see CIncompleteLU
+    static CPreconditioner ilu0(SparseCMatrix matrix) {
+        if (matrix == null) {
+            throw new IllegalArgumentException("Sparse matrix is null.");
+        }
+        return new CIncompleteLU(matrix.toFormat(SparseFormat.CSR));
+    }
+}
@@ -0,0 +1,65 @@
+package Matrix.Solvers;
+
+import java.util.Arrays;
+// Preconditioned conjugate gradients for symmetric positive definite real systems. Each iteration costs one
+// operator application, one preconditioner application and a few vector updates; x converges in at most n
+// iterations in exact arithmetic, and in about sqrt(cond(M^-1 A)) in practice. The preconditioner must be
+// symmetric positive definite as well (Jacobi is; ILU(0) of an SPD matrix usually works).
+public final class ConjugateGradient {
+
+    private ConjugateGradient() {
+        throw new UnsupportedOperationException("Cannot instantiate ConjugateGradient.");
+    }
+
+    public static SolverResult solve(RLinearOperator operator, double[] b, double[] x, double tolerance, int maxIterations) {
+        return solve(operator, b, x, RPreconditioner.identity(), tolerance, maxIterations);
+    }
+
+    // Iterates from the initial guess in x until ||b - A x|| <= tolerance * ||b||. Stops early without
+    // converging when p^T A p <= 0, which means A is not positive definite.
+    public static SolverResult solve(RLinearOperator operator, double[] b, double[] x, RPreconditioner preconditioner,
+                                     double tolerance, int maxIterations) {
+        KrylovSupport.checkArguments(operator, b, x, preconditioner, tolerance, maxIterations);
+        int n = operator.size();
+        double bNorm = KrylovSupport.norm(b);
+        if (bNorm == 0.0) {
+            Arrays.fill(x, 0.0);
+            return new SolverResult(true, 0, 0.0);
+        }
+
+        double[] r = new double[n], z = new double[n], p = new double[n], q = new double[n];
+        KrylovSupport.residual(operator, b, x, r);
+        double relative = KrylovSupport.norm(r) / bNorm;
+        if (relative <= tolerance) {
+            return new SolverResult(true, 0, relative);
+        }
+        preconditioner.apply(r, z);
+        System.arraycopy(z, 0, p, 0, n);
+        double rz = KrylovSupport.dot(r, z);
+
+        for (int k = 1; k <= maxIterations; k++) {
+            operator.apply(p, q);
+            double pq = KrylovSupport.dot(p, q);
+            if (!(pq > 0.0)) {
+                return new SolverResult(false, k, relative);
+            }
+            double alpha = rz / pq;
+            for (int i = 0; i < n; i++) {
+                x[i] = Math.fma(alpha, p[i], x[i]);
+                r[i] = Math.fma(-alpha, q[i], r[i]);
+            }
+            relative = KrylovSupport.norm(r) / bNorm;
+            if (relative <= tolerance) {
+                return new SolverResult(true, k, relative);
+            }
+            preconditioner.apply(r, z);
+            double rzNext = KrylovSupport.dot(r, z);
+            double beta = rzNext / rz;
+            rz = rzNext;
+            for (int i = 0; i < n; i++) {
+                p[i] = Math.fma(beta, p[i], z[i]);
+            }
+        }
+        return new SolverResult(false, maxIterations, relative);
+    }
+}
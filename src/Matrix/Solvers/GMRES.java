@@ -0,0 +1,268 @@
+package Matrix.Solvers;
+
+import Complex.Complex;
+import Complex.ComplexVector;
+
+import java.util.Arrays;
+
+// Restarted, right-preconditioned GMRES(m) for general square systems. Each cycle builds an orthonormal
+// Krylov basis of A M^-1 by modified Gram-Schmidt, keeps the Hessenberg least-squares problem upper
+// triangular with Givens rotations, so the residual norm is known every iteration without forming x, and
+// updates x once per cycle. Memory is (m + 1) vectors and each iteration costs one operator and one
+// preconditioner application plus O(k n) for the orthogonalization. The residual never grows; a larger
+// restart length converges in fewer iterations at more memory and orthogonalization work.
+public final class GMRES {
+
+    private GMRES() {
+        throw new UnsupportedOperationException("Cannot instantiate GMRES.");
+    }
+
+    public static final int DEFAULT_RESTART = 30;
+
+    public static SolverResult solve(RLinearOperator operator, double[] b, double[] x, double tolerance, int maxIterations) {
+        return solve(operator, b, x, RPreconditioner.identity(), DEFAULT_RESTART, tolerance, maxIterations);
+    }
+
+    // Iterates from the initial guess in x until ||b - A x|| <= tolerance * ||b||; maxIterations counts
+    // inner iterations over all cycles. Every cycle starts from the true residual, so a converged result
+    // is never based on the rotated estimate alone.
+    public static SolverResult solve(RLinearOperator operator, double[] b, double[] x, RPreconditioner preconditioner,
+                                     int restart, double tolerance, int maxIterations) {
+        KrylovSupport.checkArguments(operator, b, x, preconditioner, tolerance, maxIterations);
+        if (restart < 1) {
+            throw new IllegalArgumentException("Restart length must be greater than or equal to 1.");
+        }
+        int n = operator.size();
+        double bNorm = KrylovSupport.norm(b);
+        if (bNorm == 0.0) {
+            Arrays.fill(x, 0.0);
+            return new SolverResult(true, 0, 0.0);
+        }
+
+        int m = Math.min(restart, n);
+        double[][] basis = new double[m + 1][n], hessenberg = new double[m + 1][m];
+        double[] cosines = new double[m], sines = new double[m], g = new double[m + 1], y = new double[m];
+        double[] w = new double[n], z = new double[n];
+        int total = 0;
+
+        while (true) {
+            double[] v0 = basis[0];
+            KrylovSupport.residual(operator, b, x, v0);
+            double beta = KrylovSupport.norm(v0);
+            double relative = beta / bNorm;
+            if (relative <= tolerance) {
+                return new SolverResult(true, total, relative);
+            }
+            if (total >= maxIterations) {
+                return new SolverResult(false, total, relative);
+            }
+            for (int i = 0; i < n; i++) {
+                v0[i] /= beta;
+            }
+            Arrays.fill(g, 0.0);
+            g[0] = beta;
+
+            int k = 0;
+            while (k < m && total < maxIterations) {
+                preconditioner.apply(basis[k], z);
+                operator.apply(z, w);
+                for (int i = 0; i <= k; i++) {
+                    double h = KrylovSupport.dot(basis[i], w);
+                    hessenberg[i][k] = h;
+                    double[] vi = basis[i];
+                    for (int j = 0; j < n; j++) {
+                        w[j] = Math.fma(-h, vi[j], w[j]);
+                    }
+                }
+                double next = KrylovSupport.norm(w);
+
+                // Earlier rotations, then the one that annihilates the new subdiagonal entry
+                for (int i = 0; i < k; i++) {
+                    double a = hessenberg[i][k], c = hessenberg[i + 1][k];
+                    hessenberg[i][k] = cosines[i] * a + sines[i] * c;
+                    hessenberg[i + 1][k] = -sines[i] * a + cosines[i] * c;
+                }
+                double diagonal = hessenberg[k][k], rho = Math.hypot(diagonal, next);
+                cosines[k] = rho == 0.0 ? 1.0 : diagonal / rho;
+                sines[k] = rho == 0.0 ? 0.0 : next / rho;
+                hessenberg[k][k] = rho;
+                g[k + 1] = -sines[k] * g[k];
+                g[k] = cosines[k] * g[k];
+
+                total++;
+                k++;
+                if (next != 0.0) {
+                    double[] vk = basis[k];
+                    for (int j = 0; j < n; j++) {
+                        vk[j] = w[j] / next;
+                    }
+                }
+                // A zero subdiagonal means the Krylov space is invariant: the cycle's solution is exact
+                if (next == 0.0 || Math.abs(g[k]) <= tolerance * bNorm) {
+                    break;
+                }
+            }
+
+            // y = H^-1 g on the k x k triangle, then x += M^-1 (V y)
+            for (int i = k - 1; i >= 0; i--) {
+                double sum = g[i];
+                for (int j = i + 1; j < k; j++) {
+                    sum -= hessenberg[i][j] * y[j];
+                }
+                y[i] = hessenberg[i][i] == 0.0 ? 0.0 : sum / hessenberg[i][i];
+            }
+            Arrays.fill(w, 0.0);
+            for (int i = 0; i < k; i++) {
+                double yi = y[i];
+                double[] vi = basis[i];
+                for (int j = 0; j < n; j++) {
+                    w[j] = Math.fma(yi, vi[j], w[j]);
+                }
+            }
+            preconditioner.apply(w, z);
+            for (int j = 0; j < n; j++) {
+                x[j] += z[j];
+            }
+        }
+    }
+
+    public static SolverResult solve(CLinearOperator operator, ComplexVector b, ComplexVector x, double tolerance,
+                                     int maxIterations) {
+        return solve(operator, b, x, CPreconditioner.identity(), DEFAULT_RESTART, tolerance, maxIterations);
+    }
+
+    // The complex iteration: Hermitian inner products, and rotations [c s; -conj(s) c] with real c
+    public static SolverResult solve(CLinearOperator operator, ComplexVector b, ComplexVector x,
+                                     CPreconditioner preconditioner, int restart, double tolerance, int maxIterations) {
+        KrylovSupport.checkArguments(operator, b, x, preconditioner, tolerance, maxIterations);
+        if (restart < 1) {
+            throw new IllegalArgumentException("Restart length must be greater than or equal to 1.");
+        }
+        int n = operator.size();
+        double[] xRe = x.getRealPlane(), xIm = x.getImagPlane();
+        double bNorm = KrylovSupport.norm(b);
+        if (bNorm == 0.0) {
+            Arrays.fill(xRe, 0.0);
+            Arrays.fill(xIm, 0.0);
+            return new SolverResult(true, 0, 0.0);
+        }
+
+        int m = Math.min(restart, n);
+        ComplexVector[] basis = new ComplexVector[m + 1];
+        for (int i = 0; i <= m; i++) {
+            basis[i] = new ComplexVector(n);
+        }
+        double[][] hRe = new double[m + 1][m], hIm = new double[m + 1][m];
+        double[] cosines = new double[m], sinesRe = new double[m], sinesIm = new double[m];
+        double[] gRe = new double[m + 1], gIm = new double[m + 1], yRe = new double[m], yIm = new double[m];
+        ComplexVector w = new ComplexVector(n), z = new ComplexVector(n);
+        double[] wRe = w.getRealPlane(), wIm = w.getImagPlane(), zRe = z.getRealPlane(), zIm = z.getImagPlane();
+        int total = 0;
+
+        while (true) {
+            ComplexVector v0 = basis[0];
+            KrylovSupport.residual(operator, b, x, v0);
+            double beta = KrylovSupport.norm(v0);
+            double relative = beta / bNorm;
+            if (relative <= tolerance) {
+                return new SolverResult(true, total, relative);
+            }
+            if (total >= maxIterations) {
+                return new SolverResult(false, total, relative);
+            }
+            double[] v0Re = v0.getRealPlane(), v0Im = v0.getImagPlane();
+            for (int i = 0; i < n; i++) {
+                v0Re[i] /= beta;
+                v0Im[i] /= beta;
+            }
+            Arrays.fill(gRe, 0.0);
+            Arrays.fill(gIm, 0.0);
+            gRe[0] = beta;
+
+            int k = 0;
+            while (k < m && total < maxIterations) {
+                preconditioner.apply(basis[k], z);
+                operator.apply(z, w);
+                for (int i = 0; i <= k; i++) {
+                    Complex h = KrylovSupport.dot(basis[i], w);
+                    double hr = h.getReal(), hi = h.getImag();
+                    hRe[i][k] = hr;
+                    hIm[i][k] = hi;
+                    double[] vRe = basis[i].getRealPlane(), vIm = basis[i].getImagPlane();
+                    for (int j = 0; j < n; j++) {
+                        wRe[j] -= Math.fma(hr, vRe[j], -hi * vIm[j]);
+                        wIm[j] -= Math.fma(hr, vIm[j], hi * vRe[j]);
+                    }
+                }
+                double next = KrylovSupport.norm(w);
+
+                for (int i = 0; i < k; i++) {
+                    double ar = hRe[i][k], ai = hIm[i][k], br = hRe[i + 1][k], bi = hIm[i + 1][k];
+                    double c = cosines[i], sr = sinesRe[i], si = sinesIm[i];
+                    // (a, b) -> (c a + s b, -conj(s) a + c b)
+                    hRe[i][k] = c * ar + (sr * br - si * bi);
+                    hIm[i][k] = c * ai + (sr * bi + si * br);
+                    hRe[i + 1][k] = c * br - (sr * ar + si * ai);
+                    hIm[i + 1][k] = c * bi - (sr * ai - si * ar);
+                }
+                double dr = hRe[k][k], di = hIm[k][k], modulus = Math.hypot(dr, di), rho = Math.hypot(modulus, next);
+                if (modulus == 0.0) {
+                    cosines[k] = 0.0;
+                    sinesRe[k] = 1.0;
+                    sinesIm[k] = 0.0;
+                } else {
+                    cosines[k] = modulus / rho;
+                    sinesRe[k] = dr / modulus * next / rho;
+                    sinesIm[k] = di / modulus * next / rho;
+                }
+                hRe[k][k] = modulus == 0.0 ? next : dr / modulus * rho;
+                hIm[k][k] = modulus == 0.0 ? 0.0 : di / modulus * rho;
+                // (g_k, 0) -> (c g_k, -conj(s) g_k)
+                double gr = gRe[k], gi = gIm[k];
+                gRe[k + 1] = -(sinesRe[k] * gr + sinesIm[k] * gi);
+                gIm[k + 1] = -(sinesRe[k] * gi - sinesIm[k] * gr);
+                gRe[k] = cosines[k] * gr;
+                gIm[k] = cosines[k] * gi;
+
+                total++;
+                k++;
+                if (next != 0.0) {
+                    double[] vRe = basis[k].getRealPlane(), vIm = basis[k].getImagPlane();
+                    for (int j = 0; j < n; j++) {
+                        vRe[j] = wRe[j] / next;
+                        vIm[j] = wIm[j] / next;
+                    }
+                }
+                if (next == 0.0 || Math.hypot(gRe[k], gIm[k]) <= tolerance * bNorm) {
+                    break;
+                }
+            }
+
+            for (int i = k - 1; i >= 0; i--) {
+                double sumRe = gRe[i], sumIm = gIm[i];
+                for (int j = i + 1; j < k; j++) {
+                    sumRe -= hRe[i][j] * yRe[j] - hIm[i][j] * yIm[j];
+                    sumIm -= hRe[i][j] * yIm[j] + hIm[i][j] * yRe[j];
+                }
+                double pr = hRe[i][i], pi = hIm[i][i], norm = pr * pr + pi * pi;
+                yRe[i] = norm == 0.0 ? 0.0 : (sumRe * pr + sumIm * pi) / norm;
+                yIm[i] = norm == 0.0 ? 0.0 : (sumIm * pr - sumRe * pi) / norm;
+            }
+            Arrays.fill(wRe, 0.0);
+            Arrays.fill(wIm, 0.0);
+            for (int i = 0; i < k; i++) {
+                double ar = yRe[i], ai = yIm[i];
+                double[] vRe = basis[i].getRealPlane(), vIm = basis[i].getImagPlane();
+                for (int j = 0; j < n; j++) {
+                    wRe[j] += Math.fma(ar, vRe[j], -ai * vIm[j]);
+                    wIm[j] += Math.fma(ar, vIm[j], ai * vRe[j]);
+                }
+            }
+            preconditioner.apply(w, z);
+            for (int j = 0; j < n; j++) {
+                xRe[j] += zRe[j];
+                xIm[j] += zIm[j];
+            }
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package Matrix.Solvers;
+
+import Complex.Complex;
+import Complex.ComplexVector;
+import Simd.VectorBackend;
+import Simd.VectorBackends;
+
+// Vector kernels and argument checks shared by the Krylov solvers
+final class KrylovSupport {
+
+    private KrylovSupport() {
+        throw new UnsupportedOperationException("Cannot instantiate KrylovSupport.");
+    }
+
+    static final VectorBackend BACKEND = VectorBackends.get();
+
+    static void checkArguments(RLinearOperator operator, double[] b, double[] x, RPreconditioner preconditioner,
+                               double tolerance, int maxIterations) {
+        if (operator == null || preconditioner == null) {
+            throw new IllegalArgumentException("Operator and preconditioner cannot be null.");
+        }
+        if (b == null || x == null || b.length != operator.size() || x.length != operator.size()) {
+            throw new IllegalArgumentException("Right-hand side and solution must have " + operator.size() + " elements.");
+        }
+        checkLimits(tolerance, maxIterations);
+    }
+
+    static void checkArguments(CLinearOperator operator, ComplexVector b, ComplexVector x, CPreconditioner preconditioner,
+                               double tolerance, int maxIterations) {
+        if (operator == null || preconditioner == null) {
+            throw new IllegalArgumentException("Operator and preconditioner cannot be null.");
+        }
+        if (b == null || x == null || b.length() != operator.size() || x.length() != operator.size()) {
+            throw new IllegalArgumentException("Right-hand side and solution must have " + operator.size() + " elements.");
+        }
+        checkLimits(tolerance, maxIterations);
+    }
+
+    private static void checkLimits(double tolerance, int maxIterations) {
+        if (!(tolerance > 0.0)) {
+            throw new IllegalArgumentException("Tolerance must be positive.");
+        }
+        if (maxIterations < 0) {
+            throw new IllegalArgumentException("Iteration limit cannot be negative.");
+        }
+    }
+
+    static double dot(double[] a, double[] b) {
+        return BACKEND.dot(a, 0, b, 0, a.length);
+    }
+
+    static double norm(double[] a) {
+        return Math.sqrt(BACKEND.dot(a, 0, a, 0, a.length));
+    }
+
+    // Hermitian inner product sum conj(a_i) b_i
+    static Complex dot(ComplexVector a, ComplexVector b) {
+        return BACKEND.complexDot(a.getRealPlane(), a.getImagPlane(), 0, b.getRealPlane(), b.getImagPlane(), 0,
+                a.length(), true);
+    }
+
+    static double norm(ComplexVector a) {
+        double[] re = a.getRealPlane(), im = a.getImagPlane();
+        return Math.sqrt(BACKEND.dot(re, 0, re, 0, a.length()) + BACKEND.dot(im, 0, im, 0, a.length()));
+    }
+
+    // r = b - A x, using r as the output of the operator
+    static void residual(RLinearOperator operator, double[] b, double[] x, double[] r) {
+        operator.apply(x, r);
+        for (int i = 0; i < r.length; i++) {
+            r[i] = b[i] - r[i];
+        }
+    }
+
+    static void residual(CLinearOperator operator, ComplexVector b, ComplexVector x, ComplexVector r) {
+        operator.apply(x, r);
+        double[] bRe = b.getRealPlane(), bIm = b.getImagPlane(), rRe = r.getRealPlane(), rIm = r.getImagPlane();
+        for (int i = 0; i < r.length(); i++) {
+            rRe[i] = bRe[i] - rRe[i];
+            rIm[i] = bIm[i] - rIm[i];
+        }
+    }
+}
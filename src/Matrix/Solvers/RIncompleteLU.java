@@ -0,0 +1,83 @@
+package Matrix.Solvers;
+
+import Matrix.RealMatrix.SparseRMatrix;
+
+import java.util.Arrays;
+
+// ILU(0): Gaussian elimination on A that keeps only the entries already in its pattern, so L (unit lower)
+// and U share the CSR arrays of A and applying M^-1 = U^-1 L^-1 costs two sparse triangular solves,
+// O(nnz). Every diagonal entry must be stored, and elimination must not meet a zero pivot.
+final class RIncompleteLU implements RPreconditioner {
+
+    private final int n;
+    private final int[] pointers, indices, diagonal;
+    private final double[] lu;
+
+    RIncompleteLU(SparseRMatrix matrix) {
+        if (matrix.getRows() != matrix.getColumns()) {
+            throw new IllegalArgumentException("Preconditioner is only defined for square matrices.");
+        }
+        this.n = matrix.getRows();
+        this.pointers = matrix.getPointers();
+        this.indices = matrix.getIndices();
+        this.lu = Arrays.copyOf(matrix.getValues(), matrix.getNonZeroCount());
+        this.diagonal = new int[this.n];
+
+        int[] pointers = this.pointers, indices = this.indices, diagonal = this.diagonal;
+        double[] lu = this.lu;
+        for (int i = 0; i < this.n; i++) {
+            diagonal[i] = Arrays.binarySearch(indices, pointers[i], pointers[i + 1], i);
+            if (diagonal[i] < 0) {
+                throw new ArithmeticException("ILU(0) needs every diagonal entry stored; row " + i + " has none.");
+            }
+        }
+
+        // IKJ elimination: position[j] locates column j of the current row, or is -1 outside its pattern
+        int[] position = new int[this.n];
+        Arrays.fill(position, -1);
+        for (int i = 0; i < this.n; i++) {
+            for (int p = pointers[i]; p < pointers[i + 1]; p++) {
+                position[indices[p]] = p;
+            }
+            for (int p = pointers[i]; p < diagonal[i]; p++) {
+                int k = indices[p];
+                double multiplier = lu[p] / lu[diagonal[k]];
+                lu[p] = multiplier;
+                for (int q = diagonal[k] + 1; q < pointers[k + 1]; q++) {
+                    int target = position[indices[q]];
+                    if (target >= 0) {
+                        lu[target] -= multiplier * lu[q];
+                    }
+                }
+            }
+            for (int p = pointers[i]; p < pointers[i + 1]; p++) {
+                position[indices[p]] = -1;
+            }
+            if (lu[diagonal[i]] == 0.0 || !Double.isFinite(lu[diagonal[i]])) {
+                throw new ArithmeticException("ILU(0) met a zero pivot in row " + i + ".");
+            }
+        }
+    }
+
+    @Override
+    public void apply(double[] r, double[] z) {
+        int[] pointers = this.pointers, indices = this.indices, diagonal = this.diagonal;
+        double[] lu = this.lu;
+        // L y = r, unit diagonal
+        for (int i = 0; i < this.n; i++) {
+            double sum = r[i];
+            for (int p = pointers[i]; p < diagonal[i]; p++) {
+                sum -= lu[p] * z[indices[p]];
+            }
+            z[i] = sum;
+        }
+        // U z = y
+        for (int i = this.n - 1; i >= 0; i--) {
+            double sum = z[i];
+            for (int p = diagonal[i] + 1; p < pointers[i + 1]; p++) {
+                sum -= lu[p] * z[indices[p]];
+            }
+            z[i] = sum / lu[diagonal[i]];
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package Matrix.Solvers;
+
+import Matrix.MatrixExecutionContext;
+import Matrix.RealMatrix.RMatrix;
+import Matrix.RealMatrix.SparseRMatrix;
+import Matrix.RealMatrix.SparseRMatrixMath;
+import Simd.VectorBackend;
+import Simd.VectorBackends;
+
+// A square real linear map y = A x, the only access the iterative solvers need to A. Sparse and dense
+// matrices adapt through of(); anything else (a stencil, a matrix-free Jacobian) implements apply directly.
+public interface RLinearOperator {
+
+    // Dimension n of x and y
+    int size();
+
+    // y = A x; the solvers never pass the same array as x and y
+    void apply(double[] x, double[] y);
+
+    static RLinearOperator of(SparseRMatrix matrix) {
+        return of(matrix, MatrixExecutionContext.serial());
+    }
+
+    // Multiplies through SparseRMatrixMath, splitting CSR rows across the context's pool
+    static RLinearOperator of(SparseRMatrix matrix, MatrixExecutionContext context) {
+        if (matrix == null || context == null) {
+            throw new IllegalArgumentException("Matrix and execution context cannot be null.");
+        }
+        if (matrix.getRows() != matrix.getColumns()) {
+            throw new IllegalArgumentException("Linear operator must be square.");
+        }
+        return new RLinearOperator() {
+            @Override
+            public int size() {
+                return matrix.getRows();
+            }
+
+            @Override
+            public void apply(double[] x, double[] y) {
+                SparseRMatrixMath.multiply(matrix, x, y, context);
+            }
+        };
+    }
+
+    static RLinearOperator of(RMatrix matrix) {
+        if (matrix == null || matrix.isMatrixNull()) {
+            throw new IllegalArgumentException("Matrix is empty or null.");
+        }
+        if (matrix.getRows() != matrix.getColumns()) {
+            throw new IllegalArgumentException("Linear operator must be square.");
+        }
+        VectorBackend backend = VectorBackends.get();
+        return new RLinearOperator() {
+            @Override
+            public int size() {
+                return matrix.getRows();
+            }
+
+            @Override
+            public void apply(double[] x, double[] y) {
+                int n = matrix.getRows(), offset = matrix.getOffset(), stride = matrix.getStride();
+                double[] data = matrix.getData();
+                for (int i = 0; i < n; i++) {
+                    y[i] = backend.dot(data, offset + i * stride, x, 0, n);
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,50 @@
+package Matrix.Solvers;
+
+import Matrix.RealMatrix.SparseRMatrix;
+import Matrix.SparseFormat;
+
+// z = M^-1 r for an approximation M of A that is cheap to invert. The solvers apply it once or twice per
+// iteration; a good M clusters the spectrum of A M^-1 and cuts the iteration count.
+@FunctionalInterface
+public interface RPreconditioner {
+
+    // z = M^-1 r; the solvers never pass the same array as r and z
+    void apply(double[] r, double[] z);
+
+    // M = I
+    static RPreconditioner identity() {
+        return (r, z) -> System.arraycopy(r, 0, z, 0, r.length);
+    }
+
+    // M = diag(A); every diagonal entry must be non-zero
+    static RPreconditioner jacobi(SparseRMatrix matrix) {
+        if (matrix == null) {
+            throw new IllegalArgumentException("Sparse matrix is null.");
+        }
+        if (matrix.getRows() != matrix.getColumns()) {
+            throw new IllegalArgumentException("Preconditioner is only defined for square matrices.");
+        }
+        int n = matrix.getRows();
+        double[] inverse = new double[n];
+        for (int i = 0; i < n; i++) {
+            double d = matrix.getElement(i, i);
+            if (d == 0.0) {
+                throw new ArithmeticException("Jacobi preconditioner needs a non-zero diagonal; row " + i + " has none.");
+            }
+            inverse[i] = 1.0 / d;
+        }
+        return (r, z) -> {
+            for (int i = 0; i < n; i++) {
+                z[i] = inverse[i] * r[i];
+            }
+        };
+    }
+
+    // M = L U with the sparsity pattern of A (ILU(0)); see RIncompleteLU
+    static RPreconditioner ilu0(SparseRMatrix matrix) {
+        if (matrix == null) {
+            throw new IllegalArgumentException("Sparse matrix is null.");
+        }
+        return new RIncompleteLU(matrix.toFormat(SparseFormat.CSR));
+    }
+}
@@ -0,0 +1,35 @@
+package Matrix.Solvers;
+
+// Outcome of an iterative solve; the solution itself is written into the caller's x. The relative
+// residual is ||b - A x|| / ||b|| as the solver last measured it.
+public final class SolverResult {
+
+    private final boolean converged;
+    private final int iterations;
+    private final double relativeResidual;
+
+    SolverResult(boolean converged, int iterations, double relativeResidual) {
+        this.converged = converged;
+        this.iterations = iterations;
+        this.relativeResidual = relativeResidual;
+    }
+
+    public boolean isConverged() {
+        return this.converged;
+    }
+
+    // Iterations taken, each costing one (CG, GMRES) or two (BiCGSTAB) operator applications
+    public int getIterations() {
+        return this.iterations;
+    }
+
+    public double getRelativeResidual() {
+        return this.relativeResidual;
+    }
+
+    @Override
+    public String toString() {
+        return (this.converged ? "Converged" : "Did not converge") + " after " + this.iterations
+                + " iterations, relative residual " + this.relativeResidual;
+    }
+}
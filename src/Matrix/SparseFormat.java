@@ -0,0 +1,13 @@
+package Matrix;
+
+// Compressed sparse layouts. CSR compresses rows: the entries of row i are stored together, ordered by
+// column. CSC compresses columns the same way. The CSR arrays of a matrix are the CSC arrays of its
+// transpose, which is how the sparse types transpose in O(1).
+public enum SparseFormat {
+    CSR,
+    CSC;
+
+    public SparseFormat transposed() {
+        return this == CSR ? CSC : CSR;
+    }
+}
@@ -0,0 +1,149 @@
+package Matrix;
+
+import java.util.Arrays;
+
+// Index bookkeeping shared by SparseRMatrix and SparseCMatrix. A compressed pattern has majorDim + 1
+// pointers: the entries of major index m sit at positions pointers[m] .. pointers[m + 1] - 1 with
+// strictly increasing minor indices. Routines that reorder entries return a permutation, so each caller
+// moves its own value planes.
+public final class SparseIndex {
+
+    private SparseIndex() {
+        throw new UnsupportedOperationException("Cannot instantiate SparseIndex.");
+    }
+
+    // Orders count COO entries by (major, minor) with two stable counting passes, O(count + dims); returns
+    // the entry numbers in that order
+    public static int[] sortOrder(int[] major, int[] minor, int count, int majorDim, int minorDim) {
+        int[] starts = new int[minorDim + 1];
+        for (int k = 0; k < count; k++) {
+            starts[minor[k] + 1]++;
+        }
+        for (int j = 0; j < minorDim; j++) {
+            starts[j + 1] += starts[j];
+        }
+        int[] byMinor = new int[count];
+        for (int k = 0; k < count; k++) {
+            byMinor[starts[minor[k]]++] = k;
+        }
+
+        starts = new int[majorDim + 1];
+        for (int k = 0; k < count; k++) {
+            starts[major[k] + 1]++;
+        }
+        for (int i = 0; i < majorDim; i++) {
+            starts[i + 1] += starts[i];
+        }
+        int[] order = new int[count];
+        for (int t = 0; t < count; t++) {
+            int k = byMinor[t];
+            order[starts[major[k]]++] = k;
+        }
+        return order;
+    }
+
+    // Transposes a pattern: fills transposedPointers (minorDim + 1) and transposedIndices (one per entry)
+    // and returns, for every transposed position, the position it came from. Walking the major indices in
+    // order leaves the transposed minor indices sorted.
+    public static int[] transpose(int[] pointers, int[] indices, int majorDim, int minorDim,
+                                  int[] transposedPointers, int[] transposedIndices) {
+        int nnz = pointers[majorDim];
+        Arrays.fill(transposedPointers, 0, minorDim + 1, 0);
+        for (int p = 0; p < nnz; p++) {
+            transposedPointers[indices[p] + 1]++;
+        }
+        for (int j = 0; j < minorDim; j++) {
+            transposedPointers[j + 1] += transposedPointers[j];
+        }
+        int[] next = Arrays.copyOf(transposedPointers, minorDim);
+        int[] source = new int[nnz];
+        for (int m = 0; m < majorDim; m++) {
+            for (int p = pointers[m]; p < pointers[m + 1]; p++) {
+                int q = next[indices[p]]++;
+                transposedIndices[q] = m;
+                source[q] = p;
+            }
+        }
+        return source;
+    }
+
+    // Position of entry (major, minor), or -1 when it is not stored
+    public static int find(int[] pointers, int[] indices, int major, int minor) {
+        int position = Arrays.binarySearch(indices, pointers[major], pointers[major + 1], minor);
+        return position >= 0 ? position : -1;
+    }
+
+    // Pattern of the product of an rows x common pattern a and a common x cols pattern b, both compressed
+    // by rows (Gustavson's row-by-row expansion). Returns {pointers, indices} with sorted indices per row.
+    public static int[][] productPattern(int[] aPointers, int[] aIndices, int[] bPointers, int[] bIndices,
+                                         int rows, int cols) {
+        int[] marker = new int[cols];
+        Arrays.fill(marker, -1);
+        int[] pointers = new int[rows + 1];
+        long total = 0;
+        for (int i = 0; i < rows; i++) {
+            int count = 0;
+            for (int p = aPointers[i]; p < aPointers[i + 1]; p++) {
+                int k = aIndices[p];
+                for (int q = bPointers[k]; q < bPointers[k + 1]; q++) {
+                    int j = bIndices[q];
+                    if (marker[j] != i) {
+                        marker[j] = i;
+                        count++;
+                    }
+                }
+            }
+            total += count;
+            if (total > Integer.MAX_VALUE - 8) {
+                throw new IllegalArgumentException("Product has too many non-zero entries.");
+            }
+            pointers[i + 1] = (int) total;
+        }
+
+        Arrays.fill(marker, -1);
+        int[] indices = new int[(int) total];
+        for (int i = 0; i < rows; i++) {
+            int next = pointers[i];
+            for (int p = aPointers[i]; p < aPointers[i + 1]; p++) {
+                int k = aIndices[p];
+                for (int q = bPointers[k]; q < bPointers[k + 1]; q++) {
+                    int j = bIndices[q];
+                    if (marker[j] != i) {
+                        marker[j] = i;
+                        indices[next++] = j;
+                    }
+                }
+            }
+            Arrays.sort(indices, pointers[i], next);
+        }
+        return new int[][]{pointers, indices};
+    }
+
+    // Throws unless the arrays describe a valid majorDim x minorDim pattern holding values.length entries
+    public static void checkPattern(int[] pointers, int[] indices, int majorDim, int minorDim, int values) {
+        if (pointers == null || indices == null) {
+            throw new IllegalArgumentException("Index arrays cannot be null.");
+        }
+        if (pointers.length != majorDim + 1 || pointers[0] != 0) {
+            throw new IllegalArgumentException("Pointers must hold " + (majorDim + 1) + " entries starting at 0.");
+        }
+        int nnz = pointers[majorDim];
+        if (nnz > indices.length || nnz > values) {
+            throw new IllegalArgumentException("Pointers exceed the index or value arrays.");
+        }
+        for (int m = 0; m < majorDim; m++) {
+            if (pointers[m + 1] < pointers[m]) {
+                throw new IllegalArgumentException("Pointers must be non-decreasing.");
+            }
+            for (int p = pointers[m]; p < pointers[m + 1]; p++) {
+                int minor = indices[p];
+                if (minor < 0 || minor >= minorDim) {
+                    throw new IllegalArgumentException("Index " + minor + " is out of range.");
+                }
+                if (p > pointers[m] && minor <= indices[p - 1]) {
+                    throw new IllegalArgumentException("Indices must be strictly increasing within a row or column.");
+                }
+            }
+        }
+    }
+}
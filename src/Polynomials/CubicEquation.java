@@ -231,8 +231,8 @@ public class CubicEquation {
 
     protected static Complex getDiscriminant(Complex p, Complex q){
         return ComplexMath.add(
-                ComplexPower.power(ComplexMath.divide(q, 2.0), 2), // q^2 / 4
-                ComplexPower.power(ComplexMath.divide(p, 3.0), 3)  // p^3 / 27
+                ComplexPower.square(ComplexMath.divide(q, 2.0)), // q^2 / 4
+                ComplexPower.cube(ComplexMath.divide(p, 3.0))    // p^3 / 27
         );
     }
 
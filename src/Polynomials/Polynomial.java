@@ -0,0 +1,413 @@
+package Polynomials;
+
+import Complex.*;
+import Matrix.MatrixExecutionContext;
+import FFT.Convolution;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+// A polynomial a0 + a1 x + ... + an x^n with complex coefficients, held as two primitive planes in
+// ascending order of power. Instances are immutable; derivative and deflate return new polynomials.
+public class Polynomial {
+
+    // Iteration cap for the root finder; Aberth converges cubically, so this is only reached when roots
+    // are clustered or multiple
+    public static final int MAX_ITERATIONS = 200;
+
+    // Roots updated per pool task in getRoots(ForkJoinPool); each update is O(degree)
+    public static final int ROOT_CHUNK_SIZE = 32;
+
+    // fromRoots expands groups of up to this many roots directly before multiplying them together
+    private static final int FROM_ROOTS_LEAF = 8;
+
+    private final double[] re, im;
+    private final int degree;
+
+    // Copies the planes; re[k] + i im[k] is the coefficient of x^k. Zero high-order coefficients are dropped.
+    public Polynomial(double[] re, double[] im) {
+        if (re == null || im == null) {
+            throw new IllegalArgumentException("Coefficient planes cannot be null.");
+        }
+        if (re.length != im.length) {
+            throw new IllegalArgumentException("Real and imaginary planes must have the same length.");
+        }
+        if (re.length == 0) {
+            throw new IllegalArgumentException("A polynomial needs at least one coefficient.");
+        }
+        int n = re.length - 1;
+        while (n > 0 && re[n] == 0.0 && im[n] == 0.0) {
+            n--;
+        }
+        this.re = Arrays.copyOf(re, n + 1);
+        this.im = Arrays.copyOf(im, n + 1);
+        this.degree = n;
+    }
+
+    // Real coefficients, ascending order
+    public Polynomial(double[] re) {
+        this(re, new double[re.length]);
+    }
+
+    // coefficients[k] is the coefficient of x^k
+    public Polynomial(Complex... coefficients) {
+        this(realParts(coefficients), imagParts(coefficients));
+    }
+
+    private static double[] realParts(Complex[] values) {
+        double[] parts = new double[values.length];
+        for (int k = 0; k < values.length; k++) {
+            parts[k] = values[k].getReal();
+        }
+        return parts;
+    }
+
+    private static double[] imagParts(Complex[] values) {
+        double[] parts = new double[values.length];
+        for (int k = 0; k < values.length; k++) {
+            parts[k] = values[k].getImag();
+        }
+        return parts;
+    }
+
+    // The monic polynomial (x - r1)(x - r2)...(x - rn). Halves are expanded separately and multiplied, so
+    // large root sets reach the FFT product instead of n² schoolbook steps. The halves take alternate
+    // roots rather than contiguous runs: callers often list roots in angular order, and the product of a
+    // clustered arc of roots has huge coefficients that cancel badly once the halves are multiplied.
+    public static Polynomial fromRoots(Complex... roots) {
+        return fromRoots(roots, 0, 1, roots.length);
+    }
+
+    // The product over roots[offset + i * stride], i < count
+    private static Polynomial fromRoots(Complex[] roots, int offset, int stride, int count) {
+        if (count <= FROM_ROOTS_LEAF) {
+            return expandRoots(roots, offset, stride, count);
+        }
+        return fromRoots(roots, offset, 2 * stride, (count + 1) / 2)
+                .multiply(fromRoots(roots, offset + stride, 2 * stride, count / 2));
+    }
+
+    // Schoolbook expansion of the same product
+    private static Polynomial expandRoots(Complex[] roots, int offset, int stride, int count) {
+        double[] re = new double[count + 1], im = new double[count + 1];
+        re[0] = 1.0;
+        for (int j = 0; j < count; j++) {
+            Complex root = roots[offset + j * stride];
+            double rr = root.getReal(), ri = root.getImag();
+            // Multiply the degree-j product by (x - r): new[k] = old[k-1] - r old[k]
+            for (int k = j + 1; k > 0; k--) {
+                double pr = re[k - 1] - Math.fma(rr, re[k], -ri * im[k]);
+                double pi = im[k - 1] - Math.fma(rr, im[k], ri * re[k]);
+                re[k] = pr;
+                im[k] = pi;
+            }
+            double pr = -Math.fma(rr, re[0], -ri * im[0]);
+            double pi = -Math.fma(rr, im[0], ri * re[0]);
+            re[0] = pr;
+            im[0] = pi;
+        }
+        return new Polynomial(re, im);
+    }
+
+    // p(x) q(x); the coefficient convolution switches from schoolbook to FFT at Convolution's thresholds,
+    // and runs on real arrays when both polynomials have real coefficients
+    public Polynomial multiply(Polynomial other) {
+        if (this.isReal() && other.isReal()) {
+            return new Polynomial(Convolution.convolve(this.re, other.re));
+        }
+        ComplexVector product = Convolution.convolve(new ComplexVector(this.re, this.im),
+                new ComplexVector(other.re, other.im));
+        return new Polynomial(product.getRealPlane(), product.getImagPlane());
+    }
+
+    private boolean isReal() {
+        for (double value : this.im) {
+            if (value != 0.0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int getDegree() {
+        return this.degree;
+    }
+
+    // Coefficient of x^k
+    public Complex getCoefficient(int k) {
+        if (k < 0 || k > this.degree) {
+            throw new IllegalArgumentException("Coefficient index must be between 0 and the degree.");
+        }
+        return new Complex(this.re[k], this.im[k]);
+    }
+
+    // Copies of the coefficient planes, ascending order
+    public double[] getRealCoefficients() {
+        return this.re.clone();
+    }
+
+    public double[] getImagCoefficients() {
+        return this.im.clone();
+    }
+
+    // p(x) by Horner's rule
+    public Complex evaluate(Complex x) {
+        return this.evaluate(x, new MutableComplex()).toComplex();
+    }
+
+    // result = p(x); x may be the result
+    public MutableComplex evaluate(Complex x, MutableComplex result) {
+        double xr = x.getReal(), xi = x.getImag();
+        double pr = this.re[this.degree], pi = this.im[this.degree];
+        for (int k = this.degree - 1; k >= 0; k--) {
+            double t = Math.fma(pr, xr, -pi * xi) + this.re[k];
+            pi = Math.fma(pr, xi, pi * xr) + this.im[k];
+            pr = t;
+        }
+        return result.set(pr, pi);
+    }
+
+    public Complex evaluate(double x) {
+        return this.evaluate(new Complex(x, 0));
+    }
+
+    // p'(x)
+    public Polynomial derivative() {
+        if (this.degree == 0) {
+            return new Polynomial(new double[]{0.0});
+        }
+        double[] re = new double[this.degree], im = new double[this.degree];
+        for (int k = 1; k <= this.degree; k++) {
+            re[k - 1] = k * this.re[k];
+            im[k - 1] = k * this.im[k];
+        }
+        return new Polynomial(re, im);
+    }
+
+    // The quotient of p(x) / (x - root) by synthetic division. The remainder, p(root), is dropped, so root
+    // should be a root or close to one.
+    public Polynomial deflate(Complex root) {
+        if (this.degree == 0) {
+            throw new ArithmeticException("Cannot deflate a constant polynomial.");
+        }
+        double rr = root.getReal(), ri = root.getImag();
+        double[] re = new double[this.degree], im = new double[this.degree];
+        double qr = this.re[this.degree], qi = this.im[this.degree];
+        for (int k = this.degree - 1; k >= 0; k--) {
+            re[k] = qr;
+            im[k] = qi;
+            double t = Math.fma(qr, rr, -qi * ri) + this.re[k];
+            qi = Math.fma(qr, ri, qi * rr) + this.im[k];
+            qr = t;
+        }
+        return new Polynomial(re, im);
+    }
+
+    // result = x / y without MutableComplex.divAssign's EPSILON guard: derivatives and corrections in the
+    // root finder are legitimately tiny for small-scale coefficients
+    private static MutableComplex divide(double xRe, double xIm, double yRe, double yIm, MutableComplex result) {
+        double denom = yRe * yRe + yIm * yIm;
+        return result.set(Math.fma(xRe, yRe, xIm * yIm) / denom, Math.fma(xIm, yRe, -xRe * yIm) / denom);
+    }
+
+    // All n roots, with multiplicity, on the calling thread
+    public Complex[] getRoots() {
+        return this.getRoots(null);
+    }
+
+    // All n roots by the Aberth–Ehrlich iteration. Each sweep computes every root's correction from the
+    // previous sweep's approximations (Jacobi style), so the per-root updates are independent and run in
+    // chunks on the pool when one is given; the result does not depend on the pool. Roots are returned
+    // in no particular order. Roots that have not met the stopping test after MAX_ITERATIONS sweeps are
+    // returned as they stand.
+    public Complex[] getRoots(ForkJoinPool pool) {
+        if (this.degree == 0) {
+            throw new ArithmeticException("A constant polynomial has no roots.");
+        }
+
+        // Exact zero roots are factored out; they would otherwise collapse the starting circle to a point
+        int zeros = 0;
+        while (this.re[zeros] == 0.0 && this.im[zeros] == 0.0) {
+            zeros++;
+        }
+        Complex[] roots = new Complex[this.degree];
+        for (int k = 0; k < zeros; k++) {
+            roots[k] = new Complex(0, 0);
+        }
+        int n = this.degree - zeros;
+        if (n == 0) {
+            return roots;
+        }
+        double[] cRe = Arrays.copyOfRange(this.re, zeros, this.degree + 1);
+        double[] cIm = Arrays.copyOfRange(this.im, zeros, this.degree + 1);
+        if (n == 1) {
+            roots[zeros] = divide(-cRe[0], -cIm[0], cRe[1], cIm[1], new MutableComplex()).toComplex();
+            return roots;
+        }
+
+        AberthSolver solver = new AberthSolver(cRe, cIm);
+        solver.solve(pool);
+        for (int k = 0; k < n; k++) {
+            roots[zeros + k] = new Complex(solver.zRe[k], solver.zIm[k]);
+        }
+        return roots;
+    }
+
+    // The iteration state for one getRoots call. For a root z with Newton ratio N = p(z)/p'(z), the
+    // Aberth correction is N / (1 - N sum_{j != i} 1/(z_i - z_j)). Above |z| = 1 the ratio is taken from
+    // the reversed polynomial in 1/z, so degree-1000 polynomials never overflow z^n.
+    private static final class AberthSolver {
+        private final double[] cRe, cIm, absCoeff;
+        private final int n;
+        private final double tolerance, floorTolerance;
+        private double[] zRe, zIm, nextRe, nextIm;
+        private final double[] lastStep;
+        private final boolean[] converged;
+
+        AberthSolver(double[] cRe, double[] cIm) {
+            this.cRe = cRe;
+            this.cIm = cIm;
+            this.n = cRe.length - 1;
+            this.absCoeff = new double[this.n + 1];
+            for (int k = 0; k <= this.n; k++) {
+                this.absCoeff[k] = Math.hypot(cRe[k], cIm[k]);
+            }
+            // A root is done once its backward error |p(z)| / sum |a_k||z|^k is a few ulps. Horner's rounding
+            // grows with the degree, so a root that stalls below degree times that is done as well.
+            this.tolerance = 4.0 * Math.ulp(1.0);
+            this.floorTolerance = this.n * this.tolerance;
+            this.lastStep = new double[this.n];
+            Arrays.fill(this.lastStep, Double.POSITIVE_INFINITY);
+            this.zRe = new double[this.n];
+            this.zIm = new double[this.n];
+            this.nextRe = new double[this.n];
+            this.nextIm = new double[this.n];
+            this.converged = new boolean[this.n];
+            this.initialGuesses();
+        }
+
+        // Points on the circle whose radius is the geometric mean of the root moduli, |a0/an|^(1/n),
+        // rotated off the real axis so conjugate-symmetric inputs do not start on a symmetry line
+        private void initialGuesses() {
+            double radius = Math.pow(this.absCoeff[0] / this.absCoeff[this.n], 1.0 / this.n);
+            for (int k = 0; k < this.n; k++) {
+                double angle = 2.0 * Math.PI * k / this.n + 0.4;
+                this.zRe[k] = radius * Math.cos(angle);
+                this.zIm[k] = radius * Math.sin(angle);
+            }
+        }
+
+        void solve(ForkJoinPool pool) {
+            for (int iteration = 0; iteration < MAX_ITERATIONS; iteration++) {
+                MatrixExecutionContext.forEachRange(pool, this.n, ROOT_CHUNK_SIZE, this::sweep);
+                double[] t = this.zRe;
+                this.zRe = this.nextRe;
+                this.nextRe = t;
+                t = this.zIm;
+                this.zIm = this.nextIm;
+                this.nextIm = t;
+
+                boolean done = true;
+                for (boolean c : this.converged) {
+                    done &= c;
+                }
+                if (done) {
+                    return;
+                }
+            }
+        }
+
+        // Writes the next approximation of roots [from, to)
+        private void sweep(int from, int to) {
+            double[] zRe = this.zRe, zIm = this.zIm;
+            MutableComplex ratio = new MutableComplex();
+            for (int i = from; i < to; i++) {
+                double xr = zRe[i], xi = zIm[i];
+                this.nextRe[i] = xr;
+                this.nextIm[i] = xi;
+                if (this.converged[i]) {
+                    continue;
+                }
+                double residual = this.newtonRatio(xr, xi, ratio);
+                if (residual <= this.tolerance) {
+                    this.converged[i] = true;
+                    continue;
+                }
+
+                // S = sum_{j != i} 1/(z_i - z_j), split around i so the loops carry no branch
+                double sr = 0.0, si = 0.0;
+                for (int j = 0; j < i; j++) {
+                    double dr = xr - zRe[j], di = xi - zIm[j];
+                    double inv = 1.0 / Math.fma(dr, dr, di * di);
+                    sr += dr * inv;
+                    si -= di * inv;
+                }
+                for (int j = i + 1; j < this.n; j++) {
+                    double dr = xr - zRe[j], di = xi - zIm[j];
+                    double inv = 1.0 / Math.fma(dr, dr, di * di);
+                    sr += dr * inv;
+                    si -= di * inv;
+                }
+
+                // w = N / (1 - N S)
+                double nr = ratio.getReal(), ni = ratio.getImag();
+                double denomRe = 1.0 - Math.fma(nr, sr, -ni * si), denomIm = -Math.fma(nr, si, ni * sr);
+                divide(nr, ni, denomRe, denomIm, ratio);
+                double wr = ratio.getReal(), wi = ratio.getImag();
+                double step = Math.hypot(wr, wi);
+                if (residual <= this.floorTolerance && step >= this.lastStep[i]) {
+                    // The corrections have stopped shrinking: z is at the rounding floor
+                    this.converged[i] = true;
+                    continue;
+                }
+                this.lastStep[i] = step;
+                this.nextRe[i] = xr - wr;
+                this.nextIm[i] = xi - wi;
+                if (step <= Math.ulp(1.0) * Math.hypot(xr, xi)) {
+                    this.converged[i] = true;
+                }
+            }
+        }
+
+        // ratio = p(z)/p'(z); returns the backward error |p(z)| / sum |a_k||z|^k
+        private double newtonRatio(double xr, double xi, MutableComplex ratio) {
+            double[] cRe = this.cRe, cIm = this.cIm, absCoeff = this.absCoeff;
+            int n = this.n;
+            double mod = Math.hypot(xr, xi);
+            if (mod <= 1.0) {
+                double pr = cRe[n], pi = cIm[n], dr = 0.0, di = 0.0, bound = absCoeff[n];
+                for (int k = n - 1; k >= 0; k--) {
+                    double t = Math.fma(dr, xr, -di * xi) + pr;
+                    di = Math.fma(dr, xi, di * xr) + pi;
+                    dr = t;
+                    t = Math.fma(pr, xr, -pi * xi) + cRe[k];
+                    pi = Math.fma(pr, xi, pi * xr) + cIm[k];
+                    pr = t;
+                    bound = Math.fma(bound, mod, absCoeff[k]);
+                }
+                divide(pr, pi, dr, di, ratio);
+                return Math.hypot(pr, pi) / bound;
+            }
+
+            // p(z) = z^n q(y) with y = 1/z and q the reversed polynomial, so p/p' = z / (n - y q'(y)/q(y))
+            double yMod = xr * xr + xi * xi;
+            double yr = xr / yMod, yi = -xi / yMod;
+            double inv = 1.0 / mod;
+            double qr = cRe[0], qi = cIm[0], dr = 0.0, di = 0.0, bound = absCoeff[0];
+            for (int k = 1; k <= n; k++) {
+                double t = Math.fma(dr, yr, -di * yi) + qr;
+                di = Math.fma(dr, yi, di * yr) + qi;
+                dr = t;
+                t = Math.fma(qr, yr, -qi * yi) + cRe[k];
+                qi = Math.fma(qr, yi, qi * yr) + cIm[k];
+                qr = t;
+                bound = Math.fma(bound, inv, absCoeff[k]);
+            }
+            // y q'/q, then n minus it
+            divide(dr, di, qr, qi, ratio).mulAssign(yr, yi);
+            double denomRe = n - ratio.getReal(), denomIm = -ratio.getImag();
+            divide(xr, xi, denomRe, denomIm, ratio);
+            return Math.hypot(qr, qi) / bound;
+        }
+    }
+}
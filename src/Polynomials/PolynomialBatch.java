@@ -0,0 +1,304 @@
+package Polynomials;
+
+import Complex.*;
+import Matrix.MatrixExecutionContext;
+
+import java.util.concurrent.ForkJoinPool;
+
+// Solves many quadratics or cubics in one call. Coefficients and roots are ComplexVectors, so existing
+// re/im double[] planes can be passed without copying through new ComplexVector(re, im). Equation i reads
+// index i of every coefficient vector and writes index i of every root vector. The loops work on the
+// planes directly and each chunk reuses its scratch values, so nothing is allocated per
+// equation. With a pool, the index range is split into chunks of DEFAULT_CHUNK_SIZE equations.
+public final class PolynomialBatch {
+
+    private PolynomialBatch() {
+        throw new UnsupportedOperationException("Cannot instantiate PolynomialBatch.");
+    }
+
+    // Equations per pool task; large enough to amortise the fork, small enough to balance
+    public static final int DEFAULT_CHUNK_SIZE = 4096;
+
+    private static final double OMEGA_RE = Complex.OMEGA.getReal(), OMEGA_IM = Complex.OMEGA.getImag();
+
+    private static int checkLengths(ComplexVector... vectors) {
+        for (ComplexVector vector : vectors) {
+            if (vector == null) {
+                throw new IllegalArgumentException("Vectors cannot be null.");
+            }
+            if (vector.length() != vectors[0].length()) {
+                throw new IllegalArgumentException("Vectors must have the same length.");
+            }
+        }
+        return vectors[0].length();
+    }
+
+    // Every leading coefficient is checked before any root is written, so a zero one leaves the root vectors
+    // untouched instead of half overwritten by whichever chunks ran first
+    private static void checkLeading(ComplexVector a, String equation) {
+        double[] aRe = a.getRealPlane(), aIm = a.getImagPlane();
+        for (int i = 0; i < aRe.length; i++) {
+            if (Math.abs(aRe[i]) < Complex.EPSILON && Math.abs(aIm[i]) < Complex.EPSILON) {
+                throw new ArithmeticException("Coefficient 'a' cannot be zero for a " + equation + " equation (index " + i + ").");
+            }
+        }
+    }
+
+    // result = x / y for a y already known to be non-zero
+    private static MutableComplex divide(double xRe, double xIm, double yRe, double yIm, MutableComplex result) {
+        double denom = yRe * yRe + yIm * yIm;
+        return result.set(Math.fma(xRe, yRe, xIm * yIm) / denom, Math.fma(xIm, yRe, -xRe * yIm) / denom);
+    }
+
+    // ax² + bx + c = 0 for every index; root1 = (-b + √D) / 2a and root2 = (-b - √D) / 2a, as in
+    // QuadraticEquation.solveEquation
+    public static void solveQuadratic(ComplexVector a, ComplexVector b, ComplexVector c,
+                                      ComplexVector root1, ComplexVector root2) {
+        solveQuadratic(a, b, c, root1, root2, null);
+    }
+
+    // As above, with chunks run on the pool when there is more than one; a null pool runs serially
+    public static void solveQuadratic(ComplexVector a, ComplexVector b, ComplexVector c,
+                                      ComplexVector root1, ComplexVector root2, ForkJoinPool pool) {
+        int n = checkLengths(a, b, c, root1, root2);
+        checkLeading(a, "quadratic");
+        MatrixExecutionContext.forEachRange(pool, n, DEFAULT_CHUNK_SIZE,
+                (from, to) -> solveQuadratic(a, b, c, root1, root2, from, to));
+    }
+
+    // Of -b ± √D, the sign that agrees with b loses digits to cancellation, so only the other one is
+    // formed directly: q = -(b + sgn √D) / 2 gives one root as q / a and the other as c / q.
+    private static void solveQuadratic(ComplexVector a, ComplexVector b, ComplexVector c,
+                                       ComplexVector root1, ComplexVector root2, int from, int to) {
+        double[] aRe = a.getRealPlane(), aIm = a.getImagPlane();
+        double[] bRe = b.getRealPlane(), bIm = b.getImagPlane();
+        double[] cRe = c.getRealPlane(), cIm = c.getImagPlane();
+        double[] r1Re = root1.getRealPlane(), r1Im = root1.getImagPlane();
+        double[] r2Re = root2.getRealPlane(), r2Im = root2.getImagPlane();
+        MutableComplex temp = new MutableComplex();
+
+        for (int i = from; i < to; i++) {
+            double ar = aRe[i], ai = aIm[i], br = bRe[i], bi = bIm[i], cr = cRe[i], ci = cIm[i];
+
+            // D = b² - 4ac
+            double dr = Math.fma(br, br, -bi * bi) - 4.0 * Math.fma(ar, cr, -ai * ci);
+            double di = 2.0 * br * bi - 4.0 * Math.fma(ar, ci, ai * cr);
+            ComplexPower.sqrt(temp.set(dr, di), temp);
+            double sr = temp.getReal(), si = temp.getImag();
+
+            boolean plus = br * sr + bi * si >= 0.0;
+            double qr = plus ? -0.5 * (br + sr) : -0.5 * (br - sr);
+            double qi = plus ? -0.5 * (bi + si) : -0.5 * (bi - si);
+            if (qr == 0.0 && qi == 0.0) {
+                // b = 0 and D = 0, hence c = 0: a double root at the origin
+                r1Re[i] = r1Im[i] = r2Re[i] = r2Im[i] = 0.0;
+                continue;
+            }
+
+            divide(qr, qi, ar, ai, temp);
+            double bigRe = temp.getReal(), bigIm = temp.getImag();
+            divide(cr, ci, qr, qi, temp);
+            double smallRe = temp.getReal(), smallIm = temp.getImag();
+
+            // q / a is (-b - √D) / 2a when the + sign was taken, (-b + √D) / 2a otherwise
+            r1Re[i] = plus ? smallRe : bigRe;
+            r1Im[i] = plus ? smallIm : bigIm;
+            r2Re[i] = plus ? bigRe : smallRe;
+            r2Im[i] = plus ? bigIm : smallIm;
+        }
+    }
+
+    // ax³ + bx² + cx + d = 0 for every index, by Cardano's formula. With x = t - b/3a the depressed
+    // cubic t³ + pt + q = 0 has t = u + v, u³ = -q/2 ± √(q²/4 + p³/27) and v = -p/3u; the roots are
+    // root1 = u + v, root2 = ωu + ω²v and root3 = ω²u + ωv, each shifted by -b/3a. The same roots as
+    // CubicEquation.solveCubic, although root2 and root3 may come out swapped.
+    public static void solveCubic(ComplexVector a, ComplexVector b, ComplexVector c, ComplexVector d,
+                                  ComplexVector root1, ComplexVector root2, ComplexVector root3) {
+        solveCubic(a, b, c, d, root1, root2, root3, null);
+    }
+
+    // As above, with chunks run on the pool when there is more than one; a null pool runs serially
+    public static void solveCubic(ComplexVector a, ComplexVector b, ComplexVector c, ComplexVector d,
+                                  ComplexVector root1, ComplexVector root2, ComplexVector root3, ForkJoinPool pool) {
+        int n = checkLengths(a, b, c, d, root1, root2, root3);
+        checkLeading(a, "cubic");
+        MatrixExecutionContext.forEachRange(pool, n, DEFAULT_CHUNK_SIZE,
+                (from, to) -> solveCubic(a, b, c, d, root1, root2, root3, from, to));
+    }
+
+    // u³ takes the sign of the square root that gives it the larger magnitude, so it never cancels to
+    // zero unless p = q = 0, and v = -p/3u is then always paired with the right cube root of u³.
+    private static void solveCubic(ComplexVector a, ComplexVector b, ComplexVector c, ComplexVector d,
+                                   ComplexVector root1, ComplexVector root2, ComplexVector root3, int from, int to) {
+        double[] aRe = a.getRealPlane(), aIm = a.getImagPlane();
+        double[] bRe = b.getRealPlane(), bIm = b.getImagPlane();
+        double[] cRe = c.getRealPlane(), cIm = c.getImagPlane();
+        double[] dRe = d.getRealPlane(), dIm = d.getImagPlane();
+        double[] r1Re = root1.getRealPlane(), r1Im = root1.getImagPlane();
+        double[] r2Re = root2.getRealPlane(), r2Im = root2.getImagPlane();
+        double[] r3Re = root3.getRealPlane(), r3Im = root3.getImagPlane();
+        double[] zRe = new double[3], zIm = new double[3];
+        MutableComplex temp = new MutableComplex();
+
+        for (int i = from; i < to; i++) {
+            double ar = aRe[i], ai = aIm[i];
+
+            // Monic coefficients x³ + Bx² + Cx + D, with s = B/3
+            divide(bRe[i], bIm[i], ar, ai, temp);
+            double sr = temp.getReal() / 3.0, si = temp.getImag() / 3.0;
+            divide(cRe[i], cIm[i], ar, ai, temp);
+            double cr = temp.getReal(), ci = temp.getImag();
+            divide(dRe[i], dIm[i], ar, ai, temp);
+            double dr = temp.getReal(), di = temp.getImag();
+
+            // p = C - 3s², q = D - sC + 2s³
+            double s2r = Math.fma(sr, sr, -si * si), s2i = 2.0 * sr * si;
+            double s3r = Math.fma(s2r, sr, -s2i * si), s3i = Math.fma(s2r, si, s2i * sr);
+            double pr = cr - 3.0 * s2r, pi = ci - 3.0 * s2i;
+            double qr = dr - Math.fma(sr, cr, -si * ci) + 2.0 * s3r;
+            double qi = di - Math.fma(sr, ci, si * cr) + 2.0 * s3i;
+
+            // Δ = (q/2)² + (p/3)³
+            double hr = 0.5 * qr, hi = 0.5 * qi;
+            double tr = pr / 3.0, ti = pi / 3.0;
+            double t2r = Math.fma(tr, tr, -ti * ti), t2i = 2.0 * tr * ti;
+            double deltaRe = Math.fma(hr, hr, -hi * hi) + Math.fma(t2r, tr, -t2i * ti);
+            double deltaIm = 2.0 * hr * hi + Math.fma(t2r, ti, t2i * tr);
+            ComplexPower.sqrt(temp.set(deltaRe, deltaIm), temp);
+            double rootRe = temp.getReal(), rootIm = temp.getImag();
+
+            // u³ = -q/2 ± √Δ, keeping the larger of the two
+            boolean plus = rootRe * hr + rootIm * hi <= 0.0;
+            double wr = plus ? rootRe - hr : -rootRe - hr;
+            double wi = plus ? rootIm - hi : -rootIm - hi;
+            ComplexPower.cbrt(temp.set(wr, wi), temp);
+            double ur = temp.getReal(), ui = temp.getImag();
+
+            double vr = 0.0, vi = 0.0;
+            if (ur != 0.0 || ui != 0.0) {
+                divide(-tr, -ti, ur, ui, temp);
+                vr = temp.getReal();
+                vi = temp.getImag();
+            }
+
+            // ωu + ω²v and ω²u + ωv, with ω² = conj(ω)
+            double sumRe = ur + vr, sumIm = ui + vi, diffRe = ur - vr, diffIm = ui - vi;
+            double halfRe = OMEGA_RE * sumRe, halfIm = OMEGA_RE * sumIm;
+            double rotRe = -OMEGA_IM * diffIm, rotIm = OMEGA_IM * diffRe;
+            zRe[0] = sumRe - sr;
+            zIm[0] = sumIm - si;
+            zRe[1] = halfRe + rotRe - sr;
+            zIm[1] = halfIm + rotIm - si;
+            zRe[2] = halfRe - rotRe - sr;
+            zIm[2] = halfIm - rotIm - si;
+
+            deflate(zRe, zIm, 3.0 * sr, 3.0 * si, cr, ci, dr, di, temp);
+            r1Re[i] = zRe[0];
+            r1Im[i] = zIm[0];
+            r2Re[i] = zRe[1];
+            r2Im[i] = zIm[1];
+            r3Re[i] = zRe[2];
+            r3Im[i] = zIm[2];
+        }
+    }
+
+    // Cardano's roots are only accurate relative to the largest one: when a large root sits next to small
+    // ones, q cancels at the scale of s³ and the small roots are lost. The largest root is kept (after a
+    // Newton step) and the other two are recomputed from the quadratic factor x² - Sx + P, whose sum
+    // S and product P = -D/x follow from Vieta. Each replaces the Cardano root nearest to it, so
+    // the slot order is unchanged.
+    private static void deflate(double[] zRe, double[] zIm, double br, double bi, double cr, double ci,
+                                double dr, double di, MutableComplex temp) {
+        int big = 0;
+        double bigMod = zRe[0] * zRe[0] + zIm[0] * zIm[0];
+        for (int k = 1; k < 3; k++) {
+            double mod = zRe[k] * zRe[k] + zIm[k] * zIm[k];
+            if (mod > bigMod) {
+                big = k;
+                bigMod = mod;
+            }
+        }
+        if (bigMod == 0.0) {
+            return;
+        }
+        polish(zRe[big], zIm[big], br, bi, cr, ci, dr, di, temp);
+        double xr = temp.getReal(), xi = temp.getImag();
+        zRe[big] = xr;
+        zIm[big] = xi;
+        if (xr == 0.0 && xi == 0.0) {
+            return;
+        }
+
+        divide(-dr, -di, xr, xi, temp);
+        double prodRe = temp.getReal(), prodIm = temp.getImag();
+
+        // S = -B - x cancels when the other roots are much smaller than x; S = (C - P) / x, from the sum of
+        // pairwise products, cancels in the opposite case. Take whichever keeps more of its operands.
+        double sumRe = -br - xr, sumIm = -bi - xi;
+        double restRe = cr - prodRe, restIm = ci - prodIm;
+        double sumKept = (sumRe * sumRe + sumIm * sumIm) / Math.max(br * br + bi * bi, bigMod);
+        double restKept = (restRe * restRe + restIm * restIm)
+                / Math.max(cr * cr + ci * ci, prodRe * prodRe + prodIm * prodIm);
+        if (restKept > sumKept) {
+            divide(restRe, restIm, xr, xi, temp);
+            sumRe = temp.getReal();
+            sumIm = temp.getImag();
+        }
+
+        // Stable quadratic as in solveQuadratic: y = (S ± √(S² - 4P)) / 2 with the sign that agrees with S
+        double discRe = Math.fma(sumRe, sumRe, -sumIm * sumIm) - 4.0 * prodRe;
+        double discIm = 2.0 * sumRe * sumIm - 4.0 * prodIm;
+        ComplexPower.sqrt(temp.set(discRe, discIm), temp);
+        double sqRe = temp.getReal(), sqIm = temp.getImag();
+        boolean plus = sumRe * sqRe + sumIm * sqIm >= 0.0;
+        double y1r = plus ? 0.5 * (sumRe + sqRe) : 0.5 * (sumRe - sqRe);
+        double y1i = plus ? 0.5 * (sumIm + sqIm) : 0.5 * (sumIm - sqIm);
+        double y2r = 0.0, y2i = 0.0;
+        if (y1r != 0.0 || y1i != 0.0) {
+            divide(prodRe, prodIm, y1r, y1i, temp);
+            y2r = temp.getReal();
+            y2i = temp.getImag();
+        }
+        polish(y1r, y1i, br, bi, cr, ci, dr, di, temp);
+        y1r = temp.getReal();
+        y1i = temp.getImag();
+        polish(y2r, y2i, br, bi, cr, ci, dr, di, temp);
+        y2r = temp.getReal();
+        y2i = temp.getImag();
+
+        int j1 = big == 0 ? 1 : 0, j2 = big == 2 ? 1 : 2;
+        double straight = distanceSquared(y1r, y1i, zRe[j1], zIm[j1]) + distanceSquared(y2r, y2i, zRe[j2], zIm[j2]);
+        double swapped = distanceSquared(y1r, y1i, zRe[j2], zIm[j2]) + distanceSquared(y2r, y2i, zRe[j1], zIm[j1]);
+        if (swapped < straight) {
+            int t = j1;
+            j1 = j2;
+            j2 = t;
+        }
+        zRe[j1] = y1r;
+        zIm[j1] = y1i;
+        zRe[j2] = y2r;
+        zIm[j2] = y2i;
+    }
+
+    private static double distanceSquared(double xr, double xi, double yr, double yi) {
+        double dr = xr - yr, di = xi - yi;
+        return dr * dr + di * di;
+    }
+
+    // One Newton step x - f(x)/f'(x) on f = x³ + Bx² + Cx + D
+    private static MutableComplex polish(double xr, double xi, double br, double bi, double cr, double ci,
+                                         double dr, double di, MutableComplex result) {
+        // Horner for f and f' together
+        double fr = xr + br, fi = xi + bi;
+        double gr = fr + xr, gi = fi + xi;
+        double nr = Math.fma(fr, xr, -fi * xi) + cr, ni = Math.fma(fr, xi, fi * xr) + ci;
+        double dfr = Math.fma(gr, xr, -gi * xi) + nr, dfi = Math.fma(gr, xi, gi * xr) + ni;
+        fr = Math.fma(nr, xr, -ni * xi) + dr;
+        fi = Math.fma(nr, xi, ni * xr) + di;
+        if (dfr == 0.0 && dfi == 0.0) {
+            return result.set(xr, xi);
+        }
+        divide(fr, fi, dfr, dfi, result);
+        return result.set(xr - result.getReal(), xi - result.getImag());
+    }
+}
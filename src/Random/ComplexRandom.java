@@ -1,6 +1,9 @@
 package Random;
 
-import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 import Complex.*;
 import Polynomials.*;
 
@@ -10,37 +13,65 @@ public final class ComplexRandom {
         throw new UnsupportedOperationException("Cannot instantiate ComplexRandom.");
     }
 
-    private static final Random rand = new Random();
+    // Calls without an explicit generator draw from the calling thread's own stream, so threads never
+    // contend on a shared seed. Pass a SplittableRandom, or a seed to the matrix fills, for reproducible runs.
+    private static RandomGenerator current() {
+        return ThreadLocalRandom.current();
+    }
 
-    private static double getRandomDouble(double min, double max) {
-        return min + (max - min) * rand.nextDouble();
+    private static double getRandomDouble(RandomGenerator random, double min, double max) {
+        return min + (max - min) * random.nextDouble();
     }
 
-    private static int getRandomInt(int min, int max) {
-        return rand.nextInt(max - min + 1) + min;
+    private static int getRandomInt(RandomGenerator random, int min, int max) {
+        return (int) random.nextLong(min, (long) max + 1);
     }
 
     // Random complex number with both real and imaginary parts
     public static Complex randomComplex(double minReLimit, double maxReLimit, double minImLimit,  double maxImLimit, boolean isInteger) {
+        return randomComplex(current(), minReLimit, maxReLimit, minImLimit, maxImLimit, isInteger);
+    }
+
+    public static Complex randomComplex(SplittableRandom random, double minReLimit, double maxReLimit, double minImLimit, double maxImLimit, boolean isInteger) {
+        return randomComplex((RandomGenerator) random, minReLimit, maxReLimit, minImLimit, maxImLimit, isInteger);
+    }
+
+    private static Complex randomComplex(RandomGenerator random, double minReLimit, double maxReLimit, double minImLimit, double maxImLimit, boolean isInteger) {
         if (isInteger) {
-            return new Complex(getRandomInt((int) minReLimit, (int) maxReLimit),
-                    getRandomInt((int) minImLimit, (int) maxImLimit));
+            return new Complex(getRandomInt(random, (int) minReLimit, (int) maxReLimit),
+                    getRandomInt(random, (int) minImLimit, (int) maxImLimit));
         } else {
-            return new Complex(getRandomDouble(minReLimit, maxReLimit),
-                    getRandomDouble(minImLimit, maxImLimit));
+            return new Complex(getRandomDouble(random, minReLimit, maxReLimit),
+                    getRandomDouble(random, minImLimit, maxImLimit));
         }
     }
 
     public static Complex randomReal(double minLimit, double maxLimit, boolean isInteger) {
+        return randomReal(current(), minLimit, maxLimit, isInteger);
+    }
+
+    public static Complex randomReal(SplittableRandom random, double minLimit, double maxLimit, boolean isInteger) {
+        return randomReal((RandomGenerator) random, minLimit, maxLimit, isInteger);
+    }
+
+    private static Complex randomReal(RandomGenerator random, double minLimit, double maxLimit, boolean isInteger) {
         return isInteger?
-                new Complex(getRandomInt((int) minLimit, (int) maxLimit), 0):
-                new Complex(getRandomDouble(minLimit, maxLimit), 0);
+                new Complex(getRandomInt(random, (int) minLimit, (int) maxLimit), 0):
+                new Complex(getRandomDouble(random, minLimit, maxLimit), 0);
     }
 
     public static Complex randomImaginary(double minLimit, double maxLimit, boolean isInteger) {
+        return randomImaginary(current(), minLimit, maxLimit, isInteger);
+    }
+
+    public static Complex randomImaginary(SplittableRandom random, double minLimit, double maxLimit, boolean isInteger) {
+        return randomImaginary((RandomGenerator) random, minLimit, maxLimit, isInteger);
+    }
+
+    private static Complex randomImaginary(RandomGenerator random, double minLimit, double maxLimit, boolean isInteger) {
         return isInteger?
-                new Complex(0, getRandomInt((int) minLimit, (int) maxLimit)):
-                new Complex(0, getRandomDouble(minLimit, maxLimit));
+                new Complex(0, getRandomInt(random, (int) minLimit, (int) maxLimit)):
+                new Complex(0, getRandomDouble(random, minLimit, maxLimit));
     }
 
     public static QuadraticEquation randomComplexQuadratic(double minReLimit, double maxReLimit, double minImLimit, double maxImLimit, boolean isInteger){
@@ -146,33 +177,71 @@ public final class ComplexRandom {
     }
 
     public static Complex[][] randomComplexMatrix(int row, int column, double minReLimit, double maxReLimit, double minImLimit, double maxImLimit ,boolean isInteger) {
-        Complex[][] random = new Complex[row][column];
-        for (int i = 0; i < row; i++) {
-            for (int j = 0; j < column; j++) {
-                random[i][j] = randomComplex(minReLimit, maxReLimit, minImLimit, maxImLimit, isInteger);
-            }
+        return randomComplexMatrix(row, column, minReLimit, maxReLimit, minImLimit, maxImLimit, isInteger, current().nextLong(), null);
+    }
+
+    // Reproducible fill: the same seed gives the same matrix with or without a pool. The values are drawn
+    // into flat planes by RandomFill and only then wrapped, one Complex per element.
+    public static Complex[][] randomComplexMatrix(int row, int column, double minReLimit, double maxReLimit, double minImLimit, double maxImLimit,
+                                                  boolean isInteger, long seed, ForkJoinPool pool) {
+        checkDimensions(row, column);
+        double[] re = new double[row * column], im = new double[row * column];
+        if (isInteger) {
+            RandomFill.fillUniformInt(re, im, 0, column, row, column, (int) minReLimit, (int) maxReLimit,
+                    (int) minImLimit, (int) maxImLimit, seed, pool);
+        } else {
+            RandomFill.fillUniform(re, im, 0, column, row, column, minReLimit, maxReLimit,
+                    minImLimit, maxImLimit, seed, pool);
         }
-        return random;
+        return toMatrix(re, im, row, column);
     }
 
     public static Complex[][] randomRealMatrix(int row, int column, double minLimit, double maxLimit, boolean isInteger) {
-        Complex[][] random = new Complex[row][column];
-        for (int i = 0; i < row; i++) {
-            for (int j = 0; j < column; j++) {
-                random[i][j] = randomReal(minLimit, maxLimit, isInteger);
-            }
-        }
-        return random;
+        return randomRealMatrix(row, column, minLimit, maxLimit, isInteger, current().nextLong(), null);
+    }
+
+    public static Complex[][] randomRealMatrix(int row, int column, double minLimit, double maxLimit, boolean isInteger,
+                                               long seed, ForkJoinPool pool) {
+        double[] values = randomPlane(row, column, minLimit, maxLimit, isInteger, seed, pool);
+        return toMatrix(values, new double[values.length], row, column);
     }
 
     public static Complex[][] randomImaginaryMatrix(int row, int column, double minLimit, double maxLimit, boolean isInteger) {
+        return randomImaginaryMatrix(row, column, minLimit, maxLimit, isInteger, current().nextLong(), null);
+    }
+
+    public static Complex[][] randomImaginaryMatrix(int row, int column, double minLimit, double maxLimit, boolean isInteger,
+                                                    long seed, ForkJoinPool pool) {
+        double[] values = randomPlane(row, column, minLimit, maxLimit, isInteger, seed, pool);
+        return toMatrix(new double[values.length], values, row, column);
+    }
+
+    private static double[] randomPlane(int row, int column, double minLimit, double maxLimit, boolean isInteger,
+                                        long seed, ForkJoinPool pool) {
+        checkDimensions(row, column);
+        double[] values = new double[row * column];
+        if (isInteger) {
+            RandomFill.fillUniformInt(values, 0, values.length, (int) minLimit, (int) maxLimit, seed, pool);
+        } else {
+            RandomFill.fillUniform(values, 0, values.length, minLimit, maxLimit, seed, pool);
+        }
+        return values;
+    }
+
+    private static Complex[][] toMatrix(double[] re, double[] im, int row, int column) {
         Complex[][] random = new Complex[row][column];
         for (int i = 0; i < row; i++) {
-            for (int j = 0; j < column; j++) {
-                random[i][j] = randomImaginary(minLimit, maxLimit, isInteger);
+            for (int j = 0, k = i * column; j < column; j++, k++) {
+                random[i][j] = new Complex(re[k], im[k]);
             }
         }
         return random;
     }
 
+    private static void checkDimensions(int row, int column) {
+        if (row < 0 || column < 0 || (long) row * column > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid matrix dimensions.");
+        }
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,225 @@
+package Random;
+
+import Complex.ComplexVector;
+
+import java.util.concurrent.ForkJoinPool;
+
+// Bulk random fills straight into primitive storage: flat double[] buffers, split re/im planes and strided
+// row-major layouts such as RMatrix and CMatrix backing stores (element (i, j) at offset + i * stride + j).
+// Every distribution is a single loop per row segment, with no Complex allocation and the limits converted
+// once. Fills run through RandomStreams, so a seed gives the same values with or without a pool.
+public final class RandomFill {
+
+    private RandomFill() {
+        throw new UnsupportedOperationException("Cannot instantiate RandomFill.");
+    }
+
+    // Uniform values in [min, max) into data[offset, offset + length)
+    public static void fillUniform(double[] data, int offset, int length, double min, double max,
+                                   long seed, ForkJoinPool pool) {
+        fillUniform(data, offset, length, 1, length, min, max, seed, pool);
+    }
+
+    public static void fillUniform(double[] data, int offset, int stride, int rows, int cols, double min, double max,
+                                   long seed, ForkJoinPool pool) {
+        checkLayout(data, offset, stride, rows, cols);
+        checkLimits(min, max);
+        double span = max - min;
+        RandomStreams.forEachSegment(offset, stride, rows, cols, seed, pool, (random, base, length) -> {
+            for (int k = base, end = base + length; k < end; k++) {
+                data[k] = min + span * random.nextDouble();
+            }
+        });
+    }
+
+    // Uniform integers in [min, max] into data[offset, offset + length)
+    public static void fillUniformInt(double[] data, int offset, int length, int min, int max,
+                                      long seed, ForkJoinPool pool) {
+        fillUniformInt(data, offset, length, 1, length, min, max, seed, pool);
+    }
+
+    public static void fillUniformInt(double[] data, int offset, int stride, int rows, int cols, int min, int max,
+                                      long seed, ForkJoinPool pool) {
+        checkLayout(data, offset, stride, rows, cols);
+        checkLimits(min, max);
+        // A long bound keeps max == Integer.MAX_VALUE inclusive
+        long bound = (long) max + 1;
+        RandomStreams.forEachSegment(offset, stride, rows, cols, seed, pool, (random, base, length) -> {
+            for (int k = base, end = base + length; k < end; k++) {
+                data[k] = random.nextLong(min, bound);
+            }
+        });
+    }
+
+    // Normal values with the given mean and standard deviation
+    public static void fillGaussian(double[] data, int offset, int length, double mean, double sigma,
+                                    long seed, ForkJoinPool pool) {
+        fillGaussian(data, offset, length, 1, length, mean, sigma, seed, pool);
+    }
+
+    public static void fillGaussian(double[] data, int offset, int stride, int rows, int cols, double mean, double sigma,
+                                    long seed, ForkJoinPool pool) {
+        checkLayout(data, offset, stride, rows, cols);
+        checkScale(sigma, "Standard deviation");
+        RandomStreams.forEachSegment(offset, stride, rows, cols, seed, pool, (random, base, length) -> {
+            for (int k = base, end = base + length; k < end; k++) {
+                data[k] = Math.fma(sigma, random.nextGaussian(), mean);
+            }
+        });
+    }
+
+    // Real part uniform in [minRe, maxRe), imaginary part uniform in [minIm, maxIm)
+    public static void fillUniform(ComplexVector vector, double minRe, double maxRe, double minIm, double maxIm,
+                                   long seed, ForkJoinPool pool) {
+        checkVector(vector);
+        fillUniform(vector.getRealPlane(), vector.getImagPlane(), 0, vector.length(), 1, vector.length(),
+                minRe, maxRe, minIm, maxIm, seed, pool);
+    }
+
+    public static void fillUniform(double[] re, double[] im, int offset, int stride, int rows, int cols,
+                                   double minRe, double maxRe, double minIm, double maxIm,
+                                   long seed, ForkJoinPool pool) {
+        checkLayout(re, im, offset, stride, rows, cols);
+        checkLimits(minRe, maxRe);
+        checkLimits(minIm, maxIm);
+        double spanRe = maxRe - minRe, spanIm = maxIm - minIm;
+        RandomStreams.forEachSegment(offset, stride, rows, cols, seed, pool, (random, base, length) -> {
+            for (int k = base, end = base + length; k < end; k++) {
+                re[k] = minRe + spanRe * random.nextDouble();
+                im[k] = minIm + spanIm * random.nextDouble();
+            }
+        });
+    }
+
+    // Gaussian integers with parts uniform in [minRe, maxRe] and [minIm, maxIm]
+    public static void fillUniformInt(double[] re, double[] im, int offset, int stride, int rows, int cols,
+                                      int minRe, int maxRe, int minIm, int maxIm,
+                                      long seed, ForkJoinPool pool) {
+        checkLayout(re, im, offset, stride, rows, cols);
+        checkLimits(minRe, maxRe);
+        checkLimits(minIm, maxIm);
+        long boundRe = (long) maxRe + 1, boundIm = (long) maxIm + 1;
+        RandomStreams.forEachSegment(offset, stride, rows, cols, seed, pool, (random, base, length) -> {
+            for (int k = base, end = base + length; k < end; k++) {
+                re[k] = random.nextLong(minRe, boundRe);
+                im[k] = random.nextLong(minIm, boundIm);
+            }
+        });
+    }
+
+    // Circularly symmetric complex normal with E|z|² = sigma²: independent parts of deviation sigma / √2
+    public static void fillGaussian(ComplexVector vector, double sigma, long seed, ForkJoinPool pool) {
+        checkVector(vector);
+        fillGaussian(vector.getRealPlane(), vector.getImagPlane(), 0, vector.length(), 1, vector.length(),
+                sigma, seed, pool);
+    }
+
+    public static void fillGaussian(double[] re, double[] im, int offset, int stride, int rows, int cols,
+                                    double sigma, long seed, ForkJoinPool pool) {
+        checkLayout(re, im, offset, stride, rows, cols);
+        checkScale(sigma, "Standard deviation");
+        double scale = sigma * Math.sqrt(0.5);
+        RandomStreams.forEachSegment(offset, stride, rows, cols, seed, pool, (random, base, length) -> {
+            for (int k = base, end = base + length; k < end; k++) {
+                re[k] = scale * random.nextGaussian();
+                im[k] = scale * random.nextGaussian();
+            }
+        });
+    }
+
+    // Uniform on the disk |z| <= radius
+    public static void fillDisk(ComplexVector vector, double radius, long seed, ForkJoinPool pool) {
+        checkVector(vector);
+        fillDisk(vector.getRealPlane(), vector.getImagPlane(), 0, vector.length(), 1, vector.length(),
+                radius, seed, pool);
+    }
+
+    // Rejection from the enclosing square accepts π/4 of the draws and needs no sqrt or trigonometry
+    public static void fillDisk(double[] re, double[] im, int offset, int stride, int rows, int cols,
+                                double radius, long seed, ForkJoinPool pool) {
+        checkLayout(re, im, offset, stride, rows, cols);
+        checkScale(radius, "Radius");
+        RandomStreams.forEachSegment(offset, stride, rows, cols, seed, pool, (random, base, length) -> {
+            for (int k = base, end = base + length; k < end; k++) {
+                double x, y;
+                do {
+                    x = random.nextDouble(-1.0, 1.0);
+                    y = random.nextDouble(-1.0, 1.0);
+                } while (x * x + y * y > 1.0);
+                re[k] = radius * x;
+                im[k] = radius * y;
+            }
+        });
+    }
+
+    // Uniform on the annulus inner <= |z| <= outer
+    public static void fillAnnulus(ComplexVector vector, double inner, double outer, long seed, ForkJoinPool pool) {
+        checkVector(vector);
+        fillAnnulus(vector.getRealPlane(), vector.getImagPlane(), 0, vector.length(), 1, vector.length(),
+                inner, outer, seed, pool);
+    }
+
+    // The area element makes |z|² uniform on [inner², outer²]; the direction is a rejected point of the
+    // unit disk scaled to unit length, which avoids sin and cos
+    public static void fillAnnulus(double[] re, double[] im, int offset, int stride, int rows, int cols,
+                                   double inner, double outer, long seed, ForkJoinPool pool) {
+        checkLayout(re, im, offset, stride, rows, cols);
+        checkScale(inner, "Inner radius");
+        if (!(outer >= inner)) {
+            throw new IllegalArgumentException("Outer radius cannot be less than the inner radius.");
+        }
+        double inner2 = inner * inner, span2 = outer * outer - inner2;
+        RandomStreams.forEachSegment(offset, stride, rows, cols, seed, pool, (random, base, length) -> {
+            for (int k = base, end = base + length; k < end; k++) {
+                double x, y, s;
+                do {
+                    x = random.nextDouble(-1.0, 1.0);
+                    y = random.nextDouble(-1.0, 1.0);
+                    s = x * x + y * y;
+                } while (s > 1.0 || s == 0.0);
+                double r = Math.sqrt(Math.fma(span2, random.nextDouble(), inner2) / s);
+                re[k] = r * x;
+                im[k] = r * y;
+            }
+        });
+    }
+
+    private static void checkVector(ComplexVector vector) {
+        if (vector == null) {
+            throw new IllegalArgumentException("Vector cannot be null.");
+        }
+    }
+
+    private static void checkLayout(double[] re, double[] im, int offset, int stride, int rows, int cols) {
+        checkLayout(re, offset, stride, rows, cols);
+        checkLayout(im, offset, stride, rows, cols);
+    }
+
+    private static void checkLayout(double[] data, int offset, int stride, int rows, int cols) {
+        if (data == null) {
+            throw new IllegalArgumentException("Array cannot be null.");
+        }
+        if (rows < 0 || cols < 0 || (long) rows * cols > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid fill dimensions.");
+        }
+        if (rows == 0 || cols == 0) {
+            return;
+        }
+        long end = (long) offset + (long) (rows - 1) * stride + cols;
+        if (offset < 0 || stride < cols || end > data.length) {
+            throw new IllegalArgumentException("Offset/stride do not fit inside the array.");
+        }
+    }
+
+    private static void checkLimits(double min, double max) {
+        if (min > max) {
+            throw new IllegalArgumentException("Minimum value cannot be greater than maximum value.");
+        }
+    }
+
+    private static void checkScale(double scale, String name) {
+        if (!(scale >= 0.0) || Double.isInfinite(scale)) {
+            throw new IllegalArgumentException(name + " must be a finite non-negative value.");
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package Random;
+
+import Matrix.MatrixExecutionContext;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+// Reproducible parallel random fills. A fill of n values is cut into fixed chunks of CHUNK_SIZE indices,
+// and chunk c draws from the c-th stream split off a SplittableRandom seeded with the caller's seed. The
+// chunk boundaries and the streams depend only on the seed and n, never on the pool, so a given seed gives
+// the same values whether one thread or many ran the fill. Streams share no state, so workers never
+// contend the way they do on the atomic seed of a shared java.util.Random.
+public final class RandomStreams {
+
+    private RandomStreams() {
+        throw new UnsupportedOperationException("Cannot instantiate RandomStreams.");
+    }
+
+    // Indices drawn from one stream; large enough to amortize a task, small enough to balance the pool
+    public static final int CHUNK_SIZE = 4096;
+
+    @FunctionalInterface
+    public interface ChunkKernel {
+        // Fills indices [from, to) drawing only from random
+        void fill(SplittableRandom random, int from, int to);
+    }
+
+    // A null pool or a single-worker pool runs every chunk on the calling thread, in order
+    public static void forEachChunk(int n, long seed, ForkJoinPool pool, ChunkKernel kernel) {
+        if (n < 0) {
+            throw new IllegalArgumentException("Count cannot be negative.");
+        }
+        if (kernel == null) {
+            throw new IllegalArgumentException("Kernel cannot be null.");
+        }
+        int chunks = (int) (((long) n + CHUNK_SIZE - 1) / CHUNK_SIZE);
+        // split() advances the root, so the streams are created up front in chunk order
+        SplittableRandom root = new SplittableRandom(seed);
+        SplittableRandom[] streams = new SplittableRandom[chunks];
+        for (int c = 0; c < chunks; c++) {
+            streams[c] = root.split();
+        }
+
+        // One chunk per leaf of the shared range split, each looking up its own stream by index
+        MatrixExecutionContext.forEachRange(pool, chunks, 1, (from, to) -> {
+            for (int c = from; c < to; c++) {
+                runChunk(c, n, streams, kernel);
+            }
+        });
+    }
+
+    private static void runChunk(int c, int n, SplittableRandom[] streams, ChunkKernel kernel) {
+        int from = c * CHUNK_SIZE;
+        kernel.fill(streams[c], from, Math.min(n, from + CHUNK_SIZE));
+    }
+
+    @FunctionalInterface
+    interface SegmentKernel {
+        // Fills the contiguous storage [base, base + length) drawing only from random
+        void fill(SplittableRandom random, int base, int length);
+    }
+
+    // Chunks a strided rows x cols layout (element (i, j) at offset + i * stride + j) by its row-major
+    // element number and hands each chunk over as contiguous row segments
+    static void forEachSegment(int offset, int stride, int rows, int cols, long seed, ForkJoinPool pool,
+                               SegmentKernel kernel) {
+        forEachChunk(rows * cols, seed, pool, (random, from, to) -> {
+            for (int k = from, i = from / cols, j = from % cols; k < to; i++, j = 0) {
+                int length = Math.min(cols - j, to - k);
+                kernel.fill(random, offset + i * stride + j, length);
+                k += length;
+            }
+        });
+    }
+}
@@ -0,0 +1,159 @@
+package Simd;
+
+import Complex.Complex;
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+// Vector API implementation. Only ever loaded reflectively by VectorBackends, so a JVM started without
+// --add-modules jdk.incubator.vector fails that load and falls back to ScalarBackend instead.
+final class PanamaBackend implements VectorBackend {
+
+    // Widest shape the CPU supports natively, for the streaming kernels
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    // One packed B row of the 4x4 GEMM tile is exactly one 256-bit vector
+    private static final VectorSpecies<Double> TILE = DoubleVector.SPECIES_256;
+
+    PanamaBackend() {
+        // Narrower shapes are emulated, not intrinsified, and would be slower than the scalar loops
+        if (SPECIES.vectorBitSize() < 256) {
+            throw new UnsupportedOperationException("No 256-bit vector support.");
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "panama-" + SPECIES.vectorBitSize();
+    }
+
+    @Override
+    public void add(double[] a, int aOff, double[] b, int bOff, double[] c, int cOff, int n) {
+        int i = 0;
+        for (int bound = SPECIES.loopBound(n); i < bound; i += SPECIES.length()) {
+            DoubleVector x = DoubleVector.fromArray(SPECIES, a, aOff + i);
+            DoubleVector y = DoubleVector.fromArray(SPECIES, b, bOff + i);
+            x.add(y).intoArray(c, cOff + i);
+        }
+        for (; i < n; i++) {
+            c[cOff + i] = a[aOff + i] + b[bOff + i];
+        }
+    }
+
+    @Override
+    public void subtract(double[] a, int aOff, double[] b, int bOff, double[] c, int cOff, int n) {
+        int i = 0;
+        for (int bound = SPECIES.loopBound(n); i < bound; i += SPECIES.length()) {
+            DoubleVector x = DoubleVector.fromArray(SPECIES, a, aOff + i);
+            DoubleVector y = DoubleVector.fromArray(SPECIES, b, bOff + i);
+            x.sub(y).intoArray(c, cOff + i);
+        }
+        for (; i < n; i++) {
+            c[cOff + i] = a[aOff + i] - b[bOff + i];
+        }
+    }
+
+    // With split planes the complex product needs no lane shuffles: re and im are separate vectors
+    @Override
+    public void complexMultiply(double[] aRe, double[] aIm, int aOff, double[] bRe, double[] bIm, int bOff,
+                                double[] cRe, double[] cIm, int cOff, int n) {
+        int i = 0;
+        for (int bound = SPECIES.loopBound(n); i < bound; i += SPECIES.length()) {
+            DoubleVector xRe = DoubleVector.fromArray(SPECIES, aRe, aOff + i);
+            DoubleVector xIm = DoubleVector.fromArray(SPECIES, aIm, aOff + i);
+            DoubleVector yRe = DoubleVector.fromArray(SPECIES, bRe, bOff + i);
+            DoubleVector yIm = DoubleVector.fromArray(SPECIES, bIm, bOff + i);
+            xRe.fma(yRe, xIm.mul(yIm).neg()).intoArray(cRe, cOff + i);
+            xRe.fma(yIm, xIm.mul(yRe)).intoArray(cIm, cOff + i);
+        }
+        for (; i < n; i++) {
+            double xRe = aRe[aOff + i], xIm = aIm[aOff + i];
+            double yRe = bRe[bOff + i], yIm = bIm[bOff + i];
+            cRe[cOff + i] = Math.fma(xRe, yRe, -xIm * yIm);
+            cIm[cOff + i] = Math.fma(xRe, yIm, xIm * yRe);
+        }
+    }
+
+    @Override
+    public double dot(double[] a, int aOff, double[] b, int bOff, int n) {
+        DoubleVector acc0 = DoubleVector.zero(SPECIES), acc1 = DoubleVector.zero(SPECIES);
+        int step = SPECIES.length();
+        int i = 0;
+        for (int bound = SPECIES.loopBound(n / 2) * 2; i < bound; i += 2 * step) {
+            acc0 = DoubleVector.fromArray(SPECIES, a, aOff + i)
+                    .fma(DoubleVector.fromArray(SPECIES, b, bOff + i), acc0);
+            acc1 = DoubleVector.fromArray(SPECIES, a, aOff + i + step)
+                    .fma(DoubleVector.fromArray(SPECIES, b, bOff + i + step), acc1);
+        }
+        double sum = acc0.add(acc1).reduceLanes(VectorOperators.ADD);
+        for (; i < n; i++) {
+            sum = Math.fma(a[aOff + i], b[bOff + i], sum);
+        }
+        return sum;
+    }
+
+    @Override
+    public Complex complexDot(double[] aRe, double[] aIm, int aOff, double[] bRe, double[] bIm, int bOff,
+                              int n, boolean conjugateA) {
+        double sign = conjugateA ? -1.0 : 1.0;
+        DoubleVector accRe = DoubleVector.zero(SPECIES), accIm = DoubleVector.zero(SPECIES);
+        int i = 0;
+        for (int bound = SPECIES.loopBound(n); i < bound; i += SPECIES.length()) {
+            DoubleVector xRe = DoubleVector.fromArray(SPECIES, aRe, aOff + i);
+            DoubleVector xIm = DoubleVector.fromArray(SPECIES, aIm, aOff + i).mul(sign);
+            DoubleVector yRe = DoubleVector.fromArray(SPECIES, bRe, bOff + i);
+            DoubleVector yIm = DoubleVector.fromArray(SPECIES, bIm, bOff + i);
+            accRe = xRe.fma(yRe, xIm.neg().fma(yIm, accRe));
+            accIm = xRe.fma(yIm, xIm.fma(yRe, accIm));
+        }
+        double re = accRe.reduceLanes(VectorOperators.ADD), im = accIm.reduceLanes(VectorOperators.ADD);
+        for (; i < n; i++) {
+            double xRe = aRe[aOff + i], xIm = sign * aIm[aOff + i];
+            double yRe = bRe[bOff + i], yIm = bIm[bOff + i];
+            re = Math.fma(xRe, yRe, Math.fma(-xIm, yIm, re));
+            im = Math.fma(xRe, yIm, Math.fma(xIm, yRe, im));
+        }
+        return new Complex(re, im);
+    }
+
+    // Each step broadcasts the four A values against one B row vector. The k loop is unrolled by two
+    // into separate accumulators so the FMA latency of one step overlaps the next.
+    @Override
+    public void gemmMicroKernel(int kc, double[] pa, int aIdx, double[] pb, int bIdx, double[] c, int cIdx, int ldc) {
+        DoubleVector c0 = DoubleVector.zero(TILE), c1 = DoubleVector.zero(TILE);
+        DoubleVector c2 = DoubleVector.zero(TILE), c3 = DoubleVector.zero(TILE);
+        DoubleVector d0 = DoubleVector.zero(TILE), d1 = DoubleVector.zero(TILE);
+        DoubleVector d2 = DoubleVector.zero(TILE), d3 = DoubleVector.zero(TILE);
+
+        int p = 0;
+        for (; p + 1 < kc; p += 2) {
+            DoubleVector b = DoubleVector.fromArray(TILE, pb, bIdx);
+            c0 = DoubleVector.broadcast(TILE, pa[aIdx]).fma(b, c0);
+            c1 = DoubleVector.broadcast(TILE, pa[aIdx + 1]).fma(b, c1);
+            c2 = DoubleVector.broadcast(TILE, pa[aIdx + 2]).fma(b, c2);
+            c3 = DoubleVector.broadcast(TILE, pa[aIdx + 3]).fma(b, c3);
+
+            DoubleVector e = DoubleVector.fromArray(TILE, pb, bIdx + 4);
+            d0 = DoubleVector.broadcast(TILE, pa[aIdx + 4]).fma(e, d0);
+            d1 = DoubleVector.broadcast(TILE, pa[aIdx + 5]).fma(e, d1);
+            d2 = DoubleVector.broadcast(TILE, pa[aIdx + 6]).fma(e, d2);
+            d3 = DoubleVector.broadcast(TILE, pa[aIdx + 7]).fma(e, d3);
+
+            aIdx += 8;
+            bIdx += 8;
+        }
+        if (p < kc) {
+            DoubleVector b = DoubleVector.fromArray(TILE, pb, bIdx);
+            c0 = DoubleVector.broadcast(TILE, pa[aIdx]).fma(b, c0);
+            c1 = DoubleVector.broadcast(TILE, pa[aIdx + 1]).fma(b, c1);
+            c2 = DoubleVector.broadcast(TILE, pa[aIdx + 2]).fma(b, c2);
+            c3 = DoubleVector.broadcast(TILE, pa[aIdx + 3]).fma(b, c3);
+        }
+
+        int r1 = cIdx + ldc, r2 = cIdx + 2 * ldc, r3 = cIdx + 3 * ldc;
+        c0.add(d0).add(DoubleVector.fromArray(TILE, c, cIdx)).intoArray(c, cIdx);
+        c1.add(d1).add(DoubleVector.fromArray(TILE, c, r1)).intoArray(c, r1);
+        c2.add(d2).add(DoubleVector.fromArray(TILE, c, r2)).intoArray(c, r2);
+        c3.add(d3).add(DoubleVector.fromArray(TILE, c, r3)).intoArray(c, r3);
+    }
+}
@@ -0,0 +1,103 @@
+package Simd;
+
+import Complex.Complex;
+
+// Plain Java loops; used when the Vector API is unavailable or disabled
+final class ScalarBackend implements VectorBackend {
+
+    @Override
+    public String getName() {
+        return "scalar";
+    }
+
+    @Override
+    public void add(double[] a, int aOff, double[] b, int bOff, double[] c, int cOff, int n) {
+        for (int i = 0; i < n; i++) {
+            c[cOff + i] = a[aOff + i] + b[bOff + i];
+        }
+    }
+
+    @Override
+    public void subtract(double[] a, int aOff, double[] b, int bOff, double[] c, int cOff, int n) {
+        for (int i = 0; i < n; i++) {
+            c[cOff + i] = a[aOff + i] - b[bOff + i];
+        }
+    }
+
+    @Override
+    public void complexMultiply(double[] aRe, double[] aIm, int aOff, double[] bRe, double[] bIm, int bOff,
+                                double[] cRe, double[] cIm, int cOff, int n) {
+        for (int i = 0; i < n; i++) {
+            double xRe = aRe[aOff + i], xIm = aIm[aOff + i];
+            double yRe = bRe[bOff + i], yIm = bIm[bOff + i];
+            cRe[cOff + i] = Math.fma(xRe, yRe, -xIm * yIm);
+            cIm[cOff + i] = Math.fma(xRe, yIm, xIm * yRe);
+        }
+    }
+
+    // Four independent accumulators so consecutive FMAs do not wait on each other
+    @Override
+    public double dot(double[] a, int aOff, double[] b, int bOff, int n) {
+        double s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+        int i = 0;
+        for (; i + 3 < n; i += 4) {
+            s0 = Math.fma(a[aOff + i], b[bOff + i], s0);
+            s1 = Math.fma(a[aOff + i + 1], b[bOff + i + 1], s1);
+            s2 = Math.fma(a[aOff + i + 2], b[bOff + i + 2], s2);
+            s3 = Math.fma(a[aOff + i + 3], b[bOff + i + 3], s3);
+        }
+        for (; i < n; i++) {
+            s0 = Math.fma(a[aOff + i], b[bOff + i], s0);
+        }
+        return (s0 + s1) + (s2 + s3);
+    }
+
+    @Override
+    public Complex complexDot(double[] aRe, double[] aIm, int aOff, double[] bRe, double[] bIm, int bOff,
+                              int n, boolean conjugateA) {
+        double sign = conjugateA ? -1.0 : 1.0;
+        double re0 = 0, re1 = 0, im0 = 0, im1 = 0;
+        int i = 0;
+        for (; i + 1 < n; i += 2) {
+            int p = aOff + i, q = bOff + i;
+            re0 = Math.fma(aRe[p], bRe[q], Math.fma(-sign * aIm[p], bIm[q], re0));
+            im0 = Math.fma(aRe[p], bIm[q], Math.fma(sign * aIm[p], bRe[q], im0));
+            re1 = Math.fma(aRe[p + 1], bRe[q + 1], Math.fma(-sign * aIm[p + 1], bIm[q + 1], re1));
+            im1 = Math.fma(aRe[p + 1], bIm[q + 1], Math.fma(sign * aIm[p + 1], bRe[q + 1], im1));
+        }
+        for (; i < n; i++) {
+            int p = aOff + i, q = bOff + i;
+            re0 = Math.fma(aRe[p], bRe[q], Math.fma(-sign * aIm[p], bIm[q], re0));
+            im0 = Math.fma(aRe[p], bIm[q], Math.fma(sign * aIm[p], bRe[q], im0));
+        }
+        return new Complex(re0 + re1, im0 + im1);
+    }
+
+    // 16 scalar accumulators held in registers across the whole kc loop
+    @Override
+    public void gemmMicroKernel(int kc, double[] pa, int aIdx, double[] pb, int bIdx, double[] c, int cIdx, int ldc) {
+        double c00 = 0, c01 = 0, c02 = 0, c03 = 0;
+        double c10 = 0, c11 = 0, c12 = 0, c13 = 0;
+        double c20 = 0, c21 = 0, c22 = 0, c23 = 0;
+        double c30 = 0, c31 = 0, c32 = 0, c33 = 0;
+
+        for (int p = 0; p < kc; p++) {
+            double a0 = pa[aIdx], a1 = pa[aIdx + 1], a2 = pa[aIdx + 2], a3 = pa[aIdx + 3];
+            double b0 = pb[bIdx], b1 = pb[bIdx + 1], b2 = pb[bIdx + 2], b3 = pb[bIdx + 3];
+
+            c00 = Math.fma(a0, b0, c00); c01 = Math.fma(a0, b1, c01); c02 = Math.fma(a0, b2, c02); c03 = Math.fma(a0, b3, c03);
+            c10 = Math.fma(a1, b0, c10); c11 = Math.fma(a1, b1, c11); c12 = Math.fma(a1, b2, c12); c13 = Math.fma(a1, b3, c13);
+            c20 = Math.fma(a2, b0, c20); c21 = Math.fma(a2, b1, c21); c22 = Math.fma(a2, b2, c22); c23 = Math.fma(a2, b3, c23);
+            c30 = Math.fma(a3, b0, c30); c31 = Math.fma(a3, b1, c31); c32 = Math.fma(a3, b2, c32); c33 = Math.fma(a3, b3, c33);
+
+            aIdx += 4;
+            bIdx += 4;
+        }
+
+        int r0 = cIdx, r1 = cIdx + ldc, r2 = cIdx + 2 * ldc, r3 = cIdx + 3 * ldc;
+        c[r0] += c00; c[r0 + 1] += c01; c[r0 + 2] += c02; c[r0 + 3] += c03;
+        c[r1] += c10; c[r1 + 1] += c11; c[r1 + 2] += c12; c[r1 + 3] += c13;
+        c[r2] += c20; c[r2 + 1] += c21; c[r2 + 2] += c22; c[r2 + 3] += c23;
+        c[r3] += c30; c[r3 + 1] += c31; c[r3 + 2] += c32; c[r3 + 3] += c33;
+    }
+}
@@ -0,0 +1,33 @@
+package Simd;
+
+import Complex.Complex;
+
+// The array kernels that have a SIMD implementation. All arrays are addressed with explicit offsets
+// and n elements are processed; complex operands are split re/im planes, as in CMatrix and ComplexVector.
+// Obtain the active implementation from VectorBackends.get().
+public interface VectorBackend {
+
+    // Short identifier of the implementation, e.g. "scalar" or "panama-512"
+    String getName();
+
+    // c[cOff + i] = a[aOff + i] + b[bOff + i]
+    void add(double[] a, int aOff, double[] b, int bOff, double[] c, int cOff, int n);
+
+    // c[cOff + i] = a[aOff + i] - b[bOff + i]
+    void subtract(double[] a, int aOff, double[] b, int bOff, double[] c, int cOff, int n);
+
+    // c[cOff + i] = a[aOff + i] * b[bOff + i] on complex planes
+    void complexMultiply(double[] aRe, double[] aIm, int aOff, double[] bRe, double[] bIm, int bOff,
+                         double[] cRe, double[] cIm, int cOff, int n);
+
+    // sum a[aOff + i] * b[bOff + i]
+    double dot(double[] a, int aOff, double[] b, int bOff, int n);
+
+    // sum a[aOff + i] * b[bOff + i] on complex planes, with a conjugated when conjugateA is set
+    Complex complexDot(double[] aRe, double[] aIm, int aOff, double[] bRe, double[] bIm, int bOff,
+                       int n, boolean conjugateA);
+
+    // C[4 x 4] += A panel * B panel over kc, with the panels packed as RMatrixKernel packs them:
+    // pa holds 4 rows of A column by column, pb holds 4 columns of B row by row.
+    void gemmMicroKernel(int kc, double[] pa, int aIdx, double[] pb, int bIdx, double[] c, int cIdx, int ldc);
+}
@@ -0,0 +1,43 @@
+package Simd;
+
+// Picks the VectorBackend once, at class initialisation. The Vector API backend is used when the JVM
+// was started with --add-modules jdk.incubator.vector and the CPU has at least 256-bit vectors;
+// otherwise, or with -Dsimd.backend=scalar, the plain Java loops are used.
+public final class VectorBackends {
+
+    private VectorBackends() {
+        throw new UnsupportedOperationException("Cannot instantiate VectorBackends.");
+    }
+
+    private static final VectorBackend SCALAR = new ScalarBackend();
+    private static final VectorBackend ACTIVE = select();
+
+    private static VectorBackend select() {
+        if ("scalar".equalsIgnoreCase(System.getProperty("simd.backend"))) {
+            return SCALAR;
+        }
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return SCALAR;
+        }
+        try {
+            // Loaded by name so that this class never links against the incubator module itself
+            return (VectorBackend) Class.forName("Simd.PanamaBackend").getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError | RuntimeException e) {
+            return SCALAR;
+        }
+    }
+
+    // The backend used by the library kernels
+    public static VectorBackend get() {
+        return ACTIVE;
+    }
+
+    // The plain Java implementation, regardless of what was selected
+    public static VectorBackend scalar() {
+        return SCALAR;
+    }
+
+    public static boolean isAccelerated() {
+        return ACTIVE != SCALAR;
+    }
+}